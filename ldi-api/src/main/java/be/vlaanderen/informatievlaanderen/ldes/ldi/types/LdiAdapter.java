@@ -2,6 +2,12 @@ package be.vlaanderen.informatievlaanderen.ldes.ldi.types;
 
 import org.apache.jena.rdf.model.Model;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -14,19 +20,129 @@ import static be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter.Conte
 public interface LdiAdapter extends LdiComponent, Function<Content, Stream<Model>> {
 	/**
 	 * Represents the input of a LDI Adapter
-	 * @param content Received content represented as a String
-	 * @param mimeType Mime type of received data
+	 * <br />
+	 * The content is either received as a String, or as the raw bytes of the input together with their charset. In the
+	 * latter case, the bytes are only decoded into a String when {@link #content()} is called, so the adapters that
+	 * parse the content from {@link #toInputStream()} get the bytes as they were received.
 	 */
-	record Content(String content, String mimeType) {
+	final class Content {
+		private final String mimeType;
+		private final Charset charset;
+		private final byte[] bytes;
+		private final int offset;
+		private final int length;
+		private String content;
+
+		/**
+		 * @param content  Received content represented as a String
+		 * @param mimeType Mime type of received data
+		 */
+		public Content(String content, String mimeType) {
+			this.content = content;
+			this.mimeType = mimeType;
+			this.charset = StandardCharsets.UTF_8;
+			this.bytes = null;
+			this.offset = 0;
+			this.length = 0;
+		}
+
+		private Content(byte[] bytes, int offset, int length, String mimeType, Charset charset) {
+			this.bytes = Objects.requireNonNull(bytes);
+			this.offset = offset;
+			this.length = length;
+			this.mimeType = mimeType;
+			this.charset = charset != null ? charset : StandardCharsets.UTF_8;
+		}
+
 		public static Content of(String content, String mimeType) {
 			return new Content(content, mimeType);
 		}
 
+		/**
+		 * @param bytes    Received content encoded in UTF-8, which is not copied
+		 * @param mimeType Mime type of received data
+		 */
+		public static Content of(byte[] bytes, String mimeType) {
+			return of(bytes, mimeType, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * @param bytes    Received content, which is not copied
+		 * @param mimeType Mime type of received data
+		 * @param charset  Charset of the received content, UTF-8 when null
+		 */
+		public static Content of(byte[] bytes, String mimeType, Charset charset) {
+			return new Content(bytes, 0, bytes.length, mimeType, charset);
+		}
+
+		/**
+		 * @param buffer   Received content from the position up to the limit of the buffer, which is only copied when
+		 *                 the buffer is not backed by an array
+		 * @param mimeType Mime type of received data
+		 * @param charset  Charset of the received content, UTF-8 when null
+		 */
+		public static Content of(ByteBuffer buffer, String mimeType, Charset charset) {
+			if (buffer.hasArray()) {
+				return new Content(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), mimeType, charset);
+			}
+			final byte[] bytes = new byte[buffer.remaining()];
+			buffer.duplicate().get(bytes);
+			return of(bytes, mimeType, charset);
+		}
+
+		/**
+		 * @return Received content represented as a String, which is decoded on first use when the content was
+		 * received as bytes
+		 */
+		public String content() {
+			if (content == null && bytes != null) {
+				content = new String(bytes, offset, length, charset);
+			}
+			return content;
+		}
+
+		/**
+		 * @return Mime type of received data
+		 */
+		public String mimeType() {
+			return mimeType;
+		}
+
+		/**
+		 * @return Charset of the received content
+		 */
+		public Charset charset() {
+			return charset;
+		}
+
+		/**
+		 * @return A new stream over the received content encoded in UTF-8. The received bytes are read as they are when
+		 * they are encoded in UTF-8, otherwise they are transcoded.
+		 */
+		public InputStream toInputStream() {
+			if (bytes != null && StandardCharsets.UTF_8.equals(charset)) {
+				return new ByteArrayInputStream(bytes, offset, length);
+			}
+			return new ByteArrayInputStream(content().getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Content other)) return false;
+			return Objects.equals(content(), other.content()) && Objects.equals(mimeType, other.mimeType);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(content(), mimeType);
+		}
+
 		@Override
 		public String toString() {
 			return "Content {" +
 					"mimeType='" + mimeType + '\'' +
-					", content='" + content + '\'' +
+					", content='" + content() + '\'' +
 					'}';
 		}
 	}
@@ -0,0 +1,39 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.types;
+
+import org.apache.jena.rdf.model.Model;
+
+import java.util.List;
+
+/**
+ * LDI Output that is able to consume multiple linked data models (RDF) at
+ * once, e.g. in a single request or transaction, which is far cheaper for
+ * most sinks than consuming them one by one.
+ */
+public interface LdiBatchOutput extends LdiOutput {
+
+	/**
+	 * Consumes the given models, in the given order
+	 *
+	 * @param models the models of the batch, which is never empty
+	 */
+	void acceptBatch(List<Model> models);
+
+	@Override
+	default void accept(Model model) {
+		acceptBatch(List.of(model));
+	}
+
+	/**
+	 * Hands the models to any output: at once when the output is a LdiBatchOutput, otherwise one by one
+	 *
+	 * @param ldiOutput the output to hand the models to
+	 * @param models    the models, in the order in which they must be consumed
+	 */
+	static void acceptAll(LdiOutput ldiOutput, List<Model> models) {
+		if (ldiOutput instanceof LdiBatchOutput ldiBatchOutput) {
+			ldiBatchOutput.acceptBatch(models);
+		} else {
+			models.forEach(ldiOutput);
+		}
+	}
+}
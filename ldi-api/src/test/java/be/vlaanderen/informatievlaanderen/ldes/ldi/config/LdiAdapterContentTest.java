@@ -3,9 +3,18 @@ package be.vlaanderen.informatievlaanderen.ldes.ldi.config;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class LdiAdapterContentTest {
+	private static final String QUAD_DATA = "_:b0 <http://schema.org/name> \"Zoë\" .";
+	private static final String MIME_TYPE = "application/n-quads";
+
 	@Test
 	void test() {
 		String quadData = "_:b0 <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> <http://schema.org/Person> .";
@@ -16,4 +25,54 @@ class LdiAdapterContentTest {
 		assertEquals(quadData, content.content());
 		assertEquals(mimeType, content.mimeType());
 	}
+
+	@Test
+	void given_Bytes_when_ToInputStream_then_BytesAreReadAsReceived() throws IOException {
+		byte[] bytes = QUAD_DATA.getBytes(StandardCharsets.UTF_8);
+
+		LdiAdapter.Content content = LdiAdapter.Content.of(bytes, MIME_TYPE);
+
+		assertArrayEquals(bytes, readAll(content));
+		assertEquals(QUAD_DATA, content.content());
+		assertEquals(LdiAdapter.Content.of(QUAD_DATA, MIME_TYPE), content);
+	}
+
+	@Test
+	void given_BytesInOtherCharset_when_ToInputStream_then_BytesAreTranscodedToUtf8() throws IOException {
+		LdiAdapter.Content content = LdiAdapter.Content.of(QUAD_DATA.getBytes(StandardCharsets.ISO_8859_1), MIME_TYPE,
+				StandardCharsets.ISO_8859_1);
+
+		assertEquals(QUAD_DATA, content.content());
+		assertEquals(StandardCharsets.ISO_8859_1, content.charset());
+		assertArrayEquals(QUAD_DATA.getBytes(StandardCharsets.UTF_8), readAll(content));
+	}
+
+	@Test
+	void given_SliceOfByteBuffer_when_ToInputStream_then_OnlyRemainingBytesAreRead() throws IOException {
+		byte[] bytes = ("header" + QUAD_DATA).getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes).position("header".length());
+
+		LdiAdapter.Content content = LdiAdapter.Content.of(buffer.slice(), MIME_TYPE, null);
+
+		assertEquals(QUAD_DATA, content.content());
+		assertEquals(StandardCharsets.UTF_8, content.charset());
+		assertArrayEquals(QUAD_DATA.getBytes(StandardCharsets.UTF_8), readAll(content));
+	}
+
+	@Test
+	void given_DirectByteBuffer_when_Content_then_RemainingBytesAreDecoded() {
+		byte[] bytes = QUAD_DATA.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+		LdiAdapter.Content content = LdiAdapter.Content.of(buffer, MIME_TYPE, StandardCharsets.UTF_8);
+
+		assertEquals(QUAD_DATA, content.content());
+		assertEquals(0, buffer.position());
+	}
+
+	private static byte[] readAll(LdiAdapter.Content content) throws IOException {
+		try (InputStream inputStream = content.toInputStream()) {
+			return inputStream.readAllBytes();
+		}
+	}
 }
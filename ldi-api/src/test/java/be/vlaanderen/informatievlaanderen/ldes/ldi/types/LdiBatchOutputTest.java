@@ -0,0 +1,34 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.types;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LdiBatchOutputTest {
+	private final List<Model> models = List.of(ModelFactory.createDefaultModel(), ModelFactory.createDefaultModel());
+
+	@Test
+	void given_BatchOutput_when_AcceptAll_then_ModelsAreHandedOverAtOnce() {
+		final List<List<Model>> batches = new ArrayList<>();
+		final LdiBatchOutput batchOutput = batches::add;
+
+		LdiBatchOutput.acceptAll(batchOutput, models);
+
+		assertEquals(List.of(models), batches);
+	}
+
+	@Test
+	void given_Output_when_AcceptAll_then_ModelsAreHandedOverOneByOne() {
+		final List<Model> accepted = new ArrayList<>();
+		final LdiOutput output = accepted::add;
+
+		LdiBatchOutput.acceptAll(output, models);
+
+		assertEquals(models, accepted);
+	}
+}
@@ -14,6 +14,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class HttpSparqlOut {
 	private static final Logger log = LoggerFactory.getLogger(HttpSparqlOut.class);
@@ -21,6 +23,7 @@ public class HttpSparqlOut {
 	private final SparqlQuery sparqlQuery;
 	private final Skolemizer skolemizer;
 	private final RequestExecutor requestExecutor;
+	private final Lock requestLock = new ReentrantLock();
 
 	public HttpSparqlOut(String endpoint, SparqlQuery sparqlQuery, Skolemizer skolemizer, RequestExecutor requestExecutor) {
 		this.endpoint = endpoint;
@@ -39,7 +42,8 @@ public class HttpSparqlOut {
 		final PostRequest request = new PostRequest(endpoint, new RequestHeaders(List.of(
 				new RequestHeader(HttpHeaders.CONTENT_TYPE, "application/sparql-update"),
 				new RequestHeader(HttpHeaders.ACCEPT, "application/json"))), query);
-		synchronized (requestExecutor) {
+		requestLock.lock();
+		try {
 			Response response = requestExecutor.execute(request);
 			if (response.isSuccess()) {
 				log.debug("{} {} {}", request.getMethod(), request.getUrl(), response.getHttpStatus());
@@ -48,6 +52,8 @@ public class HttpSparqlOut {
 						.formatted(response.getRequestedUrl(), response.getHttpStatus(), response.getBodyAsString().orElse(null));
 				throw new WriteActionFailedException(message);
 			}
+		} finally {
+			requestLock.unlock();
 		}
 	}
 }
@@ -3,6 +3,9 @@ package be.vlaanderen.informatievlaanderen.ldes.ldi;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.exceptions.ParseToJsonException;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.exceptions.UnsupportedMimeTypeException;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.jena.atlas.json.*;
 import org.apache.jena.rdf.model.Model;
@@ -13,10 +16,17 @@ import org.apache.jena.sparql.util.Context;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * LdiAdapter implementation that adapts json to json-ld by adding a context to the json data
+ * <br />
+ * In streaming mode, a top-level json array is parsed incrementally and every element is adapted as soon as it has
+ * been read, so only one element is kept in memory at a time.
  */
 public class JsonToLdAdapter implements LdiAdapter {
 
@@ -27,14 +37,26 @@ public class JsonToLdAdapter implements LdiAdapter {
 	private final String context;
 	private final boolean forceContentType;
 	private final Context jenaContext;
+	private final boolean streaming;
 
 	public JsonToLdAdapter(String context, boolean forceContentType, Context jenaContext) {
+		this(context, forceContentType, jenaContext, false);
+	}
+
+	/**
+	 * @param context          the json-ld context that is added to the json data
+	 * @param forceContentType whether <code>application/json</code> is forced as mime-type
+	 * @param jenaContext      the jena context used for parsing
+	 * @param streaming        whether the elements of a top-level json array are adapted while the array is parsed
+	 */
+	public JsonToLdAdapter(String context, boolean forceContentType, Context jenaContext, boolean streaming) {
 		if (context == null) {
 			throw new IllegalArgumentException("Core context can't be null");
 		}
 		this.context = context;
 		this.forceContentType = forceContentType;
 		this.jenaContext = jenaContext;
+		this.streaming = streaming;
 	}
 
 	/**
@@ -53,16 +75,16 @@ public class JsonToLdAdapter implements LdiAdapter {
 				throw new UnsupportedMimeTypeException(MIMETYPE, content.mimeType());
 			}
 		}
-		return translateJsonToLD(content.content());
+		return streaming ? streamJsonToLD(content) : translateJsonToLD(content);
 	}
 
 	private boolean validateMimeType(String mimeType) {
 		return ContentType.parse(mimeType).getMimeType().equalsIgnoreCase(MIMETYPE);
 	}
 
-	private Stream<Model> translateJsonToLD(String data) {
+	private Stream<Model> translateJsonToLD(Content content) {
 		try {
-			final var json = JSON.parseAny(data);
+			final var json = JSON.parseAny(content.toInputStream());
 			if (json.isObject()) {
 				return Stream.of(mapJsonObjectToModel(json));
 			}
@@ -75,8 +97,85 @@ public class JsonToLdAdapter implements LdiAdapter {
 			throw new IllegalArgumentException("Only objects and arrays can be transformed to RDF. " +
 											   "The following json does not match this criteria: " + json);
 		} catch (JsonParseException e) {
-			throw new ParseToJsonException(e, data);
+			throw new ParseToJsonException(e, content.content());
+		}
+	}
+
+	private Stream<Model> streamJsonToLD(Content content) {
+		final JsonParser parser = Json.createParser(content.toInputStream());
+		try {
+			final JsonParser.Event event = parser.hasNext() ? parser.next() : null;
+			if (event == JsonParser.Event.START_ARRAY) {
+				return StreamSupport.stream(new Spliterators.AbstractSpliterator<Model>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+					@Override
+					public boolean tryAdvance(Consumer<? super Model> action) {
+						try {
+							final JsonParser.Event elementEvent = parser.next();
+							if (elementEvent == JsonParser.Event.END_ARRAY) {
+								return false;
+							}
+							action.accept(mapJsonObjectToModel(readValue(parser, elementEvent)));
+							return true;
+						} catch (JsonParsingException e) {
+							throw new ParseToJsonException(e, "(streamed content at " + e.getLocation() + ")");
+						}
+					}
+				}, false).onClose(parser::close);
+			}
+			parser.close();
+			if (event == JsonParser.Event.START_OBJECT) {
+				return translateJsonToLD(content);
+			}
+			throw new IllegalArgumentException("Only objects and arrays can be transformed to RDF. " +
+											   "The following json does not match this criteria: " + content.content());
+		} catch (JsonParsingException e) {
+			parser.close();
+			throw new ParseToJsonException(e, "(streamed content at " + e.getLocation() + ")");
+		}
+	}
+
+	/**
+	 * Builds the json value that starts with the given event from the events of the parser, so a streamed element does
+	 * not have to be written out and parsed a second time
+	 */
+	private static JsonValue readValue(JsonParser parser, JsonParser.Event event) {
+		return switch (event) {
+			case START_OBJECT -> {
+				final JsonObject jsonObject = new JsonObject();
+				while (parser.next() == JsonParser.Event.KEY_NAME) {
+					final String key = parser.getString();
+					jsonObject.put(key, readValue(parser, parser.next()));
+				}
+				yield jsonObject;
+			}
+			case START_ARRAY -> {
+				final JsonArray jsonArray = new JsonArray();
+				JsonParser.Event elementEvent;
+				while ((elementEvent = parser.next()) != JsonParser.Event.END_ARRAY) {
+					jsonArray.add(readValue(parser, elementEvent));
+				}
+				yield jsonArray;
+			}
+			case VALUE_STRING -> new JsonString(parser.getString());
+			case VALUE_NUMBER -> readNumber(parser);
+			case VALUE_TRUE -> new JsonBoolean(true);
+			case VALUE_FALSE -> new JsonBoolean(false);
+			case VALUE_NULL -> JsonNull.instance;
+			default -> throw new IllegalStateException("Unexpected json event " + event);
+		};
+	}
+
+	/**
+	 * Keeps the lexical form of the number, as {@link JSON#parseAny} does
+	 */
+	private static JsonNumber readNumber(JsonParser parser) {
+		final String number = parser.getString();
+		if (parser.isIntegralNumber()) {
+			return JsonNumber.valueInteger(number);
 		}
+		return number.indexOf('e') >= 0 || number.indexOf('E') >= 0
+				? JsonNumber.valueDouble(number)
+				: JsonNumber.valueDecimal(number);
 	}
 
 	private Model mapJsonObjectToModel(JsonValue json) {
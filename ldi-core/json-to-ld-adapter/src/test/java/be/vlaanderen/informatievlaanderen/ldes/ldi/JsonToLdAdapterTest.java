@@ -17,8 +17,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -66,6 +68,51 @@ class JsonToLdAdapterTest {
 						new Condition<>(model -> model.isIsomorphicWith(expected_2), "is isomorphic with exampleID_2"));
 	}
 
+	@Test
+	void given_Streaming_when_ValidJsonArray_Then_ModelsAreIsomorphic() throws IOException {
+		String data = Files.readString(Path.of("src/test/resources/example-array.json"));
+		Model expected_1 = readModelFromFile("src/test/resources/expected-ld-array-1.json");
+		Model expected_2 = readModelFromFile("src/test/resources/expected-ld-array-2.json");
+		translator = new JsonToLdAdapter(CONTEXT, false, JENA_CONTEXT, true);
+
+		List<Model> actual = translator.apply(LdiAdapter.Content.of(data.getBytes(StandardCharsets.UTF_8), MIMETYPE)).toList();
+
+		assertThat(actual).hasSize(2);
+		assertTrue(actual.get(0).isIsomorphicWith(expected_1));
+		assertTrue(actual.get(1).isIsomorphicWith(expected_2));
+	}
+
+	@Test
+	void given_Streaming_when_JsonArrayContainsAllValueTypes_Then_ModelsAreIsomorphicWithoutStreaming() {
+		final String vocabContext = "{\"@context\": {\"@vocab\": \"http://example.org/\"}}";
+		final String data = """
+				[
+				  {"@id": "http://example.org/1", "integer": 5, "decimal": 2.50, "double": 1.5E3, "true": true,
+				   "false": false, "null": null, "list": ["a", 1, [2]], "nested": {"value": "x"}},
+				  {"@id": "http://example.org/2", "empty": {}, "emptyList": []}
+				]
+				""";
+		final List<Model> expected = new JsonToLdAdapter(vocabContext, false, JENA_CONTEXT).apply(LdiAdapter.Content.of(data, MIMETYPE)).toList();
+
+		final List<Model> actual = new JsonToLdAdapter(vocabContext, false, JENA_CONTEXT, true).apply(LdiAdapter.Content.of(data, MIMETYPE)).toList();
+
+		assertThat(actual).hasSize(2);
+		assertTrue(actual.get(0).isIsomorphicWith(expected.get(0)));
+		assertTrue(actual.get(1).isIsomorphicWith(expected.get(1)));
+	}
+
+	@Test
+	void given_Streaming_when_JsonArrayBreaksOff_Then_ElementsBeforeAreAdaptedFirst() throws IOException {
+		String element = Files.readString(Path.of("src/test/resources/example.json"));
+		String data = "[" + element + ", {\"id\": ";
+		translator = new JsonToLdAdapter(CONTEXT, false, JENA_CONTEXT, true);
+
+		Iterator<Model> actual = translator.apply(LdiAdapter.Content.of(data, MIMETYPE)).iterator();
+
+		assertTrue(actual.next().isIsomorphicWith(readModelFromFile("src/test/resources/expected-ld.json")));
+		assertThatThrownBy(actual::hasNext).isInstanceOf(ParseToJsonException.class);
+	}
+
 	@Test
 	void when_ValidJson_withContextJson_Then_ModelIsIsomorphic() throws IOException {
 		String data = Files.readString(Path.of("src/test/resources/example.json"));
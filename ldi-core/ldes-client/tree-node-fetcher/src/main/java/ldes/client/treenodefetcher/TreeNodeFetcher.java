@@ -3,18 +3,26 @@ package ldes.client.treenodefetcher;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.executor.RequestExecutor;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.Response;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampExtractor;
-import ldes.client.treenodefetcher.domain.valueobjects.ModelResponse;
-import ldes.client.treenodefetcher.domain.valueobjects.MutabilityStatus;
-import ldes.client.treenodefetcher.domain.valueobjects.TreeNodeRequest;
-import ldes.client.treenodefetcher.domain.valueobjects.TreeNodeResponse;
+import ldes.client.treenodefetcher.domain.entities.TreeMember;
+import ldes.client.treenodefetcher.domain.valueobjects.*;
 import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.jena.atlas.web.ContentType;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
 import org.apache.jena.riot.RDFParser;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * Responsible for fetching the next TreeNodes
@@ -24,10 +32,21 @@ public class TreeNodeFetcher {
 	private static final LocalDateTime maxSupportedDateTime = LocalDateTime.of(294276, 12, 31, 23, 59, 59);
 	private final RequestExecutor requestExecutor;
 	private final TimestampExtractor timestampExtractor;
+	private final TimeWindow timeWindow;
+	private final Set<String> hostsWithoutBinaryFormats = ConcurrentHashMap.newKeySet();
 
 	public TreeNodeFetcher(RequestExecutor requestExecutor, TimestampExtractor timestampExtractor) {
+		this(requestExecutor, timestampExtractor, TimeWindow.unbounded());
+	}
+
+	/**
+	 * @param timeWindow only the relations and members that might fall within this window will be part of the
+	 *                   fetched TreeNodes
+	 */
+	public TreeNodeFetcher(RequestExecutor requestExecutor, TimestampExtractor timestampExtractor, TimeWindow timeWindow) {
 		this.requestExecutor = requestExecutor;
 		this.timestampExtractor = timestampExtractor;
+		this.timeWindow = timeWindow;
 	}
 
 	/**
@@ -35,10 +54,29 @@ public class TreeNodeFetcher {
 	 * @return the new TreeNode with all its information
 	 */
 	public TreeNodeResponse fetchTreeNode(TreeNodeRequest treeNodeRequest) {
+		return fetchTreeNode(treeNodeRequest, memberId -> false);
+	}
+
+	/**
+	 * @param treeNodeRequest based on the relations found in the previous TreeNode
+	 * @param isKnownMember   tests whether a member id has already been received, the known members are left out of
+	 *                        the response without extracting their model
+	 * @return the new TreeNode with its relations and only the members that are not yet known
+	 */
+	public TreeNodeResponse fetchTreeNode(TreeNodeRequest treeNodeRequest, Predicate<String> isKnownMember) {
+		if (treeNodeRequest.prefersBinaryFormats() && hostsWithoutBinaryFormats.contains(getHost(treeNodeRequest))) {
+			return fetchTreeNode(treeNodeRequest.withoutBinaryFormats(), isKnownMember);
+		}
+
 		final Response response = requestExecutor.execute(treeNodeRequest.createRequest());
 
+		if (response.getHttpStatus() == HttpStatus.SC_NOT_ACCEPTABLE && treeNodeRequest.prefersBinaryFormats()) {
+			hostsWithoutBinaryFormats.add(getHost(treeNodeRequest));
+			return fetchTreeNode(treeNodeRequest.withoutBinaryFormats(), isKnownMember);
+		}
+
 		if (response.isOk()) {
-			return createOkResponse(treeNodeRequest, response);
+			return createOkResponse(treeNodeRequest, response, isKnownMember);
 		}
 
 		if (response.isRedirect()) {
@@ -53,12 +91,50 @@ public class TreeNodeFetcher {
 				"Cannot handle response " + response.getHttpStatus() + " of TreeNodeRequest " + treeNodeRequest);
 	}
 
-	private TreeNodeResponse createOkResponse(TreeNodeRequest treeNodeRequest, Response response) {
+	/**
+	 * A server that does not accept the negotiation for the binary formats, will not accept it for its other fragments
+	 * either, so the binary formats are no longer advertised to that host to save a request per fragment
+	 */
+	private static String getHost(TreeNodeRequest treeNodeRequest) {
+		try {
+			return Objects.requireNonNullElse(new URI(treeNodeRequest.getTreeNodeUrl()).getAuthority(), treeNodeRequest.getTreeNodeUrl());
+		} catch (URISyntaxException e) {
+			return treeNodeRequest.getTreeNodeUrl();
+		}
+	}
+
+	private TreeNodeResponse createOkResponse(TreeNodeRequest treeNodeRequest, Response response, Predicate<String> isKnownMember) {
 		final InputStream responseBody = response.getBody().map(ByteArrayInputStream::new).orElseThrow();
-		final Model model = RDFParser.source(responseBody).forceLang(treeNodeRequest.getLang()).base(treeNodeRequest.getTreeNodeUrl()).toModel();
+		final Model model = RDFParser.source(responseBody).forceLang(getResponseLang(treeNodeRequest, response)).base(treeNodeRequest.getTreeNodeUrl()).toModel();
 		final ModelResponse modelResponse = new ModelResponse(model, timestampExtractor);
 		final MutabilityStatus mutabilityStatus = getMutabilityStatus(response);
-		return new TreeNodeResponse(modelResponse.getRelations(), modelResponse.getMembers(), mutabilityStatus);
+		return new TreeNodeResponse(modelResponse.getRelations(timeWindow), getMembersInTimeWindow(modelResponse, isKnownMember), mutabilityStatus);
+	}
+
+	/**
+	 * The lang is derived from the Content-Type of the response, as the server might have picked another lang than
+	 * the configured one during content negotiation. When the Content-Type is missing, unknown or not accepted by the
+	 * request, the configured lang is used.
+	 */
+	private static Lang getResponseLang(TreeNodeRequest treeNodeRequest, Response response) {
+		return response.getFirstHeaderValue(HttpHeaders.CONTENT_TYPE)
+				.map(ContentType::create)
+				.map(RDFLanguages::contentTypeToLang)
+				.filter(treeNodeRequest::accepts)
+				.orElse(treeNodeRequest.getLang());
+	}
+
+	/**
+	 * The members of immutable fragments are filtered on their timestamp as well, also when the window starts from
+	 * now, as a fragment can become immutable after members have been added to it since the previous visit
+	 */
+	private List<TreeMember> getMembersInTimeWindow(ModelResponse modelResponse, Predicate<String> isKnownMember) {
+		if (timeWindow.isUnbounded()) {
+			return modelResponse.getMembers(isKnownMember);
+		}
+		return modelResponse.getMembers(isKnownMember).stream()
+				.filter(member -> timeWindow.contains(member.getCreatedAt()))
+				.toList();
 	}
 
 	private static TreeNodeResponse createRedirectResponse(Response response) {
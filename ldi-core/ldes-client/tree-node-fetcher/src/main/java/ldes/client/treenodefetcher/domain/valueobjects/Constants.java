@@ -11,6 +11,8 @@ public class Constants {
     public static final Property W3ID_TREE_RELATION = createProperty(W3C_TREE, "relation");
     public static final Property W3ID_TREE_MEMBER = createProperty(W3C_TREE, "member");
     public static final Property W3ID_TREE_NODE = createProperty(W3C_TREE, "node");
+    public static final Property W3ID_TREE_PATH = createProperty(W3C_TREE, "path");
+    public static final Property W3ID_TREE_VALUE = createProperty(W3C_TREE, "value");
 
     private Constants() {
     }
@@ -7,7 +7,10 @@ import org.apache.jena.rdf.model.*;
 
 import java.time.LocalDateTime;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -27,14 +30,44 @@ public class ModelResponse {
 	}
 
 	public List<String> getRelations() {
-		return extractRelations()
-				.map(relationStatement -> relationStatement.getResource()
-						.getProperty(W3ID_TREE_NODE).getResource().toString())
+		return getRelations(TimeWindow.unbounded());
+	}
+
+	/**
+	 * When multiple relations refer to the same node, all of them apply to that node. Hence, a node is only kept when
+	 * none of its relations excludes it from the time window.
+	 *
+	 * @param timeWindow the window in which the members of interest lie
+	 * @return the nodes that might contain members within the time window
+	 */
+	public List<String> getRelations(TimeWindow timeWindow) {
+		final Map<String, Boolean> relationsInWindow = new LinkedHashMap<>();
+		extractRelations()
+				.map(Statement::getResource)
+				.forEach(relation -> relationsInWindow.merge(
+						relation.getProperty(W3ID_TREE_NODE).getResource().toString(),
+						timeWindow.mightContainMembersOf(relation),
+						Boolean::logicalAnd));
+		return relationsInWindow.entrySet().stream()
+				.filter(Map.Entry::getValue)
+				.map(Map.Entry::getKey)
 				.toList();
 	}
 
 	public List<TreeMember> getMembers() {
+		return getMembers(memberId -> false);
+	}
+
+	/**
+	 * Extracting the model of a member is the most expensive part of processing a response, so the members that are
+	 * already known are left out before their model is extracted
+	 *
+	 * @param isKnownMember tests whether the member with the provided id has already been received
+	 * @return the members that are not known yet
+	 */
+	public List<TreeMember> getMembers(Predicate<String> isKnownMember) {
 		return extractMembers()
+				.filter(memberStatement -> !isKnownMember.test(memberStatement.getObject().toString()))
 				.map(memberStatement -> processMember(model, memberStatement))
 				.toList();
 	}
@@ -0,0 +1,140 @@
+package ldes.client.treenodefetcher.domain.valueobjects;
+
+import org.apache.jena.datatypes.xsd.XSDDateTime;
+import org.apache.jena.rdf.model.Literal;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static ldes.client.treenodefetcher.domain.valueobjects.Constants.*;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.apache.jena.vocabulary.RDF.type;
+
+/**
+ * Client side window on the timestamp path of an LDES. Only the members of which the timestamp lies within the
+ * window are of interest, which makes it possible to skip every subtree of which the tree:relation guarantees that
+ * all its members lie outside of this window.
+ * <br />
+ * Both bounds are inclusive and can be left open. All timestamps are expressed in UTC, just like the timestamps that
+ * are extracted from the members.
+ */
+public class TimeWindow {
+	private static final Resource GREATER_THAN_RELATION = createResource(W3C_TREE + "GreaterThanRelation");
+	private static final Resource GREATER_THAN_OR_EQUAL_TO_RELATION = createResource(W3C_TREE + "GreaterThanOrEqualToRelation");
+	private static final Resource LESS_THAN_RELATION = createResource(W3C_TREE + "LessThanRelation");
+	private static final Resource LESS_THAN_OR_EQUAL_TO_RELATION = createResource(W3C_TREE + "LessThanOrEqualToRelation");
+
+	private final String timestampPath;
+	private final LocalDateTime startFrom;
+	private final LocalDateTime until;
+	private final boolean startingFromNow;
+
+	private TimeWindow(String timestampPath, LocalDateTime startFrom, LocalDateTime until, boolean startingFromNow) {
+		if (startFrom != null && until != null && startFrom.isAfter(until)) {
+			throw new IllegalArgumentException("The start of the time window must be before its end.");
+		}
+		this.timestampPath = timestampPath;
+		this.startFrom = startFrom;
+		this.until = until;
+		this.startingFromNow = startingFromNow;
+	}
+
+	/**
+	 * @param timestampPath the tree:path on which the relations must be evaluated
+	 * @param startFrom     the inclusive lower bound of the window, or <code>null</code> when unbounded
+	 * @param until         the inclusive upper bound of the window, or <code>null</code> when unbounded
+	 */
+	public static TimeWindow of(String timestampPath, LocalDateTime startFrom, LocalDateTime until) {
+		return new TimeWindow(timestampPath, startFrom, until, false);
+	}
+
+	/**
+	 * Creates a window that starts at the current time, meaning that only members that are added to the LDES from now
+	 * on are of interest. As all members in an immutable fragment are already published, only the latest mutable
+	 * fragments must be followed.
+	 *
+	 * @param timestampPath the tree:path on which the relations must be evaluated
+	 * @param until         the inclusive upper bound of the window, or <code>null</code> when unbounded
+	 */
+	public static TimeWindow startingFromNow(String timestampPath, LocalDateTime until) {
+		return new TimeWindow(timestampPath, LocalDateTime.now(ZoneOffset.UTC), until, true);
+	}
+
+	public static TimeWindow unbounded() {
+		return new TimeWindow(null, null, null, false);
+	}
+
+	public boolean isUnbounded() {
+		return startFrom == null && until == null;
+	}
+
+	public boolean isStartingFromNow() {
+		return startingFromNow;
+	}
+
+	/**
+	 * @param timestamp the timestamp of the member
+	 * @return <code>true</code> if the timestamp lies within the window or is unknown
+	 */
+	public boolean contains(LocalDateTime timestamp) {
+		if (timestamp == null) {
+			return true;
+		}
+		return (startFrom == null || !timestamp.isBefore(startFrom)) && (until == null || !timestamp.isAfter(until));
+	}
+
+	/**
+	 * Evaluates a tree:relation against this window. Relations of an unsupported type, on another path than the
+	 * timestamp path or without a parsable xsd:dateTime value can never exclude a subtree.
+	 *
+	 * @param relation the tree:relation resource, containing the type, tree:path and tree:value
+	 * @return <code>false</code> only if all members of the subtree behind the relation are outside this window
+	 */
+	public boolean mightContainMembersOf(Resource relation) {
+		if (isUnbounded() || timestampPath == null || !relation.hasProperty(W3ID_TREE_PATH, createResource(timestampPath))) {
+			return true;
+		}
+		return extractValue(relation)
+				.map(value -> mightContainMembersOf(relation, value))
+				.orElse(true);
+	}
+
+	private boolean mightContainMembersOf(Resource relation, LocalDateTime value) {
+		if (relation.hasProperty(type, GREATER_THAN_RELATION)) {
+			return until == null || value.isBefore(until);
+		}
+		if (relation.hasProperty(type, GREATER_THAN_OR_EQUAL_TO_RELATION)) {
+			return until == null || !value.isAfter(until);
+		}
+		if (relation.hasProperty(type, LESS_THAN_RELATION)) {
+			return startFrom == null || value.isAfter(startFrom);
+		}
+		if (relation.hasProperty(type, LESS_THAN_OR_EQUAL_TO_RELATION)) {
+			return startFrom == null || !value.isBefore(startFrom);
+		}
+		return true;
+	}
+
+	private static Optional<LocalDateTime> extractValue(Resource relation) {
+		return Optional.ofNullable(relation.getProperty(W3ID_TREE_VALUE))
+				.map(Statement::getObject)
+				.filter(RDFNode::isLiteral)
+				.map(RDFNode::asLiteral)
+				.map(Literal::getValue)
+				.filter(XSDDateTime.class::isInstance)
+				.map(XSDDateTime.class::cast)
+				.map(dateTime -> LocalDateTime.ofInstant(dateTime.asCalendar().toInstant(), ZoneOffset.UTC));
+	}
+
+	public LocalDateTime getStartFrom() {
+		return startFrom;
+	}
+
+	public LocalDateTime getUntil() {
+		return until;
+	}
+}
@@ -7,24 +7,38 @@ import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.
 import org.apache.http.HttpHeaders;
 import org.apache.jena.riot.Lang;
 
+import java.util.List;
+
 /**
  * Contains the endpoint to connect to the server. This can only be a fragment
  */
 public class TreeNodeRequest {
+	private static final List<Lang> BINARY_LANGS = List.of(Lang.RDFPROTO, Lang.RDFTHRIFT);
+
 	private final String treeNodeUrl;
 	private final Lang lang;
 
 	private final String etag;
+	private final boolean preferBinaryFormats;
 
 	public TreeNodeRequest(String treeNodeUrl, Lang lang, String etag) {
+		this(treeNodeUrl, lang, etag, false);
+	}
+
+	/**
+	 * @param preferBinaryFormats when <code>true</code>, the binary RDF formats are advertised with a higher
+	 *                            preference than the configured lang, which is still accepted as a fallback
+	 */
+	public TreeNodeRequest(String treeNodeUrl, Lang lang, String etag, boolean preferBinaryFormats) {
 		this.treeNodeUrl = treeNodeUrl;
 		this.lang = lang;
 		this.etag = etag;
+		this.preferBinaryFormats = preferBinaryFormats;
 	}
 
 	public Request createRequest() {
 		RequestHeaders requestHeaders = RequestHeaders.of(
-				new RequestHeader(HttpHeaders.ACCEPT, lang.getHeaderString()),
+				new RequestHeader(HttpHeaders.ACCEPT, getAcceptHeader()),
 				new RequestHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
 		);
 		if (etag != null) {
@@ -33,6 +47,34 @@ public class TreeNodeRequest {
 		return new GetRequest(treeNodeUrl, requestHeaders);
 	}
 
+	private String getAcceptHeader() {
+		if (!preferBinaryFormats || BINARY_LANGS.contains(lang)) {
+			return lang.getHeaderString();
+		}
+		return "%s, %s;q=0.9, %s;q=0.8".formatted(
+				Lang.RDFPROTO.getHeaderString(), Lang.RDFTHRIFT.getHeaderString(), lang.getHeaderString());
+	}
+
+	/**
+	 * @param responseLang the lang of the response, derived from its Content-Type header
+	 * @return <code>true</code> if the lang has been advertised in the Accept header of this request
+	 */
+	public boolean accepts(Lang responseLang) {
+		return lang.equals(responseLang) || (preferBinaryFormats && BINARY_LANGS.contains(responseLang));
+	}
+
+	public boolean prefersBinaryFormats() {
+		return preferBinaryFormats && !BINARY_LANGS.contains(lang);
+	}
+
+	/**
+	 * @return the same request, only advertising the configured lang. To be used when the server does not
+	 * accept the negotiation for the binary formats
+	 */
+	public TreeNodeRequest withoutBinaryFormats() {
+		return new TreeNodeRequest(treeNodeUrl, lang, etag, false);
+	}
+
 	public Lang getLang() {
 		return lang;
 	}
@@ -47,6 +89,7 @@ public class TreeNodeRequest {
 				"treeNodeUrl='" + treeNodeUrl + '\'' +
 				", lang=" + lang +
 				", etag='" + etag + '\'' +
+				", preferBinaryFormats=" + preferBinaryFormats +
 				'}';
 	}
 }
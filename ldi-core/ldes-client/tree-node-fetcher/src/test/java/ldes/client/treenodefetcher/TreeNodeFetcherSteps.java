@@ -46,9 +46,14 @@ public class TreeNodeFetcherSteps {
 		treeNodeRequest = new TreeNodeRequest(url, RDFLanguages.nameToLang(lang), etag.isEmpty() ? null : etag);
 	}
 
+	@When("I create a TreeNodeRequest with Lang {string} and url {string} preferring binary formats")
+	public void iCreateATreeNodeRequestWithLangAndUrlPreferringBinaryFormats(String lang, String url) {
+		treeNodeRequest = new TreeNodeRequest(url, RDFLanguages.nameToLang(lang), null, true);
+	}
+
 	@Then("An UnSupportedOperationException is thrown")
 	public void anUnSupportedOperationExceptionIsThrown() {
-		final String expectedErrorMessage = "Cannot handle response 404 of TreeNodeRequest TreeNodeRequest{treeNodeUrl='http://localhost:10101/404-not-found', lang=Lang:Turtle, etag='null'}";
+		final String expectedErrorMessage = "Cannot handle response 404 of TreeNodeRequest TreeNodeRequest{treeNodeUrl='http://localhost:10101/404-not-found', lang=Lang:Turtle, etag='null', preferBinaryFormats=false}";
 		assertThatThrownBy(() -> treeNodeFetcher.fetchTreeNode(treeNodeRequest))
 				.isInstanceOf(UnsupportedOperationException.class)
 				.hasMessage(expectedErrorMessage);
@@ -0,0 +1,94 @@
+package ldes.client.treenodefetcher;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.executor.RequestExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.Request;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.RequestHeader;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.Response;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampFromCurrentTimeExtractor;
+import ldes.client.treenodefetcher.domain.valueobjects.TimeWindow;
+import ldes.client.treenodefetcher.domain.valueobjects.TreeNodeRequest;
+import ldes.client.treenodefetcher.domain.valueobjects.TreeNodeResponse;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.message.BasicHeader;
+import org.apache.jena.riot.Lang;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TreeNodeFetcherTest {
+	private final RequestExecutor requestExecutor = mock(RequestExecutor.class);
+	private final TreeNodeFetcher treeNodeFetcher = new TreeNodeFetcher(requestExecutor, new TimestampFromCurrentTimeExtractor());
+
+	@BeforeEach
+	void setUp() throws IOException {
+		final byte[] fragment;
+		try (InputStream inputStream = getClass().getResourceAsStream("/__files/1-relation-3-members.ttl")) {
+			fragment = inputStream.readAllBytes();
+		}
+		when(requestExecutor.execute(any())).thenAnswer(invocation -> {
+			final Request request = invocation.getArgument(0);
+			if (getAcceptHeader(request).contains(Lang.RDFPROTO.getHeaderString())) {
+				return new Response(request, List.of(), HttpStatus.SC_NOT_ACCEPTABLE, (byte[]) null);
+			}
+			return new Response(request, List.of(new BasicHeader(HttpHeaders.CONTENT_TYPE, Lang.TURTLE.getHeaderString())), HttpStatus.SC_OK, fragment);
+		});
+	}
+
+	@Test
+	void given_HostDoesNotAcceptBinaryFormats_when_FetchingNextFragment_then_BinaryFormatsAreNoLongerAdvertised() {
+		treeNodeFetcher.fetchTreeNode(new TreeNodeRequest("http://server/fragment-1", Lang.TURTLE, null, true));
+		final int members = treeNodeFetcher.fetchTreeNode(new TreeNodeRequest("http://server/fragment-2", Lang.TURTLE, null, true))
+				.getMembers().size();
+
+		final ArgumentCaptor<Request> requests = ArgumentCaptor.forClass(Request.class);
+		verify(requestExecutor, times(3)).execute(requests.capture());
+		assertThat(requests.getAllValues())
+				.extracting(TreeNodeFetcherTest::getAcceptHeader)
+				.containsExactly(
+						"application/rdf+protobuf, application/rdf+thrift;q=0.9, text/turtle;q=0.8",
+						"text/turtle",
+						"text/turtle");
+		assertThat(members).isEqualTo(3);
+	}
+
+	@Test
+	void given_HostDoesNotAcceptBinaryFormats_when_FetchingFromOtherHost_then_BinaryFormatsAreStillAdvertised() {
+		treeNodeFetcher.fetchTreeNode(new TreeNodeRequest("http://server/fragment-1", Lang.TURTLE, null, true));
+		treeNodeFetcher.fetchTreeNode(new TreeNodeRequest("http://other-server/fragment-1", Lang.TURTLE, null, true));
+
+		verify(requestExecutor, times(4)).execute(any());
+	}
+
+	@Test
+	void given_WindowStartingFromNow_when_FragmentHasBecomeImmutable_then_NewMembersAreStillReturned() throws IOException {
+		final byte[] fragment;
+		try (InputStream inputStream = getClass().getResourceAsStream("/__files/1-relation-3-members.ttl")) {
+			fragment = inputStream.readAllBytes();
+		}
+		final RequestExecutor immutableFragmentExecutor = mock(RequestExecutor.class);
+		when(immutableFragmentExecutor.execute(any())).thenAnswer(invocation -> new Response(invocation.getArgument(0),
+				List.of(new BasicHeader(HttpHeaders.CONTENT_TYPE, Lang.TURTLE.getHeaderString()),
+						new BasicHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=604800, immutable")),
+				HttpStatus.SC_OK, fragment));
+		final TreeNodeFetcher fetcher = new TreeNodeFetcher(immutableFragmentExecutor, new TimestampFromCurrentTimeExtractor(),
+				TimeWindow.startingFromNow("http://www.w3.org/ns/prov#generatedAtTime", null));
+
+		final TreeNodeResponse response = fetcher.fetchTreeNode(new TreeNodeRequest("http://server/fragment-1", Lang.TURTLE, null));
+
+		assertThat(response.getMutabilityStatus().isMutable()).isFalse();
+		assertThat(response.getMembers()).hasSize(3);
+	}
+
+	private static String getAcceptHeader(Request request) {
+		return request.getRequestHeaders().getFirst(HttpHeaders.ACCEPT).map(RequestHeader::getValue).orElse("");
+	}
+}
@@ -0,0 +1,55 @@
+package ldes.client.treenodefetcher.domain.valueobjects;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampExtractor;
+import ldes.client.treenodefetcher.domain.entities.TreeMember;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ModelResponseTest {
+	private static final String MEMBER_ID = "https://private-api.gipod.beta-vlaanderen.be/api/v1/mobility-hindrances/10228530/3";
+	private static final String TIMESTAMP_PATH = "http://www.w3.org/ns/prov#generatedAtTime";
+	private final TimestampExtractor timestampExtractor = mock(TimestampExtractor.class);
+	private ModelResponse modelResponse;
+
+	@BeforeEach
+	void setUp() {
+		final Model model = RDFDataMgr.loadModel("__files/1-relation-3-members.ttl");
+		modelResponse = new ModelResponse(model, timestampExtractor);
+	}
+
+	@Test
+	void given_KnownMembers_when_GetMembers_then_OnlyExtractNewMembers() {
+		final Set<String> knownMemberIds = Set.of(
+				"https://private-api.gipod.beta-vlaanderen.be/api/v1/mobility-hindrances/10228532/13",
+				"https://private-api.gipod.beta-vlaanderen.be/api/v1/mobility-hindrances/10228531/8"
+		);
+
+		final var members = modelResponse.getMembers(knownMemberIds::contains);
+
+		assertThat(members).map(TreeMember::getMemberId).containsExactly(MEMBER_ID);
+		verify(timestampExtractor, times(1)).extractTimestampWithSubject(any(), any());
+	}
+
+	@Test
+	void when_GetMembers_then_ExtractAllMembers() {
+		assertThat(modelResponse.getMembers()).hasSize(3);
+	}
+
+	@Test
+	void given_TimeWindow_when_GetRelations_then_SkipRelationsOutsideWindow() {
+		final LocalDateTime relationValue = LocalDateTime.parse("2020-12-28T09:37:18.577");
+
+		assertThat(modelResponse.getRelations(TimeWindow.of(TIMESTAMP_PATH, null, relationValue.minusDays(1)))).isEmpty();
+		assertThat(modelResponse.getRelations(TimeWindow.of(TIMESTAMP_PATH, null, relationValue.plusDays(1)))).hasSize(1);
+		assertThat(modelResponse.getRelations()).hasSize(1);
+	}
+}
@@ -0,0 +1,94 @@
+package ldes.client.treenodefetcher.domain.valueobjects;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static ldes.client.treenodefetcher.domain.valueobjects.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeWindowTest {
+	private static final String TIMESTAMP_PATH = "http://www.w3.org/ns/prov#generatedAtTime";
+	private static final LocalDateTime START_FROM = LocalDateTime.parse("2024-03-01T00:00:00");
+	private static final LocalDateTime UNTIL = LocalDateTime.parse("2024-03-31T00:00:00");
+	private final TimeWindow timeWindow = TimeWindow.of(TIMESTAMP_PATH, START_FROM, UNTIL);
+
+	@ParameterizedTest
+	@MethodSource("relations")
+	void test_MightContainMembersOf(String relationType, String value, boolean expected) {
+		final Resource relation = createRelation(relationType, TIMESTAMP_PATH, value);
+
+		assertThat(timeWindow.mightContainMembersOf(relation)).isEqualTo(expected);
+	}
+
+	static Stream<Arguments> relations() {
+		return Stream.of(
+				Arguments.of("GreaterThanRelation", "2024-03-15T00:00:00Z", true),
+				Arguments.of("GreaterThanRelation", "2024-03-31T00:00:00Z", false),
+				Arguments.of("GreaterThanOrEqualToRelation", "2024-03-31T00:00:00Z", true),
+				Arguments.of("GreaterThanOrEqualToRelation", "2024-04-01T00:00:00Z", false),
+				Arguments.of("LessThanRelation", "2024-03-15T00:00:00Z", true),
+				Arguments.of("LessThanRelation", "2024-03-01T00:00:00Z", false),
+				Arguments.of("LessThanOrEqualToRelation", "2024-03-01T00:00:00Z", true),
+				Arguments.of("LessThanOrEqualToRelation", "2024-02-01T00:00:00+01:00", false),
+				Arguments.of("EqualToRelation", "2020-01-01T00:00:00Z", true)
+		);
+	}
+
+	@Test
+	void given_RelationOnOtherPath_when_MightContainMembersOf_then_ReturnTrue() {
+		final Resource relation = createRelation("LessThanRelation", "http://purl.org/dc/terms/created", "2020-01-01T00:00:00Z");
+
+		assertThat(timeWindow.mightContainMembersOf(relation)).isTrue();
+	}
+
+	@Test
+	void given_UnboundedWindow_when_MightContainMembersOf_then_ReturnTrue() {
+		final Resource relation = createRelation("LessThanRelation", TIMESTAMP_PATH, "2020-01-01T00:00:00Z");
+
+		assertThat(TimeWindow.unbounded().mightContainMembersOf(relation)).isTrue();
+	}
+
+	@Test
+	void test_Contains() {
+		assertThat(timeWindow.contains(START_FROM)).isTrue();
+		assertThat(timeWindow.contains(UNTIL)).isTrue();
+		assertThat(timeWindow.contains(START_FROM.minusSeconds(1))).isFalse();
+		assertThat(timeWindow.contains(UNTIL.plusSeconds(1))).isFalse();
+		assertThat(TimeWindow.of(TIMESTAMP_PATH, START_FROM, null).contains(LocalDateTime.MAX)).isTrue();
+	}
+
+	@Test
+	void test_StartingFromNow() {
+		final TimeWindow window = TimeWindow.startingFromNow(TIMESTAMP_PATH, null);
+
+		assertThat(window.isStartingFromNow()).isTrue();
+		assertThat(window.isUnbounded()).isFalse();
+		assertThat(window.contains(LocalDateTime.now().minusYears(1))).isFalse();
+	}
+
+	@Test
+	void given_StartAfterEnd_when_Create_then_ThrowException() {
+		assertThatThrownBy(() -> TimeWindow.of(TIMESTAMP_PATH, UNTIL, START_FROM))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Resource createRelation(String relationType, String path, String value) {
+		final Model model = ModelFactory.createDefaultModel();
+		return model.createResource()
+				.addProperty(RDF.type, model.createResource(W3C_TREE + relationType))
+				.addProperty(W3ID_TREE_PATH, model.createResource(path))
+				.addProperty(W3ID_TREE_VALUE, model.createTypedLiteral(value, XSDDatatype.XSDdateTime))
+				.addProperty(W3ID_TREE_NODE, model.createResource("http://localhost:8080/node"));
+	}
+}
@@ -52,4 +52,38 @@ class TreeNodeRequestTest {
 						new RequestHeader("Accept-Encoding", "gzip")
 				);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void given_BinaryFormatsPreferred_when_CreateRequest_then_AcceptHeaderPrefersBinaryFormats() {
+		final TreeNodeRequest treeNodeRequest = new TreeNodeRequest(URL, LANG, null, true);
+
+		final Request result = treeNodeRequest.createRequest();
+
+		assertThat(result.getRequestHeaders())
+				.contains(new RequestHeader("Accept", "application/rdf+protobuf, application/rdf+thrift;q=0.9, text/turtle;q=0.8"));
+		assertThat(treeNodeRequest.withoutBinaryFormats().createRequest().getRequestHeaders())
+				.contains(new RequestHeader("Accept", LANG.getHeaderString()));
+	}
+
+	@Test
+	void given_BinaryLangAndBinaryFormatsPreferred_when_CreateRequest_then_OnlyLangIsAccepted() {
+		final TreeNodeRequest treeNodeRequest = new TreeNodeRequest(URL, Lang.RDFPROTO, null, true);
+
+		final Request result = treeNodeRequest.createRequest();
+
+		assertThat(result.getRequestHeaders())
+				.contains(new RequestHeader("Accept", Lang.RDFPROTO.getHeaderString()));
+		assertThat(treeNodeRequest.prefersBinaryFormats()).isFalse();
+	}
+
+	@Test
+	void test_Accepts() {
+		final TreeNodeRequest treeNodeRequest = new TreeNodeRequest(URL, LANG, null);
+		final TreeNodeRequest binaryRequest = new TreeNodeRequest(URL, LANG, null, true);
+
+		assertThat(treeNodeRequest.accepts(LANG)).isTrue();
+		assertThat(treeNodeRequest.accepts(Lang.RDFTHRIFT)).isFalse();
+		assertThat(binaryRequest.accepts(Lang.RDFTHRIFT)).isTrue();
+		assertThat(binaryRequest.accepts(Lang.JSONLD)).isFalse();
+	}
+}
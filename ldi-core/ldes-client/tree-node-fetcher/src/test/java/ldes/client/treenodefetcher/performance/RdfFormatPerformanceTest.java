@@ -0,0 +1,106 @@
+package ldes.client.treenodefetcher.performance;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.services.RequestExecutorFactory;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampFromCurrentTimeExtractor;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import ldes.client.treenodefetcher.TreeNodeFetcher;
+import ldes.client.treenodefetcher.domain.valueobjects.TreeNodeRequest;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFParser;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+/**
+ * This class is used to compare the throughput of the TreeNodeFetcher for the different RDF formats a server can
+ * respond with, using a local stub server that serves the same fragment in every format. The results are written to
+ * target/compare_rdf_formats_fetcher.csv.
+ */
+class RdfFormatPerformanceTest {
+	private static final int PORT = 10102;
+	private static final int MEMBER_COPIES = 100;
+	private static final int REQUESTS = 50;
+	private static final List<Lang> LANGS = List.of(Lang.JSONLD, Lang.TURTLE, Lang.NQUADS, Lang.RDFPROTO, Lang.RDFTHRIFT);
+
+	private static WireMockServer wireMockServer;
+	private final TreeNodeFetcher treeNodeFetcher = new TreeNodeFetcher(
+			new RequestExecutorFactory(false).createNoAuthExecutor(), new TimestampFromCurrentTimeExtractor());
+
+	@BeforeAll
+	static void setUp() {
+		wireMockServer = new WireMockServer(WireMockConfiguration.options().port(PORT).disableRequestJournal());
+		wireMockServer.start();
+	}
+
+	@AfterAll
+	static void tearDown() {
+		wireMockServer.stop();
+	}
+
+	@Disabled("These tests do not contain assertions and should be run manually to compare the RDF formats.")
+	@Tag("performance")
+	@Test
+	void compare_rdf_formats() throws IOException {
+		final Model fragment = createFragment();
+		LANGS.forEach(lang -> wireMockServer.stubFor(get("/" + lang.getName())
+				.willReturn(ok()
+						.withHeader("Content-Type", lang.getHeaderString())
+						.withBody(serialize(fragment, lang)))));
+
+		try (BufferedWriter csvFile = Files.newBufferedWriter(Path.of("target", "compare_rdf_formats_fetcher.csv"))) {
+			csvFile.write("lang,members,ms,members_per_second");
+			csvFile.newLine();
+			for (Lang lang : LANGS) {
+				final TreeNodeRequest request = new TreeNodeRequest("http://localhost:%d/%s".formatted(PORT, lang.getName()), lang, null);
+				fetch(request, REQUESTS / 10);
+				final long start = System.nanoTime();
+				final int members = fetch(request, REQUESTS);
+				final long ms = (System.nanoTime() - start) / 1_000_000;
+				csvFile.write("%s,%d,%d,%d".formatted(lang.getName(), members, ms, members * 1000L / Math.max(ms, 1)));
+				csvFile.newLine();
+			}
+		}
+	}
+
+	private int fetch(TreeNodeRequest request, int times) {
+		int members = 0;
+		for (int i = 0; i < times; i++) {
+			members += treeNodeFetcher.fetchTreeNode(request).getMembers().size();
+		}
+		return members;
+	}
+
+	/**
+	 * Multiplies the members of the test fragment by giving every copy its own member ids
+	 */
+	private static Model createFragment() throws IOException {
+		try (InputStream inputStream = RdfFormatPerformanceTest.class.getResourceAsStream("/__files/1-relation-3-members.ttl")) {
+			final String template = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+			final Model fragment = ModelFactory.createDefaultModel();
+			for (int i = 1; i <= MEMBER_COPIES; i++) {
+				final String copy = template.replace("mobility-hindrances/", "mobility-hindrances/" + i);
+				fragment.add(RDFParser.fromString(copy).lang(Lang.TURTLE).toModel());
+			}
+			return fragment;
+		}
+	}
+
+	private static byte[] serialize(Model model, Lang lang) {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		RDFDataMgr.write(outputStream, model, lang);
+		return outputStream.toByteArray();
+	}
+}
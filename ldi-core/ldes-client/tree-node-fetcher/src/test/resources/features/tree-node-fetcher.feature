@@ -14,6 +14,17 @@ Feature: TreeNodeFetcher
       | nq                       |
       | application/rdf+protobuf |
 
+  Scenario Outline: Fetching a TreeNode while preferring binary formats
+    Given I have a TreeNodeFetcher
+    When I create a TreeNodeRequest with Lang "turtle" and url "<url>" preferring binary formats
+    And I fetch the TreeNode
+    Then the obtained TreeNode has 3 members and 1 relations
+    Examples:
+      | url                                                         |
+      | http://localhost:10101/binary-negotiation                   |
+      | http://localhost:10101/binary-negotiation-not-supported     |
+      | http://localhost:10101/binary-negotiation-not-acceptable    |
+
   Scenario: Fetching a redirect
     Given I have a TreeNodeFetcher
     When I create a TreeNodeRequest with Lang "turtle" and url "http://localhost:10101/302-redirects" and etag ""
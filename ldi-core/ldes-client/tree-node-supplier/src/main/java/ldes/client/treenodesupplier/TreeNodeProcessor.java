@@ -14,6 +14,7 @@ import ldes.client.treenodesupplier.repository.TreeNodeRecordRepository;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -23,13 +24,13 @@ import static java.lang.Thread.sleep;
 import static ldes.client.treenodesupplier.domain.valueobject.ClientStatus.*;
 
 public class TreeNodeProcessor {
-
 	private final TreeNodeRecordRepository treeNodeRecordRepository;
 	private final MemberRepository memberRepository;
 	private final TreeNodeFetcher treeNodeFetcher;
 	private final LdesMetaData ldesMetaData;
 	private final RequestExecutor requestExecutor;
 	private final Consumer<ClientStatus> clientStatusConsumer;
+	private final List<Runnable> fragmentCompletionListeners = new ArrayList<>();
 	private MemberRecord memberRecord;
 
 	public TreeNodeProcessor(LdesMetaData ldesMetaData, LdesClientRepositories ldesClientRepositories,
@@ -39,7 +40,7 @@ public class TreeNodeProcessor {
 		this.memberRepository = ldesClientRepositories.memberRepository();
 		this.requestExecutor = requestExecutor;
 		this.clientStatusConsumer = clientStatusConsumer;
-		this.treeNodeFetcher = new TreeNodeFetcher(requestExecutor, timestampExtractor);
+		this.treeNodeFetcher = new TreeNodeFetcher(requestExecutor, timestampExtractor, ldesMetaData.getTimeWindow());
 		this.ldesMetaData = ldesMetaData;
 	}
 
@@ -54,6 +55,7 @@ public class TreeNodeProcessor {
 
 		Optional<MemberRecord> unprocessedTreeMember = memberRepository.getTreeMember();
 		while (unprocessedTreeMember.isEmpty()) {
+			fragmentCompletionListeners.forEach(Runnable::run);
 			processTreeNode();
 			unprocessedTreeMember = memberRepository.getTreeMember();
 		}
@@ -73,10 +75,10 @@ public class TreeNodeProcessor {
 			try {
 				waitUntilNextVisit(treeNodeRecord);
 				TreeNodeResponse treeNodeResponse = treeNodeFetcher
-						.fetchTreeNode(ldesMetaData.createRequest(treeNodeRecord.getTreeNodeUrl()));
+						.fetchTreeNode(ldesMetaData.createRequest(treeNodeRecord.getTreeNodeUrl()), treeNodeRecord::hasReceived);
 				treeNodeRecord.updateStatus(treeNodeResponse.getMutabilityStatus());
 				saveNewRelations(treeNodeResponse);
-				List<TreeMember> newMembers = getNewMembersFromResponse(treeNodeResponse, treeNodeRecord);
+				List<TreeMember> newMembers = treeNodeResponse.getMembers();
 				saveNewMembers(newMembers);
 				treeNodeRecord.addToReceived(newMembers.stream().map(TreeMember::getMemberId).toList());
 				treeNodeRecordRepository.saveTreeNodeRecord(treeNodeRecord);
@@ -95,27 +97,15 @@ public class TreeNodeProcessor {
 				.map(treeMember -> new MemberRecord(treeMember.getMemberId(), treeMember.getModel(), treeMember.getCreatedAt())));
 	}
 
-	private static List<TreeMember> getNewMembersFromResponse(TreeNodeResponse treeNodeResponse, TreeNodeRecord treeNodeRecord) {
-		return treeNodeResponse
-				.getMembers()
-				.stream()
-				.filter(member -> !treeNodeRecord.hasReceived(member.getMemberId()))
-				.toList();
-	}
-
 	private void saveNewRelations(TreeNodeResponse treeNodeResponse) {
-		treeNodeResponse.getRelations()
+		treeNodeRecordRepository.saveTreeNodeRecordsIfAbsent(treeNodeResponse.getRelations()
 				.stream()
-				.filter(treeNodeId -> !treeNodeRecordRepository.existsById(treeNodeId))
 				.map(TreeNodeRecord::new)
-				.forEach(treeNodeRecordRepository::saveTreeNodeRecord);
+				.toList());
 	}
 
 	private TreeNodeRecord getNextTreeNode() {
-		TreeNodeRecord treeNodeRecord = treeNodeRecordRepository
-				.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.IMMUTABLE_WITH_UNPROCESSED_MEMBERS)
-				.or(() -> treeNodeRecordRepository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED))
-				.or(() -> treeNodeRecordRepository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.MUTABLE_AND_ACTIVE))
+		TreeNodeRecord treeNodeRecord = findNextTreeNode()
 				.orElseThrow(() -> {
 					clientStatusConsumer.accept(COMPLETED);
 					return new EndOfLdesException("No fragments to mutable or new fragments to process -> LDES ends.");
@@ -133,6 +123,27 @@ public class TreeNodeProcessor {
 		return treeNodeRecord;
 	}
 
+	/**
+	 * When the repository is shared with other workers, the remaining TreeNodeRecords might all be leased by them.
+	 * The LDES only ends when no other worker can add TreeNodeRecords anymore, so until then the worker waits for the
+	 * others to release their leases.
+	 */
+	private Optional<TreeNodeRecord> findNextTreeNode() {
+		Optional<TreeNodeRecord> treeNodeRecord = findNextUnleasedTreeNode();
+		while (treeNodeRecord.isEmpty() && treeNodeRecordRepository.containsTreeNodeRecordsLeasedByOthers()) {
+			treeNodeRecordRepository.awaitReleaseOfLeasesByOthers();
+			treeNodeRecord = findNextUnleasedTreeNode();
+		}
+		return treeNodeRecord;
+	}
+
+	private Optional<TreeNodeRecord> findNextUnleasedTreeNode() {
+		return treeNodeRecordRepository
+				.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.IMMUTABLE_WITH_UNPROCESSED_MEMBERS)
+				.or(() -> treeNodeRecordRepository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED))
+				.or(() -> treeNodeRecordRepository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.MUTABLE_AND_ACTIVE));
+	}
+
 	private void waitUntilNextVisit(TreeNodeRecord treeNodeRecord) {
 		try {
 			LocalDateTime earliestNextVisit = treeNodeRecord.getEarliestNextVisit();
@@ -160,8 +171,20 @@ public class TreeNodeProcessor {
 		}
 	}
 
+	/**
+	 * @param listener called every time all members of the fetched fragments have been supplied, right before the
+	 *                 next fragment is fetched
+	 */
+	public void addFragmentCompletionListener(Runnable listener) {
+		fragmentCompletionListeners.add(listener);
+	}
+
 	public void destroyState() {
 		memberRepository.destroyState();
 		treeNodeRecordRepository.destroyState();
 	}
+
+	public void close() {
+		treeNodeRecordRepository.close();
+	}
 }
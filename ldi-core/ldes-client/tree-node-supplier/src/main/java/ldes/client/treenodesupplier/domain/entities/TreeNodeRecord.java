@@ -4,15 +4,14 @@ import ldes.client.treenodefetcher.domain.valueobjects.MutabilityStatus;
 import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 public class TreeNodeRecord {
 	private final String treeNodeUrl;
 	private TreeNodeStatus treeNodeStatus;
 	private LocalDateTime earliestNextVisit;
 	private final List<String> memberIds;
+	private final Set<String> receivedMemberIds;
 
 	public TreeNodeRecord(String treeNodeUrl) {
 		this(treeNodeUrl, TreeNodeStatus.NOT_VISITED, LocalDateTime.now(), new ArrayList<>());
@@ -23,6 +22,7 @@ public class TreeNodeRecord {
 		this.treeNodeStatus = treeNodeStatus;
 		this.earliestNextVisit = earliestNextVisit;
 		this.memberIds = memberIds;
+		this.receivedMemberIds = new HashSet<>(memberIds);
 	}
 
 	public String getTreeNodeUrl() {
@@ -72,7 +72,7 @@ public class TreeNodeRecord {
 	 * @return <code>true</code> if the member is new, <code>false</code> if the member has already been received before
 	 */
 	public boolean hasReceived(String memberId) {
-		return memberIds.contains(memberId);
+		return receivedMemberIds.contains(memberId);
 	}
 
 	/**
@@ -82,6 +82,7 @@ public class TreeNodeRecord {
 	 */
 	public void addToReceived(List<String> receivedMemberIds) {
 		memberIds.addAll(receivedMemberIds);
+		this.receivedMemberIds.addAll(receivedMemberIds);
 	}
 
 	/**
@@ -92,6 +93,7 @@ public class TreeNodeRecord {
 	 */
 	public void markImmutableWithoutUnprocessedMembers() {
 		memberIds.clear();
+		receivedMemberIds.clear();
 		treeNodeStatus = TreeNodeStatus.IMMUTABLE_WITHOUT_UNPROCESSED_MEMBERS;
 	}
 
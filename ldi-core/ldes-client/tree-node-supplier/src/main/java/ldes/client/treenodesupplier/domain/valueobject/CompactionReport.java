@@ -0,0 +1,13 @@
+package ldes.client.treenodesupplier.domain.valueobject;
+
+/**
+ * Outcome of a single compaction run of the persisted state of an LDES client
+ *
+ * @param removedDeadRows the number of deleted rows of which PostgreSQL made the space reusable, as counted by its
+ *                        statistics before the vacuum. Always 0 for SQLite, which reuses the space of a deleted row
+ *                        right away.
+ * @param reclaimedBytes  the decrease in size of the SQLite database file. Always 0 for PostgreSQL, as a plain vacuum
+ *                        keeps the space in the table for reuse instead of giving it back to the file system.
+ */
+public record CompactionReport(long removedDeadRows, long reclaimedBytes) {
+}
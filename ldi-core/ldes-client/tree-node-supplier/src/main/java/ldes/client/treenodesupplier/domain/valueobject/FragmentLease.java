@@ -0,0 +1,36 @@
+package ldes.client.treenodesupplier.domain.valueobject;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Identifies a worker that shares the replication of an LDES with other workers through a common database. A worker
+ * leases the fragments it processes and only hands off the members it has fetched itself.
+ *
+ * @param workerId a stable identifier of the worker, so that it can resume its own leases and members after a restart
+ * @param timeout  the duration after which a lease expires and the fragment can be picked up by another worker
+ */
+public record FragmentLease(String workerId, Duration timeout) {
+
+	public FragmentLease {
+		if (workerId == null || workerId.isBlank()) {
+			throw new IllegalArgumentException("The worker id of a fragment lease must not be blank.");
+		}
+		if (timeout.isNegative() || timeout.isZero()) {
+			throw new IllegalArgumentException("The timeout of a fragment lease must be positive.");
+		}
+	}
+
+	/**
+	 * The lease must outlast the wait until the next visit of the fragment, otherwise another worker could fetch the
+	 * same fragment while this worker is still waiting for it.
+	 *
+	 * @param earliestNextVisit the moment the leased fragment can be fetched
+	 * @return the moment the lease expires
+	 */
+	public LocalDateTime getExpiry(LocalDateTime earliestNextVisit) {
+		final LocalDateTime now = LocalDateTime.now();
+		final LocalDateTime start = earliestNextVisit != null && earliestNextVisit.isAfter(now) ? earliestNextVisit : now;
+		return start.plus(timeout);
+	}
+}
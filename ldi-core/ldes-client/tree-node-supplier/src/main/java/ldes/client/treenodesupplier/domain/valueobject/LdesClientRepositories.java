@@ -8,6 +8,15 @@ import ldes.client.treenodesupplier.repository.inmemory.InMemoryMemberIdReposito
 import ldes.client.treenodesupplier.repository.inmemory.InMemoryMemberRepository;
 import ldes.client.treenodesupplier.repository.inmemory.InMemoryMemberVersionRepository;
 import ldes.client.treenodesupplier.repository.inmemory.InMemoryTreeNodeRecordRepository;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbMemberIdRepository;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbMemberRepository;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbMemberVersionRepository;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbStore;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbTreeNodeRepository;
+import ldes.client.treenodesupplier.repository.sql.BloomFilteredMemberIdRepository;
+import ldes.client.treenodesupplier.repository.sql.LeaseReleaseListener;
+import ldes.client.treenodesupplier.repository.sql.LeasingSqlTreeNodeRepository;
+import ldes.client.treenodesupplier.repository.sql.PartitionedSqlMemberRepository;
 import ldes.client.treenodesupplier.repository.sql.SqlMemberIdRepository;
 import ldes.client.treenodesupplier.repository.sql.SqlMemberRepository;
 import ldes.client.treenodesupplier.repository.sql.SqlMemberVersionRepository;
@@ -20,13 +29,49 @@ public record LdesClientRepositories(MemberRepository memberRepository, MemberId
                                      MemberVersionRepository memberVersionRepository) {
 
 	public static LdesClientRepositories sqlBased(EntityManager entityManager) {
+		return sqlBased(entityManager, BloomFilteredMemberIdRepository.DEFAULT_EXPECTED_MEMBER_COUNT);
+	}
+
+	/**
+	 * @param expectedMemberCount the expected number of members in the LDES, to size the bloom filter in front of the
+	 *                            member ids of the exactly-once filter
+	 */
+	public static LdesClientRepositories sqlBased(EntityManager entityManager, long expectedMemberCount) {
 		return new LdesClientRepositories(
 				new SqlMemberRepository(entityManager),
-				new SqlMemberIdRepository(entityManager),
+				new BloomFilteredMemberIdRepository(new SqlMemberIdRepository(entityManager), expectedMemberCount),
 				new SqlTreeNodeRepository(entityManager),
 				new SqlMemberVersionRepository(entityManager));
 	}
 
+	/**
+	 * Creates the repositories for a worker that shares the replication of an LDES with other workers on the same
+	 * PostgreSQL database. The member ids are checked against the database directly, as they are added by the other
+	 * workers as well.
+	 *
+	 * @param leaseReleaseListener listens to the release of leases on a dedicated connection to the same database
+	 */
+	public static LdesClientRepositories sqlBasedWithLeasing(EntityManager entityManager, FragmentLease fragmentLease,
+	                                                         LeaseReleaseListener leaseReleaseListener) {
+		return new LdesClientRepositories(
+				new PartitionedSqlMemberRepository(entityManager, fragmentLease),
+				new SqlMemberIdRepository(entityManager),
+				new LeasingSqlTreeNodeRepository(entityManager, fragmentLease, leaseReleaseListener),
+				new SqlMemberVersionRepository(entityManager));
+	}
+
+	/**
+	 * Creates the repositories that persist the state in an embedded RocksDB store, which avoids the ORM and
+	 * transaction costs of the SQL based repositories
+	 */
+	public static LdesClientRepositories rocksDbBased(RocksDbStore store) {
+		return new LdesClientRepositories(
+				new RocksDbMemberRepository(store),
+				new RocksDbMemberIdRepository(store),
+				new RocksDbTreeNodeRepository(store),
+				new RocksDbMemberVersionRepository(store));
+	}
+
 	public static LdesClientRepositories memoryBased() {
 		return new LdesClientRepositories(
 				new InMemoryMemberRepository(),
@@ -1,5 +1,6 @@
 package ldes.client.treenodesupplier.domain.valueobject;
 
+import ldes.client.treenodefetcher.domain.valueobjects.TimeWindow;
 import ldes.client.treenodefetcher.domain.valueobjects.TreeNodeRequest;
 import org.apache.jena.riot.Lang;
 
@@ -8,10 +9,26 @@ import java.util.List;
 public class LdesMetaData {
 	private final List<String> startingNodeUrls;
 	private final Lang lang;
+	private final TimeWindow timeWindow;
+	private final boolean preferBinaryFormats;
 
 	public LdesMetaData(List<String> startingNodeUrls, Lang lang) {
+		this(startingNodeUrls, lang, TimeWindow.unbounded());
+	}
+
+	public LdesMetaData(List<String> startingNodeUrls, Lang lang, TimeWindow timeWindow) {
+		this(startingNodeUrls, lang, timeWindow, false);
+	}
+
+	/**
+	 * @param preferBinaryFormats when <code>true</code>, the binary RDF formats (RDF Protobuf and RDF Thrift) are
+	 *                            requested with a higher preference than the configured lang
+	 */
+	public LdesMetaData(List<String> startingNodeUrls, Lang lang, TimeWindow timeWindow, boolean preferBinaryFormats) {
 		this.startingNodeUrls = startingNodeUrls;
 		this.lang = lang;
+		this.timeWindow = timeWindow;
+		this.preferBinaryFormats = preferBinaryFormats;
 	}
 
 	public List<String> getStartingNodeUrls() {
@@ -26,10 +43,14 @@ public class LdesMetaData {
 	}
 
 	public TreeNodeRequest createRequest(String treeNodeUrl) {
-		return new TreeNodeRequest(treeNodeUrl, lang, null);
+		return new TreeNodeRequest(treeNodeUrl, lang, null, preferBinaryFormats);
 	}
 
 	public Lang getLang() {
 		return lang;
 	}
+
+	public TimeWindow getTimeWindow() {
+		return timeWindow;
+	}
 }
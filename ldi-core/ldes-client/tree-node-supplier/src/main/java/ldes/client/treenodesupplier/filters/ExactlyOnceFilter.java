@@ -24,12 +24,20 @@ public class ExactlyOnceFilter implements MemberFilter {
 		return memberIdRepository.addMemberIdIfNotExists(member.getId());
 	}
 
+	@Override
+	public void flush() {
+		memberIdRepository.flush();
+	}
+
 	/**
-	 * Clean up the database when the filter is not required anymore and the state must not be kept
+	 * Clean up the database when the filter is not required anymore and the state must not be kept, otherwise make
+	 * sure that all processed member ids are persisted
 	 */
 	@Override
 	public void destroyState() {
-		if (!keepState) {
+		if (keepState) {
+			memberIdRepository.flush();
+		} else {
 			memberIdRepository.destroyState();
 		}
 	}
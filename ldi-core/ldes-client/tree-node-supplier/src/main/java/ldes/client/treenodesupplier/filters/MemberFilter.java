@@ -14,6 +14,13 @@ public interface MemberFilter {
 	 */
 	boolean saveMemberIfAllowed(SuppliedMember member);
 
+	/**
+	 * Persists the saved members that are still buffered, which happens at the latest when all members of a fragment
+	 * have been supplied
+	 */
+	default void flush() {
+	}
+
 	/**
 	 * Release resources when the filter is not required anymore
 	 */
@@ -0,0 +1,66 @@
+package ldes.client.treenodesupplier.membersuppliers;
+
+import ldes.client.treenodesupplier.domain.valueobject.CompactionReport;
+import ldes.client.treenodesupplier.repository.sql.SqlStateCompactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+/**
+ * This is a decorator for the {@link MemberSupplier} which periodically compacts the persisted state of the client
+ * on a separate thread, so that the supplying of the members never has to wait for it
+ */
+public class CompactingMemberSupplier extends MemberSupplierDecorator {
+	private static final Logger log = LoggerFactory.getLogger(CompactingMemberSupplier.class);
+	private final SqlStateCompactor stateCompactor;
+	private final Duration interval;
+	private final ScheduledExecutorService scheduledExecutorService;
+
+	public CompactingMemberSupplier(MemberSupplier memberSupplier, SqlStateCompactor stateCompactor, Duration interval) {
+		super(memberSupplier);
+		this.stateCompactor = stateCompactor;
+		this.interval = interval;
+		this.scheduledExecutorService = newSingleThreadScheduledExecutor(runnable -> Thread.ofPlatform()
+				.name("ldes-client-state-compaction")
+				.daemon()
+				.unstarted(runnable));
+		Runtime.getRuntime().addShutdownHook(new Thread(this::destroyState));
+	}
+
+	/**
+	 * Extended method that schedules the compaction once the base member supplier is initialized
+	 */
+	@Override
+	public void init() {
+		super.init();
+		final long intervalMillis = interval.toMillis();
+		scheduledExecutorService.scheduleWithFixedDelay(this::compact, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * A failed compaction leaves the state intact and must not prevent the next compaction from happening
+	 */
+	void compact() {
+		try {
+			final CompactionReport report = stateCompactor.compact();
+			log.atInfo().log("State compaction removed {} dead rows and gave {} bytes back to the file system",
+					report.removedDeadRows(), report.reclaimedBytes());
+		} catch (RuntimeException e) {
+			log.atWarn().log("State compaction failed: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void destroyState() {
+		if (!scheduledExecutorService.isShutdown()) {
+			scheduledExecutorService.shutdownNow();
+			stateCompactor.destroyState();
+		}
+		super.destroyState();
+	}
+}
@@ -16,6 +16,7 @@ public class FilteredMemberSupplier extends MemberSupplierDecorator {
 	public FilteredMemberSupplier(MemberSupplier memberSupplier, MemberFilter filter) {
 		super(memberSupplier);
 		this.filter = filter;
+		memberSupplier.addFragmentCompletionListener(filter::flush);
 		Runtime.getRuntime().addShutdownHook(new Thread(this::destroyState));
 	}
 
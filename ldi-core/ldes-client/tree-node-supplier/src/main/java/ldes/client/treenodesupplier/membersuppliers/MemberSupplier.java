@@ -17,4 +17,15 @@ public interface MemberSupplier extends Supplier<SuppliedMember> {
 	 * Release resources when the supplier is not required anymore
 	 */
 	void destroyState();
+
+	/**
+	 * Registers a listener that is called every time all members of the fetched fragments have been supplied, right
+	 * before the next fragment is fetched
+	 */
+	void addFragmentCompletionListener(Runnable listener);
+
+	/**
+	 * Release the resources that hold on to the state when the supplier is removed, whether or not the state is kept
+	 */
+	void close();
 }
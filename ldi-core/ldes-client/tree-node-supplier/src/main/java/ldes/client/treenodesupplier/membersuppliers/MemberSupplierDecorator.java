@@ -32,4 +32,14 @@ public abstract class MemberSupplierDecorator implements MemberSupplier {
 	public void destroyState() {
 		memberSupplier.destroyState();
 	}
+
+	@Override
+	public void addFragmentCompletionListener(Runnable listener) {
+		memberSupplier.addFragmentCompletionListener(listener);
+	}
+
+	@Override
+	public void close() {
+		memberSupplier.close();
+	}
 }
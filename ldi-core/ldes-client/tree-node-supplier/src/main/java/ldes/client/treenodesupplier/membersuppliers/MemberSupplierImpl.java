@@ -34,6 +34,16 @@ public class MemberSupplierImpl implements MemberSupplier {
 		}
 	}
 
+	@Override
+	public void addFragmentCompletionListener(Runnable listener) {
+		treeNodeProcessor.addFragmentCompletionListener(listener);
+	}
+
+	@Override
+	public void close() {
+		treeNodeProcessor.close();
+	}
+
 	@Override
 	public void init() {
 		treeNodeProcessor.init();
@@ -13,6 +13,12 @@ public interface MemberIdRepository {
 	 */
 	boolean addMemberIdIfNotExists(String memberId);
 
+	/**
+	 * Persists the member ids that are buffered by the repository, if any
+	 */
+	default void flush() {
+	}
+
 	/**
 	 * Cleans the database
 	 */
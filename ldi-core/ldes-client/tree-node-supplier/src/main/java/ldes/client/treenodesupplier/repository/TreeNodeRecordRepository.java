@@ -3,6 +3,7 @@ package ldes.client.treenodesupplier.repository;
 import ldes.client.treenodesupplier.domain.entities.TreeNodeRecord;
 import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TreeNodeRecordRepository {
@@ -11,6 +12,15 @@ public interface TreeNodeRecordRepository {
 	 */
 	void saveTreeNodeRecord(TreeNodeRecord processedTreeNode);
 
+	/**
+	 * Saves the newly discovered TreeNodeRecords of which no TreeNodeRecord with the same id exists yet
+	 */
+	default void saveTreeNodeRecordsIfAbsent(List<TreeNodeRecord> treeNodeRecords) {
+		treeNodeRecords.stream()
+				.filter(treeNodeRecord -> !existsById(treeNodeRecord.getTreeNodeUrl()))
+				.forEach(this::saveTreeNodeRecord);
+	}
+
 	/**
 	 * Checks whether a tree node with the specified id exists
 	 *
@@ -50,4 +60,27 @@ public interface TreeNodeRecordRepository {
 	 * Makes sure the context is clear again
 	 */
 	void resetContext();
+
+	/**
+	 * Checks whether other workers still hold a lease on TreeNodeRecords that are not yet fully processed. Only
+	 * relevant when several workers share the same repository.
+	 *
+	 * @return <code>true</code> if more TreeNodeRecords might become available once the leases are released
+	 */
+	default boolean containsTreeNodeRecordsLeasedByOthers() {
+		return false;
+	}
+
+	/**
+	 * Waits until another worker might have released a lease. Only relevant when several workers share the same
+	 * repository.
+	 */
+	default void awaitReleaseOfLeasesByOthers() {
+	}
+
+	/**
+	 * Releases the resources of the repository when the client is removed, whether or not its state is kept
+	 */
+	default void close() {
+	}
 }
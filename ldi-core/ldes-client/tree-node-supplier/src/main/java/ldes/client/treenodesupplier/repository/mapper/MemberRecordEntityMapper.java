@@ -15,11 +15,15 @@ public class MemberRecordEntityMapper {
 	}
 
 	public static MemberRecordEntity fromMemberRecord(MemberRecord treeMember) {
+		return fromMemberRecord(treeMember, null);
+	}
+
+	public static MemberRecordEntity fromMemberRecord(MemberRecord treeMember, String workerId) {
 		final Model model = treeMember.getModel();
 		ByteArrayOutputStream stream = new ByteArrayOutputStream();
 		RDFWriter.source(model).lang(Lang.RDFPROTO).output(stream);
 		final byte[] bytes = stream.toByteArray();
-		return new MemberRecordEntity(treeMember.getMemberId(), treeMember.getCreatedAt(), bytes);
+		return new MemberRecordEntity(treeMember.getMemberId(), treeMember.getCreatedAt(), bytes, workerId);
 	}
 
 	public static MemberRecord toMemberRecord(MemberRecordEntity memberRecordEntity) {
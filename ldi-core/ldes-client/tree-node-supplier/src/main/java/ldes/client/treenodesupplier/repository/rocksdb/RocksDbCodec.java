@@ -0,0 +1,83 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RDFWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Encodes the state to bytes of which the lexicographic order matches the order of the state, so that ordered and
+ * prefix scans can be done on the keys directly
+ */
+final class RocksDbCodec {
+	static final int TIMESTAMP_LENGTH = Long.BYTES + Integer.BYTES;
+	static final byte SEPARATOR = 0;
+
+	private RocksDbCodec() {
+	}
+
+	/**
+	 * Encodes a timestamp as epoch seconds with a flipped sign bit, followed by the nanos, both big-endian, so that
+	 * earlier timestamps sort first. A missing timestamp sorts before any other timestamp.
+	 */
+	static byte[] encodeTimestamp(LocalDateTime timestamp) {
+		final ByteBuffer buffer = ByteBuffer.allocate(TIMESTAMP_LENGTH);
+		if (timestamp == null) {
+			return buffer.array();
+		}
+		return buffer
+				.putLong(timestamp.toEpochSecond(ZoneOffset.UTC) ^ Long.MIN_VALUE)
+				.putInt(timestamp.getNano())
+				.array();
+	}
+
+	static LocalDateTime decodeTimestamp(byte[] bytes, int offset) {
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, TIMESTAMP_LENGTH);
+		final long epochSecond = buffer.getLong();
+		final int nano = buffer.getInt();
+		if (epochSecond == 0 && nano == 0) {
+			return null;
+		}
+		return LocalDateTime.ofEpochSecond(epochSecond ^ Long.MIN_VALUE, nano, ZoneOffset.UTC);
+	}
+
+	static byte[] encodeString(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	static String decodeString(byte[] bytes, int offset) {
+		return new String(bytes, offset, bytes.length - offset, StandardCharsets.UTF_8);
+	}
+
+	static byte[] concat(byte[]... parts) {
+		int length = 0;
+		for (byte[] part : parts) {
+			length += part.length;
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(length);
+		for (byte[] part : parts) {
+			buffer.put(part);
+		}
+		return buffer.array();
+	}
+
+	static byte[] encodeModel(Model model) {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		RDFWriter.source(model).lang(Lang.RDFPROTO).output(outputStream);
+		return outputStream.toByteArray();
+	}
+
+	static Model decodeModel(byte[] bytes) {
+		final Model model = ModelFactory.createDefaultModel();
+		RDFParser.source(new ByteArrayInputStream(bytes)).lang(Lang.RDFPROTO).parse(model);
+		return model;
+	}
+}
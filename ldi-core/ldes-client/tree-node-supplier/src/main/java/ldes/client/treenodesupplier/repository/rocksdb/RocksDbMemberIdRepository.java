@@ -0,0 +1,33 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+import ldes.client.treenodesupplier.repository.MemberIdRepository;
+
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbCodec.encodeString;
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbStore.MEMBER_IDS;
+
+public class RocksDbMemberIdRepository implements MemberIdRepository {
+	private static final byte[] PRESENT = new byte[0];
+	private final RocksDbStore store;
+
+	public RocksDbMemberIdRepository(RocksDbStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * The bloom filters of RocksDB answer most checks for new member ids without reading from disk
+	 */
+	@Override
+	public boolean addMemberIdIfNotExists(String memberId) {
+		final byte[] key = encodeString(memberId);
+		if (store.mightContain(MEMBER_IDS, key) && store.get(MEMBER_IDS, key) != null) {
+			return false;
+		}
+		store.put(MEMBER_IDS, key, PRESENT);
+		return true;
+	}
+
+	@Override
+	public void destroyState() {
+		store.clear(MEMBER_IDS);
+	}
+}
@@ -0,0 +1,65 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+import ldes.client.treenodesupplier.domain.entities.MemberRecord;
+import ldes.client.treenodesupplier.repository.MemberRepository;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbCodec.*;
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbStore.MEMBERS;
+
+/**
+ * Keeps the members that still have to be supplied as a queue, of which the key consists of the creation timestamp
+ * followed by the member id. The models are kept in the binary RDF Protobuf format.
+ */
+public class RocksDbMemberRepository implements MemberRepository {
+	private final RocksDbStore store;
+
+	public RocksDbMemberRepository(RocksDbStore store) {
+		this.store = store;
+	}
+
+	@Override
+	public Optional<MemberRecord> getTreeMember() {
+		return store.first(MEMBERS, new byte[0])
+				.map(RocksDbMemberRepository::toMemberRecord);
+	}
+
+	@Override
+	public void deleteMember(MemberRecord member) {
+		store.delete(MEMBERS, key(member));
+	}
+
+	/**
+	 * Saves all members in a single batch, so that either all or none of the members of a fragment are saved
+	 */
+	@Override
+	public void saveTreeMembers(Stream<MemberRecord> treeMemberStream) {
+		try (WriteBatch batch = new WriteBatch()) {
+			for (MemberRecord member : (Iterable<MemberRecord>) treeMemberStream::iterator) {
+				batch.put(store.columnFamily(MEMBERS), key(member), encodeModel(member.getModel()));
+			}
+			store.write(batch);
+		} catch (RocksDBException e) {
+			throw new RocksDbStateException("Unable to save members", e);
+		}
+	}
+
+	@Override
+	public void destroyState() {
+		store.clear(MEMBERS);
+	}
+
+	private static byte[] key(MemberRecord member) {
+		return concat(encodeTimestamp(member.getCreatedAt()), encodeString(member.getMemberId()));
+	}
+
+	private static MemberRecord toMemberRecord(Map.Entry<byte[], byte[]> entry) {
+		final byte[] key = entry.getKey();
+		return new MemberRecord(decodeString(key, TIMESTAMP_LENGTH), decodeModel(entry.getValue()), decodeTimestamp(key, 0));
+	}
+}
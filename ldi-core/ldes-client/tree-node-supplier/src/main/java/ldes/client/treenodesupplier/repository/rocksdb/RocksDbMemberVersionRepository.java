@@ -0,0 +1,37 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+import ldes.client.treenodesupplier.domain.entities.MemberVersionRecord;
+import ldes.client.treenodesupplier.repository.MemberVersionRepository;
+
+import java.time.LocalDateTime;
+
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbCodec.*;
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbStore.MEMBER_VERSIONS;
+
+public class RocksDbMemberVersionRepository implements MemberVersionRepository {
+	private final RocksDbStore store;
+
+	public RocksDbMemberVersionRepository(RocksDbStore store) {
+		this.store = store;
+	}
+
+	@Override
+	public void addMemberVersion(MemberVersionRecord memberVersion) {
+		store.put(MEMBER_VERSIONS, encodeString(memberVersion.getVersionOf()), encodeTimestamp(memberVersion.getTimestamp()));
+	}
+
+	@Override
+	public boolean isVersionAfterTimestamp(MemberVersionRecord memberVersion) {
+		final byte[] savedTimestamp = store.get(MEMBER_VERSIONS, encodeString(memberVersion.getVersionOf()));
+		if (savedTimestamp == null) {
+			return true;
+		}
+		final LocalDateTime timestamp = decodeTimestamp(savedTimestamp, 0);
+		return timestamp == null || timestamp.isBefore(memberVersion.getTimestamp());
+	}
+
+	@Override
+	public void destroyState() {
+		store.clear(MEMBER_VERSIONS);
+	}
+}
@@ -0,0 +1,7 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+public class RocksDbStateException extends RuntimeException {
+	public RocksDbStateException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
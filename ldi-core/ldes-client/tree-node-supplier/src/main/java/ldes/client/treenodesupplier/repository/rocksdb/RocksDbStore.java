@@ -0,0 +1,230 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+import org.rocksdb.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Embedded, log-structured key-value store wherein the state of an LDES client is persisted in a local directory.
+ * <br />
+ * Every kind of state is kept in a column family of its own. All writes go through the write-ahead log without
+ * forcing it to disk, so the state survives a crash of the process at the cost of a single append per write.
+ * <br />
+ * RocksDB allows a directory to be opened only once per process, so all repositories of the same client share the
+ * same store. The store is closed when the client is removed, or else when the JVM shuts down. Once closed, the
+ * directory can be opened again, e.g. by a client that is recreated with the same name.
+ */
+public class RocksDbStore {
+	static final String TREE_NODES = "treenodes";
+	static final String TREE_NODE_INDEX = "treenode_index";
+	static final String MEMBERS = "members";
+	static final String MEMBER_IDS = "member_ids";
+	static final String MEMBER_VERSIONS = "member_versions";
+	private static final List<String> COLUMN_FAMILIES = List.of(TREE_NODES, TREE_NODE_INDEX, MEMBERS, MEMBER_IDS, MEMBER_VERSIONS);
+	private static final double BLOOM_FILTER_BITS_PER_KEY = 10;
+	private static final Map<Path, RocksDbStore> OPEN_STORES = new ConcurrentHashMap<>();
+
+	static {
+		RocksDB.loadLibrary();
+	}
+
+	private final Path directory;
+	private final RocksDB db;
+	private final DBOptions dbOptions;
+	private final ColumnFamilyOptions columnFamilyOptions;
+	private final WriteOptions writeOptions;
+	private final Map<String, ColumnFamilyHandle> columnFamilies;
+	private final Thread shutdownHook;
+
+	private RocksDbStore(Path directory, RocksDB db, DBOptions dbOptions, ColumnFamilyOptions columnFamilyOptions,
+	                     Map<String, ColumnFamilyHandle> columnFamilies) {
+		this.directory = directory;
+		this.db = db;
+		this.dbOptions = dbOptions;
+		this.columnFamilyOptions = columnFamilyOptions;
+		this.writeOptions = new WriteOptions();
+		this.columnFamilies = columnFamilies;
+		this.shutdownHook = new Thread(this::closeDb);
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+	}
+
+	/**
+	 * Opens the store in the specified directory, or returns the store if it has already been opened by this process
+	 *
+	 * @param directory the directory wherein the store is persisted
+	 * @param keepState if <code>false</code>, the state of a previous run is removed when the store is opened
+	 */
+	public static RocksDbStore open(Path directory, boolean keepState) {
+		return OPEN_STORES.computeIfAbsent(directory.toAbsolutePath().normalize(), path -> create(path, keepState));
+	}
+
+	private static RocksDbStore create(Path directory, boolean keepState) {
+		final DBOptions dbOptions = new DBOptions()
+				.setCreateIfMissing(true)
+				.setCreateMissingColumnFamilies(true);
+		final ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions()
+				.setCompressionType(CompressionType.LZ4_COMPRESSION)
+				.setTableFormatConfig(new BlockBasedTableConfig().setFilterPolicy(new BloomFilter(BLOOM_FILTER_BITS_PER_KEY)));
+		final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+		descriptors.add(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, columnFamilyOptions));
+		COLUMN_FAMILIES.forEach(name -> descriptors.add(new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8), columnFamilyOptions)));
+		try {
+			Files.createDirectories(directory);
+			if (!keepState) {
+				try (Options options = new Options()) {
+					RocksDB.destroyDB(directory.toString(), options);
+				}
+			}
+			final List<ColumnFamilyHandle> handles = new ArrayList<>();
+			final RocksDB db = RocksDB.open(dbOptions, directory.toString(), descriptors, handles);
+			final Map<String, ColumnFamilyHandle> columnFamilies = new ConcurrentHashMap<>();
+			for (int i = 0; i < COLUMN_FAMILIES.size(); i++) {
+				columnFamilies.put(COLUMN_FAMILIES.get(i), handles.get(i + 1));
+			}
+			return new RocksDbStore(directory, db, dbOptions, columnFamilyOptions, columnFamilies);
+		} catch (RocksDBException | IOException e) {
+			throw new RocksDbStateException("Unable to open the state in " + directory, e);
+		}
+	}
+
+	ColumnFamilyHandle columnFamily(String name) {
+		return columnFamilies.get(name);
+	}
+
+	byte[] get(String columnFamily, byte[] key) {
+		try {
+			return db.get(columnFamily(columnFamily), key);
+		} catch (RocksDBException e) {
+			throw new RocksDbStateException("Unable to read from " + columnFamily, e);
+		}
+	}
+
+	boolean mightContain(String columnFamily, byte[] key) {
+		return db.keyMayExist(columnFamily(columnFamily), key, null);
+	}
+
+	void put(String columnFamily, byte[] key, byte[] value) {
+		try {
+			db.put(columnFamily(columnFamily), writeOptions, key, value);
+		} catch (RocksDBException e) {
+			throw new RocksDbStateException("Unable to write to " + columnFamily, e);
+		}
+	}
+
+	void delete(String columnFamily, byte[] key) {
+		try {
+			db.delete(columnFamily(columnFamily), writeOptions, key);
+		} catch (RocksDBException e) {
+			throw new RocksDbStateException("Unable to delete from " + columnFamily, e);
+		}
+	}
+
+	/**
+	 * Applies all changes of the batch atomically, with a single append to the write-ahead log
+	 */
+	void write(WriteBatch batch) {
+		try {
+			db.write(writeOptions, batch);
+		} catch (RocksDBException e) {
+			throw new RocksDbStateException("Unable to write batch", e);
+		}
+	}
+
+	/**
+	 * Seeks the first key of the column family that starts with the prefix, without reading past the prefix
+	 *
+	 * @param prefix the prefix of the key, or an empty array to seek the first key of the column family
+	 * @return the first key and its value, or empty if no key starts with the prefix
+	 */
+	Optional<Map.Entry<byte[], byte[]>> first(String columnFamily, byte[] prefix) {
+		final byte[] upperBound = successor(prefix);
+		try (ReadOptions readOptions = new ReadOptions();
+		     Slice upperBoundSlice = upperBound == null ? null : new Slice(upperBound)) {
+			if (upperBoundSlice != null) {
+				readOptions.setIterateUpperBound(upperBoundSlice);
+			}
+			try (RocksIterator iterator = db.newIterator(columnFamily(columnFamily), readOptions)) {
+				iterator.seek(prefix);
+				return iterator.isValid()
+						? Optional.of(new AbstractMap.SimpleImmutableEntry<>(iterator.key(), iterator.value()))
+						: Optional.empty();
+			}
+		}
+	}
+
+	/**
+	 * @return the smallest key that is larger than all keys starting with the prefix, or <code>null</code> if there is
+	 * no such key
+	 */
+	private static byte[] successor(byte[] prefix) {
+		for (int i = prefix.length - 1; i >= 0; i--) {
+			if (prefix[i] != (byte) 0xFF) {
+				final byte[] successor = Arrays.copyOf(prefix, i + 1);
+				successor[i]++;
+				return successor;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes all keys of the column family. A closed store is left untouched, as its state is removed anyway when it
+	 * is opened again without keeping the state.
+	 */
+	synchronized void clear(String columnFamily) {
+		if (!db.isOwningHandle()) {
+			return;
+		}
+		try (RocksIterator iterator = db.newIterator(columnFamily(columnFamily))) {
+			iterator.seekToFirst();
+			if (!iterator.isValid()) {
+				return;
+			}
+			final byte[] first = iterator.key();
+			iterator.seekToLast();
+			final byte[] last = iterator.key();
+			try (WriteBatch batch = new WriteBatch()) {
+				batch.deleteRange(columnFamily(columnFamily), first, last);
+				batch.delete(columnFamily(columnFamily), last);
+				write(batch);
+			}
+		} catch (RocksDBException e) {
+			throw new RocksDbStateException("Unable to clear " + columnFamily, e);
+		}
+	}
+
+	/**
+	 * Closes the store for all repositories that share it, so that the directory is opened anew by the next client
+	 */
+	public void close() {
+		try {
+			Runtime.getRuntime().removeShutdownHook(shutdownHook);
+		} catch (IllegalStateException e) {
+			// the JVM is already shutting down and closes the store itself
+		}
+		OPEN_STORES.compute(directory, (path, store) -> {
+			closeDb();
+			return store == this ? null : store;
+		});
+	}
+
+	private synchronized void closeDb() {
+		if (db.isOwningHandle()) {
+			columnFamilies.values().forEach(ColumnFamilyHandle::close);
+			db.close();
+			writeOptions.close();
+			dbOptions.close();
+			columnFamilyOptions.close();
+		}
+	}
+}
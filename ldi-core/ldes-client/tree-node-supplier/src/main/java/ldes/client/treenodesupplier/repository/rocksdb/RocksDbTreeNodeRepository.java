@@ -0,0 +1,138 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+import ldes.client.treenodesupplier.domain.entities.TreeNodeRecord;
+import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
+import ldes.client.treenodesupplier.repository.TreeNodeRecordRepository;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbCodec.*;
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbStore.TREE_NODES;
+import static ldes.client.treenodesupplier.repository.rocksdb.RocksDbStore.TREE_NODE_INDEX;
+
+/**
+ * Keeps the TreeNodeRecords by url, next to an index that is ordered by status and earliest next visit. The index
+ * key consists of the status, a separator, the earliest next visit and the url, so the next TreeNodeRecord to visit
+ * is the first key with the status as prefix.
+ */
+public class RocksDbTreeNodeRepository implements TreeNodeRecordRepository {
+	private final RocksDbStore store;
+
+	public RocksDbTreeNodeRepository(RocksDbStore store) {
+		this.store = store;
+	}
+
+	@Override
+	public void saveTreeNodeRecord(TreeNodeRecord treeNodeRecord) {
+		final byte[] key = encodeString(treeNodeRecord.getTreeNodeUrl());
+		try (WriteBatch batch = new WriteBatch()) {
+			final byte[] previous = store.get(TREE_NODES, key);
+			if (previous != null) {
+				batch.delete(store.columnFamily(TREE_NODE_INDEX), indexKey(decode(treeNodeRecord.getTreeNodeUrl(), previous)));
+			}
+			batch.put(store.columnFamily(TREE_NODES), key, encode(treeNodeRecord));
+			batch.put(store.columnFamily(TREE_NODE_INDEX), indexKey(treeNodeRecord), new byte[0]);
+			store.write(batch);
+		} catch (RocksDBException e) {
+			throw new RocksDbStateException("Unable to save tree node " + treeNodeRecord.getTreeNodeUrl(), e);
+		}
+	}
+
+	@Override
+	public boolean existsById(String treeNodeId) {
+		return store.get(TREE_NODES, encodeString(treeNodeId)) != null;
+	}
+
+	@Override
+	public Optional<TreeNodeRecord> getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus treeNodeStatus) {
+		return store.first(TREE_NODE_INDEX, statusPrefix(treeNodeStatus))
+				.map(Map.Entry::getKey)
+				.map(indexKey -> decodeString(indexKey, statusPrefix(treeNodeStatus).length + TIMESTAMP_LENGTH))
+				.flatMap(this::getById);
+	}
+
+	@Override
+	public boolean existsByIdAndStatus(String treeNodeId, TreeNodeStatus treeNodeStatus) {
+		return getById(treeNodeId)
+				.filter(treeNodeRecord -> treeNodeRecord.getTreeNodeStatus() == treeNodeStatus)
+				.isPresent();
+	}
+
+	@Override
+	public void destroyState() {
+		store.clear(TREE_NODES);
+		store.clear(TREE_NODE_INDEX);
+	}
+
+	@Override
+	public boolean containsTreeNodeRecords() {
+		return store.first(TREE_NODES, new byte[0]).isPresent();
+	}
+
+	@Override
+	public void resetContext() {
+		// no context to reset
+	}
+
+	/**
+	 * Closes the store, which is shared by all repositories of the client
+	 */
+	@Override
+	public void close() {
+		store.close();
+	}
+
+	private Optional<TreeNodeRecord> getById(String treeNodeId) {
+		return Optional.ofNullable(store.get(TREE_NODES, encodeString(treeNodeId)))
+				.map(value -> decode(treeNodeId, value));
+	}
+
+	private static byte[] statusPrefix(TreeNodeStatus treeNodeStatus) {
+		return concat(encodeString(treeNodeStatus.name()), new byte[]{SEPARATOR});
+	}
+
+	private static byte[] indexKey(TreeNodeRecord treeNodeRecord) {
+		return concat(statusPrefix(treeNodeRecord.getTreeNodeStatus()),
+				encodeTimestamp(treeNodeRecord.getEarliestNextVisit()),
+				encodeString(treeNodeRecord.getTreeNodeUrl()));
+	}
+
+	private static byte[] encode(TreeNodeRecord treeNodeRecord) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeUTF(treeNodeRecord.getTreeNodeStatus().name());
+			output.write(encodeTimestamp(treeNodeRecord.getEarliestNextVisit()));
+			output.writeInt(treeNodeRecord.getMemberIds().size());
+			for (String memberId : treeNodeRecord.getMemberIds()) {
+				final byte[] encodedMemberId = encodeString(memberId);
+				output.writeInt(encodedMemberId.length);
+				output.write(encodedMemberId);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static TreeNodeRecord decode(String treeNodeUrl, byte[] value) {
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(value))) {
+			final TreeNodeStatus status = TreeNodeStatus.valueOf(input.readUTF());
+			final LocalDateTime earliestNextVisit = decodeTimestamp(input.readNBytes(TIMESTAMP_LENGTH), 0);
+			final int memberCount = input.readInt();
+			final List<String> memberIds = new ArrayList<>(memberCount);
+			for (int i = 0; i < memberCount; i++) {
+				memberIds.add(decodeString(input.readNBytes(input.readInt()), 0));
+			}
+			return new TreeNodeRecord(treeNodeUrl, status, earliestNextVisit, memberIds);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import ldes.client.treenodesupplier.repository.MemberIdRepository;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Puts an in-memory bloom filter in front of the {@link SqlMemberIdRepository}. During the replication of an LDES
+ * nearly every member id is new, which the bloom filter can tell for certain without a database round-trip. Those
+ * member ids are buffered and inserted in batches, at the latest when all members of a fragment have been supplied.
+ * A crashed client therefore supplies at most the members of the fragment it was busy with again. Only the member ids
+ * that the bloom filter might contain are checked against the database.
+ * <br />
+ * The bloom filter is rebuilt from the database when the repository is first used, so that a restarted client with
+ * a kept state still recognises the member ids it has processed before.
+ */
+public class BloomFilteredMemberIdRepository implements MemberIdRepository {
+	public static final long DEFAULT_EXPECTED_MEMBER_COUNT = 1_000_000;
+	private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+	private static final int BATCH_SIZE = 500;
+
+	private final SqlMemberIdRepository sqlMemberIdRepository;
+	private final MemberIdBloomFilter bloomFilter;
+	private final Set<String> bufferedMemberIds = new LinkedHashSet<>();
+	private boolean initialised;
+
+	/**
+	 * @param expectedMemberCount the expected number of members in the LDES, to size the bloom filter
+	 */
+	public BloomFilteredMemberIdRepository(SqlMemberIdRepository sqlMemberIdRepository, long expectedMemberCount) {
+		this.sqlMemberIdRepository = sqlMemberIdRepository;
+		this.bloomFilter = new MemberIdBloomFilter(expectedMemberCount, FALSE_POSITIVE_PROBABILITY);
+	}
+
+	@Override
+	public boolean addMemberIdIfNotExists(String memberId) {
+		initialise();
+		if (bufferedMemberIds.contains(memberId)) {
+			return false;
+		}
+		if (bloomFilter.mightContain(memberId)) {
+			flush();
+			return sqlMemberIdRepository.addMemberIdIfNotExists(memberId);
+		}
+		bloomFilter.put(memberId);
+		bufferedMemberIds.add(memberId);
+		if (bufferedMemberIds.size() >= BATCH_SIZE) {
+			flush();
+		}
+		return true;
+	}
+
+	@Override
+	public void flush() {
+		if (!bufferedMemberIds.isEmpty()) {
+			sqlMemberIdRepository.addMemberIds(List.copyOf(bufferedMemberIds));
+			bufferedMemberIds.clear();
+		}
+	}
+
+	@Override
+	public void destroyState() {
+		bufferedMemberIds.clear();
+		bloomFilter.clear();
+		initialised = false;
+		sqlMemberIdRepository.destroyState();
+	}
+
+	private void initialise() {
+		if (!initialised) {
+			try (var memberIds = sqlMemberIdRepository.getMemberIds()) {
+				memberIds.forEach(bloomFilter::put);
+			}
+			initialised = true;
+		}
+	}
+}
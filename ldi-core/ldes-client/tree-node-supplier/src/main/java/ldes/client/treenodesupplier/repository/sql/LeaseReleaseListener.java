@@ -0,0 +1,94 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.postgres.PostgresProperties;
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateProperties.HIBERNATE_CONNECTION_PASSWORD;
+import static be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateProperties.HIBERNATE_CONNECTION_URL;
+import static be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateProperties.HIBERNATE_CONNECTION_USERNAME;
+
+/**
+ * Lets a worker wait until another worker on the same PostgreSQL database releases a lease, instead of polling the
+ * database. The notifications are received on a dedicated connection, as a pooled connection is handed to other
+ * sessions in between and only the connection that listens receives them.
+ * <br />
+ * Notifications that arrive while the worker is not waiting are queued on the connection, so a release is never
+ * missed once the worker listens.
+ */
+public class LeaseReleaseListener implements AutoCloseable {
+	public static final String CHANNEL = "ldes_client_lease_released";
+	private final String url;
+	private final String username;
+	private final String password;
+	private Connection connection;
+
+	/**
+	 * The connection settings are passed explicitly, as the EntityManagerFactory of a state in a schema does not expose
+	 * them
+	 */
+	public LeaseReleaseListener(String url, String username, String password) {
+		this.url = url;
+		this.username = username;
+		this.password = password;
+	}
+
+	public static LeaseReleaseListener from(PostgresProperties postgresProperties) {
+		final Map<String, String> properties = postgresProperties.getProperties();
+		return new LeaseReleaseListener(properties.get(HIBERNATE_CONNECTION_URL),
+				properties.get(HIBERNATE_CONNECTION_USERNAME), properties.get(HIBERNATE_CONNECTION_PASSWORD));
+	}
+
+	/**
+	 * Starts listening to the release of leases, if not done yet
+	 */
+	public synchronized void listen() {
+		if (connection != null) {
+			return;
+		}
+		try {
+			connection = DriverManager.getConnection(url, username, password);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("LISTEN " + CHANNEL);
+			}
+		} catch (SQLException e) {
+			close();
+			throw new IllegalStateException("Unable to listen to the release of fragment leases", e);
+		}
+	}
+
+	/**
+	 * Waits until a lease has been released since the previous wait, or until the timeout has passed
+	 *
+	 * @param timeout the maximum duration to wait, as a lease can also expire without being released
+	 */
+	public void await(Duration timeout) {
+		listen();
+		try {
+			final int timeoutMillis = (int) Math.min(Integer.MAX_VALUE, Math.max(1, timeout.toMillis()));
+			connection.unwrap(PGConnection.class).getNotifications(timeoutMillis);
+		} catch (SQLException e) {
+			throw new IllegalStateException("Unable to wait for the release of fragment leases", e);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		if (connection == null) {
+			return;
+		}
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			throw new IllegalStateException("Unable to stop listening to the release of fragment leases", e);
+		} finally {
+			connection = null;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.entities.TreeNodeRecordEntity;
+import ldes.client.treenodesupplier.domain.entities.TreeNodeRecord;
+import ldes.client.treenodesupplier.domain.valueobject.FragmentLease;
+import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
+import ldes.client.treenodesupplier.repository.mapper.TreeNodeRecordEntityMapper;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SqlTreeNodeRepository that can be shared by several workers on the same PostgreSQL database. A TreeNodeRecord is
+ * only handed out after its row has been leased with <code>SELECT ... FOR UPDATE SKIP LOCKED</code>, so that workers
+ * never block on or process the same fragment at the same time. Saving the processed TreeNodeRecord explicitly
+ * releases the lease and notifies the waiting workers, a lease of a worker that does not save its TreeNodeRecord in
+ * time expires.
+ */
+public class LeasingSqlTreeNodeRepository extends SqlTreeNodeRepository {
+	private final FragmentLease fragmentLease;
+	private final LeaseReleaseListener leaseReleaseListener;
+
+	public LeasingSqlTreeNodeRepository(EntityManager entityManager, FragmentLease fragmentLease,
+	                                    LeaseReleaseListener leaseReleaseListener) {
+		super(entityManager);
+		this.fragmentLease = fragmentLease;
+		this.leaseReleaseListener = leaseReleaseListener;
+	}
+
+	@Override
+	public void saveTreeNodeRecord(TreeNodeRecord treeNodeRecord) {
+		entityManager.getTransaction().begin();
+		try {
+			entityManager.merge(TreeNodeRecordEntityMapper.fromTreeNodeRecord(treeNodeRecord));
+			final int releasedLeases = entityManager
+					.createNamedQuery("TreeNode.releaseLease")
+					.setParameter("id", treeNodeRecord.getTreeNodeUrl())
+					.setParameter("workerId", fragmentLease.workerId())
+					.executeUpdate();
+			if (releasedLeases > 0) {
+				entityManager.createNativeQuery("NOTIFY " + LeaseReleaseListener.CHANNEL).executeUpdate();
+			}
+			entityManager.getTransaction().commit();
+		} catch (RuntimeException e) {
+			entityManager.getTransaction().rollback();
+			throw e;
+		}
+	}
+
+	/**
+	 * Several workers can discover the same relation at the same time, so the TreeNodeRecords are inserted in a single
+	 * statement that leaves a TreeNodeRecord that already exists untouched
+	 */
+	@Override
+	public void saveTreeNodeRecordsIfAbsent(List<TreeNodeRecord> treeNodeRecords) {
+		if (treeNodeRecords.isEmpty()) {
+			return;
+		}
+		entityManager.getTransaction().begin();
+		try {
+			treeNodeRecords.forEach(treeNodeRecord -> entityManager
+					.createNamedQuery("TreeNode.insertIfAbsent")
+					.setParameter("id", treeNodeRecord.getTreeNodeUrl())
+					.setParameter("treeNodeStatus", treeNodeRecord.getTreeNodeStatus().name())
+					.setParameter("earliestNextVisit", treeNodeRecord.getEarliestNextVisit())
+					.executeUpdate());
+			entityManager.getTransaction().commit();
+		} catch (RuntimeException e) {
+			entityManager.getTransaction().rollback();
+			throw e;
+		}
+	}
+
+	@Override
+	public Optional<TreeNodeRecord> getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus treeNodeStatus) {
+		leaseReleaseListener.listen();
+		entityManager.getTransaction().begin();
+		try {
+			final Optional<TreeNodeRecordEntity> leasedTreeNode = entityManager
+					.createNamedQuery("TreeNode.leaseByStatusAndDate", TreeNodeRecordEntity.class)
+					.setParameter("treeNodeStatus", treeNodeStatus.name())
+					.setParameter("workerId", fragmentLease.workerId())
+					.setParameter("now", LocalDateTime.now())
+					.getResultStream()
+					.findFirst();
+			leasedTreeNode.ifPresent(entity -> entityManager
+					.createNamedQuery("TreeNode.lease")
+					.setParameter("id", entity.getTreeNodeUrl())
+					.setParameter("workerId", fragmentLease.workerId())
+					.setParameter("leaseExpiresAt", fragmentLease.getExpiry(entity.getEarliestNextVisit()))
+					.executeUpdate());
+			entityManager.getTransaction().commit();
+			return leasedTreeNode.map(TreeNodeRecordEntityMapper::toTreeNode);
+		} catch (RuntimeException e) {
+			entityManager.getTransaction().rollback();
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean containsTreeNodeRecordsLeasedByOthers() {
+		return entityManager
+				.createNamedQuery("TreeNode.countLeasedByOthers", Long.class)
+				.setParameter("treeNodeStatus", TreeNodeStatus.IMMUTABLE_WITHOUT_UNPROCESSED_MEMBERS.name())
+				.setParameter("workerId", fragmentLease.workerId())
+				.setParameter("now", LocalDateTime.now())
+				.getSingleResult() > 0;
+	}
+
+	/**
+	 * A lease that is not released expires at the latest after the timeout of the lease, so the wait is capped by it
+	 */
+	@Override
+	public void awaitReleaseOfLeasesByOthers() {
+		leaseReleaseListener.await(fragmentLease.timeout());
+	}
+
+	@Override
+	public void destroyState() {
+		leaseReleaseListener.close();
+		super.destroyState();
+	}
+
+	@Override
+	public void close() {
+		leaseReleaseListener.close();
+	}
+}
@@ -0,0 +1,78 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * Probabilistic set of member ids. When the filter does not contain a member id, the member id has certainly never
+ * been added. When the filter might contain a member id, it has been added or it is a false positive.
+ */
+public class MemberIdBloomFilter {
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final BitSet bits;
+	private final int numberOfBits;
+	private final int numberOfHashFunctions;
+
+	/**
+	 * @param expectedInsertions      the expected number of member ids that will be added
+	 * @param falsePositiveProbability the desired probability of a false positive once all expected member ids are
+	 *                                 added
+	 */
+	public MemberIdBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("A bloom filter requires a positive number of expected insertions and a false positive probability between 0 and 1");
+		}
+		final double optimalNumberOfBits = -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+		this.numberOfBits = (int) Math.min(Integer.MAX_VALUE - 1L, Math.max(64L, (long) Math.ceil(optimalNumberOfBits)));
+		this.numberOfHashFunctions = (int) Math.max(1, Math.round((double) numberOfBits / expectedInsertions * Math.log(2)));
+		this.bits = new BitSet(numberOfBits);
+	}
+
+	public void put(String memberId) {
+		final long hash = hash(memberId);
+		final int hash1 = (int) hash;
+		final int hash2 = (int) (hash >>> 32);
+		for (int i = 1; i <= numberOfHashFunctions; i++) {
+			bits.set(index(hash1 + i * hash2));
+		}
+	}
+
+	public boolean mightContain(String memberId) {
+		final long hash = hash(memberId);
+		final int hash1 = (int) hash;
+		final int hash2 = (int) (hash >>> 32);
+		for (int i = 1; i <= numberOfHashFunctions; i++) {
+			if (!bits.get(index(hash1 + i * hash2))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void clear() {
+		bits.clear();
+	}
+
+	private int index(int combinedHash) {
+		return (combinedHash & Integer.MAX_VALUE) % numberOfBits;
+	}
+
+	/**
+	 * 64-bit FNV-1a hash, followed by the finalizer of MurmurHash3 to spread the bits over both halves of the hash
+	 */
+	private static long hash(String memberId) {
+		long hash = FNV_OFFSET_BASIS;
+		for (byte b : memberId.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= FNV_PRIME;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
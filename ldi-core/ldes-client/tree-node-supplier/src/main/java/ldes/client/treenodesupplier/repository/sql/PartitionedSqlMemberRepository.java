@@ -0,0 +1,51 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.entities.MemberRecordEntity;
+import ldes.client.treenodesupplier.domain.entities.MemberRecord;
+import ldes.client.treenodesupplier.domain.valueobject.FragmentLease;
+import ldes.client.treenodesupplier.repository.mapper.MemberRecordEntityMapper;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * SqlMemberRepository that can be shared by several workers on the same database. Every worker only hands off the
+ * members it has fetched itself, which are the members of the fragments it has leased.
+ */
+public class PartitionedSqlMemberRepository extends SqlMemberRepository {
+	private final String workerId;
+
+	public PartitionedSqlMemberRepository(EntityManager entityManager, FragmentLease fragmentLease) {
+		super(entityManager);
+		this.workerId = fragmentLease.workerId();
+	}
+
+	@Override
+	public Optional<MemberRecord> getTreeMember() {
+		return entityManager
+				.createNamedQuery("Member.getAllOfWorkerOrderedByCreation", MemberRecordEntity.class)
+				.setParameter("workerId", workerId)
+				.setMaxResults(1)
+				.getResultStream()
+				.findFirst()
+				.map(MemberRecordEntityMapper::toMemberRecord);
+	}
+
+	@Override
+	public void deleteMember(MemberRecord member) {
+		executeStatelessQuery(session -> session
+				.createNamedQuery("Member.deleteByMemberIdAndWorker")
+				.setParameter("memberId", member.getMemberId())
+				.setParameter("workerId", workerId)
+				.executeUpdate());
+	}
+
+	@Override
+	public void saveTreeMembers(Stream<MemberRecord> treeMemberStream) {
+		entityManager.getTransaction().begin();
+		treeMemberStream.map(memberRecord -> MemberRecordEntityMapper.fromMemberRecord(memberRecord, workerId))
+				.forEach(entityManager::merge);
+		entityManager.getTransaction().commit();
+	}
+}
@@ -7,8 +7,12 @@ import org.hibernate.StatelessSession;
 
 import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.stream.Stream;
 
 public class SqlMemberIdRepository implements MemberIdRepository {
+	private static final String INSERT_MEMBER_ID = "INSERT INTO member_id(id) VALUES (?) ON CONFLICT DO NOTHING";
 	private final EntityManager entityManager;
 
 	public SqlMemberIdRepository(EntityManager entityManager) {
@@ -24,6 +28,32 @@ public class SqlMemberIdRepository implements MemberIdRepository {
 				.executeUpdate()) > 0;
 	}
 
+	/**
+	 * Saves the member ids that are not yet saved in a single batch
+	 *
+	 * @param memberIds ids of the members to save
+	 */
+	public void addMemberIds(Collection<String> memberIds) {
+		entityManager.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(INSERT_MEMBER_ID)) {
+				for (String memberId : memberIds) {
+					statement.setString(1, memberId);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		});
+	}
+
+	/**
+	 * @return all saved member ids, the stream must be closed after use
+	 */
+	public Stream<String> getMemberIds() {
+		return entityManager
+				.createNamedQuery("MemberId.getAll", String.class)
+				.getResultStream();
+	}
+
 	@Override
 	public void destroyState() {
 		if (entityManager.isOpen()) {
@@ -34,7 +64,10 @@ public class SqlMemberIdRepository implements MemberIdRepository {
 	private int executeStatelessQuery(StatelessQueryExecutor queryExecutor) {
 		final Session session = entityManager.unwrap(Session.class);
 		return session.doReturningWork(connection -> {
-			try (final StatelessSession statelessSession = session.getSessionFactory().openStatelessSession(connection)) {
+			try (final StatelessSession statelessSession = session.getSessionFactory().withStatelessOptions()
+					.connection(connection)
+					.tenantIdentifier(session.getTenantIdentifier())
+					.openStatelessSession()) {
 				return queryExecutor.execute(statelessSession);
 			}
 		});
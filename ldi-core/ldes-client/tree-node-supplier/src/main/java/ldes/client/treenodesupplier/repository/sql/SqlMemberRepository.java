@@ -13,7 +13,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 public class SqlMemberRepository implements MemberRepository {
-	private final EntityManager entityManager;
+	protected final EntityManager entityManager;
 
 	public SqlMemberRepository(EntityManager entityManager) {
 		this.entityManager = entityManager;
@@ -50,10 +50,13 @@ public class SqlMemberRepository implements MemberRepository {
 		entityManager.clear();
 	}
 
-	private int executeStatelessQuery(StatelessQueryExecutor queryExecutor) {
+	protected int executeStatelessQuery(StatelessQueryExecutor queryExecutor) {
 		final Session session = entityManager.unwrap(Session.class);
 		return session.doReturningWork(connection -> {
-			try (final StatelessSession statelessSession = session.getSessionFactory().openStatelessSession(connection)) {
+			try (final StatelessSession statelessSession = session.getSessionFactory().withStatelessOptions()
+					.connection(connection)
+					.tenantIdentifier(session.getTenantIdentifier())
+					.openStatelessSession()) {
 				return queryExecutor.execute(statelessSession);
 			}
 		});
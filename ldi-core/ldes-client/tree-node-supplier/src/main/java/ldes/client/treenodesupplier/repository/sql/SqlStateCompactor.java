@@ -0,0 +1,129 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.entities.TreeNodeRecordEntity;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.valueobjects.StatePersistenceStrategy;
+import ldes.client.treenodesupplier.domain.valueobject.CompactionReport;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Compacts the persisted state of an LDES client while the client keeps running.
+ * <br />
+ * The client deletes every member once it has been processed and clears the member set of a TreeNode once it is
+ * immutable and all of its members have been processed. The compaction gives the space of those deleted rows back
+ * without locking out the client: SQLite frees its pages in small steps with an incremental vacuum, PostgreSQL makes
+ * the space of the dead rows reusable with a plain vacuum. The first compaction of a SQLite database switches it to
+ * incremental vacuum, with a single full vacuum during which the client has to wait.
+ * <br />
+ * The compactor must have an EntityManager of its own, as an EntityManager can not be shared between threads.
+ */
+public class SqlStateCompactor {
+	private static final Logger log = LoggerFactory.getLogger(SqlStateCompactor.class);
+	private static final String SQLITE_DATABASE_SIZE = "SELECT page_count * page_size FROM pragma_page_count(), pragma_page_size()";
+	private static final String SQLITE_AUTO_VACUUM = "PRAGMA auto_vacuum";
+	private static final String SQLITE_ENABLE_INCREMENTAL_AUTO_VACUUM = "PRAGMA auto_vacuum = INCREMENTAL";
+	private static final String SQLITE_VACUUM = "VACUUM";
+	private static final int SQLITE_INCREMENTAL_AUTO_VACUUM = 2;
+	private static final String SQLITE_FREE_PAGES = "PRAGMA freelist_count";
+	private static final int SQLITE_PAGES_PER_STEP = 1000;
+	private static final String SQLITE_INCREMENTAL_VACUUM = "PRAGMA incremental_vacuum(%d)".formatted(SQLITE_PAGES_PER_STEP);
+	private static final String SQLITE_OPTIMIZE = "PRAGMA optimize";
+	private static final String POSTGRES_TABLES = "treenode, %s, member, member_id, member_version"
+			.formatted(TreeNodeRecordEntity.MEMBERS_TABLE);
+	private static final String POSTGRES_DEAD_ROWS = """
+			SELECT COALESCE(SUM(n_dead_tup), 0) FROM pg_stat_user_tables
+			WHERE schemaname = current_schema() AND relname IN ('%s')"""
+			.formatted(POSTGRES_TABLES.toLowerCase().replace(", ", "', '"));
+	private static final String POSTGRES_VACUUM = "VACUUM ANALYZE " + POSTGRES_TABLES;
+
+	private final EntityManager entityManager;
+	private final StatePersistenceStrategy statePersistenceStrategy;
+
+	/**
+	 * @param entityManager            an EntityManager dedicated to the compaction
+	 * @param statePersistenceStrategy the database wherein the state is persisted, either SQLite or PostgreSQL
+	 */
+	public SqlStateCompactor(EntityManager entityManager, StatePersistenceStrategy statePersistenceStrategy) {
+		if (statePersistenceStrategy == StatePersistenceStrategy.MEMORY) {
+			throw new IllegalArgumentException("Only state that is persisted in a database can be compacted.");
+		}
+		this.entityManager = entityManager;
+		this.statePersistenceStrategy = statePersistenceStrategy;
+	}
+
+	/**
+	 * Gives the space of the deleted rows back outside of any transaction, so that the client can keep writing in
+	 * between
+	 *
+	 * @return the number of dead rows removed by PostgreSQL or the number of bytes given back by SQLite
+	 */
+	public CompactionReport compact() {
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			final boolean autoCommit = connection.getAutoCommit();
+			try {
+				connection.setAutoCommit(true);
+				if (statePersistenceStrategy == StatePersistenceStrategy.POSTGRES) {
+					final long deadRows = queryLong(connection, POSTGRES_DEAD_ROWS);
+					execute(connection, POSTGRES_VACUUM);
+					return new CompactionReport(deadRows, 0);
+				}
+				final long sizeBefore = queryLong(connection, SQLITE_DATABASE_SIZE);
+				vacuumSqliteIncrementally(connection);
+				return new CompactionReport(0, Math.max(0, sizeBefore - queryLong(connection, SQLITE_DATABASE_SIZE)));
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		});
+	}
+
+	public void destroyState() {
+		if (entityManager.isOpen()) {
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * Every step is a transaction of its own that frees a limited number of pages, so the client only has to wait for
+	 * a single step before it can write again. The auto vacuum mode of a database that contains tables only changes
+	 * with a full vacuum, so it is switched once by the compactor instead of by every new connection, as that would
+	 * make the connections of the pool lock each other out.
+	 */
+	private void vacuumSqliteIncrementally(Connection connection) throws SQLException {
+		if (queryLong(connection, SQLITE_AUTO_VACUUM) != SQLITE_INCREMENTAL_AUTO_VACUUM) {
+			log.atInfo().log("Switching the SQLite state to incremental vacuum, which requires a single full vacuum");
+			execute(connection, SQLITE_ENABLE_INCREMENTAL_AUTO_VACUUM);
+			execute(connection, SQLITE_VACUUM);
+		} else {
+			long freePages = queryLong(connection, SQLITE_FREE_PAGES);
+			while (freePages > 0) {
+				execute(connection, SQLITE_INCREMENTAL_VACUUM);
+				final long remainingFreePages = queryLong(connection, SQLITE_FREE_PAGES);
+				if (remainingFreePages >= freePages) {
+					break;
+				}
+				freePages = remainingFreePages;
+			}
+		}
+		execute(connection, SQLITE_OPTIMIZE);
+	}
+
+	private void execute(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private long queryLong(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement();
+		     ResultSet resultSet = statement.executeQuery(sql)) {
+			return resultSet.next() ? resultSet.getLong(1) : 0;
+		}
+	}
+}
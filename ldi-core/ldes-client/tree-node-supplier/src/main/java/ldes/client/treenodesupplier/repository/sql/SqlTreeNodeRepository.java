@@ -10,7 +10,7 @@ import javax.persistence.EntityManager;
 import java.util.Optional;
 
 public class SqlTreeNodeRepository implements TreeNodeRecordRepository {
-	private final EntityManager entityManager;
+	protected final EntityManager entityManager;
 
 	public SqlTreeNodeRepository(EntityManager entityManager) {
 		this.entityManager = entityManager;
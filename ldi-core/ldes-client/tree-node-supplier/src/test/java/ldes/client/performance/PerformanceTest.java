@@ -41,7 +41,7 @@ class PerformanceTest {
 		testRunner(
 				separatorsToSystem("target/compare_persistence_strategies_f10_s1000.csv"),
 				1000,
-				List.of(TestScenario.MEMORY10, TestScenario.SQLITE10, TestScenario.POSTGRES10));
+				List.of(TestScenario.MEMORY10, TestScenario.SQLITE10, TestScenario.POSTGRES10, TestScenario.ROCKSDB10));
 	}
 
 	@Disabled("These tests do not contain assertions and should be run manually to generate test reports.")
@@ -52,7 +52,7 @@ class PerformanceTest {
 				separatorsToSystem("target/compare_persistence_strategies_f250_s1000.csv"),
 				1000,
 				List.of(TestScenario.MEMORY250, TestScenario.SQLITE250,
-						TestScenario.POSTGRES250));
+						TestScenario.POSTGRES250, TestScenario.ROCKSDB250));
 	}
 
 	@Disabled("These tests do not contain assertions and should be run manually to generate test reports.")
@@ -62,7 +62,7 @@ class PerformanceTest {
 		testRunner(
 				separatorsToSystem("target/compare_persistence_strategies_f10_s100_000.csv"),
 				100_000,
-				List.of(TestScenario.MEMORY10, TestScenario.SQLITE10, TestScenario.POSTGRES10));
+				List.of(TestScenario.MEMORY10, TestScenario.SQLITE10, TestScenario.POSTGRES10, TestScenario.ROCKSDB10));
 	}
 
 	@Disabled("These tests do not contain assertions and should be run manually to generate test reports.")
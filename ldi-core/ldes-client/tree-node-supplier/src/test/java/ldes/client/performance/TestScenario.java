@@ -1,41 +1,42 @@
 package ldes.client.performance;
 
-import be.vlaanderen.informatievlaanderen.ldes.ldi.valueobjects.StatePersistenceStrategy;
 import org.apache.jena.riot.Lang;
 
 public enum TestScenario {
 
 	// @formatter:off
-	MEMORY10(StatePersistenceStrategy.MEMORY, FragmentSize.TEN),
-	POSTGRES10(StatePersistenceStrategy.POSTGRES, FragmentSize.TEN),
-	SQLITE10(StatePersistenceStrategy.SQLITE, FragmentSize.TEN),
-	MEMORY250(StatePersistenceStrategy.MEMORY, FragmentSize.TWOFIFTY),
-	POSTGRES250(StatePersistenceStrategy.POSTGRES, FragmentSize.TWOFIFTY),
-	SQLITE250(StatePersistenceStrategy.SQLITE, FragmentSize.TWOFIFTY),
-	MEMORY_EXTERNAL(StatePersistenceStrategy.MEMORY, FragmentSize.EXT),
-	MEMORY_EXTERNAL_250_TURTLE(StatePersistenceStrategy.MEMORY, FragmentSize.EXT_TWOFIFTY, Lang.TURTLE),
-	MEMORY_EXTERNAL_1000_TURTLE(StatePersistenceStrategy.MEMORY, FragmentSize.EXT_THOUSAND, Lang.TURTLE),
-	MEMORY_EXTERNAL_500_TURTLE(StatePersistenceStrategy.MEMORY, FragmentSize.EXT_TWOFIFTY, Lang.TURTLE),
-	MEMORY_EXTERNAL_250_PROTOBUF(StatePersistenceStrategy.MEMORY, FragmentSize.EXT_TWOFIFTY, Lang.RDFPROTO),
-	MEMORY_EXTERNAL_500_PROTOBUF(StatePersistenceStrategy.MEMORY, FragmentSize.EXT_TWOFIFTY, Lang.RDFPROTO),
-	MEMORY_EXTERNAL_1000_PROTOBUF(StatePersistenceStrategy.MEMORY, FragmentSize.EXT_THOUSAND, Lang.RDFPROTO);
+	MEMORY10(State.MEMORY, FragmentSize.TEN),
+	POSTGRES10(State.POSTGRES, FragmentSize.TEN),
+	SQLITE10(State.SQLITE, FragmentSize.TEN),
+	ROCKSDB10(State.ROCKSDB, FragmentSize.TEN),
+	MEMORY250(State.MEMORY, FragmentSize.TWOFIFTY),
+	POSTGRES250(State.POSTGRES, FragmentSize.TWOFIFTY),
+	SQLITE250(State.SQLITE, FragmentSize.TWOFIFTY),
+	ROCKSDB250(State.ROCKSDB, FragmentSize.TWOFIFTY),
+	MEMORY_EXTERNAL(State.MEMORY, FragmentSize.EXT),
+	MEMORY_EXTERNAL_250_TURTLE(State.MEMORY, FragmentSize.EXT_TWOFIFTY, Lang.TURTLE),
+	MEMORY_EXTERNAL_1000_TURTLE(State.MEMORY, FragmentSize.EXT_THOUSAND, Lang.TURTLE),
+	MEMORY_EXTERNAL_500_TURTLE(State.MEMORY, FragmentSize.EXT_TWOFIFTY, Lang.TURTLE),
+	MEMORY_EXTERNAL_250_PROTOBUF(State.MEMORY, FragmentSize.EXT_TWOFIFTY, Lang.RDFPROTO),
+	MEMORY_EXTERNAL_500_PROTOBUF(State.MEMORY, FragmentSize.EXT_TWOFIFTY, Lang.RDFPROTO),
+	MEMORY_EXTERNAL_1000_PROTOBUF(State.MEMORY, FragmentSize.EXT_THOUSAND, Lang.RDFPROTO);
 	// @formatter:on
 
-	private final StatePersistenceStrategy persistenceStrategy;
+	private final State persistenceStrategy;
 	private final FragmentSize fragmentSize;
 	private final Lang sourceFormat;
 
-	TestScenario(StatePersistenceStrategy persistenceStrategy, FragmentSize fragmentSize) {
+	TestScenario(State persistenceStrategy, FragmentSize fragmentSize) {
 		this(persistenceStrategy, fragmentSize, Lang.TURTLE);
 	}
 
-	TestScenario(StatePersistenceStrategy persistenceStrategy, FragmentSize fragmentSize, Lang sourceFormat) {
+	TestScenario(State persistenceStrategy, FragmentSize fragmentSize, Lang sourceFormat) {
 		this.persistenceStrategy = persistenceStrategy;
 		this.fragmentSize = fragmentSize;
 		this.sourceFormat = sourceFormat;
 	}
 
-	public StatePersistenceStrategy getPersistenceStrategy() {
+	public State getPersistenceStrategy() {
 		return persistenceStrategy;
 	}
 
@@ -46,4 +47,11 @@ public enum TestScenario {
 	public Lang getSourceFormat() {
 		return sourceFormat;
 	}
+
+	/**
+	 * The persistence strategies of the client, of which RocksDB is only known to the client itself
+	 */
+	public enum State {
+		MEMORY, SQLITE, POSTGRES, ROCKSDB
+	}
 }
@@ -7,14 +7,15 @@ import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.services.Requ
 import be.vlaanderen.informatievlaanderen.ldes.ldi.sqlite.SqliteProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampExtractor;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampFromCurrentTimeExtractor;
-import be.vlaanderen.informatievlaanderen.ldes.ldi.valueobjects.StatePersistenceStrategy;
 import ldes.client.treenodesupplier.TreeNodeProcessor;
 import ldes.client.treenodesupplier.domain.valueobject.LdesClientRepositories;
 import ldes.client.treenodesupplier.domain.valueobject.LdesMetaData;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbStore;
 import org.apache.jena.riot.Lang;
 import org.mockito.Mockito;
 import org.testcontainers.containers.PostgreSQLContainer;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -22,12 +23,13 @@ class TreeNodeProcessorFactory {
 
 	private final RequestExecutorFactory requestExecutorFactory = new RequestExecutorFactory(false);
 
-	TreeNodeProcessor createTreeNodeProcessor(StatePersistenceStrategy statePersistenceStrategy, List<String> url, Lang sourceFormat) {
+	TreeNodeProcessor createTreeNodeProcessor(TestScenario.State statePersistenceStrategy, List<String> url, Lang sourceFormat) {
 		final LdesMetaData ldesMetaData = new LdesMetaData(url, sourceFormat);
 		final LdesClientRepositories ldesClientRepositories = switch (statePersistenceStrategy) {
 			case MEMORY -> createInMemoryStatePersistence();
 			case SQLITE -> createSqliteStatePersistence();
 			case POSTGRES -> createPostgresPersistence();
+			case ROCKSDB -> LdesClientRepositories.rocksDbBased(RocksDbStore.open(Path.of("target", "instanceName"), false));
 		};
 		final RequestExecutor requestExecutor = requestExecutorFactory.createNoAuthExecutor();
 		final TimestampExtractor timestampExtractor = new TimestampFromCurrentTimeExtractor();
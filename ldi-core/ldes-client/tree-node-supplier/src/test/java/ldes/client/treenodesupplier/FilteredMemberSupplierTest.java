@@ -2,16 +2,17 @@ package ldes.client.treenodesupplier;
 
 import ldes.client.treenodesupplier.domain.valueobject.SuppliedMember;
 import ldes.client.treenodesupplier.filters.ExactlyOnceFilter;
+import ldes.client.treenodesupplier.filters.MemberFilter;
 import ldes.client.treenodesupplier.membersuppliers.FilteredMemberSupplier;
 import ldes.client.treenodesupplier.membersuppliers.MemberSupplier;
 import ldes.client.treenodesupplier.repository.inmemory.InMemoryMemberIdRepository;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class FilteredMemberSupplierTest {
 
@@ -40,4 +41,16 @@ class FilteredMemberSupplierTest {
         assertEquals("id2", actual2.getId());
     }
 
+    @Test
+    void when_FragmentIsCompleted_Then_FilterIsFlushed() {
+        final MemberFilter filter = mock(MemberFilter.class);
+        final ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        new FilteredMemberSupplier(memberSupplier, filter);
+        verify(memberSupplier, atLeastOnce()).addFragmentCompletionListener(listener.capture());
+
+        listener.getValue().run();
+
+        verify(filter).flush();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package ldes.client.treenodesupplier.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FragmentLeaseTest {
+	private final FragmentLease fragmentLease = new FragmentLease("worker", Duration.ofMinutes(1));
+
+	@Test
+	void given_NextVisitInFuture_when_GetExpiry_then_LeaseOutlastsWait() {
+		final LocalDateTime nextVisit = LocalDateTime.now().plusHours(1);
+
+		assertThat(fragmentLease.getExpiry(nextVisit)).isEqualTo(nextVisit.plusMinutes(1));
+	}
+
+	@Test
+	void given_NextVisitInPast_when_GetExpiry_then_LeaseStartsNow() {
+		final LocalDateTime before = LocalDateTime.now();
+
+		assertThat(fragmentLease.getExpiry(before.minusHours(1)))
+				.isBetween(before.plusMinutes(1), LocalDateTime.now().plusMinutes(1));
+	}
+
+	@Test
+	void test_Validation() {
+		assertThatThrownBy(() -> new FragmentLease(" ", Duration.ofMinutes(1))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new FragmentLease("worker", Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
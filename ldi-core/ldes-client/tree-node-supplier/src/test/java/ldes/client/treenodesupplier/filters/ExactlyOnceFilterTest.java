@@ -6,8 +6,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ExactlyOnceFilterTest {
@@ -28,6 +28,7 @@ class ExactlyOnceFilterTest {
 
 		exactlyOnceFilter.destroyState();
 
-		verifyNoInteractions(memberIdRepository);
+		verify(memberIdRepository).flush();
+		verify(memberIdRepository, never()).destroyState();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package ldes.client.treenodesupplier.membersuppliers;
+
+import ldes.client.treenodesupplier.domain.valueobject.CompactionReport;
+import ldes.client.treenodesupplier.repository.sql.SqlStateCompactor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.Mockito.*;
+
+class CompactingMemberSupplierTest {
+	private final MemberSupplier memberSupplier = mock(MemberSupplier.class);
+	private final SqlStateCompactor stateCompactor = mock(SqlStateCompactor.class);
+	private final CompactingMemberSupplier compactingMemberSupplier =
+			new CompactingMemberSupplier(memberSupplier, stateCompactor, Duration.ofMillis(50));
+
+	@Test
+	void when_Init_then_StateIsCompactedPeriodically() {
+		when(stateCompactor.compact()).thenReturn(new CompactionReport(0, 4096));
+
+		compactingMemberSupplier.init();
+
+		verify(memberSupplier).init();
+		verify(stateCompactor, timeout(1000).atLeast(2)).compact();
+		compactingMemberSupplier.destroyState();
+	}
+
+	@Test
+	void given_FailingCompaction_when_Compact_then_ExceptionIsNotPropagated() {
+		when(stateCompactor.compact()).thenThrow(new IllegalStateException("database is locked"));
+
+		assertThatNoException().isThrownBy(compactingMemberSupplier::compact);
+	}
+
+	@Test
+	void when_DestroyState_then_CompactorIsClosedOnce() {
+		compactingMemberSupplier.destroyState();
+		compactingMemberSupplier.destroyState();
+
+		verify(stateCompactor).destroyState();
+		verify(memberSupplier, times(2)).destroyState();
+	}
+}
@@ -0,0 +1,79 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+import ldes.client.treenodesupplier.domain.entities.MemberRecord;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RocksDbMemberRepositoryTest {
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 4, 29, 12, 0);
+	@TempDir
+	private Path directory;
+	private RocksDbStore store;
+	private RocksDbMemberRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		store = RocksDbStore.open(directory, false);
+		repository = new RocksDbMemberRepository(store);
+	}
+
+	@AfterEach
+	void tearDown() {
+		store.close();
+	}
+
+	@Test
+	void when_GetTreeMember_then_ReturnMembersInOrderOfCreation() {
+		final MemberRecord second = member("http://member/b", CREATED_AT.plusSeconds(1));
+		final MemberRecord first = member("http://member/a", CREATED_AT);
+		repository.saveTreeMembers(Stream.of(second, first));
+
+		final MemberRecord actual = repository.getTreeMember().orElseThrow();
+		assertThat(actual.getMemberId()).isEqualTo("http://member/a");
+		assertThat(actual.getCreatedAt()).isEqualTo(CREATED_AT);
+		assertThat(actual.getModel().isIsomorphicWith(first.getModel())).isTrue();
+
+		repository.deleteMember(actual);
+
+		assertThat(repository.getTreeMember()).map(MemberRecord::getMemberId).contains("http://member/b");
+	}
+
+	@Test
+	void given_ReopenedStoreWithKeptState_when_GetTreeMember_then_ReturnSavedMember() {
+		repository.saveTreeMembers(Stream.of(member("http://member/a", CREATED_AT)));
+
+		final RocksDbMemberRepository reopened = new RocksDbMemberRepository(RocksDbStore.open(directory, true));
+
+		assertThat(reopened.getTreeMember()).map(MemberRecord::getMemberId).contains("http://member/a");
+	}
+
+	@Test
+	void when_MemberIdIsAdded_then_ItIsOnlyAddedOnce() {
+		final RocksDbMemberIdRepository memberIdRepository = new RocksDbMemberIdRepository(store);
+
+		assertThat(memberIdRepository.addMemberIdIfNotExists("http://member/a")).isTrue();
+		assertThat(memberIdRepository.addMemberIdIfNotExists("http://member/a")).isFalse();
+
+		memberIdRepository.destroyState();
+
+		assertThat(memberIdRepository.addMemberIdIfNotExists("http://member/a")).isTrue();
+	}
+
+	private MemberRecord member(String id, LocalDateTime createdAt) {
+		final Model model = ModelFactory.createDefaultModel();
+		model.add(ResourceFactory.createResource(id), ResourceFactory.createProperty("http://purl.org/dc/terms/created"),
+				ResourceFactory.createTypedLiteral(createdAt.toString()));
+		return new MemberRecord(id, model, createdAt);
+	}
+}
@@ -0,0 +1,91 @@
+package ldes.client.treenodesupplier.repository.rocksdb;
+
+import ldes.client.treenodesupplier.domain.entities.TreeNodeRecord;
+import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RocksDbTreeNodeRepositoryTest {
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 4, 29, 12, 0);
+	@TempDir
+	private Path directory;
+	private RocksDbTreeNodeRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = new RocksDbTreeNodeRepository(RocksDbStore.open(directory, false));
+	}
+
+	@AfterEach
+	void tearDown() {
+		repository.close();
+	}
+
+	@Test
+	void when_GetTreeNodeRecordWithStatus_then_ReturnEarliestNextVisit() {
+		repository.saveTreeNodeRecord(treeNode("http://node/late", TreeNodeStatus.MUTABLE_AND_ACTIVE, NOW.plusMinutes(5)));
+		repository.saveTreeNodeRecord(treeNode("http://node/early", TreeNodeStatus.MUTABLE_AND_ACTIVE, NOW.minusYears(60)));
+		repository.saveTreeNodeRecord(treeNode("http://node/other", TreeNodeStatus.NOT_VISITED, NOW.minusYears(100)));
+
+		assertThat(repository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.MUTABLE_AND_ACTIVE))
+				.map(TreeNodeRecord::getTreeNodeUrl)
+				.contains("http://node/early");
+		assertThat(repository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.IMMUTABLE_WITH_UNPROCESSED_MEMBERS))
+				.isEmpty();
+	}
+
+	@Test
+	void given_SavedTreeNode_when_StatusChanges_then_IndexIsUpdated() {
+		final TreeNodeRecord treeNode = treeNode("http://node", TreeNodeStatus.IMMUTABLE_WITH_UNPROCESSED_MEMBERS, NOW);
+		treeNode.addToReceived(List.of("member-1", "member-2"));
+		repository.saveTreeNodeRecord(treeNode);
+
+		final TreeNodeRecord saved = repository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.IMMUTABLE_WITH_UNPROCESSED_MEMBERS).orElseThrow();
+		assertThat(saved.getMemberIds()).containsExactly("member-1", "member-2");
+		assertThat(saved.getEarliestNextVisit()).isEqualTo(NOW);
+
+		saved.markImmutableWithoutUnprocessedMembers();
+		repository.saveTreeNodeRecord(saved);
+
+		assertThat(repository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.IMMUTABLE_WITH_UNPROCESSED_MEMBERS)).isEmpty();
+		assertThat(repository.existsByIdAndStatus("http://node", TreeNodeStatus.IMMUTABLE_WITHOUT_UNPROCESSED_MEMBERS)).isTrue();
+	}
+
+	@Test
+	void when_DestroyState_then_RepositoryIsEmpty() {
+		repository.saveTreeNodeRecord(new TreeNodeRecord("http://node"));
+		assertThat(repository.containsTreeNodeRecords()).isTrue();
+		assertThat(repository.existsById("http://node")).isTrue();
+
+		repository.destroyState();
+
+		assertThat(repository.containsTreeNodeRecords()).isFalse();
+		assertThat(repository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED)).isEmpty();
+	}
+
+	@Test
+	void given_ClosedStore_when_OpenedAgain_then_StateIsOnlyKeptWhenRequested() {
+		repository.saveTreeNodeRecord(new TreeNodeRecord("http://node"));
+		repository.close();
+
+		repository = new RocksDbTreeNodeRepository(RocksDbStore.open(directory, true));
+		assertThat(repository.existsById("http://node")).isTrue();
+		repository.close();
+
+		repository = new RocksDbTreeNodeRepository(RocksDbStore.open(directory, false));
+		assertThat(repository.containsTreeNodeRecords()).isFalse();
+	}
+
+	private TreeNodeRecord treeNode(String url, TreeNodeStatus status, LocalDateTime earliestNextVisit) {
+		return new TreeNodeRecord(url, status, earliestNextVisit, new ArrayList<>());
+	}
+}
@@ -0,0 +1,105 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateUtil;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.sqlite.SqliteProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BloomFilteredMemberIdRepositoryTest {
+	@Mock
+	private SqlMemberIdRepository sqlMemberIdRepository;
+
+	private BloomFilteredMemberIdRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = new BloomFilteredMemberIdRepository(sqlMemberIdRepository, 1000);
+	}
+
+	@Test
+	void given_NewMemberIds_when_AddMemberIdIfNotExists_then_BufferWithoutLookup() {
+		when(sqlMemberIdRepository.getMemberIds()).thenReturn(Stream.empty());
+
+		assertThat(repository.addMemberIdIfNotExists("member-1")).isTrue();
+		assertThat(repository.addMemberIdIfNotExists("member-2")).isTrue();
+		assertThat(repository.addMemberIdIfNotExists("member-1")).isFalse();
+
+		verify(sqlMemberIdRepository, never()).addMemberIdIfNotExists(anyString());
+		verify(sqlMemberIdRepository, never()).addMemberIds(anyCollection());
+	}
+
+	@Test
+	void given_MemberIdInDatabase_when_AddMemberIdIfNotExists_then_LookupInDatabase() {
+		when(sqlMemberIdRepository.getMemberIds()).thenReturn(Stream.of("member-1"));
+		when(sqlMemberIdRepository.addMemberIdIfNotExists("member-1")).thenReturn(false);
+
+		assertThat(repository.addMemberIdIfNotExists("member-2")).isTrue();
+		assertThat(repository.addMemberIdIfNotExists("member-1")).isFalse();
+
+		verify(sqlMemberIdRepository).addMemberIds(argThat((Collection<String> ids) -> ids.contains("member-2")));
+		verify(sqlMemberIdRepository).addMemberIdIfNotExists("member-1");
+	}
+
+	@Test
+	void when_BufferIsFull_then_InsertInBatch() {
+		when(sqlMemberIdRepository.getMemberIds()).thenReturn(Stream.empty());
+
+		IntStream.range(0, 500).forEach(i -> repository.addMemberIdIfNotExists("member-" + i));
+
+		verify(sqlMemberIdRepository).addMemberIds(argThat((Collection<String> ids) -> ids.size() == 500));
+		repository.flush();
+		verifyNoMoreInteractions(sqlMemberIdRepository);
+	}
+
+	@Test
+	void given_FlushedFragment_when_ClientRestarts_then_OnlyTheUnflushedMemberIdsAreNew() throws IOException {
+		final Path database = Path.of("target", "bloom-filter-restart.db");
+		Files.deleteIfExists(database);
+		final Map<String, String> properties = new SqliteProperties("target", "bloom-filter-restart", true).getProperties();
+
+		final EntityManager crashedEntityManager = HibernateUtil.createEntityManagerFromProperties(properties);
+		final var crashedRepository = new BloomFilteredMemberIdRepository(new SqlMemberIdRepository(crashedEntityManager), 1000);
+		crashedRepository.addMemberIdIfNotExists("member-1");
+		crashedRepository.addMemberIdIfNotExists("member-2");
+		crashedRepository.flush();
+		crashedRepository.addMemberIdIfNotExists("member-3");
+		crashedEntityManager.getEntityManagerFactory().close();
+
+		final EntityManager entityManager = HibernateUtil.createEntityManagerFromProperties(properties);
+		final var restartedRepository = new BloomFilteredMemberIdRepository(new SqlMemberIdRepository(entityManager), 1000);
+		assertThat(restartedRepository.addMemberIdIfNotExists("member-1")).isFalse();
+		assertThat(restartedRepository.addMemberIdIfNotExists("member-2")).isFalse();
+		assertThat(restartedRepository.addMemberIdIfNotExists("member-3")).isTrue();
+		entityManager.getEntityManagerFactory().close();
+	}
+
+	@Test
+	void when_DestroyState_then_BloomFilterIsRebuiltOnNextUse() {
+		when(sqlMemberIdRepository.getMemberIds()).thenReturn(Stream.empty(), Stream.empty());
+
+		repository.addMemberIdIfNotExists("member-1");
+		repository.destroyState();
+
+		assertThat(repository.addMemberIdIfNotExists("member-1")).isTrue();
+		verify(sqlMemberIdRepository).destroyState();
+		verify(sqlMemberIdRepository, times(2)).getMemberIds();
+	}
+}
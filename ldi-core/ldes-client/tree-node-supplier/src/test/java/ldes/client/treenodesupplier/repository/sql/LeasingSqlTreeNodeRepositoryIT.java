@@ -0,0 +1,142 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateUtil;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.postgres.PostgresProperties;
+import ldes.client.treenodesupplier.domain.entities.TreeNodeRecord;
+import ldes.client.treenodesupplier.domain.valueobject.FragmentLease;
+import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeasingSqlTreeNodeRepositoryIT {
+	private static final Duration LEASE_TIMEOUT = Duration.ofMinutes(5);
+	private static PostgreSQLContainer<?> postgreSQLContainer;
+
+	private EntityManager firstEntityManager;
+	private EntityManager secondEntityManager;
+	private LeasingSqlTreeNodeRepository firstWorker;
+	private LeasingSqlTreeNodeRepository secondWorker;
+
+	@BeforeAll
+	static void beforeAll() {
+		postgreSQLContainer = new PostgreSQLContainer<>("postgres:11.1")
+				.withDatabaseName("integration-test-fragment-leasing")
+				.withUsername("sa")
+				.withPassword("sa");
+		postgreSQLContainer.start();
+	}
+
+	@AfterAll
+	static void afterAll() {
+		postgreSQLContainer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		final PostgresProperties properties = new PostgresProperties(postgreSQLContainer.getJdbcUrl(),
+				postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword(), true);
+		firstEntityManager = HibernateUtil.createEntityManager(properties);
+		secondEntityManager = HibernateUtil.createEntityManager(properties);
+		firstWorker = createWorker(firstEntityManager, "worker-1", properties);
+		secondWorker = createWorker(secondEntityManager, "worker-2", properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		firstEntityManager.getTransaction().begin();
+		firstEntityManager.createNativeQuery("DELETE FROM treenode").executeUpdate();
+		firstEntityManager.getTransaction().commit();
+		firstWorker.destroyState();
+		secondWorker.destroyState();
+	}
+
+	@Test
+	void when_TwoWorkersLease_then_EveryFragmentIsLeasedByOneWorker() {
+		firstWorker.saveTreeNodeRecordsIfAbsent(List.of(new TreeNodeRecord("http://node-1"), new TreeNodeRecord("http://node-2")));
+
+		final Optional<TreeNodeRecord> firstLease = firstWorker.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED);
+		final Optional<TreeNodeRecord> secondLease = secondWorker.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED);
+		final Optional<TreeNodeRecord> thirdLease = secondWorker.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED);
+
+		assertThat(firstLease).isPresent();
+		assertThat(secondLease).isPresent();
+		assertThat(firstLease.get().getTreeNodeUrl()).isNotEqualTo(secondLease.get().getTreeNodeUrl());
+		assertThat(thirdLease).isEmpty();
+		assertThat(secondWorker.containsTreeNodeRecordsLeasedByOthers()).isTrue();
+		assertThat(getLeasedBy(firstLease.get().getTreeNodeUrl())).isEqualTo("worker-1");
+	}
+
+	@Test
+	void when_LeasedFragmentIsSaved_then_LeaseIsReleased() {
+		firstWorker.saveTreeNodeRecordsIfAbsent(List.of(new TreeNodeRecord("http://node")));
+		final TreeNodeRecord leased = firstWorker.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED).orElseThrow();
+
+		leased.markImmutableWithoutUnprocessedMembers();
+		firstWorker.saveTreeNodeRecord(leased);
+
+		assertThat(getLeasedBy("http://node")).isNull();
+		assertThat(secondWorker.containsTreeNodeRecordsLeasedByOthers()).isFalse();
+		assertThat(secondWorker.existsByIdAndStatus("http://node", TreeNodeStatus.IMMUTABLE_WITHOUT_UNPROCESSED_MEMBERS)).isTrue();
+	}
+
+	@Test
+	void when_SavingFragmentLeasedByOtherWorker_then_LeaseIsKept() {
+		firstWorker.saveTreeNodeRecordsIfAbsent(List.of(new TreeNodeRecord("http://node")));
+		final TreeNodeRecord leased = firstWorker.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED).orElseThrow();
+
+		secondWorker.saveTreeNodeRecord(leased);
+
+		assertThat(getLeasedBy("http://node")).isEqualTo("worker-1");
+	}
+
+	@Test
+	void when_BothWorkersDiscoverTheSameRelation_then_ItIsInsertedOnceAndNeverOverwritten() {
+		firstWorker.saveTreeNodeRecordsIfAbsent(List.of(new TreeNodeRecord("http://node")));
+		final TreeNodeRecord leased = firstWorker.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED).orElseThrow();
+		leased.markImmutableWithoutUnprocessedMembers();
+		firstWorker.saveTreeNodeRecord(leased);
+
+		secondWorker.saveTreeNodeRecordsIfAbsent(List.of(new TreeNodeRecord("http://node"), new TreeNodeRecord("http://other-node")));
+
+		assertThat(secondWorker.existsByIdAndStatus("http://node", TreeNodeStatus.IMMUTABLE_WITHOUT_UNPROCESSED_MEMBERS)).isTrue();
+		assertThat(secondWorker.existsByIdAndStatus("http://other-node", TreeNodeStatus.NOT_VISITED)).isTrue();
+	}
+
+	@Test
+	void when_OtherWorkerReleasesLease_then_WaitingWorkerIsWokenUp() throws Exception {
+		firstWorker.saveTreeNodeRecordsIfAbsent(List.of(new TreeNodeRecord("http://node")));
+		final TreeNodeRecord leased = firstWorker.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED).orElseThrow();
+		assertThat(secondWorker.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED)).isEmpty();
+
+		final CompletableFuture<Void> waitingWorker = CompletableFuture.runAsync(secondWorker::awaitReleaseOfLeasesByOthers);
+		firstWorker.saveTreeNodeRecord(leased);
+
+		waitingWorker.get(10, TimeUnit.SECONDS);
+		assertThat(secondWorker.containsTreeNodeRecordsLeasedByOthers()).isFalse();
+	}
+
+	private LeasingSqlTreeNodeRepository createWorker(EntityManager entityManager, String workerId, PostgresProperties properties) {
+		return new LeasingSqlTreeNodeRepository(entityManager, new FragmentLease(workerId, LEASE_TIMEOUT),
+				LeaseReleaseListener.from(properties));
+	}
+
+	private String getLeasedBy(String treeNodeUrl) {
+		return (String) secondEntityManager
+				.createNativeQuery("SELECT leasedBy FROM treenode WHERE treeNodeUrl = :id")
+				.setParameter("id", treeNodeUrl)
+				.getSingleResult();
+	}
+}
@@ -0,0 +1,164 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.entities.TreeNodeRecordEntity;
+import ldes.client.treenodesupplier.domain.entities.TreeNodeRecord;
+import ldes.client.treenodesupplier.domain.valueobject.FragmentLease;
+import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeasingSqlTreeNodeRepositoryTest {
+	private static final String WORKER_ID = "worker-1";
+	private static final FragmentLease FRAGMENT_LEASE = new FragmentLease(WORKER_ID, Duration.ofMinutes(5));
+
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private EntityTransaction transaction;
+	@Mock
+	private TypedQuery<TreeNodeRecordEntity> query;
+	@Mock
+	private Query updateQuery;
+	@Mock
+	private LeaseReleaseListener leaseReleaseListener;
+
+	private LeasingSqlTreeNodeRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = new LeasingSqlTreeNodeRepository(entityManager, FRAGMENT_LEASE, leaseReleaseListener);
+	}
+
+	@Test
+	void when_TreeNodeIsAvailable_then_ItIsLeasedByWorker() {
+		final TreeNodeRecordEntity entity = new TreeNodeRecordEntity("http://node", TreeNodeStatus.NOT_VISITED.name(), LocalDateTime.now(), List.of());
+		mockLeaseQuery(Stream.of(entity));
+		mockUpdateQuery("TreeNode.lease", 1);
+
+		final Optional<TreeNodeRecord> result = repository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED);
+
+		assertThat(result).map(TreeNodeRecord::getTreeNodeUrl).contains("http://node");
+		final ArgumentCaptor<LocalDateTime> leaseExpiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(updateQuery).setParameter(eq("leaseExpiresAt"), leaseExpiresAt.capture());
+		assertThat(leaseExpiresAt.getValue()).isAfter(LocalDateTime.now().plusMinutes(4));
+		verify(updateQuery).setParameter("id", "http://node");
+		verify(updateQuery).setParameter("workerId", WORKER_ID);
+		verify(query).setParameter("workerId", WORKER_ID);
+		verify(leaseReleaseListener).listen();
+		verify(transaction).commit();
+	}
+
+	@Test
+	void when_LeasedTreeNodeIsSaved_then_LeaseIsReleasedAndWorkersAreNotified() {
+		when(entityManager.getTransaction()).thenReturn(transaction);
+		mockUpdateQuery("TreeNode.releaseLease", 1);
+		final Query notifyQuery = mock();
+		when(entityManager.createNativeQuery("NOTIFY " + LeaseReleaseListener.CHANNEL)).thenReturn(notifyQuery);
+
+		repository.saveTreeNodeRecord(new TreeNodeRecord("http://node"));
+
+		final InOrder inOrder = inOrder(entityManager, updateQuery, notifyQuery, transaction);
+		inOrder.verify(entityManager).merge(any(TreeNodeRecordEntity.class));
+		inOrder.verify(updateQuery).executeUpdate();
+		inOrder.verify(notifyQuery).executeUpdate();
+		inOrder.verify(transaction).commit();
+		verify(updateQuery).setParameter("workerId", WORKER_ID);
+	}
+
+	@Test
+	void when_TreeNodeWithoutLeaseIsSaved_then_NoWorkersAreNotified() {
+		when(entityManager.getTransaction()).thenReturn(transaction);
+		mockUpdateQuery("TreeNode.releaseLease", 0);
+
+		repository.saveTreeNodeRecord(new TreeNodeRecord("http://node"));
+
+		verify(entityManager, never()).createNativeQuery(anyString());
+		verify(transaction).commit();
+	}
+
+	@Test
+	void when_RelationsAreSaved_then_TheyAreInsertedWithoutCheckingTheirExistence() {
+		when(entityManager.getTransaction()).thenReturn(transaction);
+		mockUpdateQuery("TreeNode.insertIfAbsent", 1);
+
+		repository.saveTreeNodeRecordsIfAbsent(List.of(new TreeNodeRecord("http://node-1"), new TreeNodeRecord("http://node-2")));
+
+		verify(updateQuery, times(2)).executeUpdate();
+		verify(updateQuery).setParameter("id", "http://node-1");
+		verify(updateQuery).setParameter("id", "http://node-2");
+		verify(entityManager, never()).createNamedQuery("TreeNode.getById", TreeNodeRecordEntity.class);
+		verify(transaction).commit();
+	}
+
+	@Test
+	void when_AwaitingReleaseOfLeases_then_WaitIsCappedByLeaseTimeout() {
+		repository.awaitReleaseOfLeasesByOthers();
+
+		verify(leaseReleaseListener).await(FRAGMENT_LEASE.timeout());
+	}
+
+	@Test
+	void when_NoTreeNodeIsAvailable_then_ReturnEmpty() {
+		mockLeaseQuery(Stream.empty());
+
+		final Optional<TreeNodeRecord> result = repository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.MUTABLE_AND_ACTIVE);
+
+		assertThat(result).isEmpty();
+		verify(transaction).commit();
+	}
+
+	@Test
+	void when_LeaseFails_then_TransactionIsRolledBack() {
+		mockLeaseQuery(Stream.empty());
+		when(query.getResultStream()).thenThrow(IllegalStateException.class);
+
+		assertThatThrownBy(() -> repository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED))
+				.isInstanceOf(IllegalStateException.class);
+		verify(transaction).rollback();
+		verify(transaction, never()).commit();
+	}
+
+	@Test
+	void test_ContainsTreeNodeRecordsLeasedByOthers() {
+		final TypedQuery<Long> countQuery = mock();
+		when(entityManager.createNamedQuery("TreeNode.countLeasedByOthers", Long.class)).thenReturn(countQuery);
+		when(countQuery.setParameter(anyString(), any())).thenReturn(countQuery);
+		when(countQuery.getSingleResult()).thenReturn(1L, 0L);
+
+		assertThat(repository.containsTreeNodeRecordsLeasedByOthers()).isTrue();
+		assertThat(repository.containsTreeNodeRecordsLeasedByOthers()).isFalse();
+	}
+
+	private void mockUpdateQuery(String name, int updatedRows) {
+		when(entityManager.createNamedQuery(name)).thenReturn(updateQuery);
+		when(updateQuery.setParameter(anyString(), any())).thenReturn(updateQuery);
+		when(updateQuery.executeUpdate()).thenReturn(updatedRows);
+	}
+
+	private void mockLeaseQuery(Stream<TreeNodeRecordEntity> result) {
+		when(entityManager.getTransaction()).thenReturn(transaction);
+		when(entityManager.createNamedQuery("TreeNode.leaseByStatusAndDate", TreeNodeRecordEntity.class)).thenReturn(query);
+		when(query.setParameter(anyString(), any())).thenReturn(query);
+		lenient().when(query.getResultStream()).thenReturn(result);
+	}
+}
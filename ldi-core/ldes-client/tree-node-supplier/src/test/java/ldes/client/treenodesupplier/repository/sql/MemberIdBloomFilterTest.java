@@ -0,0 +1,40 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberIdBloomFilterTest {
+	private static final String MEMBER_ID = "http://example.org/members/%d";
+
+	@Test
+	void test_NoFalseNegativesAndFewFalsePositives() {
+		final MemberIdBloomFilter bloomFilter = new MemberIdBloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> bloomFilter.put(MEMBER_ID.formatted(i)));
+
+		assertThat(IntStream.range(0, 10_000)).allMatch(i -> bloomFilter.mightContain(MEMBER_ID.formatted(i)));
+		final long falsePositives = IntStream.range(10_000, 20_000)
+				.filter(i -> bloomFilter.mightContain(MEMBER_ID.formatted(i)))
+				.count();
+		assertThat(falsePositives).isLessThan(200);
+	}
+
+	@Test
+	void test_Clear() {
+		final MemberIdBloomFilter bloomFilter = new MemberIdBloomFilter(100, 0.01);
+		bloomFilter.put("member");
+
+		bloomFilter.clear();
+
+		assertThat(bloomFilter.mightContain("member")).isFalse();
+	}
+
+	@Test
+	void test_InvalidArguments() {
+		assertThatThrownBy(() -> new MemberIdBloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new MemberIdBloomFilter(100, 1)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
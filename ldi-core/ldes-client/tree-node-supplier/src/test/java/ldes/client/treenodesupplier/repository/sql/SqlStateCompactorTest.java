@@ -0,0 +1,123 @@
+package ldes.client.treenodesupplier.repository.sql;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateUtil;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.sqlite.SqliteProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.valueobjects.StatePersistenceStrategy;
+import ldes.client.treenodesupplier.domain.entities.TreeNodeRecord;
+import ldes.client.treenodesupplier.domain.valueobject.CompactionReport;
+import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStateCompactorTest {
+	private static final String MUTABLE_NODE = "http://localhost/mutable";
+	private static final String CONSUMED_NODE = "http://localhost/consumed";
+	private static final Path DATABASE = Path.of("target", "state-compaction.db");
+
+	private EntityManager entityManager;
+	private SqlTreeNodeRepository treeNodeRepository;
+	private SqlStateCompactor compactor;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Files.deleteIfExists(DATABASE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		final var entityManagerFactory = entityManager.getEntityManagerFactory();
+		compactor.destroyState();
+		entityManagerFactory.close();
+	}
+
+	@Test
+	void given_NewState_when_Compact_then_StateIsSwitchedToIncrementalVacuum() {
+		createState();
+		consumeTreeNode(500);
+
+		final CompactionReport report = compactor.compact();
+
+		assertThat(report.reclaimedBytes()).isPositive();
+		assertThat(report.removedDeadRows()).isZero();
+		assertThat(queryLong("PRAGMA auto_vacuum")).isEqualTo(2);
+		assertThat(queryLong("PRAGMA freelist_count")).isZero();
+		assertThat(treeNodeRepository.existsByIdAndStatus(CONSUMED_NODE, TreeNodeStatus.IMMUTABLE_WITHOUT_UNPROCESSED_MEMBERS)).isTrue();
+	}
+
+	@Test
+	void given_StateWithIncrementalVacuum_when_Compact_then_FreedPagesAreGivenBack() {
+		createState();
+		compactor.compact();
+		consumeTreeNode(500);
+		assertThat(queryLong("PRAGMA freelist_count")).isPositive();
+
+		final CompactionReport report = compactor.compact();
+
+		assertThat(report.reclaimedBytes()).isPositive();
+		assertThat(queryLong("PRAGMA freelist_count")).isZero();
+	}
+
+	@Test
+	void given_CompactedState_when_CompactAgain_then_NothingIsReclaimed() {
+		createState();
+		consumeTreeNode(5);
+		compactor.compact();
+
+		final CompactionReport report = compactor.compact();
+
+		assertThat(report.reclaimedBytes()).isZero();
+	}
+
+	@Test
+	void given_MemoryState_when_Create_then_ThrowException() {
+		createState();
+
+		assertThatThrownBy(() -> new SqlStateCompactor(entityManager, StatePersistenceStrategy.MEMORY))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void createState() {
+		entityManager = HibernateUtil.createEntityManagerFromProperties(
+				new SqliteProperties("target", "state-compaction", false).getProperties());
+		treeNodeRepository = new SqlTreeNodeRepository(entityManager);
+		compactor = new SqlStateCompactor(entityManager, StatePersistenceStrategy.SQLITE);
+	}
+
+	private void consumeTreeNode(int memberCount) {
+		treeNodeRepository.saveTreeNodeRecord(treeNode(MUTABLE_NODE, TreeNodeStatus.MUTABLE_AND_ACTIVE, 10));
+		treeNodeRepository.saveTreeNodeRecord(treeNode(CONSUMED_NODE, TreeNodeStatus.MUTABLE_AND_ACTIVE, memberCount));
+		treeNodeRepository.saveTreeNodeRecord(treeNode(CONSUMED_NODE, TreeNodeStatus.IMMUTABLE_WITHOUT_UNPROCESSED_MEMBERS, 0));
+		entityManager.clear();
+	}
+
+	private TreeNodeRecord treeNode(String url, TreeNodeStatus status, int memberCount) {
+		final List<String> memberIds = new ArrayList<>(IntStream.range(0, memberCount)
+				.mapToObj(i -> "%s/member/%d".formatted(url, i))
+				.toList());
+		return new TreeNodeRecord(url, status, LocalDateTime.now(), memberIds);
+	}
+
+	private long queryLong(String sql) {
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (var statement = connection.createStatement();
+			     var resultSet = statement.executeQuery(sql)) {
+				resultSet.next();
+				return resultSet.getLong(1);
+			}
+		});
+	}
+}
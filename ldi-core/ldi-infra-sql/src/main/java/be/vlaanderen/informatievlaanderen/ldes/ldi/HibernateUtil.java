@@ -5,27 +5,38 @@ import be.vlaanderen.informatievlaanderen.ldes.ldi.sqlite.SqliteProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.valueobjects.StatePersistenceStrategy;
 
 import javax.persistence.EntityManager;
-import javax.persistence.Persistence;
 import javax.sql.DataSource;
 import java.util.Map;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateProperties.*;
 
+/**
+ * Creates the EntityManagers of the SQL states. All EntityManagers with the same properties share one
+ * EntityManagerFactory, and thus one connection pool, for as long as one of them is open.
+ */
 public class HibernateUtil {
 	private HibernateUtil() {
 	}
 
 	public static EntityManager createEntityManagerFromDatasource(DataSource dataSource, boolean keepState, StatePersistenceStrategy state) {
-		var entityManagerFactory = Persistence.createEntityManagerFactory("pu-sql-jpa",
+		return SharedEntityManagerFactory.createEntityManager(
 				Map.of(HIBERNATE_DATASOURCE, dataSource,
 						HIBERNATE_HBM_2_DDL_AUTO, keepState ? UPDATE : CREATE_DROP,
 						HIBERNATE_DIALECT, getHibernateDialect(state)));
-		return entityManagerFactory.createEntityManager();
 	}
 
 	public static EntityManager createEntityManagerFromProperties(Map<String, String> properties) {
-		var entityManagerFactory = Persistence.createEntityManagerFactory("pu-sql-jpa", properties);
-		return entityManagerFactory.createEntityManager();
+		return SharedEntityManagerFactory.createEntityManager(properties);
+	}
+
+	/**
+	 * When a schema is configured, the state is isolated in that schema and the factory and connection pool are shared
+	 * with all other schemas on the same database
+	 */
+	public static EntityManager createEntityManager(PostgresProperties properties) {
+		return properties.getSchema()
+				.map(schema -> SharedEntityManagerFactory.createEntityManager(properties.getProperties(), schema, properties.isKeepState()))
+				.orElseGet(() -> createEntityManagerFromProperties(properties.getProperties()));
 	}
 
 	public static String getHibernateDialect(StatePersistenceStrategy state) {
@@ -0,0 +1,172 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.postgres.PostgresSchemaConnectionProvider;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionBuilder;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Joinable;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateProperties.*;
+import static be.vlaanderen.informatievlaanderen.ldes.ldi.postgres.PostgresProperties.DEFAULT_MAX_POOL_SIZE;
+import static be.vlaanderen.informatievlaanderen.ldes.ldi.postgres.PostgresProperties.HIKARI_MAXIMUM_POOL_SIZE;
+
+/**
+ * An EntityManagerFactory that is shared by all EntityManagers with the same properties, so that the entities are
+ * bootstrapped and the connection pool is created only once per datasource instead of once per pipeline.
+ * <br />
+ * The factory counts its open EntityManagers and closes itself when the last one is closed. The next EntityManager
+ * with the same properties starts from a new factory, so a state that is not kept is still dropped once no pipeline
+ * uses it anymore.
+ * <br />
+ * Every factory has its own lock, so pipelines on different datasources bootstrap their factories concurrently. Only
+ * the EntityManagers with the same properties wait for each other.
+ */
+class SharedEntityManagerFactory {
+	private static final String PERSISTENCE_UNIT = "pu-sql-jpa";
+	private static final String SCHEMA_MULTI_TENANCY = "SCHEMA";
+	private static final Map<Map<String, Object>, SharedEntityManagerFactory> FACTORIES = new ConcurrentHashMap<>();
+
+	private final Map<String, Object> properties;
+	private final PostgresSchemaConnectionProvider schemaConnectionProvider;
+	private final EntityManagerFactory entityManagerFactory;
+	private final Map<String, Integer> openEntityManagersPerSchema = new HashMap<>();
+	private int openEntityManagers;
+
+	private SharedEntityManagerFactory(Map<String, Object> properties) {
+		this.properties = properties;
+		if (SCHEMA_MULTI_TENANCY.equals(properties.get(AvailableSettings.MULTI_TENANT))) {
+			this.schemaConnectionProvider = createSchemaConnectionProvider(properties);
+			final Map<String, Object> factoryProperties = new HashMap<>(properties);
+			factoryProperties.keySet().removeAll(List.of(HIBERNATE_CONNECTION_URL, HIBERNATE_CONNECTION_USERNAME,
+					HIBERNATE_CONNECTION_PASSWORD, HIBERNATE_CONNECTION_PROVIDER, HIKARI_MAXIMUM_POOL_SIZE));
+			factoryProperties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, schemaConnectionProvider);
+			this.entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT, factoryProperties);
+		} else {
+			this.schemaConnectionProvider = null;
+			this.entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT, properties);
+		}
+	}
+
+	static EntityManager createEntityManager(Map<String, ?> properties) {
+		return open(Map.copyOf(properties), null, true);
+	}
+
+	/**
+	 * Creates an EntityManager of which the state is isolated in a Postgres schema, while sharing the factory and the
+	 * connection pool with the EntityManagers of all other schemas on the same database
+	 */
+	static EntityManager createEntityManager(Map<String, ?> properties, String schema, boolean keepState) {
+		final Map<String, Object> schemaProperties = new HashMap<>(properties);
+		schemaProperties.put(AvailableSettings.MULTI_TENANT, SCHEMA_MULTI_TENANCY);
+		return open(Map.copyOf(schemaProperties), schema, keepState);
+	}
+
+	/**
+	 * A factory that is closed between looking it up and opening an EntityManager on it is replaced by a new one
+	 */
+	private static EntityManager open(Map<String, Object> properties, String schema, boolean keepState) {
+		while (true) {
+			final SharedEntityManagerFactory factory = FACTORIES.computeIfAbsent(properties, SharedEntityManagerFactory::new);
+			final EntityManager entityManager = factory.open(schema, keepState);
+			if (entityManager != null) {
+				return entityManager;
+			}
+			FACTORIES.remove(properties, factory);
+		}
+	}
+
+	/**
+	 * @return the EntityManager, or null when the factory has been closed
+	 */
+	private synchronized EntityManager open(String schema, boolean keepState) {
+		if (!entityManagerFactory.isOpen()) {
+			return null;
+		}
+		if (schema != null && !openEntityManagersPerSchema.containsKey(schema)) {
+			schemaConnectionProvider.prepareSchema(schema, keepState, getTableNames(), getSequences());
+		}
+		final SessionBuilder sessionBuilder = entityManagerFactory.unwrap(SessionFactory.class)
+				.withOptions()
+				.autoJoinTransactions(true)
+				.eventListeners(new BaseSessionEventListener() {
+					@Override
+					public void end() {
+						release(schema, keepState);
+					}
+				});
+		if (schema != null) {
+			sessionBuilder.tenantIdentifier(schema);
+		}
+		final EntityManager entityManager = sessionBuilder.openSession();
+		if (schema != null) {
+			openEntityManagersPerSchema.merge(schema, 1, Integer::sum);
+		}
+		openEntityManagers++;
+		return entityManager;
+	}
+
+	private synchronized void release(String schema, boolean keepState) {
+		if (schema != null && openEntityManagersPerSchema.merge(schema, -1, Integer::sum) == 0) {
+			openEntityManagersPerSchema.remove(schema);
+			if (!keepState && entityManagerFactory.isOpen()) {
+				schemaConnectionProvider.dropSchema(schema);
+			}
+		}
+		if (--openEntityManagers == 0) {
+			FACTORIES.remove(properties, this);
+			if (entityManagerFactory.isOpen()) {
+				entityManagerFactory.close();
+			}
+			if (schemaConnectionProvider != null) {
+				schemaConnectionProvider.stop();
+			}
+		}
+	}
+
+	private List<String> getTableNames() {
+		final MetamodelImplementor metamodel = getMetamodel();
+		return Stream.concat(metamodel.entityPersisters().values().stream(), metamodel.collectionPersisters().values().stream())
+				.filter(Joinable.class::isInstance)
+				.map(persister -> ((Joinable) persister).getTableName())
+				.distinct()
+				.toList();
+	}
+
+	private Map<String, Integer> getSequences() {
+		return getMetamodel().entityPersisters().values().stream()
+				.map(EntityPersister::getIdentifierGenerator)
+				.filter(SequenceStyleGenerator.class::isInstance)
+				.map(generator -> ((SequenceStyleGenerator) generator).getDatabaseStructure())
+				.collect(Collectors.toMap(structure -> structure.getPhysicalName().getObjectName().getText(),
+						DatabaseStructure::getIncrementSize, (first, second) -> first));
+	}
+
+	private MetamodelImplementor getMetamodel() {
+		return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMetamodel();
+	}
+
+	private static PostgresSchemaConnectionProvider createSchemaConnectionProvider(Map<String, Object> properties) {
+		final Object maxPoolSize = properties.get(HIKARI_MAXIMUM_POOL_SIZE);
+		return new PostgresSchemaConnectionProvider(
+				(String) properties.get(HIBERNATE_CONNECTION_URL),
+				(String) properties.get(HIBERNATE_CONNECTION_USERNAME),
+				(String) properties.get(HIBERNATE_CONNECTION_PASSWORD),
+				maxPoolSize == null ? DEFAULT_MAX_POOL_SIZE : Integer.parseInt(maxPoolSize.toString()));
+	}
+}
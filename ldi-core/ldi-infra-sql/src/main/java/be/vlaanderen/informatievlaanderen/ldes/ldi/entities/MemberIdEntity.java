@@ -3,11 +3,13 @@ package be.vlaanderen.informatievlaanderen.ldes.ldi.entities;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.NamedNativeQuery;
+import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 
 @Entity
 @Table(name = "member_id")
 @NamedNativeQuery(name = "MemberId.insert", query = "INSERT INTO member_id(id) VALUES (:memberId) ON CONFLICT DO NOTHING")
+@NamedQuery(name = "MemberId.getAll", query = "SELECT m.id FROM MemberIdEntity m")
 public class MemberIdEntity {
 	@Id
 	private String id;
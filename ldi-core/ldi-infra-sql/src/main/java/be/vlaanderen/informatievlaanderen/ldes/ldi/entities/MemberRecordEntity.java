@@ -6,10 +6,13 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "member", indexes = {
 		@Index(name = "idx_members_created_at", columnList = "createdAt"),
-		@Index(name = "idx_members_member_id", columnList = "memberId")
+		@Index(name = "idx_members_member_id", columnList = "memberId"),
+		@Index(name = "idx_members_worker_id_created_at", columnList = "workerId,createdAt")
 })
 @NamedQuery(name = "Member.getAllOrderedByCreation", query = "SELECT m FROM MemberRecordEntity m ORDER BY m.createdAt")
 @NamedQuery(name = "Member.deleteByMemberId", query = "DELETE FROM MemberRecordEntity WHERE memberId = :memberId")
+@NamedQuery(name = "Member.getAllOfWorkerOrderedByCreation", query = "SELECT m FROM MemberRecordEntity m WHERE m.workerId = :workerId ORDER BY m.createdAt")
+@NamedQuery(name = "Member.deleteByMemberIdAndWorker", query = "DELETE FROM MemberRecordEntity WHERE memberId = :memberId AND workerId = :workerId")
 public class MemberRecordEntity {
 
 	@Id
@@ -20,6 +23,7 @@ public class MemberRecordEntity {
 	private LocalDateTime createdAt;
 	@Column(name = "model", columnDefinition = "bytea", nullable = false)
 	private byte[] bytes;
+	private String workerId;
 
 	public MemberRecordEntity() {
 	}
@@ -32,9 +36,14 @@ public class MemberRecordEntity {
 	}
 
 	public MemberRecordEntity(String memberId, LocalDateTime dateCreated, byte[] bytes) {
+		this(memberId, dateCreated, bytes, null);
+	}
+
+	public MemberRecordEntity(String memberId, LocalDateTime dateCreated, byte[] bytes, String workerId) {
 		this.memberId = memberId;
 		this.createdAt = dateCreated;
 		this.bytes = bytes;
+		this.workerId = workerId;
 	}
 
 	public int getId() {
@@ -56,4 +65,8 @@ public class MemberRecordEntity {
 	public byte[] getModelAsBytes() {
 		return bytes;
 	}
+
+	public String getWorkerId() {
+		return workerId;
+	}
 }
@@ -13,7 +13,23 @@ import java.util.List;
 @NamedQuery(name = "TreeNode.getById", query = "SELECT t FROM TreeNodeRecordEntity t WHERE t.id = :id")
 @NamedQuery(name = "TreeNode.getByIdAndStatus", query = "SELECT t FROM TreeNodeRecordEntity t WHERE t.id = :id and t.treeNodeStatus = :treeNodeStatus")
 @NamedQuery(name = "TreeNode.getByStatusAndDate", query = "SELECT t FROM TreeNodeRecordEntity t WHERE t.treeNodeStatus = :treeNodeStatus ORDER BY t.earliestNextVisit")
+@NamedQuery(name = "TreeNode.countLeasedByOthers", query = "SELECT COUNT(t) FROM TreeNodeRecordEntity t WHERE t.treeNodeStatus <> :treeNodeStatus AND t.leasedBy <> :workerId AND t.leaseExpiresAt >= :now")
+@NamedNativeQuery(name = "TreeNode.leaseByStatusAndDate", query = """
+		SELECT * FROM treenode WHERE treeNodeStatus = :treeNodeStatus
+		AND (leasedBy IS NULL OR leasedBy = :workerId OR leaseExpiresAt < :now)
+		ORDER BY earliestNextVisit LIMIT 1 FOR UPDATE SKIP LOCKED""", resultClass = TreeNodeRecordEntity.class)
+@NamedQuery(name = "TreeNode.lease", query = "UPDATE TreeNodeRecordEntity t SET t.leasedBy = :workerId, t.leaseExpiresAt = :leaseExpiresAt WHERE t.treeNodeUrl = :id")
+@NamedQuery(name = "TreeNode.releaseLease", query = "UPDATE TreeNodeRecordEntity t SET t.leasedBy = NULL, t.leaseExpiresAt = NULL WHERE t.treeNodeUrl = :id AND t.leasedBy = :workerId")
+@NamedNativeQuery(name = "TreeNode.insertIfAbsent", query = """
+		INSERT INTO treenode (treeNodeUrl, treeNodeStatus, earliestNextVisit) VALUES (:id, :treeNodeStatus, :earliestNextVisit)
+		ON CONFLICT DO NOTHING""")
 public class TreeNodeRecordEntity {
+	/**
+	 * The names of the member sets are pinned to the names Hibernate has always generated for them, as the state
+	 * compaction refers to them in native queries
+	 */
+	public static final String MEMBERS_TABLE = "TreeNodeRecordEntity_members";
+	public static final String MEMBERS_OWNER_COLUMN = "TreeNodeRecordEntity_treeNodeUrl";
 
 	@Id
 	@Column(columnDefinition = "text", length = 10485760)
@@ -22,7 +38,16 @@ public class TreeNodeRecordEntity {
 	private LocalDateTime earliestNextVisit;
 	@Column
 	@ElementCollection(targetClass = String.class)
+	@CollectionTable(name = MEMBERS_TABLE, joinColumns = @JoinColumn(name = MEMBERS_OWNER_COLUMN))
 	private List<String> members;
+	/**
+	 * The lease is only ever written by the lease queries, so that saving a TreeNodeRecord never overwrites the lease
+	 * another worker has taken in the meantime
+	 */
+	@Column(insertable = false, updatable = false)
+	private String leasedBy;
+	@Column(insertable = false, updatable = false)
+	private LocalDateTime leaseExpiresAt;
 
 	public TreeNodeRecordEntity() {
 	}
@@ -65,4 +90,20 @@ public class TreeNodeRecordEntity {
 	public void setMembers(List<String> members) {
 		this.members = members;
 	}
+
+	public String getLeasedBy() {
+		return leasedBy;
+	}
+
+	public void setLeasedBy(String leasedBy) {
+		this.leasedBy = leasedBy;
+	}
+
+	public LocalDateTime getLeaseExpiresAt() {
+		return leaseExpiresAt;
+	}
+
+	public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+		this.leaseExpiresAt = leaseExpiresAt;
+	}
 }
@@ -3,27 +3,66 @@ package be.vlaanderen.informatievlaanderen.ldes.ldi.postgres;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.HibernateProperties;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 public class PostgresProperties implements HibernateProperties {
 	public static final String DIALECT = "org.hibernate.dialect.PostgreSQLDialect";
+	public static final String HIKARI_CONNECTION_PROVIDER = "com.zaxxer.hikari.hibernate.HikariConnectionProvider";
+	public static final String HIKARI_MAXIMUM_POOL_SIZE = "hibernate.hikari.maximumPoolSize";
+	public static final int DEFAULT_MAX_POOL_SIZE = 10;
+	private static final Pattern SCHEMA_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
 	private final String url;
 	private final String username;
 	private final String password;
 	private final boolean keepState;
+	private final String schema;
+	private final int maxPoolSize;
 
 	public PostgresProperties(String url, String username, String password, boolean keepState) {
+		this(url, username, password, keepState, null, DEFAULT_MAX_POOL_SIZE);
+	}
+
+	/**
+	 * @param schema      schema wherein the state is isolated from the state of other pipelines on the same database, or
+	 *                    <code>null</code> to use the default schema of the database
+	 * @param maxPoolSize maximum number of connections that are shared by all pipelines on the same database
+	 */
+	public PostgresProperties(String url, String username, String password, boolean keepState, String schema, int maxPoolSize) {
+		if (schema != null && !SCHEMA_NAME.matcher(schema).matches()) {
+			throw new IllegalArgumentException("Schema name %s must consist of lowercase letters, digits and underscores".formatted(schema));
+		}
+		if (maxPoolSize < 1) {
+			throw new IllegalArgumentException("The maximum pool size must be positive");
+		}
 		this.url = url;
 		this.username = username;
 		this.password = password;
 		this.keepState = keepState;
+		this.schema = schema;
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	public Optional<String> getSchema() {
+		return Optional.ofNullable(schema);
+	}
+
+	public boolean isKeepState() {
+		return keepState;
 	}
 
+	/**
+	 * When a schema is used, the tables in the default schema are only a template for the tables of the schemas, so
+	 * these are never dropped and the keep-state applies to the schema instead
+	 */
 	public Map<String, String> getProperties() {
 		return Map.of(HIBERNATE_CONNECTION_URL, url,
 				HIBERNATE_CONNECTION_USERNAME, username,
 				HIBERNATE_CONNECTION_PASSWORD, password,
 				HIBERNATE_DIALECT, DIALECT,
-				HIBERNATE_HBM_2_DDL_AUTO, keepState ? UPDATE : CREATE_DROP);
+				HIBERNATE_CONNECTION_PROVIDER, HIKARI_CONNECTION_PROVIDER,
+				HIKARI_MAXIMUM_POOL_SIZE, String.valueOf(maxPoolSize),
+				HIBERNATE_HBM_2_DDL_AUTO, keepState || schema != null ? UPDATE : CREATE_DROP);
 	}
 
 }
@@ -0,0 +1,197 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.postgres;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Stoppable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hands out the connections of a single pool to all schemas of a Postgres database, by setting the search path of a
+ * connection to the schema of the tenant for as long as the tenant uses it.
+ * <br />
+ * Hibernate creates the tables of the entities in the default schema of the database. These tables serve as template
+ * for the tables of every other schema and are never written to. There is no default tenant, so a session that is
+ * opened without a schema fails instead of writing to these tables.
+ * <br />
+ * Hibernate only updates the template tables when the entities change, so every time a schema is prepared, the columns
+ * and indexes that have been added to the template tables since the schema was created are added to its tables too.
+ */
+public class PostgresSchemaConnectionProvider implements MultiTenantConnectionProvider, Stoppable {
+	private static final String POOL_NAME = "ldi-postgres-state";
+	private static final String MISSING_COLUMNS = """
+			SELECT template.attname, format_type(template.atttypid, template.atttypmod) FROM pg_attribute template
+			WHERE template.attrelid = to_regclass(?) AND template.attnum > 0 AND NOT template.attisdropped
+			AND NOT EXISTS (SELECT 1 FROM pg_attribute tenant WHERE tenant.attrelid = to_regclass(?)
+			AND tenant.attname = template.attname AND NOT tenant.attisdropped)""";
+	private static final String MISSING_INDEXES = """
+			SELECT template.indexdef FROM pg_indexes template WHERE template.schemaname = current_schema()
+			AND template.tablename = lower(?) AND NOT EXISTS (SELECT 1 FROM pg_indexes tenant
+			WHERE tenant.schemaname = ? AND tenant.tablename = template.tablename
+			AND substring(tenant.indexdef from ' USING .*$') = substring(template.indexdef from ' USING .*$')
+			AND (tenant.indexdef LIKE 'CREATE UNIQUE%') = (template.indexdef LIKE 'CREATE UNIQUE%'))""";
+	private static final Pattern TEMPLATE_TABLE = Pattern.compile(" ON (ONLY )?\\S+ ");
+	private final HikariDataSource dataSource;
+
+	public PostgresSchemaConnectionProvider(String url, String username, String password, int maxPoolSize) {
+		final HikariConfig config = new HikariConfig();
+		config.setJdbcUrl(url);
+		config.setUsername(username);
+		config.setPassword(password);
+		config.setMaximumPoolSize(maxPoolSize);
+		config.setPoolName(POOL_NAME);
+		this.dataSource = new HikariDataSource(config);
+	}
+
+	/**
+	 * Creates the schema with the tables and sequences of the template schema, if they do not exist yet, and adds the
+	 * columns and indexes that are missing in the tables of an existing schema
+	 *
+	 * @param schema    name of the schema, which must be a valid unquoted identifier
+	 * @param keepState if <code>false</code>, a schema that is left behind by a previous run is dropped first
+	 * @param tables    names of the tables of the entities
+	 * @param sequences names of the sequences of the entities, with their increment
+	 */
+	public void prepareSchema(String schema, boolean keepState, Collection<String> tables, Map<String, Integer> sequences) {
+		try (Connection connection = dataSource.getConnection();
+		     Statement statement = connection.createStatement()) {
+			connection.setAutoCommit(false);
+			if (!keepState) {
+				statement.execute("DROP SCHEMA IF EXISTS %s CASCADE".formatted(schema));
+			}
+			statement.execute("CREATE SCHEMA IF NOT EXISTS %s".formatted(schema));
+			for (String table : tables) {
+				statement.execute("CREATE TABLE IF NOT EXISTS %s.%s (LIKE %s INCLUDING ALL)".formatted(schema, table, table));
+				addMissingColumns(connection, schema, table);
+				addMissingIndexes(connection, schema, table);
+			}
+			for (Map.Entry<String, Integer> sequence : sequences.entrySet()) {
+				statement.execute("CREATE SEQUENCE IF NOT EXISTS %s.%s INCREMENT BY %d".formatted(schema, sequence.getKey(), sequence.getValue()));
+			}
+			connection.commit();
+		} catch (SQLException e) {
+			throw new IllegalStateException("Unable to prepare schema " + schema, e);
+		}
+	}
+
+	private static void addMissingColumns(Connection connection, String schema, String table) throws SQLException {
+		final List<String> missingColumns = new ArrayList<>();
+		try (PreparedStatement query = connection.prepareStatement(MISSING_COLUMNS)) {
+			query.setString(1, table);
+			query.setString(2, schema + "." + table);
+			try (ResultSet resultSet = query.executeQuery()) {
+				while (resultSet.next()) {
+					missingColumns.add("ADD COLUMN IF NOT EXISTS \"%s\" %s".formatted(resultSet.getString(1), resultSet.getString(2)));
+				}
+			}
+		}
+		if (!missingColumns.isEmpty()) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ALTER TABLE %s.%s %s".formatted(schema, table, String.join(", ", missingColumns)));
+			}
+		}
+	}
+
+	/**
+	 * The indexes that are copied with the table get other names than the template indexes, so the indexes are
+	 * compared by their definition. The definitions of the template indexes refer to the template table, which is
+	 * replaced by the table of the schema.
+	 */
+	private static void addMissingIndexes(Connection connection, String schema, String table) throws SQLException {
+		final List<String> missingIndexes = new ArrayList<>();
+		try (PreparedStatement query = connection.prepareStatement(MISSING_INDEXES)) {
+			query.setString(1, table);
+			query.setString(2, schema);
+			try (ResultSet resultSet = query.executeQuery()) {
+				while (resultSet.next()) {
+					missingIndexes.add(TEMPLATE_TABLE.matcher(resultSet.getString(1))
+							.replaceFirst(Matcher.quoteReplacement(" ON %s.%s ".formatted(schema, table))));
+				}
+			}
+		}
+		try (Statement statement = connection.createStatement()) {
+			for (String index : missingIndexes) {
+				statement.execute(index);
+			}
+		}
+	}
+
+	public void dropSchema(String schema) {
+		try (Connection connection = dataSource.getConnection();
+		     Statement statement = connection.createStatement()) {
+			statement.execute("DROP SCHEMA IF EXISTS %s CASCADE".formatted(schema));
+		} catch (SQLException e) {
+			throw new IllegalStateException("Unable to drop schema " + schema, e);
+		}
+	}
+
+	@Override
+	public Connection getAnyConnection() throws SQLException {
+		return dataSource.getConnection();
+	}
+
+	@Override
+	public void releaseAnyConnection(Connection connection) throws SQLException {
+		connection.close();
+	}
+
+	@Override
+	public Connection getConnection(String tenantIdentifier) throws SQLException {
+		final Connection connection = getAnyConnection();
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("SET search_path TO %s".formatted(tenantIdentifier));
+		} catch (SQLException e) {
+			connection.close();
+			throw e;
+		}
+		return connection;
+	}
+
+	@Override
+	public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("RESET search_path");
+		} finally {
+			connection.close();
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	@Override
+	public void stop() {
+		dataSource.close();
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class unwrapType) {
+		return unwrapType.isInstance(this) || unwrapType.isInstance(dataSource);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> unwrapType) {
+		if (unwrapType.isInstance(this)) {
+			return (T) this;
+		}
+		if (unwrapType.isInstance(dataSource)) {
+			return (T) dataSource;
+		}
+		throw new UnknownUnwrapTypeException(unwrapType);
+	}
+}
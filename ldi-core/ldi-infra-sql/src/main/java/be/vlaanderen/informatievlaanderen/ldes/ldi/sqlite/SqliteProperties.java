@@ -39,7 +39,7 @@ public class SqliteProperties implements HibernateProperties {
 				"jdbc:sqlite:./%s/%s".formatted(databaseDirectory, getDatabaseName()),
 				HIBERNATE_DIALECT, DIALECT,
 				"javax.persistence.jdbc.driver", "org.sqlite.JDBC",
-				"hibernate.connection.provider_class", "com.zaxxer.hikari.hibernate.HikariConnectionProvider",
+				HIBERNATE_CONNECTION_PROVIDER, "com.zaxxer.hikari.hibernate.HikariConnectionProvider",
 				HIBERNATE_HBM_2_DDL_AUTO, keepState ? UPDATE : CREATE_DROP);
 	}
 }
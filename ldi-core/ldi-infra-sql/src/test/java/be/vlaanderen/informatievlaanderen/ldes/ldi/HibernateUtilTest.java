@@ -0,0 +1,102 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.entities.MemberIdEntity;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.sqlite.SqliteProperties;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HibernateUtilTest {
+
+	@Test
+	void when_EntityManagersHaveTheSameProperties_then_TheyShareTheFactory() {
+		final var properties = new SqliteProperties("target", "shared-factory", false).getProperties();
+		final EntityManager first = HibernateUtil.createEntityManagerFromProperties(properties);
+		final EntityManager second = HibernateUtil.createEntityManagerFromProperties(properties);
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.getEntityManagerFactory()).isSameAs(second.getEntityManagerFactory());
+
+		first.close();
+		second.close();
+	}
+
+	@Test
+	void when_EntityManagersHaveOtherProperties_then_TheyDoNotShareTheFactory() {
+		final EntityManager first = HibernateUtil.createEntityManagerFromProperties(new SqliteProperties("target", "first-factory", false).getProperties());
+		final EntityManager second = HibernateUtil.createEntityManagerFromProperties(new SqliteProperties("target", "second-factory", false).getProperties());
+
+		assertThat(first.getEntityManagerFactory()).isNotSameAs(second.getEntityManagerFactory());
+
+		first.close();
+		second.close();
+	}
+
+	@Test
+	void when_EntityManagersAreCreatedConcurrently_then_TheyShareTheFactoryOfTheirProperties() throws InterruptedException {
+		final var firstProperties = new SqliteProperties("target", "concurrent-first-factory", false).getProperties();
+		final var secondProperties = new SqliteProperties("target", "concurrent-second-factory", false).getProperties();
+		final List<Callable<EntityManager>> creations = IntStream.range(0, 8)
+				.mapToObj(i -> (Callable<EntityManager>) () -> HibernateUtil.createEntityManagerFromProperties(i % 2 == 0 ? firstProperties : secondProperties))
+				.toList();
+		final ExecutorService executorService = Executors.newFixedThreadPool(creations.size());
+
+		final List<EntityManager> entityManagers = executorService.invokeAll(creations).stream().map(HibernateUtilTest::getResult).toList();
+		executorService.shutdown();
+
+		final EntityManagerFactory firstFactory = entityManagers.get(0).getEntityManagerFactory();
+		final EntityManagerFactory secondFactory = entityManagers.get(1).getEntityManagerFactory();
+		assertThat(firstFactory).isNotSameAs(secondFactory);
+		for (int i = 0; i < entityManagers.size(); i++) {
+			assertThat(entityManagers.get(i).getEntityManagerFactory()).isSameAs(i % 2 == 0 ? firstFactory : secondFactory);
+		}
+		entityManagers.forEach(EntityManager::close);
+		assertThat(firstFactory.isOpen()).isFalse();
+		assertThat(secondFactory.isOpen()).isFalse();
+	}
+
+	@Test
+	void when_LastEntityManagerIsClosed_then_FactoryIsClosedAndStateIsDropped() {
+		final var properties = new SqliteProperties("target", "released-factory", false).getProperties();
+		final EntityManager first = HibernateUtil.createEntityManagerFromProperties(properties);
+		final EntityManager second = HibernateUtil.createEntityManagerFromProperties(properties);
+		final MemberIdEntity memberId = new MemberIdEntity();
+		memberId.setId("http://example.org/member/1");
+		first.getTransaction().begin();
+		first.persist(memberId);
+		first.getTransaction().commit();
+
+		final EntityManagerFactory factory = second.getEntityManagerFactory();
+
+		first.close();
+		assertThat(factory.isOpen()).isTrue();
+		second.close();
+		assertThat(factory.isOpen()).isFalse();
+
+		final EntityManager third = HibernateUtil.createEntityManagerFromProperties(properties);
+		assertThat(third.getEntityManagerFactory()).isNotSameAs(factory);
+		assertThat(third.find(MemberIdEntity.class, "http://example.org/member/1")).isNull();
+		third.close();
+	}
+
+	private static EntityManager getResult(Future<EntityManager> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
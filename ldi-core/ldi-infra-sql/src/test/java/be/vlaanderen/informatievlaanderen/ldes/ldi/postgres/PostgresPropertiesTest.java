@@ -1,10 +1,13 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldi.postgres;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PostgresPropertiesTest {
 
@@ -21,6 +24,27 @@ class PostgresPropertiesTest {
 				.containsEntry(PostgresProperties.HIBERNATE_CONNECTION_URL, url)
 				.containsEntry(PostgresProperties.HIBERNATE_CONNECTION_USERNAME, username)
 				.containsEntry(PostgresProperties.HIBERNATE_CONNECTION_PASSWORD, password)
-				.containsEntry(PostgresProperties.HIBERNATE_HBM_2_DDL_AUTO, PostgresProperties.UPDATE);
+				.containsEntry(PostgresProperties.HIBERNATE_HBM_2_DDL_AUTO, PostgresProperties.UPDATE)
+				.containsEntry(PostgresProperties.HIKARI_MAXIMUM_POOL_SIZE, String.valueOf(PostgresProperties.DEFAULT_MAX_POOL_SIZE));
+		assertThat(postgresProperties.getSchema()).isEmpty();
+	}
+
+	@Test
+	void when_SchemaIsUsed_then_DefaultSchemaIsNeverDropped() {
+		final PostgresProperties postgresProperties = new PostgresProperties("jdbc:postgresql://localhost:5432/testdb",
+				"testuser", "testpass", false, "pipeline_one", 20);
+
+		assertThat(postgresProperties.getProperties())
+				.containsEntry(PostgresProperties.HIBERNATE_HBM_2_DDL_AUTO, PostgresProperties.UPDATE)
+				.containsEntry(PostgresProperties.HIKARI_MAXIMUM_POOL_SIZE, "20");
+		assertThat(postgresProperties.getSchema()).contains("pipeline_one");
+		assertThat(postgresProperties.isKeepState()).isFalse();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"Pipeline", "my-pipeline", "1pipeline", "pipeline;drop"})
+	void when_SchemaIsNotAnUnquotedIdentifier_then_ThrowException(String schema) {
+		assertThatThrownBy(() -> new PostgresProperties("jdbc:postgresql://localhost:5432/testdb", "testuser", "testpass", true, schema, 10))
+				.isInstanceOf(IllegalArgumentException.class);
 	}
 }
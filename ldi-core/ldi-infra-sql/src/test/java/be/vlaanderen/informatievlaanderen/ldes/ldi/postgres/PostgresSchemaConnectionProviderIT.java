@@ -0,0 +1,78 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.postgres;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresSchemaConnectionProviderIT {
+	private static final String TABLE = "Template_Entity";
+	private static final String SCHEMA = "tenant_schema";
+	private static PostgreSQLContainer<?> postgreSQLContainer;
+	private static PostgresSchemaConnectionProvider connectionProvider;
+
+	@BeforeAll
+	static void beforeAll() {
+		postgreSQLContainer = new PostgreSQLContainer<>("postgres:11.1")
+				.withDatabaseName("integration-test-schema-migration")
+				.withUsername("sa")
+				.withPassword("sa");
+		postgreSQLContainer.start();
+		connectionProvider = new PostgresSchemaConnectionProvider(postgreSQLContainer.getJdbcUrl(),
+				postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword(), 2);
+	}
+
+	@AfterAll
+	static void afterAll() {
+		connectionProvider.stop();
+		postgreSQLContainer.stop();
+	}
+
+	@Test
+	void given_ExistingSchema_when_TemplateTableHasChanged_then_MissingColumnsAndIndexesAreAdded() throws SQLException {
+		execute("CREATE TABLE %s (id varchar(255) PRIMARY KEY, status varchar(255))".formatted(TABLE));
+		connectionProvider.prepareSchema(SCHEMA, true, List.of(TABLE), Map.of());
+		execute("INSERT INTO %s.%s (id, status) VALUES ('kept', 'VISITED')".formatted(SCHEMA, TABLE));
+
+		execute("ALTER TABLE %s ADD COLUMN leasedBy varchar(255), ADD COLUMN leaseExpiresAt timestamp".formatted(TABLE));
+		execute("CREATE INDEX template_entity_status_leasedby ON %s (status, leasedBy)".formatted(TABLE));
+		connectionProvider.prepareSchema(SCHEMA, true, List.of(TABLE), Map.of());
+		connectionProvider.prepareSchema(SCHEMA, true, List.of(TABLE), Map.of());
+
+		assertThat(query("SELECT column_name FROM information_schema.columns WHERE table_schema = '%s' AND table_name = 'template_entity'".formatted(SCHEMA)))
+				.containsExactlyInAnyOrder("id", "status", "leasedby", "leaseexpiresat");
+		assertThat(query("SELECT indexdef FROM pg_indexes WHERE schemaname = '%s' AND indexdef LIKE '%%(status, leasedby)'".formatted(SCHEMA)))
+				.hasSize(1);
+		assertThat(query("SELECT indexname FROM pg_indexes WHERE schemaname = '%s'".formatted(SCHEMA))).hasSize(2);
+		assertThat(query("SELECT id FROM %s.%s".formatted(SCHEMA, TABLE))).containsExactly("kept");
+	}
+
+	private static void execute(String sql) throws SQLException {
+		try (Connection connection = connectionProvider.getAnyConnection();
+		     Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private static List<String> query(String sql) throws SQLException {
+		final List<String> values = new ArrayList<>();
+		try (Connection connection = connectionProvider.getAnyConnection();
+		     Statement statement = connection.createStatement();
+		     ResultSet resultSet = statement.executeQuery(sql)) {
+			while (resultSet.next()) {
+				values.add(resultSet.getString(1));
+			}
+		}
+		return values;
+	}
+}
@@ -66,7 +66,10 @@ public class NgsiV2ToLdAdapter implements LdiAdapter {
 	}
 
 	public Stream<Model> translate(String data) {
-		JsonObject parsedData = JSON.parse(data);
+		return translate(JSON.parse(data));
+	}
+
+	private Stream<Model> translate(JsonObject parsedData) {
 		String value = String.valueOf(parsedData.get(dataIdentifier));
 		return translateJsonToLD(value).map(LinkedDataModel::toRDFModel);
 	}
@@ -84,7 +87,7 @@ public class NgsiV2ToLdAdapter implements LdiAdapter {
 		if (!validateMimeType(content.mimeType())) {
 			throw new UnsupportedMimeTypeException(ContentType.APPLICATION_JSON.getMimeType(), content.mimeType());
 		}
-		return translate(content.content());
+		return translate(JSON.parse(content.toInputStream()));
 	}
 
 	public boolean validateMimeType(String mimeType) {
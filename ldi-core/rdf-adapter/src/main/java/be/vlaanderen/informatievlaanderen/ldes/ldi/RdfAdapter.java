@@ -1,36 +1,143 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldi;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import org.apache.jena.atlas.iterator.Iter;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.irix.IRIxResolver;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.lang.IteratorParsers;
+import org.apache.jena.riot.system.ErrorHandlerFactory;
+import org.apache.jena.riot.system.ParserProfile;
+import org.apache.jena.riot.system.ParserProfileStd;
+import org.apache.jena.riot.system.PrefixMapFactory;
+import org.apache.jena.riot.system.RiotLib;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.sparql.graph.GraphFactory;
 import org.apache.jena.sparql.util.Context;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.apache.jena.riot.RDFLanguages.nameToLang;
 
 /**
  * Basic adapter that will convert an RDF string to a linked data model
+ * <br />
+ * When a split mode is provided, N-Quads and N-Triples content is parsed incrementally and split into a model per
+ * named graph or per subject. A model is emitted as soon as the next statement belongs to another group, so only
+ * one member is kept in memory at a time. The statements of a member must therefore be adjacent in the content.
+ * When split per subject, the statements about a blank node that directly follow the statement referencing it stay
+ * with the member of that statement.
  */
 public class RdfAdapter implements LdiAdapter {
 
 	private final Context context;
+	private final SplitMode splitMode;
 
     public RdfAdapter(Context context) {
-        this.context = context;
+        this(context, null);
     }
 
+	/**
+	 * @param context   the jena context used for parsing
+	 * @param splitMode how N-Quads and N-Triples content is split into models while it is parsed, null to parse the
+	 *                  content into a single model
+	 */
+	public RdfAdapter(Context context, SplitMode splitMode) {
+		this.context = context;
+		this.splitMode = splitMode;
+	}
+
     @Override
 	public Stream<Model> apply(Content input) {
+		final Lang lang = nameToLang(input.mimeType());
+		if (splitMode != null && (Lang.NQUADS.equals(lang) || Lang.NTRIPLES.equals(lang))) {
+			return streamMembers(input, lang);
+		}
 		return Stream.of(
 				RDFParser
-						.source(new ByteArrayInputStream(input.content().getBytes(StandardCharsets.UTF_8)))
+						.source(input.toInputStream())
 						.context(context)
-						.lang(nameToLang(input.mimeType()))
+						.lang(lang)
 						.toModel()
 		);
 	}
 
+	private Stream<Model> streamMembers(Content input, Lang lang) {
+		final ParserProfile parserProfile = new ParserProfileStd(RiotLib.factoryRDF(), ErrorHandlerFactory.errorHandlerStd,
+				IRIxResolver.create().noBase().build(), PrefixMapFactory.create(), context, true, false);
+		final Iterator<Quad> quads = Lang.NQUADS.equals(lang)
+				? IteratorParsers.createIteratorNQuads(input.toInputStream(), parserProfile)
+				: Iter.map(IteratorParsers.createIteratorNTriples(input.toInputStream(), parserProfile), triple -> Quad.create(Quad.defaultGraphIRI, triple));
+		final MemberIterator members = new MemberIterator(quads, splitMode);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(members, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Defines which statements of N-Quads or N-Triples content together form a member
+	 */
+	public enum SplitMode {
+		/**
+		 * A member consists of the statements of a named graph, N-Triples content only has the default graph
+		 */
+		GRAPH(Quad::getGraph),
+		/**
+		 * A member consists of the statements about a subject, and of the statements about the blank nodes it refers
+		 * to. The statements about such a blank node must directly follow the statement that refers to it, like
+		 * Jena writes nested blank nodes, otherwise they form a member of their own.
+		 */
+		SUBJECT(Quad::getSubject);
+
+		private final Function<Quad, Node> groupKey;
+
+		SplitMode(Function<Quad, Node> groupKey) {
+			this.groupKey = groupKey;
+		}
+	}
+
+	private static class MemberIterator implements Iterator<Model> {
+		private final Iterator<Quad> quads;
+		private final SplitMode splitMode;
+		private Quad next;
+
+		private MemberIterator(Iterator<Quad> quads, SplitMode splitMode) {
+			this.quads = quads;
+			this.splitMode = splitMode;
+			this.next = quads.hasNext() ? quads.next() : null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Model next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			final Node key = splitMode.groupKey.apply(next);
+			final Set<Node> referencedBlankNodes = new HashSet<>();
+			final Graph graph = GraphFactory.createDefaultGraph();
+			do {
+				graph.add(next.asTriple());
+				if (splitMode == SplitMode.SUBJECT && next.getObject().isBlank()) {
+					referencedBlankNodes.add(next.getObject());
+				}
+				next = quads.hasNext() ? quads.next() : null;
+			} while (next != null && (key.equals(splitMode.groupKey.apply(next)) || referencedBlankNodes.contains(next.getSubject())));
+			return ModelFactory.createModelForGraph(graph);
+		}
+	}
 }
@@ -4,6 +4,7 @@ import org.apache.jena.rdf.model.Model;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFParserBuilder;
 import org.apache.jena.riot.RIOT;
+import org.apache.jena.riot.RiotException;
 import org.apache.jena.sparql.util.ContextAccumulator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,12 @@ import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.apache.jena.riot.lang.LangJSONLD11.JSONLD_OPTIONS;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @WireMockTest(httpPort = 10101)
@@ -81,6 +88,60 @@ class RdfAdapterTest {
 		assertTrue(result.isIsomorphicWith(expectedModel));
 	}
 
+	@Test
+	void given_SplitByGraph_when_AdaptNQuads_then_ModelPerGraph() {
+		String content = """
+				<http://example.org/a> <http://schema.org/name> "A" <http://example.org/a> .
+				<http://example.org/a> <http://schema.org/url> <http://example.org/a.html> <http://example.org/a> .
+				<http://example.org/b> <http://schema.org/name> "B" <http://example.org/b> .
+				""";
+		adapter = new RdfAdapter(RIOT.getContext(), RdfAdapter.SplitMode.GRAPH);
+
+		List<Model> result = adapter.apply(LdiAdapter.Content.of(content.getBytes(StandardCharsets.UTF_8), Lang.NQUADS.getHeaderString()))
+				.toList();
+
+		assertEquals(2, result.size());
+		assertEquals(2, result.get(0).size());
+		assertEquals(1, result.get(1).size());
+	}
+
+	@Test
+	void given_SplitBySubject_when_AdaptNTriples_then_MembersAreEmittedWhileParsing() {
+		String content = """
+				<http://example.org/a> <http://schema.org/name> "A" .
+				<http://example.org/b> <http://schema.org/name> "B" .
+				<http://example.org/b> <http://schema.org/url> <http://example.org/b.html> .
+				<http://example.org/c> <http://schema.org/name> "C" .
+				<http://example.org/d> <http://schema.org/name>
+				""";
+		adapter = new RdfAdapter(RIOT.getContext(), RdfAdapter.SplitMode.SUBJECT);
+
+		Iterator<Model> result = adapter.apply(LdiAdapter.Content.of(content, Lang.NTRIPLES.getHeaderString())).iterator();
+
+		assertEquals(1, result.next().size());
+		assertEquals(2, result.next().size());
+		assertThrows(RiotException.class, result::next);
+	}
+
+	@Test
+	void given_SplitBySubject_when_AdaptNTriplesWithNestedBlankNodes_then_BlankNodesStayWithTheirSubject() {
+		String content = """
+				<http://example.org/a> <http://schema.org/name> "A" .
+				<http://example.org/a> <http://schema.org/address> _:address .
+				_:address <http://schema.org/geo> _:geo .
+				_:geo <http://schema.org/latitude> "51.05" .
+				_:address <http://schema.org/streetAddress> "Street 1" .
+				<http://example.org/b> <http://schema.org/name> "B" .
+				""";
+		adapter = new RdfAdapter(RIOT.getContext(), RdfAdapter.SplitMode.SUBJECT);
+
+		List<Model> result = adapter.apply(LdiAdapter.Content.of(content, Lang.NTRIPLES.getHeaderString())).toList();
+
+		assertEquals(2, result.size());
+		assertEquals(5, result.get(0).size());
+		assertEquals(1, result.get(1).size());
+	}
+
 	@Test
 	void when_ContextIsUsedForParsingMultipleModels_JsonLdContextIsOnlyFetchedOnceFromExternalSource() {
 		String content = """
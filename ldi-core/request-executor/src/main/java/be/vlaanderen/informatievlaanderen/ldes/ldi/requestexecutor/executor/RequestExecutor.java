@@ -10,4 +10,10 @@ public interface RequestExecutor {
 
 	Response execute(Request request);
 
+	/**
+	 * Releases the connections of the executor, after which it is not to be used anymore
+	 */
+	default void close() {
+	}
+
 }
@@ -31,6 +31,11 @@ public class EdcRequestExecutor implements RequestExecutor {
 		}
 	}
 
+	@Override
+	public void close() {
+		requestExecutor.close();
+	}
+
 	private Request createEdcRequest(Request request) {
 		final var tokenHeader = tokenService.waitForTokenHeader();
 		final var requestHeaders = new RequestHeaders(List.of(tokenHeader));
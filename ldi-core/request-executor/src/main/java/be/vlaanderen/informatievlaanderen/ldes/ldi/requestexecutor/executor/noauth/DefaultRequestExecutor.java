@@ -7,6 +7,7 @@ import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
 
+import java.io.Closeable;
 import java.io.IOException;
 
 /**
@@ -30,4 +31,15 @@ public class DefaultRequestExecutor implements RequestExecutor {
 		}
 	}
 
+	@Override
+	public void close() {
+		if (httpClient instanceof Closeable closeable) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				throw new HttpRequestException(e);
+			}
+		}
+	}
+
 }
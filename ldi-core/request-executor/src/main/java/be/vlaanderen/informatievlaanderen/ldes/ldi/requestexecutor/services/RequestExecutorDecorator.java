@@ -1,6 +1,8 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.services;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.executor.RequestExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.Request;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.Response;
 import io.github.resilience4j.decorators.Decorators;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.retry.Retry;
@@ -30,28 +32,27 @@ public class RequestExecutorDecorator {
 	}
 
 	public RequestExecutor get() {
-		if (retry != null && rateLimiter != null) {
-			return request -> Decorators
-					.ofSupplier(() -> requestExecutor.execute(request))
-					.withRateLimiter(rateLimiter)
-					.withRetry(retry)
-					.get();
+		if (retry == null && rateLimiter == null) {
+			return requestExecutor;
 		}
 
-		if (retry != null) {
-			return request -> Decorators
-					.ofSupplier(() -> requestExecutor.execute(request))
-					.withRetry(retry)
-					.get();
-		}
-
-		if (rateLimiter != null) {
-			return request -> Decorators
-					.ofSupplier(() -> requestExecutor.execute(request))
-					.withRateLimiter(rateLimiter)
-					.get();
-		}
-
-		return requestExecutor;
+		return new RequestExecutor() {
+			@Override
+			public Response execute(Request request) {
+				Decorators.DecorateSupplier<Response> decorated = Decorators.ofSupplier(() -> requestExecutor.execute(request));
+				if (rateLimiter != null) {
+					decorated = decorated.withRateLimiter(rateLimiter);
+				}
+				if (retry != null) {
+					decorated = decorated.withRetry(retry);
+				}
+				return decorated.get();
+			}
+
+			@Override
+			public void close() {
+				requestExecutor.close();
+			}
+		};
 	}
 }
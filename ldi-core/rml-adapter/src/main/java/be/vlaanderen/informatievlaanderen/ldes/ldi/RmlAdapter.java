@@ -57,7 +57,7 @@ public class RmlAdapter implements LdiAdapter {
 
 	@Override
 	public Stream<Model> apply(Content content) {
-		Dataset dataset = Objects.requireNonNull(rmlMapper.map(IOUtils.toInputStream(content.content(), StandardCharsets.UTF_8))
+		Dataset dataset = Objects.requireNonNull(rmlMapper.map(content.toInputStream())
 						.collect(ModelCollector.toModel()).share().block())
 				.stream().map(JenaConverters::toQuad)
 				.collect(JenaCollectors.toDataset());
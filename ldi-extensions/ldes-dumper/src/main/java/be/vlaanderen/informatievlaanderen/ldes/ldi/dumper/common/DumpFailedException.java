@@ -0,0 +1,20 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.common;
+
+import org.springframework.boot.ExitCodeGenerator;
+
+/**
+ * Thrown when a dump could not be completed. Spring Boot logs the cause and exits with the exit code of this exception,
+ * so that a script or job that runs the dumper can detect the failure.
+ */
+public class DumpFailedException extends RuntimeException implements ExitCodeGenerator {
+	public static final int EXIT_CODE = 1;
+
+	public DumpFailedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	@Override
+	public int getExitCode() {
+		return EXIT_CODE;
+	}
+}
@@ -0,0 +1,88 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.common;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.config.LdesDumperConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services.DumpJournal;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services.DumpMaterialiser;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services.DumpProgress;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services.DumpWriter;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services.DumperRequestExecutorSupplier;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services.LdesCrawler;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.executor.RequestExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampFromCurrentTimeExtractor;
+import ldes.client.eventstreamproperties.EventStreamPropertiesFetcher;
+import ldes.client.eventstreamproperties.valueobjects.EventStreamProperties;
+import ldes.client.eventstreamproperties.valueobjects.PropertiesRequest;
+import ldes.client.startingtreenode.StartingTreeNodeFinder;
+import ldes.client.startingtreenode.domain.valueobjects.RedirectHistory;
+import ldes.client.startingtreenode.domain.valueobjects.StartingNodeRequest;
+import ldes.client.treenodefetcher.TreeNodeFetcher;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LdesDumperExecutor implements CommandLineRunner {
+	private static final Logger log = LoggerFactory.getLogger(LdesDumperExecutor.class);
+	private final LdesDumperConfig config;
+	private final RequestExecutor requestExecutor;
+
+	public LdesDumperExecutor(LdesDumperConfig config) {
+		this.config = config;
+		this.requestExecutor = new DumperRequestExecutorSupplier(config.getConcurrency(), config.getRetryLimit()).createRequestExecutor();
+	}
+
+	/**
+	 * A failed dump is not swallowed, but ends the application with a non-zero exit code
+	 *
+	 * @throws DumpFailedException when the dump could not be completed
+	 */
+	@Override
+	public void run(String... args) {
+		log.info("Running LDESDumper for url {}", config.getUrl());
+
+		try (DumpJournal dumpJournal = new DumpJournal(config.getOutput());
+		     DumpProgress dumpProgress = new DumpProgress(config.getProgressInterval())) {
+			if (dumpJournal.getRun() > 0) {
+				log.atInfo().log("Resuming dump in {} with {} members already dumped", config.getOutput(), dumpJournal.getMembers().size());
+			}
+			final EventStreamProperties eventStreamProperties = config.isMaterialiseVersions() ? fetchVersionedEventStreamProperties() : null;
+			final Property versionOfPath = eventStreamProperties == null ? null : ResourceFactory.createProperty(eventStreamProperties.getVersionOfPath());
+			final String startingTreeNodeUrl = new StartingTreeNodeFinder(requestExecutor)
+					.determineStartingTreeNode(new StartingNodeRequest(config.getUrl(), config.getSourceFormatAsLang(), new RedirectHistory()))
+					.getUrl();
+			final TreeNodeFetcher treeNodeFetcher = new TreeNodeFetcher(requestExecutor, new TimestampFromCurrentTimeExtractor());
+			try (DumpWriter dumpWriter = new DumpWriter(config.getOutput(), dumpJournal.getRun(), config.getShards())) {
+				new LdesCrawler(treeNodeFetcher, config.getSourceFormatAsLang(), config.getConcurrency(), dumpWriter,
+						dumpJournal, dumpProgress, versionOfPath).crawl(startingTreeNodeUrl);
+			}
+
+			log.atInfo().log("Dumped {} members of {} TreeNodes to {}, {} TreeNodes failed",
+					dumpProgress.getMembers(), dumpProgress.getTreeNodes(), config.getOutput(), dumpProgress.getFailedTreeNodes());
+			if (eventStreamProperties != null) {
+				final int states = new DumpMaterialiser(config.getOutput(), versionOfPath,
+						ResourceFactory.createProperty(eventStreamProperties.getTimestampPath()), config.getShards()).materialise();
+				log.atInfo().log("Materialised the latest state of {} entities to {}", states, config.getOutput());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DumpFailedException("Dump has been interrupted, run the dumper again to resume", e);
+		} catch (Exception e) {
+			throw new DumpFailedException("Dump of %s failed, run the dumper again to resume".formatted(config.getUrl()), e);
+		}
+	}
+
+	private EventStreamProperties fetchVersionedEventStreamProperties() {
+		final EventStreamProperties eventStreamProperties = new EventStreamPropertiesFetcher(requestExecutor)
+				.fetchEventStreamProperties(new PropertiesRequest(config.getUrl(), config.getSourceFormatAsLang()));
+		if (eventStreamProperties.getVersionOfPath() == null) {
+			throw new IllegalStateException("Versions can not be materialised, as the LDES has no versionOf path");
+		}
+		if (eventStreamProperties.getTimestampPath() == null) {
+			throw new IllegalStateException("Versions can not be materialised, as the LDES has no timestamp path");
+		}
+		return eventStreamProperties;
+	}
+}
@@ -0,0 +1,109 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.config;
+
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties
+public class LdesDumperConfig {
+	public static final String DEFAULT_RDF_FORMAT = "text/turtle";
+	public static final String DEFAULT_OUTPUT = "ldes-dump";
+	public static final int DEFAULT_SHARDS = 1;
+	public static final int DEFAULT_CONCURRENCY = 8;
+	public static final int DEFAULT_RETRY_LIMIT = 5;
+	public static final Duration DEFAULT_PROGRESS_INTERVAL = Duration.ofSeconds(10);
+	private String url;
+	private String sourceFormat;
+	private String output;
+	private Integer shards;
+	private Integer concurrency;
+	private boolean materialiseVersions;
+	private Duration progressInterval;
+	private Integer retryLimit;
+
+	public String getUrl() {
+		if (url == null) {
+			throw new IllegalArgumentException("Missing value for 'url'");
+		}
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public String getSourceFormat() {
+		return sourceFormat == null ? DEFAULT_RDF_FORMAT : sourceFormat;
+	}
+
+	public Lang getSourceFormatAsLang() {
+		return RDFLanguages.nameToLang(getSourceFormat());
+	}
+
+	public void setSourceFormat(String sourceFormat) {
+		this.sourceFormat = sourceFormat;
+	}
+
+	public Path getOutput() {
+		return Path.of(output == null ? DEFAULT_OUTPUT : output);
+	}
+
+	public void setOutput(String output) {
+		this.output = output;
+	}
+
+	public int getShards() {
+		return requirePositive("shards", shards, DEFAULT_SHARDS);
+	}
+
+	public void setShards(Integer shards) {
+		this.shards = shards;
+	}
+
+	public int getConcurrency() {
+		return requirePositive("concurrency", concurrency, DEFAULT_CONCURRENCY);
+	}
+
+	public void setConcurrency(Integer concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	public boolean isMaterialiseVersions() {
+		return materialiseVersions;
+	}
+
+	public void setMaterialiseVersions(boolean materialiseVersions) {
+		this.materialiseVersions = materialiseVersions;
+	}
+
+	public Duration getProgressInterval() {
+		return progressInterval == null ? DEFAULT_PROGRESS_INTERVAL : progressInterval;
+	}
+
+	public void setProgressInterval(Duration progressInterval) {
+		this.progressInterval = progressInterval;
+	}
+
+	public int getRetryLimit() {
+		return requirePositive("retry-limit", retryLimit, DEFAULT_RETRY_LIMIT);
+	}
+
+	public void setRetryLimit(Integer retryLimit) {
+		this.retryLimit = retryLimit;
+	}
+
+	private static int requirePositive(String name, Integer value, int defaultValue) {
+		if (value == null) {
+			return defaultValue;
+		}
+		if (value < 1) {
+			throw new IllegalArgumentException("Value for '%s' must be at least 1".formatted(name));
+		}
+		return value;
+	}
+}
@@ -0,0 +1,156 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Append-only log of the progress of a dump, from which an interrupted dump can be resumed.
+ * <br />
+ * For every fetched TreeNode, the written members and the discovered relations are appended, closed by a line that
+ * marks the TreeNode as either finished or visited. Only an immutable TreeNode is finished, a mutable one is fetched
+ * again on resume to pick up the members that have been added since. Lines of a TreeNode that has not been closed,
+ * because the dump was interrupted while journaling, are ignored on resume.
+ */
+public class DumpJournal implements AutoCloseable {
+	public static final String FILE_NAME = "dump.journal";
+	private static final String RUN = "S";
+	private static final String MEMBER = "M";
+	private static final String RELATION = "R";
+	private static final String FINISHED = "F";
+	private static final String VISITED = "V";
+
+	private final Set<String> members = new HashSet<>();
+	private final Set<String> relations = new HashSet<>();
+	private final Set<String> finishedTreeNodes = new HashSet<>();
+	private final BufferedWriter writer;
+	private final int run;
+
+	/**
+	 * Reads the journal that is left behind by the previous runs in the directory, if any, and starts a new run
+	 */
+	public DumpJournal(Path directory) {
+		final Path file = directory.resolve(FILE_NAME);
+		try {
+			Files.createDirectories(directory);
+			this.run = Files.exists(file) ? read(file) : 0;
+			this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			// the last line of an interrupted run might not have been terminated
+			writer.newLine();
+			append(RUN, Instant.now().toString());
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to open the journal in " + directory, e);
+		}
+	}
+
+	/**
+	 * @return the number of the current run, which is the number of runs that preceded it
+	 */
+	public int getRun() {
+		return run;
+	}
+
+	public Set<String> getMembers() {
+		return members;
+	}
+
+	/**
+	 * @return the relations that have been discovered by the previous runs, without the finished TreeNodes
+	 */
+	public Set<String> getUnfinishedRelations() {
+		final Set<String> unfinishedRelations = new HashSet<>(relations);
+		unfinishedRelations.removeAll(finishedTreeNodes);
+		return unfinishedRelations;
+	}
+
+	public Set<String> getFinishedTreeNodes() {
+		return finishedTreeNodes;
+	}
+
+	/**
+	 * Journals a fetched TreeNode. Must only be called once its members have been flushed to the dump.
+	 *
+	 * @param treeNodeUrl url of the TreeNode
+	 * @param members     ids of the members of the TreeNode that have been written to the dump
+	 * @param relations   urls of the TreeNodes the TreeNode refers to
+	 * @param immutable   whether the TreeNode will not change anymore
+	 */
+	public synchronized void record(String treeNodeUrl, Collection<String> members, Collection<String> relations, boolean immutable) {
+		try {
+			for (String member : members) {
+				append(MEMBER, member);
+			}
+			for (String relation : relations) {
+				append(RELATION, relation);
+			}
+			append(immutable ? FINISHED : VISITED, treeNodeUrl);
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to journal TreeNode " + treeNodeUrl, e);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		try {
+			writer.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void append(String type, String value) throws IOException {
+		writer.write(type);
+		writer.write(' ');
+		writer.write(value);
+		writer.newLine();
+	}
+
+	private int read(Path file) throws IOException {
+		int runs = 0;
+		final List<String> pendingMembers = new ArrayList<>();
+		final List<String> pendingRelations = new ArrayList<>();
+		try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+			for (String line : (Iterable<String>) lines::iterator) {
+				final int separator = line.indexOf(' ');
+				if (separator < 0) {
+					continue;
+				}
+				final String value = line.substring(separator + 1);
+				switch (line.substring(0, separator)) {
+					case RUN -> {
+						runs++;
+						pendingMembers.clear();
+						pendingRelations.clear();
+					}
+					case MEMBER -> pendingMembers.add(value);
+					case RELATION -> pendingRelations.add(value);
+					case FINISHED, VISITED -> {
+						members.addAll(pendingMembers);
+						relations.addAll(pendingRelations);
+						if (line.startsWith(FINISHED)) {
+							finishedTreeNodes.add(value);
+						}
+						pendingMembers.clear();
+						pendingRelations.clear();
+					}
+					default -> {
+						// a line that was cut off by an interruption
+					}
+				}
+			}
+		}
+		return runs;
+	}
+}
@@ -0,0 +1,172 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.VersionMaterialiser;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampExtractor;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampFromPathExtractor;
+import org.apache.jena.atlas.AtlasException;
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.system.ErrorHandlerFactory;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.sparql.core.Quad;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Turns the versions in the shards of all runs into the latest state of every entity, once the LDES has been crawled.
+ * The versions are written to the shards as named graphs, so they can be told apart when the shards are read back.
+ * <br />
+ * The shards are read twice: first to find the latest version of every entity by its timestamp, then to materialise
+ * only those versions to the state shards. Only the id and the timestamp of the latest version of every entity are
+ * kept in memory. The state shards are replaced on every run, so a resumed dump also materialises the versions of the
+ * previous runs.
+ * <br />
+ * The tail of a shard of an interrupted run might be corrupt. The version that was being read when the corruption was
+ * found is skipped, as it is dumped again by the run that resumed the dump.
+ */
+public class DumpMaterialiser {
+	private static final Logger log = LoggerFactory.getLogger(DumpMaterialiser.class);
+	private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("members-(\\d+)-(\\d+)\\.nq\\.gz");
+	private final Path directory;
+	private final Property versionOfPath;
+	private final TimestampExtractor timestampExtractor;
+	private final int numberOfShards;
+
+	/**
+	 * @param directory      directory wherein the shards of the members are dumped and the state shards are created
+	 * @param versionOfPath  versionOf path of the LDES
+	 * @param timestampPath  timestamp path of the LDES, by which the latest version of an entity is found
+	 * @param numberOfShards number of shards to spread the states over
+	 */
+	public DumpMaterialiser(Path directory, Property versionOfPath, Property timestampPath, int numberOfShards) {
+		this.directory = directory;
+		this.versionOfPath = versionOfPath;
+		this.timestampExtractor = new TimestampFromPathExtractor(timestampPath);
+		this.numberOfShards = numberOfShards;
+	}
+
+	/**
+	 * @return the number of entities of which the state has been dumped
+	 */
+	public int materialise() {
+		final List<Path> shards = getShards();
+		final Map<String, LatestVersion> latestVersions = new HashMap<>();
+		shards.forEach(shard -> readVersions(shard, (versionId, version) -> {
+			final Resource member = ResourceFactory.createResource(versionId);
+			final LocalDateTime timestamp = timestampExtractor.extractTimestampWithSubject(member, version);
+			latestVersions.merge(getVersionOf(member, version), new LatestVersion(versionId, timestamp),
+					(latest, other) -> other.timestamp().isBefore(latest.timestamp()) ? latest : other);
+		}));
+
+		final Set<String> latestVersionIds = new HashSet<>();
+		latestVersions.values().forEach(latestVersion -> latestVersionIds.add(latestVersion.versionId()));
+		final VersionMaterialiser versionMaterialiser = new VersionMaterialiser(versionOfPath, false);
+		try (DumpWriter stateWriter = new DumpWriter(directory, DumpWriter.STATE_FILE_NAME::formatted, numberOfShards)) {
+			shards.forEach(shard -> readVersions(shard, (versionId, version) -> {
+				if (latestVersionIds.remove(versionId)) {
+					final Resource member = ResourceFactory.createResource(versionId);
+					stateWriter.write(getVersionOf(member, version), versionMaterialiser.transform(version));
+				}
+			}));
+		}
+		return latestVersions.size();
+	}
+
+	private List<Path> getShards() {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> SHARD_FILE_PATTERN.matcher(file.getFileName().toString()).matches())
+					.sorted(Comparator.comparingInt((Path file) -> getShardNumber(file, 1)).thenComparingInt(file -> getShardNumber(file, 2)))
+					.toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to list the shards in " + directory, e);
+		}
+	}
+
+	private static int getShardNumber(Path file, int group) {
+		final Matcher matcher = SHARD_FILE_PATTERN.matcher(file.getFileName().toString());
+		return matcher.matches() ? Integer.parseInt(matcher.group(group)) : 0;
+	}
+
+	private String getVersionOf(Resource member, Model version) {
+		return version.listObjectsOfProperty(member, versionOfPath)
+				.nextOptional()
+				.filter(RDFNode::isURIResource)
+				.map(versionOf -> versionOf.asResource().getURI())
+				.orElse(member.getURI());
+	}
+
+	private void readVersions(Path shard, BiConsumer<String, Model> versionConsumer) {
+		final VersionReader versionReader = new VersionReader(versionConsumer);
+		try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(shard))) {
+			RDFParser.source(inputStream)
+					.lang(Lang.NQUADS)
+					.errorHandler(ErrorHandlerFactory.errorHandlerNoLogging)
+					.parse(versionReader);
+			versionReader.complete();
+		} catch (IOException | UncheckedIOException | RiotException | AtlasException e) {
+			log.atWarn().log("Skipping the corrupt tail of {}: {}", shard.getFileName(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Collects the quads of every named graph, which are written one after the other, into the version they belong to
+	 */
+	private static class VersionReader extends StreamRDFBase {
+		private final BiConsumer<String, Model> versionConsumer;
+		private Node graph;
+		private Model version;
+
+		private VersionReader(BiConsumer<String, Model> versionConsumer) {
+			this.versionConsumer = versionConsumer;
+		}
+
+		@Override
+		public void quad(Quad quad) {
+			if (!quad.getGraph().equals(graph)) {
+				complete();
+				graph = quad.getGraph();
+				version = ModelFactory.createDefaultModel();
+			}
+			version.getGraph().add(quad.asTriple());
+		}
+
+		/**
+		 * Hands over the last version, which is only known to be complete once the whole shard has been read
+		 */
+		private void complete() {
+			if (graph != null && graph.isURI()) {
+				versionConsumer.accept(graph.getURI(), version);
+			}
+			graph = null;
+		}
+	}
+
+	private record LatestVersion(String versionId, LocalDateTime timestamp) {
+	}
+}
@@ -0,0 +1,65 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the fetched TreeNodes and the dumped members and periodically logs them, together with the throughput
+ * since the previous report
+ */
+public class DumpProgress implements AutoCloseable {
+	private static final Logger log = LoggerFactory.getLogger(DumpProgress.class);
+	private final AtomicLong treeNodes = new AtomicLong();
+	private final AtomicLong failedTreeNodes = new AtomicLong();
+	private final AtomicLong members = new AtomicLong();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	private long membersAtLastReport;
+	private long lastReport = System.nanoTime();
+
+	public DumpProgress(Duration interval) {
+		scheduler.scheduleAtFixedRate(this::report, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	public void treeNodeFetched(int dumpedMembers) {
+		treeNodes.incrementAndGet();
+		members.addAndGet(dumpedMembers);
+	}
+
+	public void treeNodeFailed() {
+		failedTreeNodes.incrementAndGet();
+	}
+
+	public long getTreeNodes() {
+		return treeNodes.get();
+	}
+
+	public long getFailedTreeNodes() {
+		return failedTreeNodes.get();
+	}
+
+	public long getMembers() {
+		return members.get();
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private synchronized void report() {
+		final long now = System.nanoTime();
+		final long currentMembers = members.get();
+		final double seconds = Math.max(1, now - lastReport) / 1_000_000_000.0;
+		log.atInfo().log("Dumped {} members of {} TreeNodes ({} failed), {} members/s",
+				currentMembers, treeNodes.get(), failedTreeNodes.get(),
+				Math.round((currentMembers - membersAtLastReport) / seconds));
+		membersAtLastReport = currentMembers;
+		lastReport = now;
+	}
+}
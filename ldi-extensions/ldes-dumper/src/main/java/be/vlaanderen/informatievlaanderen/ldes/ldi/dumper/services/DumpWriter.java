@@ -0,0 +1,120 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import org.apache.jena.atlas.io.AWriter;
+import org.apache.jena.atlas.io.IO;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.riot.system.StreamRDFOps;
+import org.apache.jena.sparql.core.Quad;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the members as N-Quads to gzip compressed shards. The shard of a member is chosen by the hash of its key, so
+ * members with the same key, e.g. all versions of the same entity, always end up in the same shard. A member can be
+ * written to a named graph, so it can be told apart from the other members when the shard is read back.
+ * <br />
+ * Every run writes to shards of its own, as the tail of the shards of an interrupted run might be corrupt. Being line
+ * based, the shards of all runs can simply be concatenated.
+ */
+public class DumpWriter implements AutoCloseable {
+	public static final String SHARD_FILE_NAME = "members-%d-%d.nq.gz";
+	public static final String STATE_FILE_NAME = "state-%d.nq.gz";
+	private final List<Shard> shards;
+
+	/**
+	 * @param directory       directory wherein the shards are created
+	 * @param run             number of the run, which is part of the names of the shards
+	 * @param numberOfShards  number of shards to spread the members over
+	 */
+	public DumpWriter(Path directory, int run, int numberOfShards) {
+		this(directory, shard -> SHARD_FILE_NAME.formatted(run, shard), numberOfShards);
+	}
+
+	/**
+	 * @param directory       directory wherein the shards are created, replacing the shards with the same name
+	 * @param shardFileName   name of the file of the shard with the given number
+	 * @param numberOfShards  number of shards to spread the members over
+	 */
+	public DumpWriter(Path directory, IntFunction<String> shardFileName, int numberOfShards) {
+		this.shards = new ArrayList<>(numberOfShards);
+		try {
+			Files.createDirectories(directory);
+			for (int i = 0; i < numberOfShards; i++) {
+				shards.add(new Shard(directory.resolve(shardFileName.apply(i))));
+			}
+		} catch (IOException e) {
+			close();
+			throw new UncheckedIOException("Unable to create the shards in " + directory, e);
+		}
+	}
+
+	public void write(String key, Model member) {
+		shards.get(Math.floorMod(key.hashCode(), shards.size())).write(member.getGraph(), null);
+	}
+
+	/**
+	 * @param graph name of the graph the member is written to
+	 */
+	public void write(String key, String graph, Model member) {
+		shards.get(Math.floorMod(key.hashCode(), shards.size())).write(member.getGraph(), NodeFactory.createURI(graph));
+	}
+
+	/**
+	 * Flushes the compressed members to disk, so they can be read back even when the run is interrupted afterwards
+	 */
+	public void flush() {
+		shards.forEach(Shard::flush);
+	}
+
+	@Override
+	public void close() {
+		shards.forEach(Shard::close);
+	}
+
+	private static class Shard {
+		private final AWriter writer;
+		private final StreamRDF stream;
+		private boolean dirty;
+
+		private Shard(Path file) throws IOException {
+			final OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(file), true);
+			this.writer = IO.wrapUTF8(outputStream);
+			this.stream = StreamRDFLib.writer(writer);
+			stream.start();
+		}
+
+		private synchronized void write(Graph member, Node graph) {
+			if (graph == null) {
+				StreamRDFOps.sendGraphToStream(member, stream);
+			} else {
+				StreamRDFOps.sendQuadsToStream(member.find().mapWith(triple -> Quad.create(graph, triple)), stream);
+			}
+			dirty = true;
+		}
+
+		private synchronized void flush() {
+			if (dirty) {
+				writer.flush();
+				dirty = false;
+			}
+		}
+
+		private synchronized void close() {
+			stream.finish();
+			writer.close();
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.executor.RequestExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.executor.noauth.DefaultRequestExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.executor.retry.RetryConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.services.RequestExecutorDecorator;
+import org.apache.http.impl.client.HttpClientBuilder;
+
+import java.util.List;
+
+/**
+ * Creates a RequestExecutor of which the connection pool is as large as the number of fetching threads. The default
+ * http client only allows two connections per host, which would make all but two threads wait for a connection.
+ * <br />
+ * Redirects are not followed by the http client, as the fetchers of the LDES client handle these themselves.
+ */
+public class DumperRequestExecutorSupplier {
+	private final int concurrency;
+	private final int retryLimit;
+
+	public DumperRequestExecutorSupplier(int concurrency, int retryLimit) {
+		this.concurrency = concurrency;
+		this.retryLimit = retryLimit;
+	}
+
+	public RequestExecutor createRequestExecutor() {
+		final var httpClient = HttpClientBuilder.create()
+				.setMaxConnPerRoute(concurrency)
+				.setMaxConnTotal(concurrency)
+				.disableRedirectHandling()
+				.build();
+		return RequestExecutorDecorator.decorate(new DefaultRequestExecutor(httpClient))
+				.with(RetryConfig.of(retryLimit, List.of()).getRetry())
+				.get();
+	}
+}
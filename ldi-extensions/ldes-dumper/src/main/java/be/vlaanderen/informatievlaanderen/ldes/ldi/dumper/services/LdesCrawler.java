@@ -0,0 +1,138 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import ldes.client.treenodefetcher.TreeNodeFetcher;
+import ldes.client.treenodefetcher.domain.entities.TreeMember;
+import ldes.client.treenodefetcher.domain.valueobjects.TreeNodeRequest;
+import ldes.client.treenodefetcher.domain.valueobjects.TreeNodeResponse;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Crawls all TreeNodes of an LDES with a fixed number of threads, which share a single frontier of TreeNodes to
+ * fetch. Every member is written to the dump only once, even when it is part of multiple TreeNodes.
+ * <br />
+ * A TreeNode that can not be fetched, even after retrying, is logged and skipped. As it is not journaled, it will be
+ * fetched again when the dump is resumed.
+ */
+public class LdesCrawler {
+	private static final Logger log = LoggerFactory.getLogger(LdesCrawler.class);
+	private final TreeNodeFetcher treeNodeFetcher;
+	private final Lang lang;
+	private final int concurrency;
+	private final DumpWriter dumpWriter;
+	private final DumpJournal dumpJournal;
+	private final DumpProgress dumpProgress;
+	private final Property versionOfPath;
+	private final Set<String> knownMembers = ConcurrentHashMap.newKeySet();
+	private final Set<String> scheduledTreeNodes = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger pendingTreeNodes = new AtomicInteger();
+	private final CountDownLatch finished = new CountDownLatch(1);
+	private ExecutorService executorService;
+
+	/**
+	 * @param versionOfPath the versionOf path of the LDES when the members must be materialised, otherwise
+	 *                      <code>null</code>. The versions are then dumped as named graphs for the
+	 *                      {@link DumpMaterialiser}.
+	 */
+	public LdesCrawler(TreeNodeFetcher treeNodeFetcher, Lang lang, int concurrency, DumpWriter dumpWriter,
+	                   DumpJournal dumpJournal, DumpProgress dumpProgress, Property versionOfPath) {
+		this.treeNodeFetcher = treeNodeFetcher;
+		this.lang = lang;
+		this.concurrency = concurrency;
+		this.dumpWriter = dumpWriter;
+		this.dumpJournal = dumpJournal;
+		this.dumpProgress = dumpProgress;
+		this.versionOfPath = versionOfPath;
+	}
+
+	/**
+	 * Crawls the LDES, starting from the given TreeNode and the unfinished TreeNodes of the previous runs, and blocks
+	 * until every reachable TreeNode has been fetched
+	 */
+	public void crawl(String startingTreeNodeUrl) throws InterruptedException {
+		knownMembers.addAll(dumpJournal.getMembers());
+		scheduledTreeNodes.addAll(dumpJournal.getFinishedTreeNodes());
+		final Set<String> frontier = new HashSet<>(dumpJournal.getUnfinishedRelations());
+		frontier.add(startingTreeNodeUrl);
+
+		executorService = Executors.newFixedThreadPool(concurrency);
+		try {
+			// guards against finishing before the whole frontier has been scheduled
+			pendingTreeNodes.incrementAndGet();
+			frontier.forEach(this::schedule);
+			completeTreeNode();
+			finished.await();
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void schedule(String treeNodeUrl) {
+		if (scheduledTreeNodes.add(treeNodeUrl)) {
+			pendingTreeNodes.incrementAndGet();
+			executorService.execute(() -> fetch(treeNodeUrl));
+		}
+	}
+
+	private void fetch(String treeNodeUrl) {
+		try {
+			final TreeNodeResponse response = treeNodeFetcher.fetchTreeNode(new TreeNodeRequest(treeNodeUrl, lang, null), knownMembers::contains);
+			final List<String> dumpedMembers = dump(response.getMembers());
+			dumpWriter.flush();
+			dumpJournal.record(treeNodeUrl, dumpedMembers, response.getRelations(), !response.getMutabilityStatus().isMutable());
+			dumpProgress.treeNodeFetched(dumpedMembers.size());
+			response.getRelations().forEach(this::schedule);
+		} catch (Exception e) {
+			dumpProgress.treeNodeFailed();
+			log.atError().log("Unable to dump TreeNode {}: {}", treeNodeUrl, e.getMessage());
+		} finally {
+			completeTreeNode();
+		}
+	}
+
+	private List<String> dump(Collection<TreeMember> members) {
+		final List<String> dumpedMembers = new ArrayList<>(members.size());
+		for (TreeMember member : members) {
+			if (knownMembers.add(member.getMemberId())) {
+				if (versionOfPath == null) {
+					dumpWriter.write(member.getMemberId(), member.getModel());
+				} else {
+					dumpWriter.write(getVersionOf(member), member.getMemberId(), member.getModel());
+				}
+				dumpedMembers.add(member.getMemberId());
+			}
+		}
+		return dumpedMembers;
+	}
+
+	private String getVersionOf(TreeMember member) {
+		final Model model = member.getModel();
+		return model.listObjectsOfProperty(ResourceFactory.createResource(member.getMemberId()), versionOfPath)
+				.nextOptional()
+				.filter(RDFNode::isURIResource)
+				.map(versionOf -> versionOf.asResource().getURI())
+				.orElse(member.getMemberId());
+	}
+
+	private void completeTreeNode() {
+		if (pendingTreeNodes.decrementAndGet() == 0) {
+			finished.countDown();
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.common;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.config.LdesDumperConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LdesDumperExecutorTest {
+
+	@TempDir
+	private Path output;
+
+	@Test
+	void given_UnreachableLdes_when_Run_then_DumpFailsWithNonZeroExitCode() {
+		final LdesDumperConfig config = new LdesDumperConfig();
+		config.setUrl("http://localhost:1/ldes");
+		config.setOutput(output.toString());
+		config.setRetryLimit(1);
+		final LdesDumperExecutor executor = new LdesDumperExecutor(config);
+
+		assertThatThrownBy(executor::run)
+				.isInstanceOf(DumpFailedException.class)
+				.hasMessage("Dump of http://localhost:1/ldes failed, run the dumper again to resume")
+				.hasCauseInstanceOf(RuntimeException.class)
+				.extracting(e -> ((DumpFailedException) e).getExitCode())
+				.isEqualTo(1);
+	}
+}
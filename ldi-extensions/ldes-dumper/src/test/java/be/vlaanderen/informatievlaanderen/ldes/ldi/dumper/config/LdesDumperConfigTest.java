@@ -0,0 +1,57 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.config;
+
+import org.apache.jena.riot.Lang;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LdesDumperConfigTest {
+
+	private LdesDumperConfig config;
+
+	@BeforeEach
+	void setUp() {
+		config = new LdesDumperConfig();
+	}
+
+	@Test
+	void given_EmptyConfig_when_GetUrl_then_ThrowException() {
+		assertThatThrownBy(() -> config.getUrl())
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Missing value for 'url'");
+	}
+
+	@Test
+	void given_EmptyConfig_when_GetProperties_then_ReturnDefaults() {
+		assertThat(config.getSourceFormatAsLang()).isEqualTo(Lang.TURTLE);
+		assertThat(config.getOutput()).isEqualTo(Path.of("ldes-dump"));
+		assertThat(config.getShards()).isEqualTo(1);
+		assertThat(config.getConcurrency()).isEqualTo(8);
+		assertThat(config.isMaterialiseVersions()).isFalse();
+		assertThat(config.getProgressInterval()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(config.getRetryLimit()).isEqualTo(5);
+	}
+
+	@Test
+	void given_ZeroShards_when_GetShards_then_ThrowException() {
+		config.setShards(0);
+
+		assertThatThrownBy(() -> config.getShards())
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Value for 'shards' must be at least 1");
+	}
+
+	@Test
+	void given_NegativeConcurrency_when_GetConcurrency_then_ThrowException() {
+		config.setConcurrency(-1);
+
+		assertThatThrownBy(() -> config.getConcurrency())
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Value for 'concurrency' must be at least 1");
+	}
+}
@@ -0,0 +1,62 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DumpJournalTest {
+
+	@TempDir
+	private Path output;
+
+	@Test
+	void given_NoPreviousRun_when_Opening_then_JournalIsEmpty() {
+		try (DumpJournal journal = new DumpJournal(output)) {
+			assertThat(journal.getRun()).isZero();
+			assertThat(journal.getMembers()).isEmpty();
+			assertThat(journal.getUnfinishedRelations()).isEmpty();
+			assertThat(journal.getFinishedTreeNodes()).isEmpty();
+		}
+	}
+
+	@Test
+	void given_PreviousRun_when_Opening_then_ProgressIsRestored() {
+		try (DumpJournal journal = new DumpJournal(output)) {
+			journal.record("http://example.org/1", List.of("member-1", "member-2"), List.of("http://example.org/2", "http://example.org/3"), true);
+			journal.record("http://example.org/2", List.of("member-3"), List.of("http://example.org/1"), false);
+		}
+
+		try (DumpJournal journal = new DumpJournal(output)) {
+			assertThat(journal.getRun()).isEqualTo(1);
+			assertThat(journal.getMembers()).containsExactlyInAnyOrder("member-1", "member-2", "member-3");
+			assertThat(journal.getFinishedTreeNodes()).containsExactly("http://example.org/1");
+			assertThat(journal.getUnfinishedRelations()).containsExactlyInAnyOrder("http://example.org/2", "http://example.org/3");
+		}
+	}
+
+	@Test
+	void given_InterruptedRun_when_Opening_then_UnclosedTreeNodeIsIgnored() throws IOException {
+		try (DumpJournal journal = new DumpJournal(output)) {
+			journal.record("http://example.org/1", List.of("member-1"), List.of("http://example.org/2"), true);
+		}
+		Files.writeString(output.resolve(DumpJournal.FILE_NAME), "M member-2\nR http://example.org/3\nM memb", StandardOpenOption.APPEND);
+
+		try (DumpJournal journal = new DumpJournal(output)) {
+			assertThat(journal.getRun()).isEqualTo(1);
+			assertThat(journal.getMembers()).containsExactly("member-1");
+			assertThat(journal.getUnfinishedRelations()).containsExactly("http://example.org/2");
+		}
+
+		try (DumpJournal journal = new DumpJournal(output)) {
+			assertThat(journal.getRun()).isEqualTo(2);
+			assertThat(journal.getMembers()).containsExactly("member-1");
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DumpMaterialiserTest {
+	private static final Property IS_VERSION_OF = ResourceFactory.createProperty("http://purl.org/dc/terms/isVersionOf");
+	private static final Property GENERATED_AT_TIME = ResourceFactory.createProperty("http://www.w3.org/ns/prov#generatedAtTime");
+	private static final Property NAME = ResourceFactory.createProperty("http://schema.org/name");
+	private static final String PERSON_1 = "http://example.org/people/1";
+	private static final String PERSON_2 = "http://example.org/people/2";
+
+	@TempDir
+	private Path output;
+
+	@Test
+	void given_VersionsOfMultipleRuns_when_Materialising_then_OnlyTheLatestStateOfEveryEntityIsDumped() throws IOException {
+		try (DumpWriter writer = new DumpWriter(output, 0, 2)) {
+			writeVersion(writer, PERSON_1, "v2", "2024-02-08T00:00:00Z", "Jane Doe");
+			writeVersion(writer, PERSON_2, "v1", "2024-02-07T00:00:00Z", "Jack Deer");
+		}
+		try (DumpWriter writer = new DumpWriter(output, 1, 2)) {
+			writeVersion(writer, PERSON_1, "v1", "2024-02-07T00:00:00Z", "Jane Deer");
+		}
+
+		final int states = new DumpMaterialiser(output, IS_VERSION_OF, GENERATED_AT_TIME, 2).materialise();
+
+		final Model state = readState(2);
+		assertThat(states).isEqualTo(2);
+		assertThat(state.listObjectsOfProperty(ResourceFactory.createResource(PERSON_1), NAME).toList())
+				.extracting(name -> name.asLiteral().getString())
+				.containsExactly("Jane Doe");
+		assertThat(state.listObjectsOfProperty(ResourceFactory.createResource(PERSON_2), NAME).toList()).hasSize(1);
+		assertThat(state.listSubjectsWithProperty(IS_VERSION_OF).toList()).isEmpty();
+	}
+
+	@Test
+	void given_ShardWithCorruptTail_when_Materialising_then_TheVersionThatWasCutOffIsSkipped() throws IOException {
+		try (DumpWriter writer = new DumpWriter(output, 0, 1)) {
+			writeVersion(writer, PERSON_1, "v1", "2024-02-07T00:00:00Z", "Jane Deer");
+		}
+		try (DumpWriter writer = new DumpWriter(output, 1, 1)) {
+			writeVersion(writer, PERSON_1, "v2", "2024-02-08T00:00:00Z", "Jane Doe");
+		}
+		final Path interruptedShard = output.resolve(DumpWriter.SHARD_FILE_NAME.formatted(1, 0));
+		final byte[] content = Files.readAllBytes(interruptedShard);
+		Files.write(interruptedShard, Arrays.copyOf(content, content.length / 2));
+
+		final int states = new DumpMaterialiser(output, IS_VERSION_OF, GENERATED_AT_TIME, 1).materialise();
+
+		assertThat(states).isEqualTo(1);
+		assertThat(readState(1).listObjectsOfProperty(ResourceFactory.createResource(PERSON_1), NAME).toList())
+				.extracting(name -> name.asLiteral().getString())
+				.containsExactly("Jane Deer");
+	}
+
+	private void writeVersion(DumpWriter writer, String entity, String version, String timestamp, String name) {
+		final String versionId = entity + "/" + version;
+		final Model model = RDFParser.fromString("""
+				<%s> <http://schema.org/name> "%s" ;
+				    <http://purl.org/dc/terms/isVersionOf> <%s> ;
+				    <http://www.w3.org/ns/prov#generatedAtTime> "%s"^^<http://www.w3.org/2001/XMLSchema#dateTime> .
+				""".formatted(versionId, name, entity, timestamp)).lang(Lang.TURTLE).toModel();
+		writer.write(entity, versionId, model);
+	}
+
+	private Model readState(int numberOfShards) throws IOException {
+		final Model model = ModelFactory.createDefaultModel();
+		for (int shard = 0; shard < numberOfShards; shard++) {
+			try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(output.resolve(DumpWriter.STATE_FILE_NAME.formatted(shard))))) {
+				RDFParser.source(inputStream).lang(Lang.NQUADS).parse(model);
+			}
+		}
+		return model;
+	}
+}
@@ -0,0 +1,117 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldi.dumper.services;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.timestampextractor.TimestampFromCurrentTimeExtractor;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import ldes.client.treenodefetcher.TreeNodeFetcher;
+import org.apache.commons.io.FileUtils;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.ResourceUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WireMockTest(httpPort = 10102)
+class LdesCrawlerTest {
+	private static final String PAGE_1 = "/people/paged?page=1";
+	private static final String PAGE_2 = "/people/paged?page=2";
+	private static final Property IS_VERSION_OF = ResourceFactory.createProperty("http://purl.org/dc/terms/isVersionOf");
+	private static final Property NAME = ResourceFactory.createProperty("http://schema.org/name");
+
+	@TempDir
+	private Path output;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubFor(get(PAGE_1).willReturn(okForContentType("text/turtle", readTreeNode("page-1"))
+				.withHeader("Cache-Control", "public, max-age=604800, immutable")));
+		stubFor(get(PAGE_2).willReturn(okForContentType("text/turtle", readTreeNode("page-2"))));
+	}
+
+	@Test
+	void when_Crawling_then_EveryTreeNodeIsFetchedOnceAndEveryMemberIsDumpedOnce() throws Exception {
+		crawl(null);
+
+		verify(1, getRequestedFor(urlEqualTo(PAGE_1)));
+		verify(1, getRequestedFor(urlEqualTo(PAGE_2)));
+		final Model dump = readDump(0);
+		assertThat(dump.listSubjects().toList()).hasSize(3);
+		assertThat(dump.listObjectsOfProperty(NAME).toList()).hasSize(3);
+	}
+
+	@Test
+	void when_Resuming_then_OnlyMutableTreeNodesAreFetchedAgainAndNoMemberIsDumpedTwice() throws Exception {
+		crawl(null);
+
+		crawl(null);
+
+		verify(1, getRequestedFor(urlEqualTo(PAGE_1)));
+		verify(2, getRequestedFor(urlEqualTo(PAGE_2)));
+		assertThat(readDump(1).isEmpty()).isTrue();
+	}
+
+	@Test
+	void when_MaterialisingVersions_then_TheVersionsOfAnEntityAreDumpedAsGraphsInTheSameShard() throws Exception {
+		crawl(IS_VERSION_OF);
+
+		final Dataset firstShard = readDataset(0, 0);
+		final Dataset secondShard = readDataset(0, 1);
+		final String entity = "http://localhost:10102/people/1";
+		final Dataset shardOfEntity = firstShard.containsNamedModel(entity + "/v1") ? firstShard : secondShard;
+		assertThat(shardOfEntity.containsNamedModel(entity + "/v1")).isTrue();
+		assertThat(shardOfEntity.containsNamedModel(entity + "/v2")).isTrue();
+		assertThat(firstShard.getDefaultModel().isEmpty()).isTrue();
+		assertThat(secondShard.getDefaultModel().isEmpty()).isTrue();
+	}
+
+	private void crawl(Property versionOfPath) throws InterruptedException {
+		final var fetcher = new TreeNodeFetcher(new DumperRequestExecutorSupplier(4, 1).createRequestExecutor(), new TimestampFromCurrentTimeExtractor());
+		try (DumpJournal journal = new DumpJournal(output);
+		     DumpWriter writer = new DumpWriter(output, journal.getRun(), 2);
+		     DumpProgress progress = new DumpProgress(Duration.ofMinutes(1))) {
+			new LdesCrawler(fetcher, Lang.TURTLE, 4, writer, journal, progress, versionOfPath)
+					.crawl("http://localhost:10102" + PAGE_1);
+		}
+	}
+
+	private Model readDump(int run) throws IOException {
+		return readDump(run, 0).union(readDump(run, 1));
+	}
+
+	private Model readDump(int run, int shard) throws IOException {
+		final Model model = ModelFactory.createDefaultModel();
+		try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(output.resolve(DumpWriter.SHARD_FILE_NAME.formatted(run, shard))))) {
+			RDFParser.source(inputStream).lang(Lang.NQUADS).parse(model);
+		}
+		return model;
+	}
+
+	private Dataset readDataset(int run, int shard) throws IOException {
+		final Dataset dataset = DatasetFactory.create();
+		try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(output.resolve(DumpWriter.SHARD_FILE_NAME.formatted(run, shard))))) {
+			RDFParser.source(inputStream).lang(Lang.NQUADS).parse(dataset);
+		}
+		return dataset;
+	}
+
+	private String readTreeNode(String name) throws IOException {
+		return FileUtils.readFileToString(ResourceUtils.getFile("classpath:tree-nodes/%s.ttl".formatted(name)), StandardCharsets.UTF_8);
+	}
+}
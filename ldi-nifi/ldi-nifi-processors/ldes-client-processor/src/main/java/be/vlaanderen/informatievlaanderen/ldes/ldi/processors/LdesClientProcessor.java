@@ -162,6 +162,7 @@ public class LdesClientProcessor extends AbstractProcessor {
 	public void onRemoved() {
 		if (memberSupplier != null) {
 			memberSupplier.destroyState();
+			memberSupplier.close();
 		}
 	}
 
@@ -37,7 +37,7 @@ public class PipelineServiceImpl implements PipelineService {
 
 	@Override
 	public PipelineConfig addPipeline(PipelineConfig pipeline) throws PipelineException {
-		if (pipelineRepository.exists(pipeline.getName())) {
+		if (pipelineRepository.exists(pipeline.getName()) || !pipelineStatusService.registerInitialisingPipeline(pipeline.getName())) {
 			throw new PipelineAlreadyExistsException(pipeline.getName());
 		} else {
 			try {
@@ -46,6 +46,7 @@ public class PipelineServiceImpl implements PipelineService {
 				log.atInfo().log("CREATION of pipeline '{}' successfully finished", formatPipelineName(pipeline.getName()));
 				return pipeline;
 			} catch (RuntimeException e) {
+				pipelineStatusService.unregisterInitialisingPipeline(pipeline.getName());
 				throw new PipelineInitialisationException(pipeline.getName(), e);
 			}
 		}
@@ -53,7 +54,7 @@ public class PipelineServiceImpl implements PipelineService {
 
 	@Override
 	public PipelineConfig addPipeline(PipelineConfig pipeline, File persistedFile) throws PipelineException {
-		if (pipelineRepository.exists(pipeline.getName())) {
+		if (pipelineRepository.exists(pipeline.getName()) || !pipelineStatusService.registerInitialisingPipeline(pipeline.getName())) {
 			throw new PipelineAlreadyExistsException(pipeline.getName());
 		} else {
 			try {
@@ -62,6 +63,7 @@ public class PipelineServiceImpl implements PipelineService {
 				log.atInfo().log("CREATION of pipeline '{}' successfully finished", formatPipelineName(pipeline.getName()));
 				return pipeline;
 			} catch (RuntimeException e) {
+				pipelineStatusService.unregisterInitialisingPipeline(pipeline.getName());
 				throw new PipelineInitialisationException(pipeline.getName(), e);
 			}
 		}
@@ -0,0 +1,45 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.PipelineDeletedEvent;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.LdioSender;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.events.PipelineStatusEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Makes sure the micro-batches of the senders are handed to their outputs when a pipeline is halted, and that the
+ * pipelines are drained when the orchestrator shuts down. A deleted pipeline is drained when it is removed, see
+ * {@link PipelineCreatorService#removePipeline(String)}.
+ */
+@Component
+public class LdioSenderEventsListener {
+	private final Map<String, LdioSender> ldioSenders = new ConcurrentHashMap<>();
+
+	@EventListener
+	public void handleSenderCreatedEvent(SenderCreatedEvent event) {
+		ldioSenders.put(event.pipelineName(), event.ldioSender());
+	}
+
+	@EventListener(condition = "#event.status().name() == 'HALTED'")
+	public void handlePipelineHaltedEvent(PipelineStatusEvent event) {
+		final LdioSender ldioSender = ldioSenders.get(event.pipelineId());
+		if (ldioSender != null) {
+			ldioSender.flush();
+		}
+	}
+
+	@EventListener
+	public void handlePipelineDeletedEvent(PipelineDeletedEvent event) {
+		ldioSenders.remove(event.pipelineId());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		ldioSenders.values().forEach(LdioSender::shutdown);
+		ldioSenders.clear();
+	}
+}
@@ -10,9 +10,16 @@ import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.Inp
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.*;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentDefinition;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputBatching;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputDeadLetter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputQueue;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineBackpressure;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelinePartitioning;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidComponentException;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidPipelineNameException;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.LdiAdapterMissingException;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PersistenceProperties;
 import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,9 +29,18 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.function.IntSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.OrchestratorConfig.DEBUG;
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.OrchestratorConfig.ORCHESTRATOR_NAME;
@@ -33,8 +49,17 @@ import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConf
 @Service
 public class PipelineCreatorService {
 	private static final Logger log = LoggerFactory.getLogger(PipelineCreatorService.class);
+	private static final String SENDER_SUFFIX = "-ldiSender";
+	private static final String STAGED_EXECUTOR_SUFFIX = "-ldiStagedExecutor";
+	private static final String PARTITIONED_EXECUTOR_SUFFIX = "-ldiPartitionedExecutor";
+	private static final String BACKPRESSURE_MONITOR_SUFFIX = "-ldiBackpressureMonitor";
+	private static final Set<String> SENDER_PROPERTIES = Set.of(OutputBatching.BATCH_SIZE, OutputBatching.BATCH_MAX_BYTES,
+			OutputBatching.BATCH_LINGER, OutputQueue.QUEUE_CAPACITY, OutputQueue.OVERFLOW_POLICY, OutputDeadLetter.DEAD_LETTER,
+			OutputDeadLetter.RETRY_MAX_ATTEMPTS, OutputDeadLetter.RETRY_BACKOFF);
+	private static final String IN_MEMORY_STATE = "memory";
 	private final Pattern validPipelineNamePattern = Pattern.compile(NAME_PATTERN);
 	private final String orchestratorName;
+	private final Path deadLetterDirectory;
 	private final ConfigurableApplicationContext configContext;
 	private final ApplicationEventPublisher eventPublisher;
 	private final ObservationRegistry observationRegistry;
@@ -42,6 +67,7 @@ public class PipelineCreatorService {
 
 	public PipelineCreatorService(OrchestratorConfig orchestratorConfig, ConfigurableApplicationContext configContext, ApplicationEventPublisher eventPublisher, ObservationRegistry observationRegistry) {
 		this.orchestratorName = orchestratorConfig.getName();
+		this.deadLetterDirectory = Path.of(orchestratorConfig.getDeadLetterDirectory());
 		this.configContext = configContext;
 		this.eventPublisher = eventPublisher;
 		this.observationRegistry = observationRegistry;
@@ -65,25 +91,110 @@ public class PipelineCreatorService {
 			LdioInputConfigurator configurator = (LdioInputConfigurator) configContext.getBean(inputName);
 
 			LdiAdapter adapter = Optional.ofNullable(config.getInput().getAdapter())
-					.map(this::getLdioAdapter)
+					.map(adapterDefinition -> getLdioAdapter(config, adapterDefinition))
 					.orElse(null);
 
-			ComponentExecutor executor = componentExecutor(config);
+			ComponentExecutor executor = new TrackedComponentExecutor(memberGraphExecutor(config, componentExecutor(config)),
+					beanFactory.getBean(pipeLineName + SENDER_SUFFIX, LdioSender.class).getInFlightCounter());
 
 			Map<String, String> inputConfig = new HashMap<>(config.getInput().getConfig().getConfig());
 			inputConfig.put(ORCHESTRATOR_NAME, orchestratorName);
+			inputConfig.put(PipelineExecution.THREADS, PipelineExecution.fromConfig(pipeLineName, config.getExecution())
+					.threads().name().toLowerCase());
 
 			verifyAdapter(config, configurator);
 
 			LdioInput ldiInput = configurator.configure(adapter, executor, eventPublisher, new ComponentProperties(pipeLineName, inputName, inputConfig));
 
 			registerBean(pipeLineName, ldiInput);
+			PipelineBackpressure.fromConfig(pipeLineName, config.getExecution())
+					.ifPresent(backpressure -> registerBean(pipeLineName + BACKPRESSURE_MONITOR_SUFFIX,
+							new BackpressureMonitor(pipeLineName, ldiInput, queuedModelsSupplier(pipeLineName), backpressure)));
 			eventPublisher.publishEvent(new InputCreatedEvent(config.getName(), ldiInput));
 		} catch (NoSuchBeanDefinitionException e) {
 			throw new InvalidComponentException(config.getName(), e.getBeanName());
 		}
 	}
 
+	/**
+	 * Creates a throwaway copy of the adapter and the transformers of a pipeline, of which every component keeps a
+	 * stage profile. The input and the outputs of the pipeline are not created, the outputs are replaced by sinks that
+	 * do nothing. Nothing is registered, and the state of every component is kept in memory, so the copy never touches
+	 * the state of the pipeline. It is to be closed once the sample content has been profiled.
+	 *
+	 * @param config Definition of the pipeline
+	 * @throws InvalidComponentException    when no configurator could be found for the defined component name
+	 * @throws InvalidPipelineNameException when the pipeline name does not match RegEx {@link PipelineConfig#NAME_PATTERN}
+	 * @throws LdiAdapterMissingException   when a ldi adapter is expected, but not configured
+	 */
+	public ProfilingPipeline createProfilingPipeline(PipelineConfig config) {
+		final LdioInputConfigurator configurator;
+		try {
+			validateName(config.getName());
+			configurator = (LdioInputConfigurator) configContext.getBean(config.getInput().getName());
+			verifyAdapter(config, configurator);
+
+			for (ComponentDefinition outputDefinition : config.getOutputs()) {
+				if (!configContext.containsBean(outputDefinition.getName())) {
+					throw new InvalidComponentException(config.getName(), outputDefinition.getName());
+				}
+			}
+		} catch (NoSuchBeanDefinitionException e) {
+			throw new InvalidComponentException(config.getName(), e.getBeanName());
+		}
+
+		final List<LdiComponent> components = new ArrayList<>();
+		try {
+			final List<StageProfile> stageProfiles = new ArrayList<>();
+			final ComponentDefinition adapterDefinition = config.getInput().getAdapter();
+			LdiAdapter adapter = null;
+			if (configurator.isAdapterRequired()) {
+				final StageProfile stageProfile = new StageProfile(ComponentTimer.ComponentType.ADAPTER, adapterDefinition.getName());
+				stageProfiles.add(stageProfile);
+				final LdiAdapter ldiAdapter = (LdiAdapter) getLdiComponent(adapterDefinition.getName(), withInMemoryState(adapterDefinition.getConfig()));
+				components.add(ldiAdapter);
+				adapter = new AdapterDebugger(ldiAdapter, stageProfile);
+			}
+
+			final List<LdioTransformer> transformers = new ArrayList<>();
+			for (ComponentDefinition transformerDefinition : config.getTransformers()) {
+				final StageProfile stageProfile = new StageProfile(ComponentTimer.ComponentType.TRANSFORMER, transformerDefinition.getName());
+				stageProfiles.add(stageProfile);
+				final LdioTransformer ldioTransformer = ((LdioTransformerConfigurator) configContext
+						.getBean(transformerDefinition.getName()))
+						.configure(withInMemoryState(transformerDefinition.getConfig()));
+				components.add(ldioTransformer);
+				transformers.add(new TransformerDebugger(ldioTransformer, stageProfile));
+			}
+
+			final List<OutputDebugger> outputs = new ArrayList<>();
+			for (ComponentDefinition outputDefinition : config.getOutputs()) {
+				final StageProfile stageProfile = new StageProfile(ComponentTimer.ComponentType.OUTPUT, outputDefinition.getName());
+				stageProfiles.add(stageProfile);
+				outputs.add(new OutputDebugger(model -> {
+				}, stageProfile));
+			}
+
+			return new ProfilingPipeline(adapter, transformers, outputs, stageProfiles, components);
+		} catch (NoSuchBeanDefinitionException e) {
+			ProfilingPipeline.close(components);
+			throw new InvalidComponentException(config.getName(), e.getBeanName());
+		} catch (RuntimeException e) {
+			ProfilingPipeline.close(components);
+			throw e;
+		}
+	}
+
+	/**
+	 * Keeps the state of a profiled component in memory, so the profiling never reads or writes the persisted state of
+	 * the pipeline it copies, nor opens a connection to it
+	 */
+	private static ComponentProperties withInMemoryState(ComponentProperties properties) {
+		final Map<String, String> config = new HashMap<>(properties.getConfig());
+		config.put(PersistenceProperties.STATE, IN_MEMORY_STATE);
+		return new ComponentProperties(properties.getPipelineName(), properties.getComponentName(), config);
+	}
+
 	private static void verifyAdapter(PipelineConfig config, LdioInputConfigurator configurator) {
 		final ComponentDefinition adapter = config.getInput().getAdapter();
 		if (configurator.isAdapterRequired() && adapter == null) {
@@ -95,76 +206,190 @@ public class PipelineCreatorService {
 	}
 
 	/**
-	 * Removes the pipeline from the spring bean registry
+	 * Removes the pipeline from the spring bean registry. Once its input has been shut down, this waits until all
+	 * models in the pipeline have been handed to the outputs, up to {@link InFlightCounter#DRAIN_TIMEOUT}. The timers of
+	 * its components are removed last.
 	 *
 	 * @param pipeline name of the pipeline to delete
 	 */
 	public void removePipeline(String pipeline) {
+		final String backpressureMonitorName = pipeline + BACKPRESSURE_MONITOR_SUFFIX;
+		if (beanFactory.containsSingleton(backpressureMonitorName)) {
+			beanFactory.getBean(backpressureMonitorName, BackpressureMonitor.class).shutdown();
+			beanFactory.destroySingleton(backpressureMonitorName);
+		}
 		LdioInput ldioInput = beanFactory.getBean(pipeline, LdioInput.class);
 		ldioInput.shutdown();
 		beanFactory.destroyBean(pipeline);
+		if (beanFactory.containsSingleton(pipeline + SENDER_SUFFIX)) {
+			beanFactory.getBean(pipeline + SENDER_SUFFIX, LdioSender.class).shutdown();
+			beanFactory.destroySingleton(pipeline + SENDER_SUFFIX);
+		}
+		final String stagedExecutorName = pipeline + STAGED_EXECUTOR_SUFFIX;
+		if (beanFactory.containsSingleton(stagedExecutorName)) {
+			beanFactory.getBean(stagedExecutorName, StagedComponentExecutor.class).shutdown();
+			beanFactory.destroySingleton(stagedExecutorName);
+		}
+		final String partitionedExecutorName = pipeline + PARTITIONED_EXECUTOR_SUFFIX;
+		if (beanFactory.containsSingleton(partitionedExecutorName)) {
+			beanFactory.getBean(partitionedExecutorName, PartitionedComponentExecutor.class).shutdown();
+			beanFactory.destroySingleton(partitionedExecutorName);
+		}
+		ComponentTimer.remove(pipeline);
+	}
+
+	/**
+	 * Supplies the number of models that wait in the queues of the outputs and, in the staged or partitioned execution
+	 * mode, in the queues of the stages or lanes of the pipeline. In the direct execution mode, the models are carried
+	 * through the pipeline by the threads of the input, so there the number of models in flight is supplied, which
+	 * includes the models in the queues and micro-batches of the outputs.
+	 */
+	private IntSupplier queuedModelsSupplier(String pipelineName) {
+		final LdioSender ldioSender = beanFactory.getBean(pipelineName + SENDER_SUFFIX, LdioSender.class);
+		final String stagedExecutorName = pipelineName + STAGED_EXECUTOR_SUFFIX;
+		if (beanFactory.containsSingleton(stagedExecutorName)) {
+			final StagedComponentExecutor stagedComponentExecutor = beanFactory.getBean(stagedExecutorName, StagedComponentExecutor.class);
+			return () -> stagedComponentExecutor.getQueuedModels() + ldioSender.getQueuedModels();
+		}
+		final String partitionedExecutorName = pipelineName + PARTITIONED_EXECUTOR_SUFFIX;
+		if (beanFactory.containsSingleton(partitionedExecutorName)) {
+			final PartitionedComponentExecutor partitionedComponentExecutor = beanFactory.getBean(partitionedExecutorName, PartitionedComponentExecutor.class);
+			return () -> partitionedComponentExecutor.getQueuedModels() + ldioSender.getQueuedModels();
+		}
+		final InFlightCounter inFlightCounter = ldioSender.getInFlightCounter();
+		return () -> (int) Math.min(Integer.MAX_VALUE, inFlightCounter.getInFlight());
 	}
 
 	private ComponentExecutor componentExecutor(final PipelineConfig pipelineConfig) {
+		final PipelineExecution execution = PipelineExecution.fromConfig(pipelineConfig.getName(), pipelineConfig.getExecution());
+
 		List<LdioTransformer> ldioTransformers = pipelineConfig.getTransformers()
 				.stream()
-				.map(this::getLdioTransformer)
+				.map(componentDefinition -> getLdioTransformer(pipelineConfig, componentDefinition))
 				.toList();
 
-		List<LdiOutput> ldiOutputs = pipelineConfig.getOutputs()
+		List<OutputSettings> outputs = new ArrayList<>();
+		pipelineConfig.getOutputs()
 				.stream()
 				.map(componentDefinition -> addPipelineNameIfMissingToComponentDefinition(componentDefinition, pipelineConfig.getName()))
-				.map(this::getLdioOutput)
-				.toList();
-
-		LdioSender ldioSender = new LdioSender(pipelineConfig.getName(), ldiOutputs);
+				.forEach(componentDefinition -> {
+					final Optional<OutputDeadLetter> outputDeadLetter = OutputDeadLetter.fromConfig(componentDefinition.getConfig());
+					final LdiOutput ldiOutput = outputDeadLetter.isPresent()
+							? new SerialisedOutput(getLdioOutput(pipelineConfig, componentDefinition))
+							: getLdioOutput(pipelineConfig, componentDefinition);
+					final int outputIndex = outputs.size();
+					OutputSettings settings = OutputSettings.of(ldiOutput);
+					settings = OutputBatching.fromConfig(componentDefinition.getConfig()).map(settings::withBatching).orElse(settings);
+					settings = OutputQueue.fromConfig(componentDefinition.getConfig()).map(settings::withQueue).orElse(settings);
+					settings = outputDeadLetter
+							.map(deadLetter -> new DeadLetterStore(pipelineConfig.getName(),
+									outputIndex, componentDefinition.getName(), ldiOutput, deadLetter,
+									deadLetterDirectory.resolve(pipelineConfig.getName()).resolve(deadLetterKey(componentDefinition)),
+									execution.threads()))
+							.map(settings::withDeadLetterStore)
+							.orElse(settings);
+					outputs.add(settings);
+				});
+		warnAboutUnclaimedDeadLetters(pipelineConfig);
+
+		LdioSender ldioSender = new LdioSender(pipelineConfig.getName(), outputs, execution.threads(), execution.memberGraph());
 
 		List<LdioTransformer> processorChain = new ArrayList<>(ldioTransformers.subList(0, ldioTransformers.size()));
 
 		processorChain.add(ldioSender);
 
+		registerBean(pipelineConfig.getName() + SENDER_SUFFIX, ldioSender);
+
+		eventPublisher.publishEvent(new SenderCreatedEvent(pipelineConfig.getName(), ldioSender));
+
+		if (execution.isStaged()) {
+			return stagedComponentExecutor(pipelineConfig, execution, processorChain, ldioSender.getInFlightCounter());
+		}
+
 		LdioTransformer ldioTransformerPipeline = processorChain.get(0);
 
 		if (processorChain.size() > 1) {
 			ldioTransformerPipeline = LdioTransformer.link(processorChain.get(0), processorChain);
 		}
 
-		registerBean(pipelineConfig.getName() + "-ldiSender", ldioSender);
-
-		eventPublisher.publishEvent(new SenderCreatedEvent(pipelineConfig.getName(), ldioSender));
+		if (execution.isPartitioned()) {
+			final PartitionedComponentExecutor partitionedComponentExecutor = new PartitionedComponentExecutor(pipelineConfig.getName(),
+					execution, PipelinePartitioning.fromConfig(pipelineConfig.getName(), pipelineConfig.getExecution()), ldioTransformerPipeline,
+					ldioSender.getInFlightCounter());
+			registerBean(pipelineConfig.getName() + PARTITIONED_EXECUTOR_SUFFIX, partitionedComponentExecutor);
+			return partitionedComponentExecutor;
+		}
 
 		return new ComponentExecutorImpl(ldioTransformerPipeline);
 	}
 
-	private LdiAdapter getLdioAdapter(ComponentDefinition componentDefinition) {
+	/**
+	 * When the members of the pipeline are compact, a member is turned into a view of its compact graph before it
+	 * enters the pipeline
+	 */
+	private ComponentExecutor memberGraphExecutor(final PipelineConfig pipelineConfig, ComponentExecutor componentExecutor) {
+		if (!PipelineExecution.fromConfig(pipelineConfig.getName(), pipelineConfig.getExecution()).hasCompactMembers()) {
+			return componentExecutor;
+		}
+		return model -> componentExecutor.transformLinkedData(CopyOnWriteGraph.createModel(CopyOnWriteGraph.compact(model)));
+	}
+
+	/**
+	 * Every transformer forms a stage with its own number of workers. All outputs together form the last stage, of
+	 * which the number of workers is the highest number of workers of the outputs, or a single worker when the
+	 * execution is ordered.
+	 */
+	private ComponentExecutor stagedComponentExecutor(PipelineConfig pipelineConfig, PipelineExecution execution,
+	                                                  List<LdioTransformer> processorChain, InFlightCounter inFlightCounter) {
+		final List<Integer> workersPerStage = new ArrayList<>();
+		pipelineConfig.getTransformers().forEach(transformer -> workersPerStage.add(execution.getStageWorkers(transformer.getConfig())));
+		workersPerStage.add(pipelineConfig.getOutputs().stream()
+				.mapToInt(output -> execution.getStageWorkers(output.getConfig()))
+				.max()
+				.orElse(execution.workers()));
+
+		final StagedComponentExecutor stagedComponentExecutor = new StagedComponentExecutor(pipelineConfig.getName(),
+				execution, processorChain, workersPerStage, inFlightCounter);
+		registerBean(pipelineConfig.getName() + STAGED_EXECUTOR_SUFFIX, stagedComponentExecutor);
+		return stagedComponentExecutor;
+	}
+
+	private LdiAdapter getLdioAdapter(PipelineConfig pipelineConfig, ComponentDefinition componentDefinition) {
 		boolean debug = componentDefinition.getConfig().getOptionalBoolean(DEBUG).orElse(false);
 
 		LdiAdapter adapter = (LdiAdapter) getLdiComponent(componentDefinition.getName(),
 				componentDefinition.getConfig());
 
-		return debug ? new AdapterDebugger(adapter) : adapter;
+		return new TimedAdapter(debug ? new AdapterDebugger(adapter) : adapter,
+				ComponentTimer.create(pipelineConfig.getName(), componentDefinition.getName(), ComponentTimer.ComponentType.ADAPTER,
+						ComponentTimer.isPercentileHistogramEnabled(pipelineConfig.getName(), pipelineConfig.getExecution())));
 	}
 
-	private LdioTransformer getLdioTransformer(ComponentDefinition componentDefinition) {
+	private LdioTransformer getLdioTransformer(PipelineConfig pipelineConfig, ComponentDefinition componentDefinition) {
 		boolean debug = componentDefinition.getConfig().getOptionalBoolean(DEBUG).orElse(false);
 
 		LdioTransformer ldiTransformer = ((LdioTransformerConfigurator) configContext
 				.getBean(componentDefinition.getName()))
 				.configure(componentDefinition.getConfig());
 
-		return debug ? new TransformerDebugger(ldiTransformer) : ldiTransformer;
+		return new TimedTransformer(debug ? new TransformerDebugger(ldiTransformer) : ldiTransformer,
+				ComponentTimer.create(pipelineConfig.getName(), componentDefinition.getName(), ComponentTimer.ComponentType.TRANSFORMER,
+						ComponentTimer.isPercentileHistogramEnabled(pipelineConfig.getName(), pipelineConfig.getExecution())));
 	}
 
-	private LdiOutput getLdioOutput(ComponentDefinition componentDefinition) {
+	private LdiOutput getLdioOutput(PipelineConfig pipelineConfig, ComponentDefinition componentDefinition) {
 		boolean debug = componentDefinition.getConfig().getOptionalBoolean(DEBUG).orElse(false);
 
 		LdiOutput ldiOutput = (LdiOutput) getLdiComponent(componentDefinition.getName(),
 				componentDefinition.getConfig());
 
-
-		return debug ?
+		LdiOutput loggedOutput = debug ?
 				new LdiOutputLogger(new OutputDebugger(ldiOutput), observationRegistry) :
 				new LdiOutputLogger(ldiOutput, observationRegistry);
+
+		return new TimedOutput(loggedOutput,
+				ComponentTimer.create(pipelineConfig.getName(), componentDefinition.getName(), ComponentTimer.ComponentType.OUTPUT,
+						ComponentTimer.isPercentileHistogramEnabled(pipelineConfig.getName(), pipelineConfig.getExecution())));
 	}
 
 	private LdiComponent getLdiComponent(String beanName, ComponentProperties config) {
@@ -196,6 +421,46 @@ public class PipelineCreatorService {
 		return componentDefinition;
 	}
 
+	/**
+	 * Identifies the dead letters of an output by its name and config, rather than by its position in the pipeline, so
+	 * they are never handed to another output after the outputs have been reordered. The properties that only change
+	 * how the models are handed over are left out, so tuning those keeps the dead letters with their output.
+	 */
+	private static String deadLetterKey(ComponentDefinition componentDefinition) {
+		final String config = new TreeMap<>(componentDefinition.getConfig().getConfig()).entrySet().stream()
+				.filter(entry -> !SENDER_PROPERTIES.contains(entry.getKey()))
+				.map(entry -> entry.getKey() + "=" + entry.getValue())
+				.collect(Collectors.joining("\n"));
+		try {
+			final byte[] hash = MessageDigest.getInstance("SHA-256").digest(config.getBytes(StandardCharsets.UTF_8));
+			return componentDefinition.getName().replaceAll("[^A-Za-z0-9_.-]", "_") + "-" + HexFormat.of().formatHex(hash, 0, 8);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Dead letters that no output of the pipeline claims, e.g. because the config of their output has changed, are left
+	 * on disk rather than replayed into an output they were not meant for
+	 */
+	private void warnAboutUnclaimedDeadLetters(PipelineConfig pipelineConfig) {
+		final Path pipelineDirectory = deadLetterDirectory.resolve(pipelineConfig.getName());
+		if (!Files.isDirectory(pipelineDirectory)) {
+			return;
+		}
+		final Set<String> claimed = pipelineConfig.getOutputs().stream()
+				.filter(componentDefinition -> OutputDeadLetter.fromConfig(componentDefinition.getConfig()).isPresent())
+				.map(PipelineCreatorService::deadLetterKey)
+				.collect(Collectors.toSet());
+		try (Stream<Path> directories = Files.list(pipelineDirectory)) {
+			directories.filter(directory -> !claimed.contains(directory.getFileName().toString()))
+					.forEach(directory -> log.atWarn().log("Dead letters in {} belong to no output of pipeline {} and are not replayed",
+							directory, pipelineConfig.getName()));
+		} catch (IOException e) {
+			log.atWarn().log("Unable to list the dead letters of pipeline {}: {}", pipelineConfig.getName(), e.getMessage());
+		}
+	}
+
 	private static String normalise(String input) {
 		return input.replaceAll("[\n\r]", "_");
 	}
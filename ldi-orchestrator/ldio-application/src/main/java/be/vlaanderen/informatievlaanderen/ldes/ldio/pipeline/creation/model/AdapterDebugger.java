@@ -5,24 +5,85 @@ import org.apache.jena.rdf.model.Model;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Wrapper around any LdiAdapter for debugging purposes
+ * Wrapper around any LdiAdapter for debugging purposes. When a stage profile is given, the work the adapter does to
+ * create every model is added to the profile, but not the work the models take in the rest of the pipeline.
  */
 public class AdapterDebugger implements LdiAdapter {
 	private final Logger log;
 	private final LdiAdapter adapter;
+	private final StageProfile stageProfile;
 
 	public AdapterDebugger(LdiAdapter adapter) {
+		this(adapter, null);
+	}
+
+	public AdapterDebugger(LdiAdapter adapter, StageProfile stageProfile) {
 		this.log = LoggerFactory.getLogger(adapter.getClass());
 		this.adapter = adapter;
+		this.stageProfile = stageProfile;
 	}
 
 	@Override
 	public Stream<Model> apply(Content content) {
 		log.atDebug().log("Starting point: {}", content);
 
-		return adapter.apply(content);
+		if (stageProfile == null) {
+			return adapter.apply(content);
+		}
+		stageProfile.received(0);
+		stageProfile.start();
+		final Stream<Model> models;
+		try {
+			models = adapter.apply(content);
+		} finally {
+			stageProfile.stop();
+		}
+		return StreamSupport.stream(new ProfiledSpliterator(models.spliterator()), false).onClose(models::close);
+	}
+
+	private class ProfiledSpliterator implements Spliterator<Model> {
+		private final Spliterator<Model> models;
+
+		private ProfiledSpliterator(Spliterator<Model> models) {
+			this.models = models;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Model> action) {
+			final Model[] next = new Model[1];
+			stageProfile.start();
+			final boolean advanced;
+			try {
+				advanced = models.tryAdvance(model -> next[0] = model);
+			} finally {
+				stageProfile.stop();
+			}
+			if (advanced) {
+				stageProfile.passedOn(next[0].size());
+				action.accept(next[0]);
+			}
+			return advanced;
+		}
+
+		@Override
+		public Spliterator<Model> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return models.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return models.characteristics() & ~(SIZED | SUBSIZED);
+		}
 	}
 }
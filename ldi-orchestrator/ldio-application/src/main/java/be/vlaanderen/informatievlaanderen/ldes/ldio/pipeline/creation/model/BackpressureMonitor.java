@@ -0,0 +1,98 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioInput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineBackpressure;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig.PIPELINE_NAME;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger.HALT;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger.RESUME;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.StatusChangeSource.BACKPRESSURE;
+
+/**
+ * Regularly checks the number of models that wait in the queues of a pipeline. The input of the pipeline is halted
+ * when that number reaches the high watermark, and resumed when it has dropped to the low watermark again. A pipeline
+ * of which the status has been changed in the meantime by something else, e.g. by the user, is left alone.
+ * <br />
+ * Whether the input has been halted by the backpressure is derived from the status of the input at every check, so a
+ * pipeline that the user resumes is halted again as soon as the high watermark is reached again.
+ */
+public class BackpressureMonitor {
+	private static final Logger log = LoggerFactory.getLogger(BackpressureMonitor.class);
+	private static final String LDIO_QUEUED_MODELS = "ldio_queued_models";
+	private static final String LDIO_BACKPRESSURE = "ldio_backpressure";
+	public static final Duration CHECK_INTERVAL = Duration.ofMillis(100);
+	private final String pipelineName;
+	private final LdioInput ldioInput;
+	private final IntSupplier queuedModelsSupplier;
+	private final PipelineBackpressure backpressure;
+	private final ScheduledExecutorService scheduler;
+	private final List<Gauge> gauges;
+	private volatile int queuedModels;
+	private volatile boolean halted;
+
+	/**
+	 * @param pipelineName         name of the pipeline
+	 * @param ldioInput            input of the pipeline, which is halted and resumed
+	 * @param queuedModelsSupplier supplies the number of models that wait in the queues of the pipeline
+	 * @param backpressure         watermarks of the pipeline
+	 */
+	public BackpressureMonitor(String pipelineName, LdioInput ldioInput, IntSupplier queuedModelsSupplier,
+	                           PipelineBackpressure backpressure) {
+		this.pipelineName = pipelineName;
+		this.ldioInput = ldioInput;
+		this.queuedModelsSupplier = queuedModelsSupplier;
+		this.backpressure = backpressure;
+		this.gauges = List.of(
+				Gauge.builder(LDIO_QUEUED_MODELS, () -> queuedModels).tag(PIPELINE_NAME, pipelineName).register(Metrics.globalRegistry),
+				Gauge.builder(LDIO_BACKPRESSURE, () -> halted ? 1 : 0).tag(PIPELINE_NAME, pipelineName).register(Metrics.globalRegistry)
+		);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+				.name("ldio-%s-backpressure".formatted(pipelineName))
+				.daemon()
+				.factory());
+		scheduler.scheduleWithFixedDelay(this::check, CHECK_INTERVAL.toMillis(), CHECK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	void check() {
+		try {
+			queuedModels = queuedModelsSupplier.getAsInt();
+			final PipelineStatus status = ldioInput.getStatus();
+			halted = status == PipelineStatus.HALTED && ldioInput.getStatusChangeSource() == BACKPRESSURE;
+			if (!halted && queuedModels >= backpressure.highWatermark() && status == PipelineStatus.RUNNING) {
+				log.atInfo().log("Halting pipeline {}, as {} models are waiting in its queues", pipelineName, queuedModels);
+				ldioInput.updateStatus(HALT, BACKPRESSURE);
+				halted = true;
+			} else if (halted && queuedModels <= backpressure.lowWatermark()) {
+				log.atInfo().log("Resuming pipeline {}, as only {} models are waiting in its queues", pipelineName, queuedModels);
+				ldioInput.updateStatus(RESUME, BACKPRESSURE);
+				halted = false;
+			}
+		} catch (Exception e) {
+			log.atError().log("Unable to apply backpressure on pipeline {}: {}", pipelineName, e.getMessage());
+		}
+	}
+
+	/**
+	 * @return whether the input is currently halted because of the backpressure, as of the latest check
+	 */
+	public boolean isHalted() {
+		return halted;
+	}
+
+	public void shutdown() {
+		scheduler.shutdownNow();
+		gauges.forEach(Metrics.globalRegistry::remove);
+	}
+}
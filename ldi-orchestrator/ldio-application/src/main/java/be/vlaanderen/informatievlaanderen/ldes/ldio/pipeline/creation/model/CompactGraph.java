@@ -0,0 +1,136 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.shared.DeleteDeniedException;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.shared.impl.PrefixMappingImpl;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+import org.apache.jena.util.iterator.WrappedIterator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable graph of a member that keeps its triples in a single array, sorted on the hash of their subject, instead of
+ * in the three hash maps of a mutable graph. Triples are looked up by subject with a binary search. The indexes by
+ * predicate and by object are only built on first use.
+ * <br />
+ * As the graph cannot change, it can be read by several threads at the same time. Use a {@link CopyOnWriteGraph} to
+ * hand it to a component that might change it.
+ */
+public class CompactGraph extends GraphBase {
+	private final Triple[] triples;
+	private final int[] subjectHashes;
+	private volatile Map<Node, Triple[]> predicateIndex;
+	private volatile Map<Node, Triple[]> objectIndex;
+
+	private CompactGraph(Triple[] triples, PrefixMapping prefixMapping) {
+		Arrays.sort(triples, Comparator.comparingInt(triple -> triple.getSubject().hashCode()));
+		this.triples = triples;
+		this.subjectHashes = new int[triples.length];
+		for (int i = 0; i < triples.length; i++) {
+			subjectHashes[i] = triples[i].getSubject().hashCode();
+		}
+		this.pm = new PrefixMappingImpl().setNsPrefixes(prefixMapping).lock();
+	}
+
+	/**
+	 * @param graph the graph of which the triples and prefixes are copied
+	 * @return a compact copy of the graph
+	 */
+	public static CompactGraph copyOf(Graph graph) {
+		final List<Triple> graphTriples = graph.find().toList();
+		return new CompactGraph(graphTriples.toArray(Triple[]::new), graph.getPrefixMapping());
+	}
+
+	@Override
+	protected ExtendedIterator<Triple> graphBaseFind(Triple pattern) {
+		final Node subject = pattern.getSubject();
+		if (subject.isConcrete()) {
+			return findBySubject(pattern, subject.hashCode());
+		}
+		if (pattern.getObject().isConcrete()) {
+			return filter(getObjectIndex().get(pattern.getObject()), pattern);
+		}
+		if (pattern.getPredicate().isConcrete()) {
+			return filter(getPredicateIndex().get(pattern.getPredicate()), pattern);
+		}
+		return WrappedIterator.create(Arrays.asList(triples).iterator());
+	}
+
+	@Override
+	protected int graphBaseSize() {
+		return triples.length;
+	}
+
+	@Override
+	public void performAdd(Triple triple) {
+		throw new AddDeniedException("A compact graph cannot be changed", triple);
+	}
+
+	@Override
+	public void performDelete(Triple triple) {
+		throw new DeleteDeniedException("A compact graph cannot be changed", triple);
+	}
+
+	@Override
+	public void clear() {
+		throw new DeleteDeniedException("A compact graph cannot be changed");
+	}
+
+	private ExtendedIterator<Triple> findBySubject(Triple pattern, int subjectHash) {
+		int from = Arrays.binarySearch(subjectHashes, subjectHash);
+		if (from < 0) {
+			return NiceIterator.emptyIterator();
+		}
+		while (from > 0 && subjectHashes[from - 1] == subjectHash) {
+			from--;
+		}
+		int to = from;
+		while (to < subjectHashes.length && subjectHashes[to] == subjectHash) {
+			to++;
+		}
+		return filter(Arrays.asList(triples).subList(from, to), pattern);
+	}
+
+	private Map<Node, Triple[]> getPredicateIndex() {
+		Map<Node, Triple[]> index = predicateIndex;
+		if (index == null) {
+			index = createIndex(Triple::getPredicate);
+			predicateIndex = index;
+		}
+		return index;
+	}
+
+	private Map<Node, Triple[]> getObjectIndex() {
+		Map<Node, Triple[]> index = objectIndex;
+		if (index == null) {
+			index = createIndex(Triple::getObject);
+			objectIndex = index;
+		}
+		return index;
+	}
+
+	private Map<Node, Triple[]> createIndex(Function<Triple, Node> key) {
+		return Arrays.stream(triples).collect(Collectors.groupingBy(key, HashMap::new,
+				Collectors.collectingAndThen(Collectors.toList(), list -> list.toArray(Triple[]::new))));
+	}
+
+	private static ExtendedIterator<Triple> filter(Triple[] candidates, Triple pattern) {
+		return candidates == null ? NiceIterator.emptyIterator() : filter(Arrays.asList(candidates), pattern);
+	}
+
+	private static ExtendedIterator<Triple> filter(List<Triple> candidates, Triple pattern) {
+		return WrappedIterator.create(candidates.iterator()).filterKeep(pattern::matches);
+	}
+}
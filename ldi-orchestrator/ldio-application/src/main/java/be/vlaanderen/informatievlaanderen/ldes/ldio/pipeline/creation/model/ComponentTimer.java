@@ -0,0 +1,76 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig.PIPELINE_NAME;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution.EXECUTION;
+
+/**
+ * Creates the timers that record how long the adapter, the transformers and the outputs of a pipeline take to
+ * process a model, so the slow components of a pipeline can be found on the prometheus endpoint.
+ * <br />
+ * A timer only publishes a percentile histogram when the pipeline opts in, as the buckets of a histogram add dozens of
+ * series per component.
+ */
+public final class ComponentTimer {
+	public static final String LDIO_COMPONENT_DURATION = "ldio_component_duration";
+	public static final String LDIO_COMPONENT_NAME = "ldio_type";
+	public static final String LDIO_COMPONENT_TYPE = "ldio_component";
+	public static final String PERCENTILE_HISTOGRAM = "percentile-histogram";
+
+	public enum ComponentType {
+		ADAPTER, TRANSFORMER, OUTPUT;
+
+		private String getTagValue() {
+			return name().toLowerCase();
+		}
+	}
+
+	private ComponentTimer() {
+	}
+
+	/**
+	 * @param pipelineName  name of the pipeline the component is part of
+	 * @param componentName name of the component, e.g. Ldio:HttpOut
+	 * @param componentType whether the component is an adapter, transformer or output
+	 * @param percentileHistogram whether the timer publishes a percentile histogram
+	 * @return the timer of the component, which is shared by all components with the same name in the pipeline
+	 */
+	public static Timer create(String pipelineName, String componentName, ComponentType componentType,
+	                           boolean percentileHistogram) {
+		return Timer.builder(LDIO_COMPONENT_DURATION)
+				.description("Time a component of a pipeline takes to process a model, excluding the components after it")
+				.tag(PIPELINE_NAME, pipelineName)
+				.tag(LDIO_COMPONENT_NAME, componentName)
+				.tag(LDIO_COMPONENT_TYPE, componentType.getTagValue())
+				.publishPercentileHistogram(percentileHistogram)
+				.register(Metrics.globalRegistry);
+	}
+
+	/**
+	 * @param pipelineName name of the pipeline the timers are created for
+	 * @param execution    the execution section of the pipeline config, which might be empty
+	 * @return whether the timers of the components of the pipeline publish a percentile histogram, false by default
+	 */
+	public static boolean isPercentileHistogramEnabled(String pipelineName, Map<String, String> execution) {
+		return new ComponentProperties(pipelineName, EXECUTION, execution == null ? Map.of() : execution)
+				.getOptionalBoolean(PERCENTILE_HISTOGRAM).orElse(false);
+	}
+
+	/**
+	 * Removes the timers of all components of the pipeline, so a deleted pipeline no longer shows up on the prometheus
+	 * endpoint
+	 *
+	 * @param pipelineName name of the deleted pipeline
+	 */
+	public static void remove(String pipelineName) {
+		Metrics.globalRegistry.find(LDIO_COMPONENT_DURATION)
+				.tag(PIPELINE_NAME, pipelineName)
+				.timers()
+				.forEach(Metrics.globalRegistry::remove);
+	}
+}
@@ -0,0 +1,94 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.shared.impl.PrefixMappingImpl;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * View of a {@link CompactGraph} for a single component, which reads from the compact graph until the component
+ * changes it. The triples are then copied into a mutable graph of its own, so the compact graph and the other views of
+ * it remain as they were.
+ */
+public class CopyOnWriteGraph extends GraphBase {
+	private final CompactGraph compactGraph;
+	private Graph graph;
+
+	public CopyOnWriteGraph(CompactGraph compactGraph) {
+		this.compactGraph = compactGraph;
+	}
+
+	/**
+	 * @param compactGraph the compact graph of a member
+	 * @return a model over a new view of the compact graph
+	 */
+	public static Model createModel(CompactGraph compactGraph) {
+		return ModelFactory.createModelForGraph(new CopyOnWriteGraph(compactGraph));
+	}
+
+	/**
+	 * @param model a member
+	 * @return the compact graph of the member, which is only copied when the model is not an unchanged view of a
+	 * compact graph
+	 */
+	public static CompactGraph compact(Model model) {
+		if (model.getGraph() instanceof CopyOnWriteGraph view && !view.isCopied()
+				&& view.getPrefixMapping().samePrefixMappingAs(view.compactGraph.getPrefixMapping())) {
+			return view.compactGraph;
+		}
+		return CompactGraph.copyOf(model.getGraph());
+	}
+
+	/**
+	 * @return whether the triples have been copied into a mutable graph, as they have been changed
+	 */
+	public boolean isCopied() {
+		return graph != null;
+	}
+
+	@Override
+	protected ExtendedIterator<Triple> graphBaseFind(Triple pattern) {
+		return isCopied() ? graph.find(pattern) : compactGraph.find(pattern);
+	}
+
+	@Override
+	protected int graphBaseSize() {
+		return isCopied() ? graph.size() : compactGraph.size();
+	}
+
+	@Override
+	protected PrefixMapping createPrefixMapping() {
+		return new PrefixMappingImpl().setNsPrefixes(compactGraph.getPrefixMapping());
+	}
+
+	@Override
+	public void performAdd(Triple triple) {
+		copy().add(triple);
+	}
+
+	@Override
+	public void performDelete(Triple triple) {
+		copy().delete(triple);
+	}
+
+	@Override
+	public void clear() {
+		graph = GraphFactory.createDefaultGraph();
+		getEventManager().notifyEvent(this, GraphEvents.removeAll);
+	}
+
+	private Graph copy() {
+		if (graph == null) {
+			graph = GraphFactory.createDefaultGraph();
+			GraphUtil.addInto(graph, compactGraph);
+		}
+		return graph;
+	}
+}
@@ -0,0 +1,249 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputDeadLetter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RDFWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig.PIPELINE_NAME;
+
+/**
+ * Keeps the models an output failed to accept in a directory on local disk, and hands them to that output again in
+ * the background, so a failing output does not hold up its pipeline. Every failed attempt doubles the time until the
+ * next one. A dead letter of which all attempts have failed is parked until it is replayed or purged.
+ * <br />
+ * The retries are done on a single thread of the store, so the dead letters are never handed over concurrently. As the
+ * pipeline keeps handing models to the same output in the meantime, the output is expected to be a
+ * {@link SerialisedOutput}. The dead letters that are found in the directory when the store is created, e.g. after a
+ * restart, are retried as well.
+ */
+public class DeadLetterStore {
+	private static final Logger log = LoggerFactory.getLogger(DeadLetterStore.class);
+	private static final String LDIO_DEAD_LETTERS = "ldio_dead_letters";
+	private static final String LDIO_OUTPUT = "ldio_output";
+	private static final String FILE_EXTENSION = ".nt";
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+	private final String pipelineName;
+	private final int outputIndex;
+	private final String outputName;
+	private final LdiOutput output;
+	private final OutputDeadLetter deadLetter;
+	private final Path directory;
+	private final ScheduledThreadPoolExecutor retryScheduler;
+	private final Map<String, DeadLetter> deadLetters = new ConcurrentHashMap<>();
+	private final Gauge gauge;
+
+	/**
+	 * @param pipelineName name of the pipeline
+	 * @param outputIndex  index of the output in the pipeline
+	 * @param outputName   name of the output component
+	 * @param output       the output the dead letters are handed to again, shared with the pipeline
+	 * @param deadLetter   the dead-lettering of the output
+	 * @param directory    directory in which the dead letters of the output are kept, which belongs to that output
+	 *                     whatever its position in the pipeline
+	 * @param threads      kind of thread the dead letters are handed over on
+	 */
+	public DeadLetterStore(String pipelineName, int outputIndex, String outputName, LdiOutput output,
+	                       OutputDeadLetter deadLetter, Path directory, PipelineExecution.Threads threads) {
+		this.pipelineName = pipelineName;
+		this.outputIndex = outputIndex;
+		this.outputName = outputName;
+		this.output = output;
+		this.deadLetter = deadLetter;
+		this.directory = directory;
+		this.retryScheduler = new ScheduledThreadPoolExecutor(1,
+				threads.factory("ldio-%s-dead-letter-%d".formatted(pipelineName, outputIndex)));
+		this.retryScheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		this.gauge = Gauge.builder(LDIO_DEAD_LETTERS, deadLetters::size)
+				.tag(PIPELINE_NAME, pipelineName)
+				.tag(LDIO_OUTPUT, String.valueOf(outputIndex))
+				.register(Metrics.globalRegistry);
+		try {
+			Files.createDirectories(directory);
+			try (Stream<Path> files = Files.list(directory)) {
+				files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+						.map(file -> new DeadLetter(file.getFileName().toString().replace(FILE_EXTENSION, ""), file))
+						.forEach(this::schedule);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to open the dead letters of pipeline %s in %s".formatted(pipelineName, directory), e);
+		}
+	}
+
+	/**
+	 * Writes the model the output failed to accept to disk on the calling thread, and schedules its first retry. Only
+	 * the retries run on the thread of the store, so a slow retry never leaves failed models waiting in memory. A dead
+	 * letter that is accepted after the store has been shut down stays on disk and is retried once the store is
+	 * created again.
+	 *
+	 * @param model the model the output failed to accept
+	 * @param cause why the output failed to accept it
+	 */
+	public void accept(Model model, Exception cause) {
+		final String id = UUID.randomUUID().toString();
+		final Path file = directory.resolve(id + FILE_EXTENSION);
+		try {
+			RDFWriter.source(model).lang(Lang.NTRIPLES).output(file.toString());
+		} catch (Exception e) {
+			log.atError().log("Unable to store a dead letter of pipeline {} in {}: {}", pipelineName, directory, e.getMessage());
+			return;
+		}
+		final DeadLetter letter = new DeadLetter(id, file);
+		letter.lastError = cause.getMessage();
+		try {
+			retryScheduler.execute(() -> schedule(letter));
+		} catch (RejectedExecutionException e) {
+			log.atWarn().log("Dead letter {} of pipeline {} is kept in {} until the pipeline is started again", id, pipelineName, directory);
+		}
+	}
+
+	/**
+	 * @return how many dead letters are being retried and how many are parked
+	 */
+	public Overview getOverview() {
+		final long retrying = deadLetters.values().stream().filter(letter -> letter.attempts < deadLetter.maxAttempts()).count();
+		return new Overview(outputIndex, outputName, (int) retrying, (int) (deadLetters.size() - retrying));
+	}
+
+	/**
+	 * Hands the parked dead letters to the output again right away, with a fresh number of attempts
+	 *
+	 * @return the number of dead letters that are replayed
+	 */
+	public int replay() {
+		return runOnStore(() -> {
+			final List<DeadLetter> parked = deadLetters.values().stream()
+					.filter(letter -> letter.attempts >= deadLetter.maxAttempts())
+					.toList();
+			parked.forEach(letter -> {
+				letter.attempts = 0;
+				letter.retry = retryScheduler.submit(() -> retry(letter));
+			});
+			return parked.size();
+		});
+	}
+
+	/**
+	 * Removes all dead letters, whether they are being retried or parked
+	 *
+	 * @return the number of dead letters that are removed
+	 */
+	public int purge() {
+		return runOnStore(() -> {
+			final List<DeadLetter> purged = List.copyOf(deadLetters.values());
+			purged.forEach(letter -> {
+				if (letter.retry != null) {
+					letter.retry.cancel(false);
+				}
+				remove(letter);
+			});
+			return purged.size();
+		});
+	}
+
+	/**
+	 * Stops retrying. The dead letters are kept on disk.
+	 */
+	public void shutdown() {
+		retryScheduler.shutdown();
+		try {
+			if (!retryScheduler.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+				retryScheduler.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			retryScheduler.shutdownNow();
+		}
+		Metrics.globalRegistry.remove(gauge);
+	}
+
+	/**
+	 * Schedules the next attempt of the dead letter, or parks it when it has no attempts left
+	 */
+	private void schedule(DeadLetter letter) {
+		deadLetters.put(letter.id, letter);
+		if (letter.attempts < deadLetter.maxAttempts()) {
+			letter.retry = retryScheduler.schedule(() -> retry(letter),
+					deadLetter.getBackoff(letter.attempts).toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void retry(DeadLetter letter) {
+		if (!deadLetters.containsKey(letter.id)) {
+			return;
+		}
+		try {
+			output.accept(RDFParser.source(letter.file).lang(Lang.NTRIPLES).toModel());
+			remove(letter);
+			log.atInfo().log("Dead letter {} of pipeline {} has been handed to output {}", letter.id, pipelineName, outputName);
+		} catch (Exception e) {
+			letter.attempts++;
+			letter.lastError = e.getMessage();
+			schedule(letter);
+			if (letter.attempts >= deadLetter.maxAttempts()) {
+				log.atWarn().log("Dead letter {} of pipeline {} is parked after {} failed attempts: {}",
+						letter.id, pipelineName, letter.attempts, letter.lastError);
+			}
+		}
+	}
+
+	private void remove(DeadLetter letter) {
+		deadLetters.remove(letter.id);
+		try {
+			Files.deleteIfExists(letter.file);
+		} catch (IOException e) {
+			log.atError().log("Unable to delete dead letter {} of pipeline {}: {}", letter.file, pipelineName, e.getMessage());
+		}
+	}
+
+	private int runOnStore(Callable<Integer> task) {
+		try {
+			return retryScheduler.submit(task).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the dead letters of pipeline %s".formatted(pipelineName), e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * @param output   index of the output in the pipeline
+	 * @param name     name of the output component
+	 * @param retrying number of dead letters that are still being retried
+	 * @param parked   number of dead letters of which all attempts have failed
+	 */
+	public record Overview(int output, String name, int retrying, int parked) {
+	}
+
+	private static class DeadLetter {
+		private final String id;
+		private final Path file;
+		private volatile int attempts;
+		private volatile String lastError;
+		private volatile Future<?> retry;
+
+		private DeadLetter(String id, Path file) {
+			this.id = id;
+			this.file = file;
+		}
+	}
+}
@@ -1,17 +1,22 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
 
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiBatchOutput;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.ObserveConfiguration;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.PipelineObservationContext;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.jena.rdf.model.Model;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
- * Wrapper around any LdiOutput for logging purposes
+ * Wrapper around any LdiOutput for logging purposes. A batch is observed as a single call, and handed to the wrapped
+ * output at once when that output is a LdiBatchOutput, otherwise model by model.
  */
-public class LdiOutputLogger implements LdiOutput {
+public class LdiOutputLogger implements LdiBatchOutput {
 	private final LdiOutput ldiOutput;
 	private final ObservationRegistry observationRegistry;
 	private final Logger log;
@@ -24,15 +29,30 @@ public class LdiOutputLogger implements LdiOutput {
 
 	@Override
 	public void accept(Model model) {
-		Observation.createNotStarted(this.getClass().getSimpleName(), observationRegistry)
-				.contextualName("accept")
-				.observe(() -> {
-					try {
-						ldiOutput.accept(model);
-					} catch (Exception e) {
-						log.atError().log(ObserveConfiguration.ERROR_TEMPLATE, "output", e.getMessage());
-						throw e;
-					}
-				});
+		observe("accept", () -> ldiOutput.accept(model));
+	}
+
+	@Override
+	public void acceptBatch(List<Model> models) {
+		observe("acceptBatch", () -> LdiBatchOutput.acceptAll(ldiOutput, models));
+	}
+
+	private void observe(String contextualName, Runnable runnable) {
+		if (!ObserveConfiguration.isObserving(observationRegistry)) {
+			run(runnable);
+			return;
+		}
+		Observation.createNotStarted(this.getClass().getSimpleName(), PipelineObservationContext::new, observationRegistry)
+				.contextualName(contextualName)
+				.observe(() -> run(runnable));
+	}
+
+	private void run(Runnable runnable) {
+		try {
+			runnable.run();
+		} catch (Exception e) {
+			log.atError().log(ObserveConfiguration.ERROR_TEMPLATE, "output", e.getMessage());
+			throw e;
+		}
 	}
 }
@@ -1,35 +1,166 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
 
-import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.InFlightCounter;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
 import org.apache.jena.rdf.model.Model;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig.PIPELINE_NAME;
 
 /**
  * Important implementation of the LdioTransformer which must be added at the end of every transformer chains of
  * a pipeline to make sure the output of that chain can be sent to the provided outputs of that pipeline
+ * <br />
+ * By default, the models are handed to the outputs one after the other on the thread of the pipeline, and a failure
+ * of an output is passed back to the input once all outputs have had the model. An output with a queue gets its
+ * models from a dedicated thread instead, so its failures are only logged. A model is counted in ldio_data_out once
+ * all outputs have accepted it. The models for an output with a batching are collected into micro-batches, which are
+ * handed to that output once a limit of the batching is reached, or when the sender is flushed.
+ * <br />
+ * The sender owns the in-flight counter of its pipeline, which is shared with the executor of the pipeline, so that
+ * on shutdown it can wait until every model has left the pipeline. The models that are handed to a dead-letter store
+ * have left the pipeline as well.
+ * <br />
+ * When the members of the pipeline are compact, every output gets a view of its own of the compact graph of a member,
+ * so an output that changes the member does not affect the other outputs.
  */
 public class LdioSender extends LdioTransformer {
-	private final List<LdiOutput> ldiOutputs;
+	private static final Logger log = LoggerFactory.getLogger(LdioSender.class);
+	private static final Duration FLUSH_INTERVAL = Duration.ofMillis(100);
+	private final List<OutputExecutor> outputExecutors = new ArrayList<>();
+	private final List<OutputBatcher> outputBatchers = new ArrayList<>();
+	private final ScheduledExecutorService lingerScheduler;
+	private final InFlightCounter inFlightCounter = new InFlightCounter();
+	private final List<DeadLetterStore> deadLetterStores = new ArrayList<>();
 	private final String pipelineName;
+	private final boolean compactMembers;
+	private final Counter dataOut;
 	private static final String LDIO_DATA_OUT = "ldio_data_out";
 
+	/**
+	 * @param pipelineName name of the pipeline
+	 * @param outputs      outputs of the pipeline, with the way the models are handed to each of them
+	 * @param threads      kind of threads that hand the models to the queued outputs
+	 * @param memberGraph  kind of graph the members are handed to the outputs in
+	 */
 	public LdioSender(String pipelineName,
-					  List<LdiOutput> ldiOutputs) {
-		this.ldiOutputs = ldiOutputs;
+					  List<OutputSettings> outputs,
+					  PipelineExecution.Threads threads,
+					  PipelineExecution.MemberGraph memberGraph) {
 		this.pipelineName = pipelineName;
-		Metrics.counter(LDIO_DATA_OUT, PIPELINE_NAME, pipelineName).increment(0);
+		this.compactMembers = memberGraph == PipelineExecution.MemberGraph.COMPACT;
+		this.lingerScheduler = outputs.stream().noneMatch(settings -> settings.batching() != null) ? null :
+				Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+						.name("ldio-%s-batch-linger".formatted(pipelineName))
+						.daemon()
+						.factory());
+		for (int i = 0; i < outputs.size(); i++) {
+			final OutputSettings settings = outputs.get(i);
+			final DeadLetterStore deadLetterStore = settings.deadLetterStore();
+			if (deadLetterStore != null) {
+				this.deadLetterStores.add(deadLetterStore);
+			}
+			Consumer<Model> output = settings.output();
+			if (settings.batching() != null) {
+				final OutputBatcher outputBatcher = new OutputBatcher(settings.output(), settings.batching(), lingerScheduler, inFlightCounter, deadLetterStore);
+				outputBatchers.add(outputBatcher);
+				output = outputBatcher;
+			}
+			outputExecutors.add(new OutputExecutor(pipelineName, i, output, settings.queue(), threads, inFlightCounter, deadLetterStore));
+		}
+		this.dataOut = Metrics.counter(LDIO_DATA_OUT, PIPELINE_NAME, pipelineName);
 	}
 
-	@SuppressWarnings({"java:S131", "java:S1301"})
-
 	@Override
 	public void apply(Model model) {
-		ldiOutputs.parallelStream().forEach(ldiOutput -> ldiOutput.accept(model));
-		Metrics.counter(LDIO_DATA_OUT, PIPELINE_NAME, pipelineName).increment();
+		if (outputExecutors.isEmpty()) {
+			dataOut.increment();
+			return;
+		}
+		final CompactGraph compactGraph = compactMembers ? CopyOnWriteGraph.compact(model) : null;
+		final AtomicInteger undelivered = new AtomicInteger(outputExecutors.size());
+		final Runnable onDelivered = () -> {
+			if (undelivered.decrementAndGet() == 0) {
+				dataOut.increment();
+			}
+		};
+		RuntimeException failure = null;
+		for (OutputExecutor outputExecutor : outputExecutors) {
+			try {
+				outputExecutor.accept(compactGraph == null ? model : CopyOnWriteGraph.createModel(compactGraph), onDelivered);
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * @return the number of models that wait in the queues of the outputs
+	 */
+	public int getQueuedModels() {
+		return outputExecutors.stream().mapToInt(OutputExecutor::getQueuedModels).sum();
+	}
+
+	/**
+	 * @return the counter of the models that are in the pipeline of this sender
+	 */
+	public InFlightCounter getInFlightCounter() {
+		return inFlightCounter;
+	}
+
+	/**
+	 * @return the dead-letter stores of the outputs that have one
+	 */
+	public List<DeadLetterStore> getDeadLetterStores() {
+		return deadLetterStores;
+	}
+
+	/**
+	 * Hands the models of all micro-batches that are still being collected to their outputs
+	 */
+	public void flush() {
+		outputBatchers.forEach(OutputBatcher::flush);
+	}
+
+	/**
+	 * Waits until every model in the pipeline has been handed to the outputs or filtered out, flushing the
+	 * micro-batches along the way, after which the threads of the outputs are stopped. Returns as soon as the pipeline
+	 * is drained, or when the drain timeout has passed.
+	 */
+	public void shutdown() {
+		final long deadline = System.nanoTime() + InFlightCounter.DRAIN_TIMEOUT.toNanos();
+		while (!inFlightCounter.awaitDrained(FLUSH_INTERVAL)) {
+			if (System.nanoTime() - deadline >= 0) {
+				log.atWarn().log("{} models of pipeline {} could not be handed to its outputs within {}",
+						inFlightCounter.getInFlight(), pipelineName, InFlightCounter.DRAIN_TIMEOUT);
+				break;
+			}
+			flush();
+		}
+		outputExecutors.forEach(outputExecutor -> outputExecutor.shutdown(FLUSH_INTERVAL));
+		flush();
+		if (lingerScheduler != null) {
+			lingerScheduler.shutdownNow();
+		}
+		deadLetterStores.forEach(DeadLetterStore::shutdown);
 	}
 }
@@ -0,0 +1,130 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiBatchOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.InFlightCounter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputBatching;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.ObserveConfiguration.ERROR_TEMPLATE;
+
+/**
+ * Collects the models for a single output into micro-batches. A batch is handed to the output when it reaches its
+ * maximum size or estimated number of bytes, or when its first model has been waiting for the linger time.
+ * <br />
+ * An output that is not a {@link LdiBatchOutput} receives the models of a batch one by one. The models of a batch
+ * count as in flight until the batch has been handed to the output.
+ * <br />
+ * When the output fails to accept a batch and has a dead-letter store, every model of that batch is handed to that
+ * store instead of the failure being passed on.
+ */
+class OutputBatcher implements Consumer<Model> {
+	private static final Logger log = LoggerFactory.getLogger(OutputBatcher.class);
+	private final LdiOutput ldiOutput;
+	private final OutputBatching batching;
+	private final ScheduledExecutorService lingerScheduler;
+	private final InFlightCounter inFlightCounter;
+	private final DeadLetterStore deadLetterStore;
+	private final List<Model> batch = new ArrayList<>();
+	private final Lock lock = new ReentrantLock();
+	private long batchBytes;
+	private ScheduledFuture<?> lingerTask;
+
+	OutputBatcher(LdiOutput ldiOutput, OutputBatching batching, ScheduledExecutorService lingerScheduler,
+	              InFlightCounter inFlightCounter, DeadLetterStore deadLetterStore) {
+		this.ldiOutput = ldiOutput;
+		this.batching = batching;
+		this.lingerScheduler = lingerScheduler;
+		this.inFlightCounter = inFlightCounter;
+		this.deadLetterStore = deadLetterStore;
+	}
+
+	@Override
+	public void accept(Model model) {
+		lock.lock();
+		try {
+			inFlightCounter.increment();
+			batch.add(model);
+			if (batching.maxBytes() != OutputBatching.DEFAULT_BATCH_MAX_BYTES) {
+				batchBytes += estimateBytes(model);
+			}
+			if (batch.size() >= batching.maxSize() || batchBytes >= batching.maxBytes() || lingerScheduler.isShutdown()) {
+				flush();
+			} else if (batch.size() == 1) {
+				lingerTask = lingerScheduler.schedule(this::flushLingeringBatch, batching.linger().toMillis(), TimeUnit.MILLISECONDS);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Hands the models that have been collected so far to the output
+	 */
+	void flush() {
+		lock.lock();
+		try {
+			if (lingerTask != null) {
+				lingerTask.cancel(false);
+				lingerTask = null;
+			}
+			if (batch.isEmpty()) {
+				return;
+			}
+			final List<Model> models = List.copyOf(batch);
+			batch.clear();
+			batchBytes = 0;
+			try {
+				LdiBatchOutput.acceptAll(ldiOutput, models);
+			} catch (RuntimeException e) {
+				if (deadLetterStore == null) {
+					throw e;
+				}
+				log.atError().log(ERROR_TEMPLATE, "output", e.getMessage());
+				models.forEach(model -> deadLetterStore.accept(model, e));
+			} finally {
+				inFlightCounter.decrement(models.size());
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	LdiOutput getLdiOutput() {
+		return ldiOutput;
+	}
+
+	private void flushLingeringBatch() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.atError().log(ERROR_TEMPLATE, "flushLingeringBatch", e.getMessage());
+		}
+	}
+
+	/**
+	 * Estimates the size of a model by the length of the string representations of its statements, which avoids
+	 * serialising the model only to measure it
+	 */
+	private static long estimateBytes(Model model) {
+		long bytes = 0;
+		for (Statement statement : model.listStatements().toList()) {
+			bytes += statement.getSubject().toString().length()
+			         + statement.getPredicate().toString().length()
+			         + statement.getObject().toString().length();
+		}
+		return bytes;
+	}
+}
@@ -1,5 +1,6 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
 
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiBatchOutput;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.riot.Lang;
@@ -7,21 +8,56 @@ import org.apache.jena.riot.RDFWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
- * Wrapper around any LdiOutput for debugging purposes
+ * Wrapper around any LdiOutput for debugging purposes. When a stage profile is given, the work the output does is
+ * added to the profile.
  */
-public class OutputDebugger implements LdiOutput {
+public class OutputDebugger implements LdiBatchOutput {
 	private final Logger log;
 	private final LdiOutput ldiOutput;
+	private final StageProfile stageProfile;
 
 	public OutputDebugger(LdiOutput ldiOutput) {
+		this(ldiOutput, null);
+	}
+
+	public OutputDebugger(LdiOutput ldiOutput, StageProfile stageProfile) {
 		this.ldiOutput = ldiOutput;
+		this.stageProfile = stageProfile;
 		log = LoggerFactory.getLogger(ldiOutput.getClass());
 	}
 
 	@Override
 	public void accept(Model model) {
-		log.atDebug().log("Starting model: \n" + RDFWriter.source(model).lang(Lang.TTL).asString());
-		ldiOutput.accept(model);
+		log.atDebug().addArgument(() -> RDFWriter.source(model).lang(Lang.TTL).asString()).log("Starting model: \n{}");
+		if (stageProfile == null) {
+			ldiOutput.accept(model);
+			return;
+		}
+		stageProfile.received(model.size());
+		stageProfile.start();
+		try {
+			ldiOutput.accept(model);
+		} finally {
+			stageProfile.stop();
+		}
+	}
+
+	@Override
+	public void acceptBatch(List<Model> models) {
+		models.forEach(model -> log.atDebug().addArgument(() -> RDFWriter.source(model).lang(Lang.TTL).asString()).log("Starting model: \n{}"));
+		if (stageProfile == null) {
+			LdiBatchOutput.acceptAll(ldiOutput, models);
+			return;
+		}
+		models.forEach(model -> stageProfile.received(model.size()));
+		stageProfile.start();
+		try {
+			LdiBatchOutput.acceptAll(ldiOutput, models);
+		} finally {
+			stageProfile.stop();
+		}
 	}
 }
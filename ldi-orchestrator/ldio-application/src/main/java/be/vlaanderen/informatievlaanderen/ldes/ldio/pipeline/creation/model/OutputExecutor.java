@@ -0,0 +1,147 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.InFlightCounter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputQueue;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.jena.rdf.model.Model;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.ObserveConfiguration.ERROR_TEMPLATE;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig.PIPELINE_NAME;
+
+/**
+ * Hands the models to a single output. Without a queue, the models are handed over on the thread of the caller, which
+ * gets back the failures of the output, e.g. so an input can answer that a model has not been written.
+ * <br />
+ * With a queue, the models are handed over in the order they are queued by a dedicated thread, so a slow output only
+ * holds up its own queue instead of the other outputs and pipelines. A queued model counts as in flight from the
+ * moment it is queued until the output has accepted it, or until it is dropped. As the caller has moved on by then,
+ * the failures of the output are only logged.
+ * <br />
+ * In both cases, a model the output fails to accept is handed to the dead-letter store of the output instead, when it
+ * has one.
+ */
+class OutputExecutor {
+	private static final Logger log = LoggerFactory.getLogger(OutputExecutor.class);
+	private static final String LDIO_DATA_DROPPED = "ldio_data_dropped";
+	private final String pipelineName;
+	private final Consumer<Model> output;
+	private final ThreadPoolExecutor executor;
+	private final Counter dataDropped;
+	private final InFlightCounter inFlightCounter;
+	private final DeadLetterStore deadLetterStore;
+
+	/**
+	 * @param outputQueue     queue of the output, or null when the models are handed over on the thread of the caller
+	 * @param deadLetterStore dead-letter store of the output, or null when the failed models are not kept
+	 */
+	OutputExecutor(String pipelineName, int outputIndex, Consumer<Model> output, OutputQueue outputQueue,
+	               PipelineExecution.Threads threads, InFlightCounter inFlightCounter, DeadLetterStore deadLetterStore) {
+		this.pipelineName = pipelineName;
+		this.output = output;
+		this.inFlightCounter = inFlightCounter;
+		this.deadLetterStore = deadLetterStore;
+		this.dataDropped = outputQueue != null && outputQueue.overflowPolicy() == OutputQueue.OverflowPolicy.DROP
+				? Metrics.counter(LDIO_DATA_DROPPED, PIPELINE_NAME, pipelineName)
+				: null;
+		this.executor = outputQueue == null ? null : new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(outputQueue.capacity()),
+				threads.factory("ldio-%s-output-%d".formatted(pipelineName, outputIndex)),
+				createOverflowHandler(outputQueue.overflowPolicy()));
+	}
+
+	/**
+	 * @param model       model to hand to the output
+	 * @param onDelivered called once the output has accepted the model, which is not the case when the model is
+	 *                    dropped, or handed to the dead-letter store
+	 */
+	void accept(Model model, Runnable onDelivered) {
+		if (executor == null) {
+			deliver(model, onDelivered);
+			return;
+		}
+		inFlightCounter.increment();
+		try {
+			executor.execute(() -> {
+				try {
+					deliver(model, onDelivered);
+				} catch (Exception e) {
+					log.atError().log(ERROR_TEMPLATE, "output", e.getMessage());
+				} finally {
+					inFlightCounter.decrement();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			inFlightCounter.decrement();
+			throw e;
+		}
+	}
+
+	private void deliver(Model model, Runnable onDelivered) {
+		try {
+			output.accept(model);
+		} catch (RuntimeException e) {
+			if (deadLetterStore == null) {
+				throw e;
+			}
+			log.atError().log(ERROR_TEMPLATE, "output", e.getMessage());
+			deadLetterStore.accept(model, e);
+			return;
+		}
+		onDelivered.run();
+	}
+
+	/**
+	 * @return the number of models that wait in the queue of the output
+	 */
+	int getQueuedModels() {
+		return executor == null ? 0 : executor.getQueue().size();
+	}
+
+	/**
+	 * Stops taking in models and waits until the queued models have been handed to the output
+	 *
+	 * @param timeout maximum time to wait
+	 * @return true when all queued models have been handed over in time
+	 */
+	boolean shutdown(Duration timeout) {
+		if (executor == null) {
+			return true;
+		}
+		executor.shutdown();
+		try {
+			return executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private RejectedExecutionHandler createOverflowHandler(OutputQueue.OverflowPolicy overflowPolicy) {
+		return switch (overflowPolicy) {
+			case BLOCK -> (task, pool) -> {
+				if (pool.isShutdown()) {
+					throw new RejectedExecutionException("Output of pipeline %s has been shut down".formatted(pipelineName));
+				}
+				try {
+					pool.getQueue().put(task);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RejectedExecutionException("Interrupted while waiting for output of pipeline %s".formatted(pipelineName), e);
+				}
+			};
+			case DROP -> (task, pool) -> {
+				log.atWarn().log("Queue of output of pipeline {} is full, model is dropped", pipelineName);
+				dataDropped.increment();
+				inFlightCounter.decrement();
+			};
+		};
+	}
+}
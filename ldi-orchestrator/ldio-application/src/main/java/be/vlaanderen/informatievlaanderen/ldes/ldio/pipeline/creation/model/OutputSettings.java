@@ -0,0 +1,35 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputBatching;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputQueue;
+
+/**
+ * Defines how the sender of a pipeline hands the models to a single output.
+ *
+ * @param output          the output
+ * @param batching        batching of the output, or null when it receives the models one by one
+ * @param queue           queue of the output, or null when it receives the models on the thread of the pipeline
+ * @param deadLetterStore dead-letter store of the output, or null when the models it fails to accept are not kept
+ */
+public record OutputSettings(LdiOutput output, OutputBatching batching, OutputQueue queue, DeadLetterStore deadLetterStore) {
+
+	/**
+	 * @return the settings of an output that receives the models one by one on the thread of the pipeline
+	 */
+	public static OutputSettings of(LdiOutput output) {
+		return new OutputSettings(output, null, null, null);
+	}
+
+	public OutputSettings withBatching(OutputBatching batching) {
+		return new OutputSettings(output, batching, queue, deadLetterStore);
+	}
+
+	public OutputSettings withQueue(OutputQueue queue) {
+		return new OutputSettings(output, batching, queue, deadLetterStore);
+	}
+
+	public OutputSettings withDeadLetterStore(DeadLetterStore deadLetterStore) {
+		return new OutputSettings(output, batching, queue, deadLetterStore);
+	}
+}
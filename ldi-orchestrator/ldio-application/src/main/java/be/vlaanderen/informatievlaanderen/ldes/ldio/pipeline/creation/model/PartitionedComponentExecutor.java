@@ -0,0 +1,132 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.services.ComponentExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.InFlightCounter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelinePartitioning;
+import org.apache.jena.rdf.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.ObserveConfiguration.ERROR_TEMPLATE;
+
+/**
+ * ComponentExecutor of a pipeline in the partitioned execution mode, which spreads the models over a number of lanes
+ * based on their key. Every lane has a bounded queue and a single thread that carries the models of that queue one by
+ * one through all transformers and outputs of the pipeline. The models with the same key thus keep their order,
+ * while the lanes run in parallel.
+ * <br />
+ * The models without a key all end up in the first lane. When the queue of a lane is full, the input waits until
+ * that lane catches up. A model counts as in flight from the moment it is queued until its lane has carried it
+ * through the pipeline.
+ */
+public class PartitionedComponentExecutor implements ComponentExecutor {
+	private static final Logger log = LoggerFactory.getLogger(PartitionedComponentExecutor.class);
+	private final String pipelineName;
+	private final LdioTransformer ldiTransformerPipeline;
+	private final PipelinePartitioning partitioning;
+	private final Property partitionProperty;
+	private final InFlightCounter inFlightCounter;
+	private final List<ThreadPoolExecutor> lanes = new ArrayList<>();
+
+	/**
+	 * @param pipelineName           name of the pipeline
+	 * @param execution              the partitioned execution of the pipeline
+	 * @param partitioning           the partitioning of the pipeline
+	 * @param ldiTransformerPipeline the linked transformers of the pipeline, ending with its sender
+	 * @param inFlightCounter        counter of the models in the pipeline
+	 */
+	public PartitionedComponentExecutor(String pipelineName, PipelineExecution execution, PipelinePartitioning partitioning,
+	                                    LdioTransformer ldiTransformerPipeline, InFlightCounter inFlightCounter) {
+		this.pipelineName = pipelineName;
+		this.inFlightCounter = inFlightCounter;
+		this.ldiTransformerPipeline = ldiTransformerPipeline;
+		this.partitioning = partitioning;
+		this.partitionProperty = ResourceFactory.createProperty(partitioning.property());
+		for (int i = 0; i < partitioning.lanes(); i++) {
+			lanes.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(execution.queueCapacity()),
+					execution.threads().factory("ldio-%s-lane-%d".formatted(pipelineName, i)),
+					this::waitForFreePlace));
+		}
+	}
+
+	/**
+	 * Puts the model on the queue of its lane, waiting for a free place when the queue is full
+	 */
+	@Override
+	public void transformLinkedData(Model linkedDataModel) {
+		inFlightCounter.increment();
+		try {
+			lanes.get(getLane(linkedDataModel)).execute(() -> {
+				try {
+					ldiTransformerPipeline.apply(linkedDataModel);
+				} catch (Exception e) {
+					log.atError().log(ERROR_TEMPLATE, pipelineName + ":lane", e.getMessage());
+				} finally {
+					inFlightCounter.decrement();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			inFlightCounter.decrement();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return the number of models that wait in the queues of all lanes
+	 */
+	public int getQueuedModels() {
+		return lanes.stream().mapToInt(lane -> lane.getQueue().size()).sum();
+	}
+
+	/**
+	 * Stops the threads of all lanes. The models that are still queued are dropped.
+	 */
+	public void shutdown() {
+		lanes.forEach(ThreadPoolExecutor::shutdownNow);
+	}
+
+	int getLane(Model model) {
+		return getKey(model)
+				.map(key -> Math.floorMod(key.hashCode(), lanes.size()))
+				.orElse(0);
+	}
+
+	private Optional<String> getKey(Model model) {
+		return switch (partitioning.key()) {
+			case PROPERTY -> model.listObjectsOfProperty(partitionProperty).nextOptional().map(RDFNode::toString);
+			case SUBJECT -> getRootSubject(model);
+		};
+	}
+
+	/**
+	 * @return the subject that is not the object of any statement, or the lowest one when there are multiple, so the
+	 * same model always gets the same key
+	 */
+	private static Optional<String> getRootSubject(Model model) {
+		return model.listSubjects().toList().stream()
+				.filter(subject -> !model.contains(null, null, subject))
+				.map(RDFNode::toString)
+				.min(Comparator.naturalOrder());
+	}
+
+	private void waitForFreePlace(Runnable task, ThreadPoolExecutor lane) {
+		if (lane.isShutdown()) {
+			throw new RejectedExecutionException("Pipeline %s has been shut down".formatted(pipelineName));
+		}
+		try {
+			lane.getQueue().put(task);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting for a lane of pipeline %s".formatted(pipelineName), e);
+		}
+	}
+}
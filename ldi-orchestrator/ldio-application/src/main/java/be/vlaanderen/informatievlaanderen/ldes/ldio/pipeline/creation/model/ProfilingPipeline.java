@@ -0,0 +1,110 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiComponent;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Throwaway copy of a pipeline that processes sample content on the calling thread, one model at a time, to find out
+ * where the pipeline spends its time. Its adapter and transformers are wrapped in debuggers that keep a stage profile
+ * and its outputs are sinks that do nothing, so nothing leaves the orchestrator.
+ * <br />
+ * The components are created for the profiling only, so they are closed once it is done with them.
+ */
+public class ProfilingPipeline implements AutoCloseable {
+	private static final Logger log = LoggerFactory.getLogger(ProfilingPipeline.class);
+	private final LdiAdapter adapter;
+	private final LdioTransformer transformerChain;
+	private final List<StageProfile> stageProfiles;
+	private final List<LdiComponent> components;
+
+	/**
+	 * @param adapter       adapter that turns the content into models, or null when the content is linked data that
+	 *                      is parsed according to its content type
+	 * @param transformers  transformers of the pipeline, in order
+	 * @param outputs       sinks in place of the outputs of the pipeline
+	 * @param stageProfiles profiles of the adapter, the transformers and the outputs, in the order of the pipeline
+	 * @param components    the components that have been created for the profiling, which are closed with it
+	 */
+	public ProfilingPipeline(LdiAdapter adapter, List<LdioTransformer> transformers, List<OutputDebugger> outputs,
+	                         List<StageProfile> stageProfiles, List<LdiComponent> components) {
+		this.adapter = adapter;
+		final List<LdioTransformer> chain = new ArrayList<>(transformers);
+		chain.add(new OutputSink(outputs));
+		this.transformerChain = LdioTransformer.link(chain.get(0), chain);
+		this.stageProfiles = stageProfiles;
+		this.components = components;
+	}
+
+	public void process(LdiAdapter.Content content) {
+		if (adapter == null) {
+			transformerChain.apply(parse(content));
+			return;
+		}
+		try (Stream<Model> models = adapter.apply(content)) {
+			models.forEach(transformerChain::apply);
+		}
+	}
+
+	public List<StageProfile.Result> getResults() {
+		return stageProfiles.stream().map(StageProfile::getResult).toList();
+	}
+
+	/**
+	 * Closes the components that hold on to resources, such as connections
+	 */
+	@Override
+	public void close() {
+		close(components);
+	}
+
+	/**
+	 * @param components the components to close, of which those that are no {@link AutoCloseable} are skipped
+	 */
+	public static void close(List<LdiComponent> components) {
+		components.stream()
+				.filter(AutoCloseable.class::isInstance)
+				.map(AutoCloseable.class::cast)
+				.forEach(component -> {
+					try {
+						component.close();
+					} catch (Exception e) {
+						log.atWarn().log("Unable to close {} after profiling: {}", component.getClass().getSimpleName(), e.getMessage());
+					}
+				});
+	}
+
+	private static Model parse(LdiAdapter.Content content) {
+		final Lang lang = RDFLanguages.contentTypeToLang(content.mimeType());
+		if (lang == null) {
+			throw new IllegalArgumentException("Content type %s is no linked data and the pipeline has no adapter".formatted(content.mimeType()));
+		}
+		return RDFParser.fromString(content.content()).lang(lang).toModel();
+	}
+
+	/**
+	 * Hands every model to all outputs, as the sender of a pipeline does
+	 */
+	private static class OutputSink extends LdioTransformer {
+		private final List<OutputDebugger> outputs;
+
+		private OutputSink(List<OutputDebugger> outputs) {
+			this.outputs = outputs;
+		}
+
+		@Override
+		public void apply(Model model) {
+			outputs.forEach(output -> output.accept(model));
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiBatchOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import org.apache.jena.rdf.model.Model;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Wrapper around any LdiOutput that hands over one model, or one batch, at a time. The pipeline and the dead-letter
+ * store of an output both hand it models, each on their own thread, so outputs that are not thread safe are wrapped
+ * in this before they are shared.
+ */
+public class SerialisedOutput implements LdiBatchOutput {
+	private final LdiOutput ldiOutput;
+	private final Lock lock = new ReentrantLock();
+
+	public SerialisedOutput(LdiOutput ldiOutput) {
+		this.ldiOutput = ldiOutput;
+	}
+
+	@Override
+	public void accept(Model model) {
+		lock.lock();
+		try {
+			ldiOutput.accept(model);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void acceptBatch(List<Model> models) {
+		lock.lock();
+		try {
+			LdiBatchOutput.acceptAll(ldiOutput, models);
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the work one component of a profiled pipeline does: the wall time, the cpu time and the bytes allocated on
+ * the thread of the component, and the number of models and triples it receives and passes on. The time spent in the
+ * components after it is left out, so every component only accounts for its own work.
+ * <br />
+ * As a profiled pipeline processes its members one by one on the calling thread, a profile is not thread safe. The
+ * cpu time and allocated bytes are only measured when the JVM supports it.
+ */
+public class StageProfile {
+	private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+	private final ComponentTimer.ComponentType componentType;
+	private final String componentName;
+	private final boolean cpuTimeSupported;
+	private final boolean allocatedBytesSupported;
+	private long wallNanos;
+	private long cpuNanos;
+	private long allocatedBytes;
+	private long received;
+	private long triplesReceived;
+	private long passedOn;
+	private long triplesPassedOn;
+	private long startedWallNanos;
+	private long startedCpuNanos;
+	private long startedAllocatedBytes;
+
+	public StageProfile(ComponentTimer.ComponentType componentType, String componentName) {
+		this.componentType = componentType;
+		this.componentName = componentName;
+		this.cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+		this.allocatedBytesSupported = threadMXBean instanceof com.sun.management.ThreadMXBean allocationMXBean
+				&& allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled();
+	}
+
+	/**
+	 * Starts, or resumes, measuring the work of the component on the current thread
+	 */
+	public void start() {
+		startedWallNanos = System.nanoTime();
+		startedCpuNanos = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+		startedAllocatedBytes = currentThreadAllocatedBytes();
+	}
+
+	/**
+	 * Stops measuring the work of the component, e.g. before it hands a model to the next component
+	 */
+	public void stop() {
+		wallNanos += System.nanoTime() - startedWallNanos;
+		cpuNanos += cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() - startedCpuNanos : 0;
+		allocatedBytes += currentThreadAllocatedBytes() - startedAllocatedBytes;
+	}
+
+	/**
+	 * @param triples number of triples of the received model, or 0 when the component receives content that is no
+	 *                linked data yet
+	 */
+	public void received(long triples) {
+		received++;
+		triplesReceived += triples;
+	}
+
+	/**
+	 * @param triples number of triples of the model the component passes on
+	 */
+	public void passedOn(long triples) {
+		passedOn++;
+		triplesPassedOn += triples;
+	}
+
+	public Result getResult() {
+		return new Result(componentType.name().toLowerCase(), componentName, received, triplesReceived, passedOn,
+				triplesPassedOn, wallNanos, cpuTimeSupported ? cpuNanos : null, allocatedBytesSupported ? allocatedBytes : null);
+	}
+
+	private long currentThreadAllocatedBytes() {
+		return allocatedBytesSupported
+				? ((com.sun.management.ThreadMXBean) threadMXBean).getCurrentThreadAllocatedBytes()
+				: 0;
+	}
+
+	/**
+	 * @param cpuTimeNanos   cpu time of the component, or null when the JVM does not measure the cpu time of a thread
+	 * @param allocatedBytes bytes allocated by the component, or null when the JVM does not measure the bytes allocated
+	 *                       by a thread
+	 */
+	public record Result(String type, String name, long received, long triplesReceived, long passedOn,
+	                     long triplesPassedOn, long wallTimeNanos, Long cpuTimeNanos, Long allocatedBytes) {
+	}
+}
@@ -0,0 +1,226 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.services.ComponentExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.ObserveConfiguration;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.InFlightCounter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import org.apache.jena.rdf.model.Model;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ComponentExecutor of a pipeline in the staged execution mode, wherein every transformer and the sender form a
+ * stage of their own.
+ * <br />
+ * A stage has a bounded queue and a fixed number of workers that take the models from that queue, so the stages run
+ * concurrently. The models a component passes on are put on the queue of the next stage. When that queue is full,
+ * the component waits until the next stage catches up, which eventually also makes the input wait.
+ * <br />
+ * When the execution is ordered and a stage has multiple workers, the models a stage passes on are held back until
+ * the models of all earlier inputs of that stage have been passed on. The last stage hands the models to the outputs
+ * itself, so it can not hold them back and always has a single worker when the execution is ordered.
+ * <br />
+ * A model counts as in flight from the moment it is queued for a stage until that stage has passed it on. As the input
+ * has moved on by then, a model of which a component fails is logged and not passed on.
+ */
+public class StagedComponentExecutor implements ComponentExecutor {
+	private static final Logger log = LoggerFactory.getLogger(StagedComponentExecutor.class);
+	private final String pipelineName;
+	private final List<Stage> stages = new ArrayList<>();
+	private final InFlightCounter inFlightCounter;
+
+	/**
+	 * @param pipelineName    name of the pipeline
+	 * @param execution       the staged execution of the pipeline
+	 * @param components      the transformers of the pipeline, followed by its sender
+	 * @param workersPerStage number of workers of every component, in the same order
+	 * @param inFlightCounter counter of the models in the pipeline
+	 */
+	public StagedComponentExecutor(String pipelineName, PipelineExecution execution, List<LdioTransformer> components,
+	                               List<Integer> workersPerStage, InFlightCounter inFlightCounter) {
+		this.pipelineName = pipelineName;
+		this.inFlightCounter = inFlightCounter;
+		final int lastStage = components.size() - 1;
+		if (execution.ordered() && workersPerStage.get(lastStage) > 1) {
+			log.atWarn().log("The outputs of pipeline {} get a single worker instead of {}, as its execution is ordered",
+					pipelineName, workersPerStage.get(lastStage));
+		}
+		for (int i = 0; i < components.size(); i++) {
+			final int workers = execution.ordered() && i == lastStage ? 1 : workersPerStage.get(i);
+			stages.add(new Stage(i, components.get(i), execution, workers, execution.ordered() && workers > 1));
+		}
+		for (int i = 0; i < stages.size() - 1; i++) {
+			LdioTransformer.link(components.get(i), List.of(new StageBoundary(stages.get(i), stages.get(i + 1))));
+		}
+		stages.forEach(Stage::start);
+	}
+
+	/**
+	 * Puts the model on the queue of the first stage, waiting for a free place when the queue is full
+	 */
+	@Override
+	public void transformLinkedData(Model linkedDataModel) {
+		stages.get(0).submit(linkedDataModel);
+	}
+
+	/**
+	 * @return the number of models that wait in the queues of all stages
+	 */
+	public int getQueuedModels() {
+		return stages.stream().mapToInt(stage -> stage.queue.size()).sum();
+	}
+
+	/**
+	 * Stops the workers of all stages. The pipeline is drained before, as {@link LdioSender#shutdown()} waits until the
+	 * models in the queues of the stages have been handed to the outputs. Only the models that are still queued once
+	 * the drain timeout has passed are dropped.
+	 */
+	public void shutdown() {
+		stages.forEach(Stage::stop);
+	}
+
+	private class Stage {
+		private final int index;
+		private final LdioTransformer component;
+		private final BlockingQueue<QueuedModel> queue;
+		private final int workers;
+		private final boolean ordered;
+		private final ExecutorService executorService;
+		private final ThreadLocal<List<Model>> passedOnModels = new ThreadLocal<>();
+		private final Map<Long, List<Model>> heldBackModels = new HashMap<>();
+		private final Lock submitLock = new ReentrantLock();
+		private final Lock releaseLock = new ReentrantLock();
+		private long nextSequence;
+		private long nextSequenceToRelease;
+
+		private Stage(int index, LdioTransformer component, PipelineExecution execution, int workers, boolean ordered) {
+			this.index = index;
+			this.component = component;
+			this.queue = new ArrayBlockingQueue<>(execution.queueCapacity());
+			this.workers = workers;
+			this.ordered = ordered;
+			this.executorService = Executors.newFixedThreadPool(workers,
+					execution.threads().factory("ldio-%s-stage-%d-".formatted(pipelineName, index), 0));
+		}
+
+		private void start() {
+			for (int i = 0; i < workers; i++) {
+				executorService.execute(this::work);
+			}
+		}
+
+		private void stop() {
+			executorService.shutdownNow();
+		}
+
+		/**
+		 * Waits for a free place in the queue of the stage
+		 */
+		private void submit(Model model) {
+			submitLock.lock();
+			inFlightCounter.increment();
+			try {
+				queue.put(new QueuedModel(nextSequence++, model));
+			} catch (InterruptedException e) {
+				inFlightCounter.decrement();
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Pipeline %s has been stopped while waiting for stage %d".formatted(pipelineName, index), e);
+			} finally {
+				submitLock.unlock();
+			}
+		}
+
+		private void work() {
+			while (!Thread.currentThread().isInterrupted()) {
+				try {
+					process(queue.take());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (Exception e) {
+					log.atError().log(ObserveConfiguration.ERROR_TEMPLATE, pipelineName + ":stage-" + index, e.getMessage());
+				}
+			}
+		}
+
+		private void process(QueuedModel queuedModel) {
+			if (ordered) {
+				passedOnModels.set(new ArrayList<>());
+			}
+			try {
+				component.apply(queuedModel.model());
+			} catch (Exception e) {
+				log.atError().log(ObserveConfiguration.ERROR_TEMPLATE, pipelineName + ":stage-" + index, e.getMessage());
+			} finally {
+				if (ordered) {
+					final List<Model> models = passedOnModels.get();
+					passedOnModels.remove();
+					release(queuedModel.sequence(), models);
+				}
+				inFlightCounter.decrement();
+			}
+		}
+
+		private void passOn(Model model, Stage nextStage) {
+			final List<Model> models = passedOnModels.get();
+			if (ordered && models != null) {
+				models.add(model);
+			} else {
+				nextStage.submit(model);
+			}
+		}
+
+		/**
+		 * Passes on the models of the given input, followed by the held back models of the subsequent inputs, as
+		 * soon as the models of all earlier inputs have been passed on
+		 */
+		private void release(long sequence, List<Model> models) {
+			final Stage nextStage = index + 1 < stages.size() ? stages.get(index + 1) : null;
+			releaseLock.lock();
+			try {
+				heldBackModels.put(sequence, models);
+				List<Model> releasableModels;
+				while ((releasableModels = heldBackModels.remove(nextSequenceToRelease)) != null) {
+					nextSequenceToRelease++;
+					if (nextStage != null) {
+						releasableModels.forEach(nextStage::submit);
+					}
+				}
+			} finally {
+				releaseLock.unlock();
+			}
+		}
+	}
+
+	private record QueuedModel(long sequence, Model model) {
+	}
+
+	/**
+	 * Last link of the component of a stage, which passes the models on to the next stage
+	 */
+	private static class StageBoundary extends LdioTransformer {
+		private final Stage stage;
+		private final Stage nextStage;
+
+		private StageBoundary(Stage stage, Stage nextStage) {
+			this.stage = stage;
+			this.nextStage = nextStage;
+		}
+
+		@Override
+		public void apply(Model model) {
+			stage.passOn(model, nextStage);
+		}
+	}
+}
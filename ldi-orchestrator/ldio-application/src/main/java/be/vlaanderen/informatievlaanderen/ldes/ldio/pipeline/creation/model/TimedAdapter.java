@@ -0,0 +1,91 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import io.micrometer.core.instrument.Timer;
+import org.apache.jena.rdf.model.Model;
+
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Wrapper around any LdiAdapter that records how long the adapter takes to turn a content into models. As an adapter
+ * may create its models lazily, the time it takes to create every model is added up, but not the time the models
+ * take to pass through the rest of the pipeline. The total is recorded once all models have been taken, or once the
+ * stream is closed before that, e.g. because the pipeline failed on one of its models.
+ */
+public class TimedAdapter implements LdiAdapter {
+	private final LdiAdapter adapter;
+	private final Timer timer;
+
+	public TimedAdapter(LdiAdapter adapter, Timer timer) {
+		this.adapter = adapter;
+		this.timer = timer;
+	}
+
+	@Override
+	public Stream<Model> apply(Content content) {
+		final long start = System.nanoTime();
+		final Stream<Model> models = adapter.apply(content);
+		final TimedSpliterator timedSpliterator = new TimedSpliterator(models.spliterator(), System.nanoTime() - start);
+		return StreamSupport.stream(timedSpliterator, false).onClose(() -> {
+			try {
+				models.close();
+			} finally {
+				timedSpliterator.record();
+			}
+		});
+	}
+
+	private class TimedSpliterator implements Spliterator<Model> {
+		private final Spliterator<Model> models;
+		private long elapsedNanos;
+		private boolean recorded;
+
+		private TimedSpliterator(Spliterator<Model> models, long elapsedNanos) {
+			this.models = models;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Model> action) {
+			final Model[] next = new Model[1];
+			final long start = System.nanoTime();
+			final boolean advanced = models.tryAdvance(model -> next[0] = model);
+			elapsedNanos += System.nanoTime() - start;
+			if (advanced) {
+				action.accept(next[0]);
+			} else {
+				record();
+			}
+			return advanced;
+		}
+
+		private void record() {
+			if (!recorded) {
+				recorded = true;
+				timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		@Override
+		public Spliterator<Model> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return models.estimateSize();
+		}
+
+		/**
+		 * The size is never reported, so every model is taken one by one and the total is always recorded
+		 */
+		@Override
+		public int characteristics() {
+			return models.characteristics() & ~(SIZED | SUBSIZED);
+		}
+	}
+}
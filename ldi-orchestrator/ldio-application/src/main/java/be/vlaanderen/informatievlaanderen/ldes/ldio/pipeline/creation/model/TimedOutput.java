@@ -0,0 +1,32 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiBatchOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import io.micrometer.core.instrument.Timer;
+import org.apache.jena.rdf.model.Model;
+
+import java.util.List;
+
+/**
+ * Wrapper around any LdiOutput that records how long the output takes to accept a model. A batch is recorded as a
+ * single call, also when the wrapped output accepts its models one by one.
+ */
+public class TimedOutput implements LdiBatchOutput {
+	private final LdiOutput ldiOutput;
+	private final Timer timer;
+
+	public TimedOutput(LdiOutput ldiOutput, Timer timer) {
+		this.ldiOutput = ldiOutput;
+		this.timer = timer;
+	}
+
+	@Override
+	public void accept(Model model) {
+		timer.record(() -> ldiOutput.accept(model));
+	}
+
+	@Override
+	public void acceptBatch(List<Model> models) {
+		timer.record(() -> LdiBatchOutput.acceptAll(ldiOutput, models));
+	}
+}
@@ -0,0 +1,54 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import io.micrometer.core.instrument.Timer;
+import org.apache.jena.rdf.model.Model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wrapper around any LdioTransformer that records how long the transformer takes to process a model. The time the
+ * models it passes on take in the rest of the pipeline is left out, so every transformer only accounts for its own
+ * work, also when it passes on multiple models.
+ */
+public class TimedTransformer extends LdioTransformer {
+	private final LdioTransformer ldioTransformer;
+	private final Timer timer;
+	private final ThreadLocal<long[]> downstreamNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+	public TimedTransformer(LdioTransformer ldioTransformer, Timer timer) {
+		this.ldioTransformer = ldioTransformer;
+		this.timer = timer;
+		LdioTransformer.link(ldioTransformer, List.of(new Downstream()));
+	}
+
+	@Override
+	public void apply(Model model) {
+		final long[] downstream = downstreamNanos.get();
+		final long downstreamBefore = downstream[0];
+		final long start = System.nanoTime();
+		try {
+			ldioTransformer.apply(model);
+		} finally {
+			final long elapsed = System.nanoTime() - start - (downstream[0] - downstreamBefore);
+			timer.record(elapsed, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Passes the models of the wrapped transformer on to the rest of the pipeline, while keeping track of the time
+	 * that takes
+	 */
+	private class Downstream extends LdioTransformer {
+		@Override
+		public void apply(Model model) {
+			final long start = System.nanoTime();
+			try {
+				TimedTransformer.this.next(model);
+			} finally {
+				downstreamNanos.get()[0] += System.nanoTime() - start;
+			}
+		}
+	}
+}
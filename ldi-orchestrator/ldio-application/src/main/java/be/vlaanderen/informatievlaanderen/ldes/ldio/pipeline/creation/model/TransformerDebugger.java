@@ -7,19 +7,61 @@ import org.apache.jena.riot.RDFWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
- * Wrapper around any LdioTransformer for debugging purposes
+ * Wrapper around any LdioTransformer for debugging purposes. When a stage profile is given, the work the transformer
+ * does is added to the profile, but not the work the models it passes on take in the rest of the pipeline.
  */
 public class TransformerDebugger extends LdioTransformer {
 	private final Logger log;
+	private final LdioTransformer ldioTransformer;
+	private final StageProfile stageProfile;
 
 	public TransformerDebugger(LdioTransformer ldiTransformer) {
+		this(ldiTransformer, null);
+	}
+
+	public TransformerDebugger(LdioTransformer ldiTransformer, StageProfile stageProfile) {
 		log = LoggerFactory.getLogger(ldiTransformer.getClass());
+		this.ldioTransformer = ldiTransformer;
+		this.stageProfile = stageProfile;
+		LdioTransformer.link(ldiTransformer, List.of(new Downstream()));
 	}
 
 	@Override
 	public void apply(Model model) {
-		log.atDebug().log("Starting model: \n {}", RDFWriter.source(model).lang(Lang.TTL).asString());
-		this.next(model);
+		log.atDebug().addArgument(() -> RDFWriter.source(model).lang(Lang.TTL).asString()).log("Starting model: \n {}");
+		if (stageProfile == null) {
+			ldioTransformer.apply(model);
+			return;
+		}
+		stageProfile.received(model.size());
+		stageProfile.start();
+		try {
+			ldioTransformer.apply(model);
+		} finally {
+			stageProfile.stop();
+		}
+	}
+
+	/**
+	 * Passes the models of the wrapped transformer on to the rest of the pipeline, without measuring that work
+	 */
+	private class Downstream extends LdioTransformer {
+		@Override
+		public void apply(Model model) {
+			if (stageProfile == null) {
+				TransformerDebugger.this.next(model);
+				return;
+			}
+			stageProfile.stop();
+			stageProfile.passedOn(model.size());
+			try {
+				TransformerDebugger.this.next(model);
+			} finally {
+				stageProfile.start();
+			}
+		}
 	}
 }
@@ -0,0 +1,29 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.deadletter;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.DeadLetterStore;
+
+import java.util.List;
+
+public interface DeadLetterService {
+	/**
+	 * @param pipelineName name of the pipeline of which the dead letters must be fetched
+	 * @return per output with a dead-letter store, how many dead letters are being retried and how many are parked
+	 */
+	List<DeadLetterStore.Overview> getDeadLetters(String pipelineName);
+
+	/**
+	 * Hands the parked dead letters of all outputs of the pipeline to their output again
+	 *
+	 * @param pipelineName name of the pipeline of which the dead letters must be replayed
+	 * @return the number of dead letters that are replayed
+	 */
+	int replayDeadLetters(String pipelineName);
+
+	/**
+	 * Removes all dead letters of all outputs of the pipeline
+	 *
+	 * @param pipelineName name of the pipeline of which the dead letters must be purged
+	 * @return the number of dead letters that are removed
+	 */
+	int purgeDeadLetters(String pipelineName);
+}
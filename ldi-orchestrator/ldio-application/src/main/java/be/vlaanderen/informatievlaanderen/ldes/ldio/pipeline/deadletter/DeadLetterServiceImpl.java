@@ -0,0 +1,48 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.deadletter;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.SenderCreatedEvent;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.PipelineDeletedEvent;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.DeadLetterStore;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineDoesNotExistException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class DeadLetterServiceImpl implements DeadLetterService {
+	private final Map<String, List<DeadLetterStore>> deadLetterStores = new ConcurrentHashMap<>();
+
+	@EventListener
+	public void handleSenderCreatedEvent(SenderCreatedEvent event) {
+		deadLetterStores.put(event.pipelineName(), event.ldioSender().getDeadLetterStores());
+	}
+
+	@EventListener
+	public void handlePipelineDeletedEvent(PipelineDeletedEvent event) {
+		deadLetterStores.remove(event.pipelineId());
+	}
+
+	@Override
+	public List<DeadLetterStore.Overview> getDeadLetters(String pipelineName) {
+		return getDeadLetterStores(pipelineName).stream().map(DeadLetterStore::getOverview).toList();
+	}
+
+	@Override
+	public int replayDeadLetters(String pipelineName) {
+		return getDeadLetterStores(pipelineName).stream().mapToInt(DeadLetterStore::replay).sum();
+	}
+
+	@Override
+	public int purgeDeadLetters(String pipelineName) {
+		return getDeadLetterStores(pipelineName).stream().mapToInt(DeadLetterStore::purge).sum();
+	}
+
+	private List<DeadLetterStore> getDeadLetterStores(String pipelineName) {
+		return Optional.ofNullable(deadLetterStores.get(pipelineName))
+				.orElseThrow(() -> new PipelineDoesNotExistException(pipelineName));
+	}
+}
@@ -0,0 +1,38 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.deadletter.web;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.DeadLetterStore;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.deadletter.DeadLetterService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(path = "/admin/api/v1/pipeline")
+public class DeadLetterController implements OpenApiDeadLetterController {
+
+	private final DeadLetterService deadLetterService;
+
+	public DeadLetterController(DeadLetterService deadLetterService) {
+		this.deadLetterService = deadLetterService;
+	}
+
+	@Override
+	@GetMapping(path = "{pipelineId}/dead-letters", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+	public List<DeadLetterStore.Overview> getDeadLetters(@PathVariable("pipelineId") String pipelineId) {
+		return deadLetterService.getDeadLetters(pipelineId);
+	}
+
+	@Override
+	@PostMapping(path = "{pipelineId}/dead-letters/replay", produces = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+	public int replayDeadLetters(@PathVariable("pipelineId") String pipelineId) {
+		return deadLetterService.replayDeadLetters(pipelineId);
+	}
+
+	@Override
+	@DeleteMapping(path = "{pipelineId}/dead-letters", produces = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+	public int purgeDeadLetters(@PathVariable("pipelineId") String pipelineId) {
+		return deadLetterService.purgeDeadLetters(pipelineId);
+	}
+
+}
@@ -0,0 +1,35 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.deadletter.web;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.DeadLetterStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.util.List;
+
+@Tag(name = "Dead letter controller")
+public interface OpenApiDeadLetterController {
+
+    @ApiResponse(responseCode = "200", description = "Returns per output how many dead letters are being retried and how many are parked.", content = {
+            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+    })
+    @Operation(summary = "Get an overview of the dead letters of a pipeline.")
+    List<DeadLetterStore.Overview> getDeadLetters(@PathVariable("pipelineId") String pipelineId);
+
+    @ApiResponse(responseCode = "200", description = "Returns the number of dead letters that are replayed",
+            content = {@Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(implementation = Integer.class))
+            })
+    @Operation(summary = "Hand the parked dead letters of a pipeline to their output again.")
+    int replayDeadLetters(@PathVariable("pipelineId") String pipelineId);
+
+    @ApiResponse(responseCode = "200", description = "Returns the number of dead letters that are removed",
+            content = {@Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(implementation = Integer.class))
+            })
+    @Operation(summary = "Remove all dead letters of a pipeline.")
+    int purgeDeadLetters(@PathVariable("pipelineId") String pipelineId);
+
+}
@@ -1,7 +1,6 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.initializer;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.OrchestratorConfig;
-import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineService;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineAlreadyExistsException;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineException;
@@ -10,7 +9,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
 
 /**
  * @deprecated since the implementation of dynamic pipelines, pipelines should either be added in the folder self or by the admin api
@@ -34,25 +32,24 @@ public class ConfigPipelineInitializer implements PipelineInitializer {
 	}
 
 	@Override
-	public List<PipelineConfig> initPipelines() {
+	public List<PipelineInitialisation> initPipelines() {
 		if (orchestratorConfig.getPipelines() == null) {
 			return List.of();
 		}
 		log.warn("{} DEPRECATED. Any configs with the same name will be ignored", NAME);
 		return orchestratorConfig.getPipelines()
 				.stream()
-				.map(pipeline -> {
+				.map(pipeline -> new PipelineInitialisation(pipeline.getName(), () -> {
 					try {
 						return pipelineService.addPipeline(pipeline);
 					} catch (PipelineAlreadyExistsException e) {
 						log.warn(e.getMessage());
-						return null;
+						throw e;
 					} catch (PipelineException e) {
 						log.error(e.getMessage());
-						return null;
+						throw e;
 					}
-				})
-				.filter(Objects::nonNull)
+				}))
 				.toList();
 	}
 }
@@ -1,6 +1,5 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.initializer;
 
-import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineService;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineException;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PipelineFileRepository;
@@ -12,7 +11,6 @@ import org.springframework.stereotype.Service;
 import java.io.File;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 @Service
 public class FileStoredPipelineInitializer implements PipelineInitializer {
@@ -32,19 +30,18 @@ public class FileStoredPipelineInitializer implements PipelineInitializer {
 	}
 
 	@Override
-	public List<PipelineConfig> initPipelines() {
+	public List<PipelineInitialisation> initPipelines() {
 		return storedPipelines
 				.entrySet()
 				.stream()
-				.map(storedPipeline -> {
+				.map(storedPipeline -> new PipelineInitialisation(storedPipeline.getValue().name(), () -> {
 					try {
 						return pipelineService.addPipeline(storedPipeline.getValue().toPipelineConfig(), storedPipeline.getKey());
 					} catch (PipelineException e) {
 						log.error("File \"%s\": %s".formatted(storedPipeline.getKey().getName(), e.getMessage()));
-						return null;
+						throw e;
 					}
-				})
-				.filter(Objects::nonNull)
+				}))
 				.toList();
 	}
 }
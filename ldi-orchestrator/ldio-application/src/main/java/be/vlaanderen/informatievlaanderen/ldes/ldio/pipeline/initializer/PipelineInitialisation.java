@@ -0,0 +1,12 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.initializer;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
+
+import java.util.function.Supplier;
+
+/**
+ * @param pipelineName name of the pipeline that is initialised
+ * @param task         creates the pipeline and returns its config, or throws an exception when it cannot be created
+ */
+public record PipelineInitialisation(String pipelineName, Supplier<PipelineConfig> task) {
+}
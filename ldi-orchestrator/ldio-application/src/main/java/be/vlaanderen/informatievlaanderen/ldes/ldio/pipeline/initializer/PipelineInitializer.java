@@ -1,11 +1,13 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.initializer;
 
-import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
-
 import java.util.List;
 
 public interface PipelineInitializer {
 	String name();
 
-	List<PipelineConfig> initPipelines();
+	/**
+	 * @return the initialisations of the pipelines of this initializer, which are run by the
+	 * {@link PipelineStartupService}
+	 */
+	List<PipelineInitialisation> initPipelines();
 }
@@ -1,30 +1,120 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.initializer;
 
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.OrchestratorConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineService;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineAlreadyExistsException;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineException;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.modulith.ApplicationModuleInitializer;
 import org.springframework.stereotype.Service;
 
-import java.util.stream.Stream;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+/**
+ * Initialises the pipelines of every initializer at startup, in the background, so the orchestrator does not wait for
+ * them to be ready. The pipelines of an initializer are created concurrently, by a bounded number of threads, before
+ * the pipelines of the next initializer are started.
+ * <br />
+ * A pipeline has the INIT status while it is created, after which it takes the status of its input, or gets the
+ * FAILED status when it could not be created. A slow or broken pipeline therefore does not hold up the other ones. The
+ * pipelines are created through the {@link PipelineService}, like those that are added through the API, so a pipeline
+ * is never created twice when both try to create it at once.
+ */
 @Service
 public class PipelineStartupService implements ApplicationModuleInitializer {
 	private final Logger log = LoggerFactory.getLogger(PipelineStartupService.class);
 
-	private final Stream<PipelineInitializer> pipelineInitiators;
+	private final List<PipelineInitializer> pipelineInitiators;
+	private final PipelineStatusService pipelineStatusService;
+	private final int parallelism;
+	private volatile boolean finished;
 
+	@Autowired
 	public PipelineStartupService(ConfigPipelineInitializer configPipelineInitializer,
-	                              FileStoredPipelineInitializer fileStoredPipelineInitializer) {
-		this.pipelineInitiators = Stream.of(fileStoredPipelineInitializer, configPipelineInitializer);
+	                              FileStoredPipelineInitializer fileStoredPipelineInitializer,
+	                              PipelineStatusService pipelineStatusService,
+	                              OrchestratorConfig orchestratorConfig) {
+		this(List.of(fileStoredPipelineInitializer, configPipelineInitializer), pipelineStatusService,
+				orchestratorConfig.getPipelineInitParallelism());
+	}
+
+	PipelineStartupService(List<PipelineInitializer> pipelineInitiators, PipelineStatusService pipelineStatusService,
+	                       int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("The pipeline init parallelism must be at least 1, but was " + parallelism);
+		}
+		this.pipelineInitiators = pipelineInitiators;
+		this.pipelineStatusService = pipelineStatusService;
+		this.parallelism = parallelism;
 	}
 
 	@Override
 	public void initialize() {
-		pipelineInitiators.forEach(initializer -> {
-			log.info("=== Processing pipelines with {} ===", initializer.name());
-			var pipelines = initializer.initPipelines();
-			pipelines.forEach(pipeline -> log.info("Successfully initialised pipeline: \"{}\"", pipeline.getName()));
-			log.info("=== Finished {} with {} pipeline(s) initialised ===", initializer.name(), pipelines.size());
-		});
+		Thread.ofPlatform().name("ldio-pipeline-startup").daemon().start(this::initPipelines);
+	}
+
+	/**
+	 * @return whether every pipeline of the initializers has either been initialised or failed
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	private void initPipelines() {
+		final ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+				Thread.ofPlatform().name("ldio-pipeline-init-", 0).daemon().factory());
+		try {
+			for (PipelineInitializer initializer : pipelineInitiators) {
+				log.info("=== Processing pipelines with {} ===", initializer.name());
+				final List<Callable<Boolean>> initialisations = initializer.initPipelines().stream()
+						.map(initialisation -> (Callable<Boolean>) () -> initPipeline(initialisation))
+						.toList();
+				long initialised = 0;
+				for (Future<Boolean> result : executorService.invokeAll(initialisations)) {
+					if (Boolean.TRUE.equals(result.get())) {
+						initialised++;
+					}
+				}
+				log.info("=== Finished {} with {} pipeline(s) initialised ===", initializer.name(), initialised);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Initialisation of the pipelines has been interrupted");
+		} catch (ExecutionException e) {
+			log.error("Initialisation of the pipelines has failed: {}", e.getCause().getMessage());
+		} finally {
+			executorService.shutdown();
+			finished = true;
+		}
+	}
+
+	/**
+	 * @return whether the pipeline has been initialised
+	 */
+	private boolean initPipeline(PipelineInitialisation initialisation) {
+		final String pipelineName = initialisation.pipelineName();
+		try {
+			final var pipeline = initialisation.task().get();
+			log.info("Successfully initialised pipeline: \"{}\"", pipeline.getName());
+			return true;
+		} catch (PipelineAlreadyExistsException e) {
+			return false;
+		} catch (RuntimeException e) {
+			if (!(e instanceof PipelineException)) {
+				log.error("Error while initialising pipeline \"{}\": {}", pipelineName, e.getMessage());
+			}
+			if (pipelineName != null) {
+				pipelineStatusService.markPipelineFailed(pipelineName);
+			}
+			return false;
+		}
 	}
 }
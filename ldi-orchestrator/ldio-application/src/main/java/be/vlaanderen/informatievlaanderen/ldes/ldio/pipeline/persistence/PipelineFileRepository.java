@@ -20,6 +20,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,7 +41,7 @@ public class PipelineFileRepository implements PipelineRepository {
 	private final ObjectReader reader = mapper.readerFor(PipelineConfig.class);
 
 	public PipelineFileRepository(OrchestratorConfig config) {
-		activePipelines = new HashMap<>();
+		activePipelines = new ConcurrentHashMap<>();
 		if (config.getDirectory() != null) {
 			persistenceEnabled = true;
 			directory = new File(config.getDirectory());
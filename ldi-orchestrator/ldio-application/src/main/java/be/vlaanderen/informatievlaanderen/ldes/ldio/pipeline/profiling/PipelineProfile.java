@@ -0,0 +1,14 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.StageProfile;
+
+import java.util.List;
+
+/**
+ * @param pipeline      name of the profiled pipeline
+ * @param members       number of members that have been run through the pipeline
+ * @param wallTimeNanos time all members took to pass through the pipeline
+ * @param stages        work every component of the pipeline did, in the order of the pipeline
+ */
+public record PipelineProfile(String pipeline, int members, long wallTimeNanos, List<StageProfile.Result> stages) {
+}
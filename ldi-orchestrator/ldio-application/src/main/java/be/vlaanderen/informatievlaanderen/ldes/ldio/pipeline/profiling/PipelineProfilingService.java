@@ -0,0 +1,17 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
+
+public interface PipelineProfilingService {
+	/**
+	 * Runs sample content through a throwaway copy of the adapter and the transformers of a pipeline, of which the
+	 * outputs are replaced by sinks that do nothing, and measures the work every component does
+	 *
+	 * @param config      definition of the pipeline, which does not have to exist yet
+	 * @param content     sample content, in which every {{id}} is replaced by the sequence number of the member
+	 * @param contentType content type of the sample content
+	 * @param members     number of members that are generated from the sample content
+	 * @return the work every component of the pipeline did, in the order of the pipeline
+	 */
+	PipelineProfile profilePipeline(PipelineConfig config, String content, String contentType, int members);
+}
@@ -0,0 +1,48 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.OrchestratorConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.PipelineCreatorService;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.ProfilingPipeline;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineProfilingException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PipelineProfilingServiceImpl implements PipelineProfilingService {
+	public static final String ID_PLACEHOLDER = "{{id}}";
+	private final PipelineCreatorService pipelineCreatorService;
+	private final int maxMembers;
+
+	public PipelineProfilingServiceImpl(PipelineCreatorService pipelineCreatorService, OrchestratorConfig orchestratorConfig) {
+		this.pipelineCreatorService = pipelineCreatorService;
+		this.maxMembers = orchestratorConfig.getProfilingMaxMembers();
+	}
+
+	@Override
+	public PipelineProfile profilePipeline(PipelineConfig config, String content, String contentType, int members) {
+		if (content == null || contentType == null) {
+			throw new PipelineProfilingException(config.getName(), "a sample content and its content type are required");
+		}
+		if (members < 1) {
+			throw new PipelineProfilingException(config.getName(), "the number of members must be positive, but was %d".formatted(members));
+		}
+		if (members > maxMembers) {
+			throw new PipelineProfilingException(config.getName(), "the number of members must be at most %d, but was %d".formatted(maxMembers, members));
+		}
+
+		final boolean generated = content.contains(ID_PLACEHOLDER);
+		try (ProfilingPipeline profilingPipeline = pipelineCreatorService.createProfilingPipeline(config)) {
+			final long start = System.nanoTime();
+			try {
+				for (int member = 0; member < members; member++) {
+					final String memberContent = generated ? content.replace(ID_PLACEHOLDER, String.valueOf(member)) : content;
+					profilingPipeline.process(LdiAdapter.Content.of(memberContent, contentType));
+				}
+			} catch (RuntimeException e) {
+				throw new PipelineProfilingException(config.getName(), e);
+			}
+			return new PipelineProfile(config.getName(), members, System.nanoTime() - start, profilingPipeline.getResults());
+		}
+	}
+}
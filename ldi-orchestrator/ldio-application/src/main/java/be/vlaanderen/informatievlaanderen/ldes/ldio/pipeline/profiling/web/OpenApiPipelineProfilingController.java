@@ -0,0 +1,25 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling.web;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling.PipelineProfile;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto.PipelineProfileRequestTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+
+@Tag(name = "Pipeline profiling controller")
+public interface OpenApiPipelineProfilingController {
+
+    @ApiResponse(responseCode = "200", description = "Returns per component of the pipeline the wall time, the cpu time, the allocated bytes and the number of models and triples it received and passed on.", content = {
+            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PipelineProfile.class))
+    })
+    @ApiResponse(responseCode = "400", description = "The pipeline configuration is invalid or the sample content could not be processed.")
+    @Operation(summary = "Run sample content through a pipeline of which the outputs are replaced by sinks that do nothing.")
+    PipelineProfile profilePipeline(@RequestBody(description = "The pipeline configuration and the sample content", content = {
+            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PipelineProfileRequestTO.class))
+    }) PipelineProfileRequestTO request);
+
+}
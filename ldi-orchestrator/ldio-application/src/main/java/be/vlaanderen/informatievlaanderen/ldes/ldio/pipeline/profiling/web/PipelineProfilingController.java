@@ -0,0 +1,32 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling.web;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling.PipelineProfile;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling.PipelineProfilingService;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto.PipelineProfileRequestTO;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.OpenApiPipelineController.APPLICATION_YAML_VALUE;
+
+@RestController
+@RequestMapping(path = "/admin/api/v1/pipeline")
+public class PipelineProfilingController implements OpenApiPipelineProfilingController {
+
+	private final PipelineProfilingService pipelineProfilingService;
+
+	public PipelineProfilingController(PipelineProfilingService pipelineProfilingService) {
+		this.pipelineProfilingService = pipelineProfilingService;
+	}
+
+	@Override
+	@PostMapping(path = "profile", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_YAML_VALUE},
+			produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+	public PipelineProfile profilePipeline(@RequestBody PipelineProfileRequestTO request) {
+		return pipelineProfilingService.profilePipeline(request.pipeline().toPipelineConfig(), request.content(),
+				request.contentType(), request.members());
+	}
+
+}
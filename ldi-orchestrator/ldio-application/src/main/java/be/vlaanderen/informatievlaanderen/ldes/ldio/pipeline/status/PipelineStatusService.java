@@ -15,6 +15,32 @@ public interface PipelineStatusService {
 	 */
 	StatusChangeSource getPipelineStatusChangeSource(String pipelineName);
 
+	/**
+	 * Registers a pipeline of which the input has not been created yet, so its INIT status can be fetched while it is
+	 * being initialised, and no other pipeline with the same name can be created meanwhile. A pipeline that has FAILED
+	 * is replaced.
+	 *
+	 * @param pipelineName name of the pipeline that is being initialised
+	 * @return false when a pipeline with this name is already known
+	 */
+	boolean registerInitialisingPipeline(String pipelineName);
+
+	/**
+	 * Removes a registered pipeline of which the initialisation has been given up, as long as its input has not been
+	 * created
+	 *
+	 * @param pipelineName name of the pipeline that is no longer being initialised
+	 */
+	void unregisterInitialisingPipeline(String pipelineName);
+
+	/**
+	 * Marks a pipeline of which the initialisation has failed as FAILED, until a pipeline with the same name is created.
+	 * A pipeline with the same name of which the input has been created meanwhile keeps its status.
+	 *
+	 * @param pipelineName name of the pipeline that could not be initialised
+	 */
+	void markPipelineFailed(String pipelineName);
+
 	/**
 	 * Resume the pipeline if halted
 	 *
@@ -11,9 +11,9 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus.*;
@@ -28,7 +28,7 @@ public class PipelineStatusServiceImpl implements PipelineStatusService {
 
 	public PipelineStatusServiceImpl(ApplicationEventPublisher eventPublisher) {
 		this.eventPublisher = eventPublisher;
-		this.savedPipelines = new HashMap<>();
+		this.savedPipelines = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -60,6 +60,25 @@ public class PipelineStatusServiceImpl implements PipelineStatusService {
 		savedPipelines.put(event.pipelineName(), new SavedPipeline(event.ldioInput(), event.ldioInput().getStatus()));
 	}
 
+	@Override
+	public boolean registerInitialisingPipeline(String pipelineName) {
+		final SavedPipeline initialising = new SavedPipeline(null, INIT);
+		return savedPipelines.compute(pipelineName, (name, savedPipeline) ->
+				savedPipeline == null || savedPipeline.getStatus() == FAILED ? initialising : savedPipeline) == initialising;
+	}
+
+	@Override
+	public void unregisterInitialisingPipeline(String pipelineName) {
+		savedPipelines.computeIfPresent(pipelineName, (name, savedPipeline) ->
+				savedPipeline.getLdioInput() == null && savedPipeline.getStatus() == INIT ? null : savedPipeline);
+	}
+
+	@Override
+	public void markPipelineFailed(String pipelineName) {
+		savedPipelines.compute(pipelineName, (name, savedPipeline) ->
+				savedPipeline == null || savedPipeline.getLdioInput() == null ? new SavedPipeline(null, FAILED) : savedPipeline);
+	}
+
 	@Override
 	public PipelineStatus resumeHaltedPipeline(String pipelineId) {
 		var pipelineStatus = getPipelineStatus(pipelineId);
@@ -69,6 +88,7 @@ public class PipelineStatusServiceImpl implements PipelineStatusService {
 			case INIT -> INIT;
 			case RUNNING -> RUNNING;
 			case STOPPED -> STOPPED;
+			case FAILED -> FAILED;
 		};
 	}
 
@@ -81,12 +101,14 @@ public class PipelineStatusServiceImpl implements PipelineStatusService {
 			case INIT -> INIT;
 			case HALTED -> HALTED;
 			case STOPPED -> STOPPED;
+			case FAILED -> FAILED;
 		};
 	}
 
 	@Override
 	public PipelineStatus stopPipeline(String pipelineId) {
-		PipelineStatus newPipelineStatus = savedPipelines.get(pipelineId).getLdioInput().updateStatus(STOP);
+		LdioInput ldioInput = savedPipelines.get(pipelineId).getLdioInput();
+		PipelineStatus newPipelineStatus = ldioInput == null ? STOPPED : ldioInput.updateStatus(STOP);
 		this.savedPipelines.remove(pipelineId);
 		eventPublisher.publishEvent(new PipelineDeletedEvent(pipelineId));
 		return newPipelineStatus;
@@ -14,7 +14,7 @@ public class PipelineExceptionHandler extends ResponseEntityExceptionHandler {
 
 	@ExceptionHandler(value = {PipelineAlreadyExistsException.class, InvalidPipelineNameException.class,
 			InvalidComponentException.class, LdiAdapterMissingException.class, ConfigPropertyMissingException.class,
-			PipelineInitialisationException.class})
+			PipelineInitialisationException.class, InvalidConfigException.class, PipelineProfilingException.class})
 	public ResponseEntity<Object> handleConflict(RuntimeException ex, WebRequest request) {
 		return handleExceptionInternal(ex, ex.getMessage(), new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
 	}
@@ -3,18 +3,32 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentDefinition;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.InputComponentDefinition;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.FlattenDeserializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public record PipelineConfigTO(String name, String description, InputComponentDefinitionTO input,
-							   List<ComponentDefinitionTO> transformers, List<ComponentDefinitionTO> outputs) {
+							   List<ComponentDefinitionTO> transformers, List<ComponentDefinitionTO> outputs,
+							   @JsonInclude(JsonInclude.Include.NON_EMPTY)
+							   @JsonDeserialize(using = FlattenDeserializer.class) Map<String, String> execution) {
 	public PipelineConfigTO(String name, String description, InputComponentDefinitionTO input,
-							List<ComponentDefinitionTO> transformers, List<ComponentDefinitionTO> outputs) {
+							List<ComponentDefinitionTO> transformers, List<ComponentDefinitionTO> outputs,
+							Map<String, String> execution) {
 		this.name = name;
 		this.description = description;
 		this.input = input;
 		this.transformers = transformers == null ? List.of() : transformers;
 		this.outputs = outputs;
+		this.execution = execution == null ? Map.of() : execution;
+	}
+
+	public PipelineConfigTO(String name, String description, InputComponentDefinitionTO input,
+							List<ComponentDefinitionTO> transformers, List<ComponentDefinitionTO> outputs) {
+		this(name, description, input, transformers, outputs, Map.of());
 	}
 
 	/**
@@ -30,7 +44,7 @@ public record PipelineConfigTO(String name, String description, InputComponentDe
 		var input = new InputComponentDefinitionTO(config.getInput().getName(), adapter, config.getInput().getConfigMap());
 		var transformers = config.getTransformers().stream().map(componentDefinition -> new ComponentDefinitionTO(componentDefinition.getName(), componentDefinition.getConfigMap())).toList();
 		var outputs = config.getOutputs().stream().map(componentDefinition -> new ComponentDefinitionTO(componentDefinition.getName(), componentDefinition.getConfigMap())).toList();
-		return new PipelineConfigTO(config.getName(), config.getDescription(), input, transformers, outputs);
+		return new PipelineConfigTO(config.getName(), config.getDescription(), input, transformers, outputs, config.getExecution());
 	}
 
 	/**
@@ -46,6 +60,7 @@ public record PipelineConfigTO(String name, String description, InputComponentDe
 		config.setInput(new InputComponentDefinition(name, input.getName(), input.getConfig(), adapter));
 		config.setTransformers(transformers.stream().map(componentDefinitionTO -> componentDefinitionTO.toComponentDefinition(name)).toList());
 		config.setOutputs(outputs.stream().map(componentDefinitionTO -> componentDefinitionTO.toComponentDefinition(name)).toList());
+		config.setExecution(new HashMap<>(execution));
 		return config;
 	}
 
@@ -0,0 +1,16 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto;
+
+/**
+ * @param pipeline    configuration of the pipeline to profile, which does not have to exist yet
+ * @param content     sample content, in which every {{id}} is replaced by the sequence number of the member
+ * @param contentType content type of the sample content
+ * @param members     number of members that are generated from the sample content, 1 by default
+ */
+public record PipelineProfileRequestTO(PipelineConfigTO pipeline, String content, String contentType, Integer members) {
+	public PipelineProfileRequestTO(PipelineConfigTO pipeline, String content, String contentType, Integer members) {
+		this.pipeline = pipeline;
+		this.content = content;
+		this.contentType = contentType;
+		this.members = members == null ? 1 : members;
+	}
+}
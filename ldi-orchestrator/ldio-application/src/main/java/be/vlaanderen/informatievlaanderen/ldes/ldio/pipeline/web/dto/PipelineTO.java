@@ -2,9 +2,11 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.StatusChangeSource;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public record PipelineTO(
@@ -14,7 +16,8 @@ public record PipelineTO(
 		String description,
 		InputComponentDefinitionTO input,
 		List<ComponentDefinitionTO> transformers,
-		List<ComponentDefinitionTO> outputs
+		List<ComponentDefinitionTO> outputs,
+		@JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> execution
 ) {
 	/**
 	 * Build a pipeline data transfer object based on the provided information
@@ -36,6 +39,6 @@ public record PipelineTO(
 		var outputs = config.outputs().stream()
 				.map(componentDefinition -> new ComponentDefinitionTO(componentDefinition.name(), componentDefinition.config()))
 				.toList();
-		return new PipelineTO(config.name(), status, statusChangeSource, config.description(), input, transformers, outputs);
+		return new PipelineTO(config.name(), status, statusChangeSource, config.description(), input, transformers, outputs, config.execution());
 	}
 }
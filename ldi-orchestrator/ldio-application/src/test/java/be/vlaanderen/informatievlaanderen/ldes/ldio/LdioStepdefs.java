@@ -1,5 +1,6 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio;
 
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.initializer.PipelineStartupService;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PipelineFileRepository;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto.PipelineConfigTO;
 import io.cucumber.java.After;
@@ -23,6 +24,7 @@ import java.net.URISyntaxException;
 import java.util.Map;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PipelineFileRepositoryTest.getInitialFiles;
+import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
 
 @CucumberContextConfiguration
@@ -67,6 +69,7 @@ public class LdioStepdefs {
 	public void iStartLDIOWithTheProfile(String profile) throws URISyntaxException {
 		testDirectory = new File("src/test/resources/startup/" + profile);
 		context = MinStarterLdioApp.setupApp(profile);
+		await().until(context.getBean(PipelineStartupService.class)::isFinished);
 		init();
 	}
 
@@ -2,6 +2,7 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.DummyIn;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.MockVault;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.initializer.PipelineStartupService;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFParserBuilder;
@@ -35,6 +36,7 @@ class PipelineIntegrationTest {
 
 	@BeforeEach
 	void setup(ConfigurableApplicationContext configContext) {
+		await().until(configContext.getBean(PipelineStartupService.class)::isFinished);
 		dummyIn = (DummyIn) configContext.getBean(pipeline);
 	}
 
@@ -26,6 +26,7 @@ class PipelineServiceTest {
 	@BeforeEach
 	void setup() {
 		pipelineService = new PipelineServiceImpl(pipelineCreatorService, pipelineStatusService, pipelineRepository);
+		when(pipelineStatusService.registerInitialisingPipeline(pipelineName)).thenReturn(true);
 	}
 
 	@Test
@@ -82,6 +83,18 @@ class PipelineServiceTest {
 			doThrow(RuntimeException.class).when(pipelineCreatorService).initialisePipeline(pipelineConfig);
 
 			assertThrows(PipelineInitialisationException.class, () -> pipelineService.addPipeline(pipelineConfig));
+			verify(pipelineStatusService).unregisterInitialisingPipeline(pipelineName);
+		}
+
+		@Test
+		void when_AddPipelineThatIsBeingInitialised_Then_ExpectPipelineAlreadyExistsException() {
+			PipelineConfig pipelineConfig = new PipelineConfig();
+			pipelineConfig.setName(pipelineName);
+			when(pipelineRepository.exists(pipelineName)).thenReturn(false);
+			when(pipelineStatusService.registerInitialisingPipeline(pipelineName)).thenReturn(false);
+
+			assertThrows(PipelineAlreadyExistsException.class, () -> pipelineService.addPipeline(pipelineConfig));
+			verifyNoInteractions(pipelineCreatorService);
 		}
 
 		@Test
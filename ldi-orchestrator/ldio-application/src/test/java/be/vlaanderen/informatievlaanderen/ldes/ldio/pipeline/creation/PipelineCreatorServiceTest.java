@@ -1,11 +1,25 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
 
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.OrchestratorConfig;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.ComponentTimer;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.LdioSender;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.PartitionedComponentExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.ProfilingPipeline;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.StageProfile;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.StagedComponentExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidComponentException;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.LdiAdapterMissingException;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto.ComponentDefinitionTO;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto.InputComponentDefinitionTO;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.web.dto.PipelineConfigTO;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.jena.rdf.model.Model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,11 +28,17 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ComponentScan;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
 
 @SpringBootTest
 @ComponentScan("be.vlaanderen.informatievlaanderen.ldes.ldio")
@@ -58,4 +78,161 @@ class PipelineCreatorServiceTest {
 		assertThatNoException().isThrownBy(() -> pipelineCreatorService.initialisePipeline(pipelineConfig));
 	}
 
-}
\ No newline at end of file
+	@Test
+	void given_StagedExecution_when_InitialiseAndRemovePipeline_then_StagesAreStartedAndStopped() {
+		final String pipelineName = "staged-pipeline";
+		final ComponentDefinitionTO adapterTO = new ComponentDefinitionTO("dummyAdapt", Map.of());
+		final InputComponentDefinitionTO inputDefinitionTO = new InputComponentDefinitionTO("dummyIn", adapterTO, Map.of());
+		final PipelineConfigTO pipelineConfigTO = new PipelineConfigTO(pipelineName, "", inputDefinitionTO, List.of(), List.of(),
+				Map.of("mode", "staged", "queue-capacity", "10"));
+		final PipelineConfig pipelineConfig = pipelineConfigTO.toPipelineConfig();
+
+		pipelineCreatorService.initialisePipeline(pipelineConfig);
+		assertThat(configurableApplicationContext.getBean(pipelineName + "-ldiStagedExecutor")).isInstanceOf(StagedComponentExecutor.class);
+
+		pipelineCreatorService.removePipeline(pipelineName);
+		assertThat(configurableApplicationContext.getBeanFactory().containsSingleton(pipelineName + "-ldiStagedExecutor")).isFalse();
+	}
+
+	@Test
+	void given_DirectExecutionWithBackpressure_when_ModelsPileUp_then_InputIsHalted() {
+		final String pipelineName = "direct-backpressure-pipeline";
+		final ComponentDefinitionTO adapterTO = new ComponentDefinitionTO("dummyAdapt", Map.of());
+		final InputComponentDefinitionTO inputDefinitionTO = new InputComponentDefinitionTO("dummyIn", adapterTO, Map.of());
+		final PipelineConfigTO pipelineConfigTO = new PipelineConfigTO(pipelineName, "", inputDefinitionTO, List.of(),
+				List.of(new ComponentDefinitionTO("dummyOut", Map.of())), Map.of("high-watermark", "2", "low-watermark", "1"));
+		pipelineCreatorService.initialisePipeline(pipelineConfigTO.toPipelineConfig());
+		final LdioInput ldioInput = configurableApplicationContext.getBean(pipelineName, LdioInput.class);
+		final InFlightCounter inFlightCounter = configurableApplicationContext.getBean(pipelineName + "-ldiSender", LdioSender.class)
+				.getInFlightCounter();
+
+		inFlightCounter.increment();
+		inFlightCounter.increment();
+		await().until(() -> ldioInput.getStatus() == PipelineStatus.HALTED);
+
+		inFlightCounter.decrement();
+		await().until(() -> ldioInput.getStatus() == PipelineStatus.RUNNING);
+		inFlightCounter.decrement();
+		pipelineCreatorService.removePipeline(pipelineName);
+	}
+
+	@Test
+	void given_Pipeline_when_RemovePipeline_then_ComponentTimersAreRemoved() {
+		final String pipelineName = "timed-pipeline";
+		final ComponentDefinitionTO adapterTO = new ComponentDefinitionTO("dummyAdapt", Map.of());
+		final InputComponentDefinitionTO inputDefinitionTO = new InputComponentDefinitionTO("dummyIn", adapterTO, Map.of());
+		final PipelineConfigTO pipelineConfigTO = new PipelineConfigTO(pipelineName, "", inputDefinitionTO,
+				List.of(new ComponentDefinitionTO("dummyTransform", Map.of())), List.of(new ComponentDefinitionTO("dummyOut", Map.of())));
+
+		pipelineCreatorService.initialisePipeline(pipelineConfigTO.toPipelineConfig());
+		assertThat(componentTimers(pipelineName)).hasSize(3);
+
+		pipelineCreatorService.removePipeline(pipelineName);
+		assertThat(componentTimers(pipelineName)).isEmpty();
+	}
+
+	@Test
+	void given_PartitionedExecution_when_InitialiseAndRemovePipeline_then_LanesAreStartedAndStopped() {
+		final String pipelineName = "partitioned-pipeline";
+		final ComponentDefinitionTO adapterTO = new ComponentDefinitionTO("dummyAdapt", Map.of());
+		final InputComponentDefinitionTO inputDefinitionTO = new InputComponentDefinitionTO("dummyIn", adapterTO, Map.of());
+		final PipelineConfigTO pipelineConfigTO = new PipelineConfigTO(pipelineName, "", inputDefinitionTO, List.of(), List.of(),
+				Map.of("mode", "partitioned", "lanes", "2"));
+		final PipelineConfig pipelineConfig = pipelineConfigTO.toPipelineConfig();
+
+		pipelineCreatorService.initialisePipeline(pipelineConfig);
+		assertThat(configurableApplicationContext.getBean(pipelineName + "-ldiPartitionedExecutor")).isInstanceOf(PartitionedComponentExecutor.class);
+
+		pipelineCreatorService.removePipeline(pipelineName);
+		assertThat(configurableApplicationContext.getBeanFactory().containsSingleton(pipelineName + "-ldiPartitionedExecutor")).isFalse();
+	}
+
+	@Test
+	void given_PipelineConfig_when_CreateProfilingPipeline_then_OutputsAreReplacedAndNothingIsRegistered() {
+		final String pipelineName = "profiled-pipeline";
+		final ComponentDefinitionTO adapterTO = new ComponentDefinitionTO("dummyAdapt", Map.of());
+		final InputComponentDefinitionTO inputDefinitionTO = new InputComponentDefinitionTO("dummyIn", adapterTO, Map.of());
+		final PipelineConfigTO pipelineConfigTO = new PipelineConfigTO(pipelineName, "", inputDefinitionTO,
+				List.of(new ComponentDefinitionTO("dummyTransform", Map.of())), List.of(new ComponentDefinitionTO("dummyOut", Map.of())));
+
+		final ProfilingPipeline profilingPipeline = pipelineCreatorService.createProfilingPipeline(pipelineConfigTO.toPipelineConfig());
+		profilingPipeline.process(LdiAdapter.Content.of("<http://example.org/s> <http://example.org/p> \"o\" .", "text/turtle"));
+
+		assertThat(profilingPipeline.getResults())
+				.extracting(StageProfile.Result::name, StageProfile.Result::triplesReceived, StageProfile.Result::triplesPassedOn)
+				.containsExactly(tuple("dummyAdapt", 0L, 1L), tuple("dummyTransform", 1L, 2L), tuple("dummyOut", 2L, 0L));
+		assertThat(configurableApplicationContext.containsBean(pipelineName)).isFalse();
+		assertThat(configurableApplicationContext.containsBean(pipelineName + "-ldiSender")).isFalse();
+	}
+
+	@Test
+	void given_StatefulTransformer_when_CreateProfilingPipeline_then_StateIsInMemoryAndTransformerIsClosed() {
+		final List<ComponentProperties> configured = new ArrayList<>();
+		final AtomicBoolean closed = new AtomicBoolean();
+		configurableApplicationContext.getBeanFactory().registerSingleton("statefulTransform", (LdioTransformerConfigurator) properties -> {
+			configured.add(properties);
+			return new ClosableTransformer(closed);
+		});
+		final ComponentDefinitionTO adapterTO = new ComponentDefinitionTO("dummyAdapt", Map.of());
+		final InputComponentDefinitionTO inputDefinitionTO = new InputComponentDefinitionTO("dummyIn", adapterTO, Map.of());
+		final PipelineConfigTO pipelineConfigTO = new PipelineConfigTO("stateful-pipeline", "", inputDefinitionTO,
+				List.of(new ComponentDefinitionTO("statefulTransform", Map.of("state", "sqlite", "keep-state", "false"))),
+				List.of(new ComponentDefinitionTO("dummyOut", Map.of())));
+
+		try (ProfilingPipeline profilingPipeline = pipelineCreatorService.createProfilingPipeline(pipelineConfigTO.toPipelineConfig())) {
+			assertThat(profilingPipeline.getResults()).hasSize(3);
+			assertThat(closed).isFalse();
+		}
+
+		assertThat(configured).singleElement()
+				.extracting(properties -> properties.getProperty("state"))
+				.isEqualTo("memory");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void given_UnknownOutput_when_CreateProfilingPipeline_then_ThrowException() {
+		final ComponentDefinitionTO adapterTO = new ComponentDefinitionTO("dummyAdapt", Map.of());
+		final InputComponentDefinitionTO inputDefinitionTO = new InputComponentDefinitionTO("dummyIn", adapterTO, Map.of());
+		final PipelineConfigTO pipelineConfigTO = new PipelineConfigTO(PIPELINE_NAME, "", inputDefinitionTO, List.of(),
+				List.of(new ComponentDefinitionTO("unknownOut", Map.of())));
+		final PipelineConfig pipelineConfig = pipelineConfigTO.toPipelineConfig();
+
+		assertThatThrownBy(() -> pipelineCreatorService.createProfilingPipeline(pipelineConfig))
+				.isInstanceOf(InvalidComponentException.class);
+	}
+
+	@Test
+	void given_InvalidExecution_when_InitialisePipeline_then_ThrowException() {
+		final ComponentDefinitionTO adapterTO = new ComponentDefinitionTO("dummyAdapt", Map.of());
+		final InputComponentDefinitionTO inputDefinitionTO = new InputComponentDefinitionTO("dummyIn", adapterTO, Map.of());
+		final PipelineConfigTO pipelineConfigTO = new PipelineConfigTO(PIPELINE_NAME, "", inputDefinitionTO, List.of(), List.of(),
+				Map.of("mode", "staged", "workers", "0"));
+		final PipelineConfig pipelineConfig = pipelineConfigTO.toPipelineConfig();
+
+		assertThatThrownBy(() -> pipelineCreatorService.initialisePipeline(pipelineConfig))
+				.isInstanceOf(InvalidConfigException.class);
+	}
+
+	private static Collection<Timer> componentTimers(String pipelineName) {
+		return Metrics.globalRegistry.find(ComponentTimer.LDIO_COMPONENT_DURATION).tag(PipelineConfig.PIPELINE_NAME, pipelineName).timers();
+	}
+
+	private static class ClosableTransformer extends LdioTransformer implements AutoCloseable {
+		private final AtomicBoolean closed;
+
+		private ClosableTransformer(AtomicBoolean closed) {
+			this.closed = closed;
+		}
+
+		@Override
+		public void apply(Model model) {
+			next(model);
+		}
+
+		@Override
+		public void close() {
+			closed.set(true);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.DummyIn;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineBackpressure;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.StatusChangeSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger.HALT;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger.RESUME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class BackpressureMonitorTest {
+	private final AtomicInteger queuedModels = new AtomicInteger();
+	private DummyIn ldioInput;
+	private BackpressureMonitor backpressureMonitor;
+
+	@BeforeEach
+	void setUp() {
+		ldioInput = new DummyIn(null, null, event -> {});
+		backpressureMonitor = new BackpressureMonitor("pipeline", ldioInput, queuedModels::get, new PipelineBackpressure(10, 2));
+	}
+
+	@AfterEach
+	void tearDown() {
+		backpressureMonitor.shutdown();
+	}
+
+	@Test
+	void when_HighWatermarkIsReached_then_InputIsHaltedUntilLowWatermarkIsReached() {
+		queuedModels.set(10);
+		await().until(() -> ldioInput.getStatus() == PipelineStatus.HALTED);
+		assertThat(ldioInput.getStatusChangeSource()).isEqualTo(StatusChangeSource.BACKPRESSURE);
+		assertThat(backpressureMonitor.isHalted()).isTrue();
+
+		queuedModels.set(5);
+		backpressureMonitor.check();
+		assertThat(ldioInput.getStatus()).isEqualTo(PipelineStatus.HALTED);
+
+		queuedModels.set(2);
+		await().until(() -> ldioInput.getStatus() == PipelineStatus.RUNNING);
+		assertThat(backpressureMonitor.isHalted()).isFalse();
+	}
+
+	@Test
+	void given_HaltedInput_when_ResumedManually_then_InputIsHaltedAgainAtHighWatermark() {
+		queuedModels.set(10);
+		await().until(() -> ldioInput.getStatus() == PipelineStatus.HALTED);
+
+		ldioInput.updateStatus(RESUME);
+		backpressureMonitor.check();
+
+		assertThat(ldioInput.getStatus()).isEqualTo(PipelineStatus.HALTED);
+		assertThat(ldioInput.getStatusChangeSource()).isEqualTo(StatusChangeSource.BACKPRESSURE);
+		assertThat(backpressureMonitor.isHalted()).isTrue();
+	}
+
+	@Test
+	void given_ManuallyHaltedInput_when_LowWatermarkIsReached_then_InputStaysHalted() {
+		queuedModels.set(10);
+		await().until(() -> ldioInput.getStatus() == PipelineStatus.HALTED);
+		ldioInput.updateStatus(HALT);
+
+		queuedModels.set(0);
+		await().until(() -> !backpressureMonitor.isHalted());
+
+		assertThat(ldioInput.getStatus()).isEqualTo(PipelineStatus.HALTED);
+		assertThat(ldioInput.getStatusChangeSource()).isEqualTo(StatusChangeSource.MANUAL);
+	}
+
+	@Test
+	void given_ManuallyHaltedInput_when_HighWatermarkIsReached_then_NothingHappens() {
+		ldioInput.updateStatus(HALT);
+
+		queuedModels.set(20);
+		backpressureMonitor.check();
+
+		assertThat(backpressureMonitor.isHalted()).isFalse();
+		assertThat(ldioInput.getStatusChangeSource()).isEqualTo(StatusChangeSource.MANUAL);
+	}
+}
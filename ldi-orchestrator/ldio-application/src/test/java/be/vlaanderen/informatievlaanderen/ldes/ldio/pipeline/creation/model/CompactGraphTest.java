@@ -0,0 +1,83 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.shared.AddDeniedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactGraphTest {
+	private static final Property NAME = ModelFactory.createDefaultModel().createProperty("http://schema.org/name");
+	private static final Property KNOWS = ModelFactory.createDefaultModel().createProperty("http://schema.org/knows");
+
+	@Test
+	void when_CopyOf_then_GraphIsIsomorphicAndCanBeQueriedOnEveryPosition() {
+		final Model model = createModel();
+
+		final CompactGraph compactGraph = CompactGraph.copyOf(model.getGraph());
+		final Model compactModel = ModelFactory.createModelForGraph(compactGraph);
+
+		assertThat(compactGraph.isIsomorphicWith(model.getGraph())).isTrue();
+		assertThat(compactModel.listStatements(resource(3), null, (String) null).toList()).hasSize(2);
+		assertThat(compactModel.listStatements(null, NAME, (String) null).toList()).hasSize(10);
+		assertThat(compactModel.listStatements(null, KNOWS, resource(4)).toList()).hasSize(1);
+		assertThat(compactModel.listStatements(resource(42), null, (String) null).toList()).isEmpty();
+		assertThat(compactModel.getNsPrefixURI("schema")).isEqualTo("http://schema.org/");
+	}
+
+	@Test
+	void when_CompactGraphIsChanged_then_ThrowException() {
+		final Model compactModel = ModelFactory.createModelForGraph(CompactGraph.copyOf(createModel().getGraph()));
+
+		assertThatThrownBy(() -> compactModel.add(resource(42), NAME, "42")).isInstanceOf(AddDeniedException.class);
+	}
+
+	@Test
+	void when_ViewIsChanged_then_CompactGraphAndOtherViewsAreUnchanged() {
+		final CompactGraph compactGraph = CompactGraph.copyOf(createModel().getGraph());
+		final Model changedView = CopyOnWriteGraph.createModel(compactGraph);
+		final Model otherView = CopyOnWriteGraph.createModel(compactGraph);
+
+		changedView.add(resource(42), NAME, "42");
+		changedView.removeAll(resource(0), null, null);
+
+		assertThat(changedView.size()).isEqualTo(19);
+		assertThat(otherView.size()).isEqualTo(20);
+		assertThat(otherView.contains(resource(42), NAME)).isFalse();
+		assertThat(compactGraph.size()).isEqualTo(20);
+		assertThat(((CopyOnWriteGraph) changedView.getGraph()).isCopied()).isTrue();
+		assertThat(((CopyOnWriteGraph) otherView.getGraph()).isCopied()).isFalse();
+	}
+
+	@Test
+	void when_Compact_then_CompactGraphOfUnchangedViewIsReused() {
+		final CompactGraph compactGraph = CompactGraph.copyOf(createModel().getGraph());
+		final Model unchangedView = CopyOnWriteGraph.createModel(compactGraph);
+		final Model changedView = CopyOnWriteGraph.createModel(compactGraph);
+		changedView.add(resource(42), NAME, "42");
+
+		assertThat(CopyOnWriteGraph.compact(unchangedView)).isSameAs(compactGraph);
+		assertThat(CopyOnWriteGraph.compact(changedView)).isNotSameAs(compactGraph);
+		assertThat(CopyOnWriteGraph.compact(changedView).size()).isEqualTo(21);
+	}
+
+	private static Model createModel() {
+		final Model model = ModelFactory.createDefaultModel();
+		model.setNsPrefix("schema", "http://schema.org/");
+		IntStream.range(0, 10).forEach(i -> {
+			model.add(resource(i), NAME, "" + i);
+			model.add(resource(i), KNOWS, resource(i + 1));
+		});
+		return model;
+	}
+
+	private static Resource resource(int index) {
+		return ModelFactory.createDefaultModel().createResource("http://example.org/" + index);
+	}
+}
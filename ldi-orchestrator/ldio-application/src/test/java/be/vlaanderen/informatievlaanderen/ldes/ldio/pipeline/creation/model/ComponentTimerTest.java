@@ -0,0 +1,20 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComponentTimerTest {
+	@Test
+	void given_NoExecution_when_IsPercentileHistogramEnabled_then_ReturnFalse() {
+		assertThat(ComponentTimer.isPercentileHistogramEnabled("pipeline", null)).isFalse();
+		assertThat(ComponentTimer.isPercentileHistogramEnabled("pipeline", Map.of("mode", "staged"))).isFalse();
+	}
+
+	@Test
+	void given_PercentileHistogramOptedIn_when_IsPercentileHistogramEnabled_then_ReturnTrue() {
+		assertThat(ComponentTimer.isPercentileHistogramEnabled("pipeline", Map.of(ComponentTimer.PERCENTILE_HISTOGRAM, "true"))).isTrue();
+	}
+}
@@ -0,0 +1,171 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputDeadLetter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class DeadLetterStoreTest {
+	private static final OutputDeadLetter DEAD_LETTER = new OutputDeadLetter(2, Duration.ofMillis(10));
+	private final List<Model> received = new CopyOnWriteArrayList<>();
+	@TempDir
+	private Path directory;
+	private DeadLetterStore deadLetterStore;
+
+	@AfterEach
+	void tearDown() {
+		deadLetterStore.shutdown();
+	}
+
+	@Test
+	void given_OutputRecovers_when_Accept_then_DeadLetterIsHandedToOutput() {
+		final AtomicInteger attempts = new AtomicInteger();
+		deadLetterStore = createStore(model -> {
+			if (attempts.incrementAndGet() < 2) {
+				throw new IllegalStateException("Output unavailable");
+			}
+			received.add(model);
+		});
+
+		deadLetterStore.accept(createModel(), new IllegalStateException("Output unavailable"));
+
+		await().until(() -> received.size() == 1);
+		assertThat(received.getFirst().isIsomorphicWith(createModel())).isTrue();
+		await().until(() -> countFiles() == 0);
+		assertThat(deadLetterStore.getOverview()).isEqualTo(new DeadLetterStore.Overview(0, "Ldio:Output", 0, 0));
+	}
+
+	@Test
+	void given_OutputKeepsFailing_when_Accept_then_DeadLetterIsParkedUntilReplayedOrPurged() throws IOException {
+		final AtomicInteger attempts = new AtomicInteger();
+		deadLetterStore = createStore(model -> {
+			attempts.incrementAndGet();
+			throw new IllegalStateException("Output unavailable");
+		});
+
+		deadLetterStore.accept(createModel(), new IllegalStateException("Output unavailable"));
+
+		await().until(() -> deadLetterStore.getOverview().parked() == 1);
+		assertThat(attempts).hasValue(2);
+		assertThat(countFiles()).isEqualTo(1);
+
+		assertThat(deadLetterStore.replay()).isEqualTo(1);
+		await().until(() -> attempts.get() == 4 && deadLetterStore.getOverview().parked() == 1);
+
+		assertThat(deadLetterStore.purge()).isEqualTo(1);
+		assertThat(deadLetterStore.getOverview().parked()).isZero();
+		assertThat(countFiles()).isZero();
+	}
+
+	@Test
+	void given_StoredDeadLetters_when_StoreIsCreated_then_DeadLettersAreRetried() {
+		deadLetterStore = createStore(model -> {
+			throw new IllegalStateException("Output unavailable");
+		});
+		deadLetterStore.accept(createModel(), new IllegalStateException("Output unavailable"));
+		await().until(() -> countFiles() == 1);
+		deadLetterStore.shutdown();
+
+		deadLetterStore = createStore(received::add);
+
+		await().until(() -> received.size() == 1);
+		await().until(() -> countFiles() == 0);
+	}
+
+	@Test
+	void given_RetryIsBlocked_when_Accept_then_DeadLetterIsWrittenRightAway() throws IOException {
+		final CountDownLatch retryStarted = new CountDownLatch(1);
+		final CountDownLatch retryReleased = new CountDownLatch(1);
+		deadLetterStore = createStore(model -> {
+			retryStarted.countDown();
+			awaitQuietly(retryReleased);
+			received.add(model);
+		});
+		deadLetterStore.accept(createModel(), new IllegalStateException("Output unavailable"));
+		awaitQuietly(retryStarted);
+
+		deadLetterStore.accept(createModel(), new IllegalStateException("Output unavailable"));
+		assertThat(countFiles()).isEqualTo(2);
+
+		retryReleased.countDown();
+		await().until(() -> received.size() == 2);
+	}
+
+	@Test
+	void given_StoreIsShutDown_when_Accept_then_DeadLetterIsKeptOnDisk() throws IOException {
+		deadLetterStore = createStore(received::add);
+		deadLetterStore.shutdown();
+
+		deadLetterStore.accept(createModel(), new IllegalStateException("Output unavailable"));
+
+		assertThat(countFiles()).isEqualTo(1);
+	}
+
+	@Test
+	void given_SerialisedOutput_when_PipelineAndStoreHandOverAtOnce_then_OutputIsNeverCalledConcurrently() {
+		final AtomicInteger active = new AtomicInteger();
+		final AtomicInteger maxActive = new AtomicInteger();
+		final SerialisedOutput output = new SerialisedOutput(model -> {
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				active.decrementAndGet();
+			}
+			received.add(model);
+		});
+		deadLetterStore = createStore(output);
+
+		for (int i = 0; i < 50; i++) {
+			deadLetterStore.accept(createModel(), new IllegalStateException("Output unavailable"));
+			output.accept(createModel());
+		}
+
+		await().until(() -> received.size() == 100);
+		assertThat(maxActive).hasValue(1);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private DeadLetterStore createStore(LdiOutput output) {
+		return new DeadLetterStore("pipeline", 0, "Ldio:Output", output, DEAD_LETTER, directory, PipelineExecution.Threads.PLATFORM);
+	}
+
+	private long countFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+
+	private static Model createModel() {
+		final Model model = ModelFactory.createDefaultModel();
+		model.add(model.createResource("http://example.org/member"), ResourceFactory.createProperty("http://example.org/index"), "1");
+		return model;
+	}
+}
@@ -0,0 +1,257 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiBatchOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputBatching;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputQueue;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig.PIPELINE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class LdioSenderTest {
+	private final List<List<Model>> batches = new CopyOnWriteArrayList<>();
+	private final List<Model> models = new CopyOnWriteArrayList<>();
+	private final LdiBatchOutput batchOutput = batches::add;
+	private final LdiOutput output = models::add;
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private LdioSender ldioSender;
+
+	@BeforeEach
+	void setUp() {
+		Metrics.addRegistry(meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ldioSender.shutdown();
+		Metrics.removeRegistry(meterRegistry);
+	}
+
+	private double dataOut(String pipelineName) {
+		return meterRegistry.counter("ldio_data_out", PIPELINE_NAME, pipelineName).count();
+	}
+
+	@Test
+	void given_BatchSize_when_Apply_then_BatchesAreHandedOverWhenFull() {
+		ldioSender = createSender("pipeline", OutputSettings.of(batchOutput).withBatching(new OutputBatching(3, Long.MAX_VALUE, Duration.ofMinutes(1))),
+				OutputSettings.of(output));
+
+		IntStream.range(0, 7).forEach(i -> ldioSender.apply(createModel(i)));
+
+		await().until(() -> batches.size() == 2 && models.size() == 7);
+		assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSize(3));
+	}
+
+	@Test
+	void given_BatchMaxBytes_when_Apply_then_BatchIsHandedOverWhenTooLarge() {
+		ldioSender = createSender("pipeline", OutputSettings.of(batchOutput).withBatching(new OutputBatching(100, 1, Duration.ofMinutes(1))));
+
+		ldioSender.apply(createModel(0));
+
+		await().until(() -> batches.size() == 1);
+	}
+
+	@Test
+	void given_BatchLinger_when_BatchIsNotFull_then_BatchIsHandedOverAfterLinger() {
+		ldioSender = createSender("pipeline", OutputSettings.of(batchOutput).withBatching(new OutputBatching(100, Long.MAX_VALUE, Duration.ofMillis(100))));
+
+		IntStream.range(0, 5).forEach(i -> ldioSender.apply(createModel(i)));
+
+		await().until(() -> batches.size() == 1);
+		assertThat(batches.getFirst()).hasSize(5);
+	}
+
+	@Test
+	void when_Shutdown_then_QueuedModelsAndPendingBatchAreHandedOver() {
+		ldioSender = createSender("pipeline", OutputSettings.of(batchOutput).withBatching(new OutputBatching(100, Long.MAX_VALUE, Duration.ofMinutes(1))));
+		IntStream.range(0, 5).forEach(i -> ldioSender.apply(createModel(i)));
+
+		ldioSender.shutdown();
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.getFirst()).hasSize(5);
+	}
+
+	@Test
+	void given_ModelsInQueuesAndBatches_when_Shutdown_then_PipelineIsDrained() {
+		final LdiOutput slowOutput = model -> {
+			sleepQuietly(10);
+			models.add(model);
+		};
+		ldioSender = createSender("pipeline", OutputSettings.of(batchOutput).withBatching(new OutputBatching(100, Long.MAX_VALUE, Duration.ofMinutes(1))),
+				OutputSettings.of(slowOutput).withQueue(new OutputQueue(100, OutputQueue.OverflowPolicy.BLOCK)));
+		IntStream.range(0, 10).forEach(i -> ldioSender.apply(createModel(i)));
+		assertThat(ldioSender.getInFlightCounter().getInFlight()).isPositive();
+
+		ldioSender.shutdown();
+
+		assertThat(ldioSender.getInFlightCounter().getInFlight()).isZero();
+		assertThat(models).hasSize(10);
+		assertThat(batches.getFirst()).hasSize(10);
+	}
+
+	@Test
+	void given_IdleSender_when_Shutdown_then_ReturnImmediately() {
+		ldioSender = createSender("pipeline", OutputSettings.of(batchOutput).withBatching(new OutputBatching(100, Long.MAX_VALUE, Duration.ofMinutes(1))));
+		final long start = System.nanoTime();
+
+		ldioSender.shutdown();
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void given_OutputWithoutBatchSupport_when_BatchIsFull_then_ModelsAreHandedOverOneByOne() {
+		ldioSender = createSender("pipeline", OutputSettings.of(output).withBatching(new OutputBatching(2, Long.MAX_VALUE, Duration.ofMinutes(1))));
+
+		ldioSender.apply(createModel(0));
+		ldioSender.apply(createModel(1));
+
+		await().until(() -> models.size() == 2);
+	}
+
+	@Test
+	void given_SlowOutput_when_Apply_then_OtherOutputsAreNotHeldUp() {
+		final CountDownLatch slowOutputReleased = new CountDownLatch(1);
+		final LdiOutput slowOutput = model -> awaitQuietly(slowOutputReleased);
+		ldioSender = createSender("pipeline", OutputSettings.of(slowOutput).withQueue(new OutputQueue(10, OutputQueue.OverflowPolicy.BLOCK)),
+				OutputSettings.of(output));
+
+		IntStream.range(0, 5).forEach(i -> ldioSender.apply(createModel(i)));
+
+		await().until(() -> models.size() == 5);
+		slowOutputReleased.countDown();
+	}
+
+	@Test
+	void given_CompactMembers_when_OutputChangesModel_then_OtherOutputsAreNotAffected() {
+		final LdiOutput changingOutput = model -> model.removeAll();
+		ldioSender = new LdioSender("pipeline", List.of(OutputSettings.of(changingOutput), OutputSettings.of(output)),
+				PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.COMPACT);
+
+		IntStream.range(0, 5).forEach(i -> ldioSender.apply(createModel(i)));
+
+		await().until(() -> models.size() == 5);
+		assertThat(models).allSatisfy(model -> assertThat(model.size()).isEqualTo(1));
+	}
+
+	@Test
+	void given_DropPolicy_when_QueueIsFull_then_ModelsAreDropped() {
+		final CountDownLatch outputStarted = new CountDownLatch(1);
+		final CountDownLatch outputReleased = new CountDownLatch(1);
+		final LdiOutput slowOutput = model -> {
+			outputStarted.countDown();
+			awaitQuietly(outputReleased);
+			models.add(model);
+		};
+		ldioSender = createSender("pipeline", OutputSettings.of(slowOutput).withQueue(new OutputQueue(1, OutputQueue.OverflowPolicy.DROP)));
+		ldioSender.apply(createModel(0));
+		awaitQuietly(outputStarted);
+
+		IntStream.range(1, 5).forEach(i -> ldioSender.apply(createModel(i)));
+		outputReleased.countDown();
+
+		await().until(() -> models.size() == 2);
+		ldioSender.shutdown();
+		assertThat(models).hasSize(2);
+	}
+
+	@Test
+	void given_BlockPolicy_when_QueueIsFull_then_CallerWaits() {
+		final CountDownLatch outputReleased = new CountDownLatch(1);
+		final LdiOutput slowOutput = model -> {
+			awaitQuietly(outputReleased);
+			models.add(model);
+		};
+		ldioSender = createSender("pipeline", OutputSettings.of(slowOutput).withQueue(new OutputQueue(1, OutputQueue.OverflowPolicy.BLOCK)));
+		final Thread caller = Thread.ofPlatform().start(() -> IntStream.range(0, 5).forEach(i -> ldioSender.apply(createModel(i))));
+
+		await().until(() -> caller.getState() == Thread.State.WAITING);
+		outputReleased.countDown();
+
+		await().until(() -> models.size() == 5);
+	}
+
+	@Test
+	void given_OutputWithoutQueue_when_OutputFails_then_FailureIsPassedOnAndModelIsNotCounted() {
+		final LdiOutput failingOutput = model -> {
+			throw new IllegalStateException("write failed");
+		};
+		ldioSender = createSender("counted-pipeline", OutputSettings.of(failingOutput), OutputSettings.of(output));
+		final Model model = createModel(0);
+
+		assertThatThrownBy(() -> ldioSender.apply(model))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("write failed");
+		assertThat(models).hasSize(1);
+		assertThat(dataOut("counted-pipeline")).isZero();
+	}
+
+	@Test
+	void given_OutputsWithoutQueue_when_Apply_then_ModelIsCountedOnceDelivered() {
+		ldioSender = createSender("delivered-pipeline", OutputSettings.of(output), OutputSettings.of(batchOutput));
+
+		ldioSender.apply(createModel(0));
+
+		assertThat(models).hasSize(1);
+		assertThat(batches).hasSize(1);
+		assertThat(dataOut("delivered-pipeline")).isEqualTo(1);
+	}
+
+	@Test
+	void given_QueuedOutput_when_OutputFails_then_FailureIsOnlyLoggedAndModelIsNotCounted() {
+		final LdiOutput failingOutput = model -> {
+			throw new IllegalStateException("write failed");
+		};
+		ldioSender = createSender("queued-pipeline", OutputSettings.of(failingOutput).withQueue(new OutputQueue(10, OutputQueue.OverflowPolicy.BLOCK)),
+				OutputSettings.of(output));
+
+		ldioSender.apply(createModel(0));
+		ldioSender.shutdown();
+
+		assertThat(models).hasSize(1);
+		assertThat(dataOut("queued-pipeline")).isZero();
+	}
+
+	private static LdioSender createSender(String pipelineName, OutputSettings... outputs) {
+		return new LdioSender(pipelineName, List.of(outputs), PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.MUTABLE);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Model createModel(int index) {
+		final Model model = ModelFactory.createDefaultModel();
+		model.add(model.createResource("http://example.org/" + index), model.createProperty("http://example.org/index"), "" + index);
+		return model;
+	}
+}
@@ -0,0 +1,96 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.InFlightCounter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelinePartitioning;
+import org.apache.jena.rdf.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelinePartitioning.DEFAULT_PARTITION_PROPERTY;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelinePartitioning.PartitionKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class PartitionedComponentExecutorTest {
+	private static final Property VERSION_OF = ResourceFactory.createProperty(DEFAULT_PARTITION_PROPERTY);
+	private static final Property INDEX = ResourceFactory.createProperty("http://example.org/index");
+	private static final Property NAME = ResourceFactory.createProperty("http://example.org/name");
+	private static final PipelineExecution EXECUTION = new PipelineExecution(PipelineExecution.Mode.PARTITIONED, 10, 1, true, PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.MUTABLE);
+	private final Map<String, List<Integer>> receivedPerEntity = new ConcurrentHashMap<>();
+	private final List<String> threads = new CopyOnWriteArrayList<>();
+	private PartitionedComponentExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void given_MultipleEntities_when_TransformLinkedData_then_OrderIsPreservedPerEntity() {
+		executor = createExecutor(new PipelinePartitioning(4, PartitionKey.PROPERTY, DEFAULT_PARTITION_PROPERTY));
+
+		IntStream.range(0, 200).forEach(index -> executor.transformLinkedData(createVersion("entity-" + index % 10, index)));
+
+		await().until(() -> receivedPerEntity.values().stream().mapToInt(List::size).sum() == 200);
+		receivedPerEntity.forEach((entity, indexes) -> assertThat(indexes).isSorted().hasSize(20));
+		assertThat(threads.stream().distinct()).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	void given_SubjectKey_when_GetLane_then_RootSubjectDeterminesLane() {
+		executor = createExecutor(new PipelinePartitioning(16, PartitionKey.SUBJECT, DEFAULT_PARTITION_PROPERTY));
+		final Model first = createVersion("entity", 1);
+		final Model second = ModelFactory.createDefaultModel();
+		second.add(second.createResource("http://example.org/entity/1"), INDEX, second.createResource("http://example.org/other"));
+		second.add(second.createResource("http://example.org/other"), NAME, "other");
+
+		assertThat(executor.getLane(first)).isEqualTo(executor.getLane(second));
+	}
+
+	@Test
+	void given_ModelWithoutKey_when_GetLane_then_ReturnFirstLane() {
+		executor = createExecutor(new PipelinePartitioning(16, PartitionKey.PROPERTY, DEFAULT_PARTITION_PROPERTY));
+		final Model model = ModelFactory.createDefaultModel();
+		model.add(model.createResource("http://example.org/thing"), NAME, "thing");
+
+		assertThat(executor.getLane(model)).isZero();
+	}
+
+	/**
+	 * Creates a pipeline with a transformer that waits a random time before it records the model
+	 */
+	private PartitionedComponentExecutor createExecutor(PipelinePartitioning partitioning) {
+		final LdioTransformer recorder = new LdioTransformer() {
+			@Override
+			public void apply(Model model) {
+				try {
+					Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				final String entity = model.listObjectsOfProperty(VERSION_OF).next().toString();
+				receivedPerEntity.computeIfAbsent(entity, key -> new CopyOnWriteArrayList<>())
+						.add(model.listObjectsOfProperty(INDEX).next().asLiteral().getInt());
+				threads.add(Thread.currentThread().getName());
+			}
+		};
+		return new PartitionedComponentExecutor("pipeline", EXECUTION, partitioning, recorder, new InFlightCounter());
+	}
+
+	private static Model createVersion(String entity, int index) {
+		final Model model = ModelFactory.createDefaultModel();
+		final Resource version = model.createResource("http://example.org/%s/%d".formatted(entity, index));
+		model.add(version, VERSION_OF, model.createResource("http://example.org/" + entity));
+		model.addLiteral(version, INDEX, index);
+		return model;
+	}
+}
@@ -0,0 +1,99 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProfilingPipelineTest {
+	private static final String MEMBER = "<http://example.org/member> <http://example.org/p> \"a\", \"b\" .";
+	private final StageProfile adapterProfile = new StageProfile(ComponentTimer.ComponentType.ADAPTER, "adapter");
+	private final StageProfile transformerProfile = new StageProfile(ComponentTimer.ComponentType.TRANSFORMER, "transformer");
+	private final StageProfile outputProfile = new StageProfile(ComponentTimer.ComponentType.OUTPUT, "output");
+	private final List<Model> received = new ArrayList<>();
+
+	@Test
+	void when_Process_then_EveryStageOnlyRecordsItsOwnWork() {
+		final LdiAdapter slowAdapter = content -> Stream.of(content.content(), content.content()).map(turtle -> {
+			sleep(10);
+			return RDFParser.fromString(turtle).lang(Lang.TURTLE).toModel();
+		});
+		final ProfilingPipeline profilingPipeline = new ProfilingPipeline(new AdapterDebugger(slowAdapter, adapterProfile),
+				List.of(new TransformerDebugger(new TripleAdder(20), transformerProfile)),
+				List.of(new OutputDebugger(this::slowOutput, outputProfile)),
+				List.of(adapterProfile, transformerProfile, outputProfile), List.of());
+
+		profilingPipeline.process(LdiAdapter.Content.of(MEMBER, "text/turtle"));
+
+		assertThat(received).hasSize(2).allMatch(model -> model.size() == 3);
+		final List<StageProfile.Result> results = profilingPipeline.getResults();
+		assertThat(results).extracting(StageProfile.Result::type).containsExactly("adapter", "transformer", "output");
+		assertThat(results.get(0)).extracting(StageProfile.Result::received, StageProfile.Result::triplesReceived,
+				StageProfile.Result::passedOn, StageProfile.Result::triplesPassedOn).containsExactly(1L, 0L, 2L, 4L);
+		assertThat(results.get(1)).extracting(StageProfile.Result::received, StageProfile.Result::triplesReceived,
+				StageProfile.Result::passedOn, StageProfile.Result::triplesPassedOn).containsExactly(2L, 4L, 2L, 6L);
+		assertThat(results.get(2)).extracting(StageProfile.Result::received, StageProfile.Result::triplesReceived,
+				StageProfile.Result::passedOn).containsExactly(2L, 6L, 0L);
+		assertThat(results.get(0).wallTimeNanos()).isBetween(20_000_000L, 200_000_000L);
+		assertThat(results.get(1).wallTimeNanos()).isBetween(40_000_000L, 200_000_000L);
+		assertThat(results.get(2).wallTimeNanos()).isGreaterThanOrEqualTo(200_000_000L);
+		assertThat(results.get(1).allocatedBytes()).isPositive();
+	}
+
+	@Test
+	void given_NoAdapter_when_Process_then_ContentIsParsedAccordingToItsContentType() {
+		final ProfilingPipeline profilingPipeline = new ProfilingPipeline(null, List.of(),
+				List.of(new OutputDebugger(received::add, outputProfile)), List.of(outputProfile), List.of());
+
+		profilingPipeline.process(LdiAdapter.Content.of(MEMBER, "text/turtle"));
+
+		assertThat(received).hasSize(1);
+		assertThat(profilingPipeline.getResults().get(0).triplesReceived()).isEqualTo(2);
+		assertThatThrownBy(() -> profilingPipeline.process(LdiAdapter.Content.of(MEMBER, "application/octet-stream")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void slowOutput(Model model) {
+		sleep(100);
+		received.add(model);
+	}
+
+	/**
+	 * Waits the given time and passes on the model with an extra triple
+	 */
+	private static class TripleAdder extends LdioTransformer {
+		private final long millis;
+
+		private TripleAdder(long millis) {
+			this.millis = millis;
+		}
+
+		@Override
+		public void apply(Model model) {
+			sleep(millis);
+			final Model transformed = ModelFactory.createDefaultModel().add(model);
+			transformed.add(ResourceFactory.createResource("http://example.org/member"),
+					ResourceFactory.createProperty("http://example.org/transformed"), "true");
+			next(transformed);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputQueue;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class StagedComponentExecutorTest {
+	private static final Property INDEX = ResourceFactory.createProperty("http://example.org/index");
+	private final List<Integer> received = new CopyOnWriteArrayList<>();
+	private StagedComponentExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void given_OrderedExecutionWithMultipleWorkers_when_TransformLinkedData_then_OrderIsPreserved() {
+		executor = createExecutor(new PipelineExecution(PipelineExecution.Mode.STAGED, 10, 4, true, PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.MUTABLE), received::add);
+
+		IntStream.range(0, 100).forEach(index -> executor.transformLinkedData(createModel(index)));
+
+		await().until(() -> received.size() == 200);
+		assertThat(received).isEqualTo(IntStream.range(0, 100).boxed().flatMap(index -> List.of(index, index).stream()).toList());
+	}
+
+	@Test
+	void given_OrderedExecutionWithMultipleOutputWorkers_when_TransformLinkedData_then_OutputsReceiveModelsInOrder() {
+		final PipelineExecution execution = new PipelineExecution(PipelineExecution.Mode.STAGED, 10, 4, true, PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.MUTABLE);
+		final LdiOutput ldiOutput = model -> {
+			sleepQuietly(ThreadLocalRandom.current().nextInt(3));
+			received.add(model.listObjectsOfProperty(INDEX).next().asLiteral().getInt());
+		};
+		final LdioSender sender = new LdioSender("pipeline", List.of(OutputSettings.of(ldiOutput)), execution.threads(),
+				execution.memberGraph());
+		final LdioTransformer forwarder = new LdioTransformer() {
+			@Override
+			public void apply(Model model) {
+				next(model);
+			}
+		};
+		executor = new StagedComponentExecutor("pipeline", execution, List.of(forwarder, sender),
+				List.of(execution.workers(), execution.workers()), sender.getInFlightCounter());
+
+		IntStream.range(0, 100).forEach(index -> executor.transformLinkedData(createModel(index)));
+
+		await().until(() -> received.size() == 100);
+		assertThat(received).isEqualTo(IntStream.range(0, 100).boxed().toList());
+	}
+
+	@Test
+	void given_UnorderedExecution_when_TransformLinkedData_then_AllModelsAreSent() {
+		executor = createExecutor(new PipelineExecution(PipelineExecution.Mode.STAGED, 10, 4, false, PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.MUTABLE), received::add);
+
+		IntStream.range(0, 100).forEach(index -> executor.transformLinkedData(createModel(index)));
+
+		await().until(() -> received.size() == 200);
+		assertThat(received).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 100).boxed().flatMap(index -> List.of(index, index).stream()).toList());
+	}
+
+	@Test
+	void given_SlowOutput_when_QueuesAreFull_then_InputWaits() throws InterruptedException {
+		final CountDownLatch outputReleased = new CountDownLatch(1);
+		executor = createExecutor(new PipelineExecution(PipelineExecution.Mode.STAGED, 1, 1, true, PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.MUTABLE), index -> {
+			awaitQuietly(outputReleased);
+			received.add(index);
+		});
+		final Thread input = Thread.ofPlatform().start(() -> IntStream.range(0, 10).forEach(index -> executor.transformLinkedData(createModel(index))));
+
+		await().until(() -> input.getState() == Thread.State.WAITING);
+		assertThat(received).isEmpty();
+
+		outputReleased.countDown();
+		input.join();
+		await().until(() -> received.size() == 20);
+	}
+
+	@Test
+	void given_VirtualThreads_when_ManyWorkersBlock_then_ModelsAreProcessedConcurrently() {
+		final PipelineExecution execution = new PipelineExecution(PipelineExecution.Mode.STAGED, 1000, 1000, false, PipelineExecution.Threads.VIRTUAL, PipelineExecution.MemberGraph.MUTABLE);
+		final List<Boolean> virtualWorkers = new CopyOnWriteArrayList<>();
+		final LdiOutput ldiOutput = model -> received.add(model.listObjectsOfProperty(INDEX).next().asLiteral().getInt());
+		final LdioSender sender = new LdioSender("pipeline", List.of(OutputSettings.of(ldiOutput)), execution.threads(),
+				execution.memberGraph());
+		final LdioTransformer blockingTransformer = new LdioTransformer() {
+			@Override
+			public void apply(Model model) {
+				virtualWorkers.add(Thread.currentThread().isVirtual());
+				sleepQuietly(200);
+				next(model);
+			}
+		};
+		executor = new StagedComponentExecutor("pipeline", execution, List.of(blockingTransformer, sender),
+				List.of(execution.workers(), 1), sender.getInFlightCounter());
+
+		IntStream.range(0, 1000).forEach(index -> executor.transformLinkedData(createModel(index)));
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> received.size() == 1000);
+		assertThat(virtualWorkers).containsOnly(true);
+	}
+
+	/**
+	 * Creates a pipeline with a one-to-many transformer that duplicates every model after a random delay, followed
+	 * by a sender with a single output
+	 */
+	private StagedComponentExecutor createExecutor(PipelineExecution execution, IntConsumer output) {
+		final LdiOutput ldiOutput = model -> output.accept(model.listObjectsOfProperty(INDEX).next().asLiteral().getInt());
+		final LdioSender sender = new LdioSender("pipeline",
+				List.of(OutputSettings.of(ldiOutput).withQueue(new OutputQueue(1, OutputQueue.OverflowPolicy.BLOCK))),
+				PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.MUTABLE);
+		final LdioTransformer duplicator = new LdioTransformer() {
+			@Override
+			public void apply(Model model) {
+				sleepQuietly(ThreadLocalRandom.current().nextInt(3));
+				next(model);
+				next(model);
+			}
+		};
+		return new StagedComponentExecutor("pipeline", execution, List.of(duplicator, sender), List.of(execution.workers(), 1),
+				sender.getInFlightCounter());
+	}
+
+	private static Model createModel(int index) {
+		final Model model = ModelFactory.createDefaultModel();
+		model.addLiteral(model.createResource("http://example.org/" + index), INDEX, index);
+		return model;
+	}
+
+	private static void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimedAdapterTest {
+	private static final Model MODEL = ModelFactory.createDefaultModel();
+	private final Timer timer = Timer.builder("adapter").register(new SimpleMeterRegistry());
+
+	@Test
+	void given_LazyAdapter_when_AllModelsAreTaken_then_OnlyTimeOfAdapterIsRecordedOnce() {
+		final LdiAdapter lazyAdapter = content -> Stream.generate(() -> {
+			sleep(10);
+			return MODEL;
+		}).limit(3);
+		final TimedAdapter timedAdapter = new TimedAdapter(lazyAdapter, timer);
+
+		final Stream<Model> models = timedAdapter.apply(LdiAdapter.Content.of("", "text/turtle"));
+		assertThat(timer.count()).isZero();
+		models.forEach(model -> sleep(100));
+
+		assertThat(timer.count()).isEqualTo(1);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isBetween(30.0, 300.0);
+	}
+
+	@Test
+	void given_SizedStream_when_Count_then_TimeIsRecorded() {
+		final TimedAdapter timedAdapter = new TimedAdapter(content -> Stream.of(MODEL), timer);
+
+		assertThat(timedAdapter.apply(LdiAdapter.Content.of("", "text/turtle")).count()).isEqualTo(1);
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@Test
+	void given_LazyAdapter_when_StreamIsClosedBeforeAllModelsAreTaken_then_TimeIsRecordedOnce() {
+		final TimedAdapter timedAdapter = new TimedAdapter(content -> Stream.generate(() -> MODEL).limit(3), timer);
+
+		try (Stream<Model> models = timedAdapter.apply(LdiAdapter.Content.of("", "text/turtle"))) {
+			assertThat(models.findFirst()).isPresent();
+		}
+
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@Test
+	void given_AllModelsAreTaken_when_StreamIsClosed_then_TimeIsNotRecordedTwice() {
+		final TimedAdapter timedAdapter = new TimedAdapter(content -> Stream.of(MODEL, MODEL), timer);
+
+		try (Stream<Model> models = timedAdapter.apply(LdiAdapter.Content.of("", "text/turtle"))) {
+			models.forEach(model -> {
+			});
+		}
+
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
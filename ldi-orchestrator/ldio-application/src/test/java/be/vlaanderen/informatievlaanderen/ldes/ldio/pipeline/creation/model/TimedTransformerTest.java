@@ -0,0 +1,90 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioTransformer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimedTransformerTest {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void when_Apply_then_TimeOfDownstreamComponentsIsExcluded() {
+		final Timer timer = Timer.builder("transformer").register(meterRegistry);
+		final List<Model> received = new ArrayList<>();
+		final TimedTransformer timedTransformer = new TimedTransformer(new Duplicator(20), timer);
+		LdioTransformer.link(timedTransformer, List.of(new SlowOutput(received, 200)));
+
+		timedTransformer.apply(ModelFactory.createDefaultModel());
+
+		assertThat(received).hasSize(2);
+		assertThat(timer.count()).isEqualTo(1);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isBetween(20.0, 200.0);
+	}
+
+	@Test
+	void given_NestedTimedTransformers_when_Apply_then_EveryTransformerOnlyRecordsItsOwnTime() {
+		final Timer firstTimer = Timer.builder("first").register(meterRegistry);
+		final Timer secondTimer = Timer.builder("second").register(meterRegistry);
+		final List<Model> received = new ArrayList<>();
+		final TimedTransformer first = new TimedTransformer(new Duplicator(10), firstTimer);
+		final TimedTransformer second = new TimedTransformer(new Duplicator(50), secondTimer);
+		LdioTransformer.link(first, List.of(second, new SlowOutput(received, 0)));
+
+		first.apply(ModelFactory.createDefaultModel());
+
+		assertThat(received).hasSize(4);
+		assertThat(secondTimer.count()).isEqualTo(2);
+		assertThat(firstTimer.totalTime(TimeUnit.MILLISECONDS)).isBetween(10.0, 100.0);
+	}
+
+	/**
+	 * Waits the given time and passes on the model twice
+	 */
+	private static class Duplicator extends LdioTransformer {
+		private final long millis;
+
+		private Duplicator(long millis) {
+			this.millis = millis;
+		}
+
+		@Override
+		public void apply(Model model) {
+			sleep(millis);
+			next(model);
+			next(model);
+		}
+	}
+
+	private static class SlowOutput extends LdioTransformer {
+		private final List<Model> received;
+		private final long millis;
+
+		private SlowOutput(List<Model> received, long millis) {
+			this.received = received;
+			this.millis = millis;
+		}
+
+		@Override
+		public void apply(Model model) {
+			sleep(millis);
+			received.add(model);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.initializer;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineService;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineServiceImpl;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.PipelineCreatorService;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineAlreadyExistsException;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PipelineFileRepository;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PipelineStartupServiceTest {
+	private final PipelineStatusServiceImpl pipelineStatusService = new PipelineStatusServiceImpl(mock(ApplicationEventPublisher.class));
+	private final PipelineCreatorService pipelineCreatorService = mock(PipelineCreatorService.class);
+	private final PipelineService pipelineService = new PipelineServiceImpl(pipelineCreatorService, pipelineStatusService,
+			mock(PipelineFileRepository.class));
+
+	@Test
+	void given_SlowAndBrokenPipelines_when_Initialize_then_PipelinesAreInitialisedConcurrently() {
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger running = new AtomicInteger();
+		doAnswer(invocation -> {
+			final PipelineConfig pipelineConfig = invocation.getArgument(0);
+			if (pipelineConfig.getName().equals("broken")) {
+				throw new IllegalStateException("Broken");
+			}
+			running.incrementAndGet();
+			release.await(10, TimeUnit.SECONDS);
+			return null;
+		}).when(pipelineCreatorService).initialisePipeline(any());
+		final PipelineStartupService startupService = new PipelineStartupService(List.of(
+				initializer("slow-1", "slow-2", "broken")
+		), pipelineStatusService, 3);
+
+		startupService.initialize();
+
+		await().until(() -> running.get() == 2);
+		await().until(() -> pipelineStatusService.getPipelineStatusOverview().get("broken") == PipelineStatus.FAILED);
+		assertThat(pipelineStatusService.getPipelineStatusOverview())
+				.containsEntry("slow-1", PipelineStatus.INIT)
+				.containsEntry("slow-2", PipelineStatus.INIT);
+		assertThat(startupService.isFinished()).isFalse();
+
+		release.countDown();
+
+		await().until(startupService::isFinished);
+	}
+
+	@Test
+	void given_PipelineThatAlreadyExists_when_Initialize_then_ExistingPipelineIsNotMarkedAsFailed() {
+		final PipelineStartupService startupService = new PipelineStartupService(List.of(
+				initializer("pipeline"),
+				initializer("pipeline")
+		), pipelineStatusService, 1);
+
+		startupService.initialize();
+
+		await().until(startupService::isFinished);
+		verify(pipelineCreatorService, times(1)).initialisePipeline(any());
+		assertThat(pipelineStatusService.getPipelineStatusOverview()).isEqualTo(Map.of("pipeline", PipelineStatus.INIT));
+	}
+
+	@Test
+	void given_FailedPipeline_when_Initialize_then_PipelineWithSameNameOfNextInitializerIsCreated() {
+		final AtomicInteger attempts = new AtomicInteger();
+		doAnswer(invocation -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("Broken");
+			}
+			return null;
+		}).when(pipelineCreatorService).initialisePipeline(any());
+		final PipelineStartupService startupService = new PipelineStartupService(List.of(
+				initializer("pipeline"),
+				initializer("pipeline")
+		), pipelineStatusService, 1);
+
+		startupService.initialize();
+
+		await().until(startupService::isFinished);
+		assertThat(attempts).hasValue(2);
+		assertThat(pipelineStatusService.getPipelineStatusOverview()).isEqualTo(Map.of("pipeline", PipelineStatus.INIT));
+	}
+
+	@Test
+	void given_PipelineThatIsBeingInitialised_when_AddedThroughApi_then_ThrowException() {
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch started = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			started.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			return null;
+		}).when(pipelineCreatorService).initialisePipeline(any());
+		final PipelineStartupService startupService = new PipelineStartupService(List.of(initializer("pipeline")),
+				pipelineStatusService, 1);
+
+		startupService.initialize();
+		await().until(() -> started.getCount() == 0);
+
+		assertThatThrownBy(() -> pipelineService.addPipeline(pipelineConfig("pipeline")))
+				.isInstanceOf(PipelineAlreadyExistsException.class);
+		release.countDown();
+		await().until(startupService::isFinished);
+		verify(pipelineCreatorService, times(1)).initialisePipeline(any());
+	}
+
+	private static PipelineConfig pipelineConfig(String pipelineName) {
+		final PipelineConfig pipelineConfig = new PipelineConfig();
+		pipelineConfig.setName(pipelineName);
+		return pipelineConfig;
+	}
+
+	private PipelineInitializer initializer(String... pipelineNames) {
+		return new PipelineInitializer() {
+			@Override
+			public String name() {
+				return "Test Initializer";
+			}
+
+			@Override
+			public List<PipelineInitialisation> initPipelines() {
+				return List.of(pipelineNames).stream()
+						.map(pipelineName -> new PipelineInitialisation(pipelineName,
+								() -> pipelineService.addPipeline(pipelineConfig(pipelineName))))
+						.toList();
+			}
+		};
+	}
+}
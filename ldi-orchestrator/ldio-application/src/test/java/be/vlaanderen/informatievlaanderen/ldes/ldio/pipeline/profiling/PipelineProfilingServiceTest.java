@@ -0,0 +1,68 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.profiling;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.OrchestratorConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.PipelineCreatorService;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.model.ProfilingPipeline;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineProfilingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PipelineProfilingServiceTest {
+	private final PipelineCreatorService pipelineCreatorService = mock(PipelineCreatorService.class);
+	private final ProfilingPipeline profilingPipeline = mock(ProfilingPipeline.class);
+	private final OrchestratorConfig orchestratorConfig = new OrchestratorConfig();
+	private PipelineProfilingService pipelineProfilingService;
+	private final PipelineConfig config = new PipelineConfig();
+
+	@BeforeEach
+	void setUp() {
+		config.setName("profiled");
+		orchestratorConfig.setProfilingMaxMembers(10);
+		pipelineProfilingService = new PipelineProfilingServiceImpl(pipelineCreatorService, orchestratorConfig);
+		when(pipelineCreatorService.createProfilingPipeline(config)).thenReturn(profilingPipeline);
+	}
+
+	@Test
+	void given_ContentWithIdPlaceholder_when_Profile_then_EveryMemberGetsItsOwnId() {
+		final PipelineProfile profile = pipelineProfilingService.profilePipeline(config, "{\"id\": {{id}}}", "application/json", 3);
+
+		final ArgumentCaptor<LdiAdapter.Content> contents = ArgumentCaptor.forClass(LdiAdapter.Content.class);
+		verify(profilingPipeline, times(3)).process(contents.capture());
+		assertThat(contents.getAllValues()).extracting(LdiAdapter.Content::content)
+				.containsExactly("{\"id\": 0}", "{\"id\": 1}", "{\"id\": 2}");
+		assertThat(profile.pipeline()).isEqualTo("profiled");
+		assertThat(profile.members()).isEqualTo(3);
+		verify(profilingPipeline).close();
+	}
+
+	@Test
+	void given_InvalidRequest_when_Profile_then_ThrowException() {
+		assertThatThrownBy(() -> pipelineProfilingService.profilePipeline(config, null, "text/turtle", 1))
+				.isInstanceOf(PipelineProfilingException.class);
+		assertThatThrownBy(() -> pipelineProfilingService.profilePipeline(config, "", "text/turtle", 0))
+				.isInstanceOf(PipelineProfilingException.class)
+				.hasMessage("Error while profiling pipeline \"profiled\": the number of members must be positive, but was 0");
+		assertThatThrownBy(() -> pipelineProfilingService.profilePipeline(config, "", "text/turtle", 11))
+				.isInstanceOf(PipelineProfilingException.class)
+				.hasMessage("Error while profiling pipeline \"profiled\": the number of members must be at most 10, but was 11");
+		verifyNoInteractions(pipelineCreatorService);
+	}
+
+	@Test
+	void given_FailingComponent_when_Profile_then_ThrowException() {
+		doThrow(new IllegalStateException("invalid sample")).when(profilingPipeline).process(any());
+
+		assertThatThrownBy(() -> pipelineProfilingService.profilePipeline(config, "", "text/turtle", 1))
+				.isInstanceOf(PipelineProfilingException.class)
+				.hasMessage("Error while profiling pipeline \"profiled\": invalid sample");
+		verify(profilingPipeline).close();
+	}
+}
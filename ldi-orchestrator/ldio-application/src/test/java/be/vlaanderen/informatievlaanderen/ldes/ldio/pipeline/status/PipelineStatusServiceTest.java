@@ -3,11 +3,12 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioInput;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.InputCreatedEvent;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.PipelineDeletedEvent;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineDoesNotExistException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationEventPublisher;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class PipelineStatusServiceTest {
@@ -32,4 +33,49 @@ class PipelineStatusServiceTest {
         verify(eventPublisher).publishEvent(new PipelineDeletedEvent(pipelineName));
     }
 
+    @Test
+    void when_InitialisationOfPipelineFails_Then_PipelineIsFailed() {
+        assertTrue(pipelineStatusService.registerInitialisingPipeline("other-pipeline"));
+        assertFalse(pipelineStatusService.registerInitialisingPipeline(pipelineName));
+        assertEquals(PipelineStatus.INIT, pipelineStatusService.getPipelineStatus("other-pipeline"));
+
+        pipelineStatusService.markPipelineFailed("other-pipeline");
+
+        assertEquals(PipelineStatus.FAILED, pipelineStatusService.getPipelineStatus("other-pipeline"));
+        assertEquals(PipelineStatus.FAILED, pipelineStatusService.haltRunningPipeline("other-pipeline"));
+        assertEquals(PipelineStatus.STOPPED, pipelineStatusService.stopPipeline("other-pipeline"));
+        assertThrows(PipelineDoesNotExistException.class, () -> pipelineStatusService.getPipelineStatus("other-pipeline"));
+    }
+
+    @Test
+    void when_PipelineHasFailed_Then_PipelineWithSameNameCanBeInitialised() {
+        pipelineStatusService.markPipelineFailed("other-pipeline");
+
+        assertTrue(pipelineStatusService.registerInitialisingPipeline("other-pipeline"));
+        assertEquals(PipelineStatus.INIT, pipelineStatusService.getPipelineStatus("other-pipeline"));
+    }
+
+    @Test
+    void when_InitialisationFailsOfPipelineWithCreatedInput_Then_PipelineKeepsItsStatus() {
+        when(input.getStatus()).thenReturn(PipelineStatus.RUNNING);
+        pipelineStatusService.handlePipelineCreated(new InputCreatedEvent(pipelineName, input));
+
+        pipelineStatusService.markPipelineFailed(pipelineName);
+
+        assertEquals(PipelineStatus.RUNNING, pipelineStatusService.getPipelineStatus(pipelineName));
+    }
+
+    @Test
+    void when_InitialisationIsGivenUp_Then_PipelineIsUnregistered() {
+        when(input.getStatus()).thenReturn(PipelineStatus.RUNNING);
+        pipelineStatusService.handlePipelineCreated(new InputCreatedEvent(pipelineName, input));
+        assertTrue(pipelineStatusService.registerInitialisingPipeline("other-pipeline"));
+
+        pipelineStatusService.unregisterInitialisingPipeline("other-pipeline");
+        pipelineStatusService.unregisterInitialisingPipeline(pipelineName);
+
+        assertThrows(PipelineDoesNotExistException.class, () -> pipelineStatusService.getPipelineStatus("other-pipeline"));
+        assertEquals(PipelineStatus.RUNNING, pipelineStatusService.getPipelineStatus(pipelineName));
+    }
+
 }
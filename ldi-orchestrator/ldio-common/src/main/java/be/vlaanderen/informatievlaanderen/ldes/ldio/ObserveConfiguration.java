@@ -1,15 +1,31 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio;
 
 import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class ObserveConfiguration {
 	public static final String ERROR_TEMPLATE = "ERROR - when='{}', problem='{}'";
+	public static final String OBSERVATION_SAMPLE_RATE = "orchestrator.observation.sample-rate";
 
+	/**
+	 * @param sampleRate share of the observations of the models passing through the pipelines that is recorded
+	 */
 	@Bean
-	public ObservationRegistry observationRegistry() {
-		return ObservationRegistry.create();
+	public ObservationRegistry observationRegistry(@Value("${" + OBSERVATION_SAMPLE_RATE + ":1.0}") double sampleRate) {
+		final ObservationRegistry observationRegistry = ObservationRegistry.create();
+		if (sampleRate < 1) {
+			observationRegistry.observationConfig().observationPredicate(new PipelineObservationSampler(sampleRate));
+		}
+		return observationRegistry;
+	}
+
+	/**
+	 * @return whether an observation made with the registry would be recorded by any handler
+	 */
+	public static boolean isObserving(ObservationRegistry observationRegistry) {
+		return observationRegistry != null && !observationRegistry.isNoop();
 	}
 }
@@ -0,0 +1,10 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * Context of the observations that are made for every model that passes through a pipeline, which sets them apart
+ * from the other observations, e.g. of the incoming http requests, so only the former are sampled.
+ */
+public class PipelineObservationContext extends Observation.Context {
+}
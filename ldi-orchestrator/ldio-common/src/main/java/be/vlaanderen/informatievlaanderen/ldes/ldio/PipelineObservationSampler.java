@@ -0,0 +1,29 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationPredicate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Only lets through the given share of the observations that are made for the models of the pipelines, while all
+ * other observations are kept. An observation that is not let through is a no-op, which is much cheaper to make.
+ */
+public class PipelineObservationSampler implements ObservationPredicate {
+	private final double sampleRate;
+
+	/**
+	 * @param sampleRate share of the pipeline observations to let through, between 0 and 1
+	 */
+	public PipelineObservationSampler(double sampleRate) {
+		if (sampleRate < 0 || sampleRate > 1) {
+			throw new IllegalArgumentException("The observation sample rate must be between 0 and 1, but was " + sampleRate);
+		}
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public boolean test(String name, Observation.Context context) {
+		return !(context instanceof PipelineObservationContext) || ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+}
@@ -14,6 +14,9 @@ public class OrchestratorConfig {
 	public static final String DEBUG = "debug";
 	private String name = randomUUID().toString();
 	private String directory;
+	private String deadLetterDirectory = "dead-letters";
+	private int pipelineInitParallelism = 4;
+	private int profilingMaxMembers = 100_000;
 	private List<PipelineConfig> pipelines;
 
 	public String getName() {
@@ -32,6 +35,30 @@ public class OrchestratorConfig {
 		this.directory = directory;
 	}
 
+	public String getDeadLetterDirectory() {
+		return deadLetterDirectory;
+	}
+
+	public void setDeadLetterDirectory(String deadLetterDirectory) {
+		this.deadLetterDirectory = deadLetterDirectory;
+	}
+
+	public int getPipelineInitParallelism() {
+		return pipelineInitParallelism;
+	}
+
+	public void setPipelineInitParallelism(int pipelineInitParallelism) {
+		this.pipelineInitParallelism = pipelineInitParallelism;
+	}
+
+	public int getProfilingMaxMembers() {
+		return profilingMaxMembers;
+	}
+
+	public void setProfilingMaxMembers(int profilingMaxMembers) {
+		this.profilingMaxMembers = profilingMaxMembers;
+	}
+
 	public List<PipelineConfig> getPipelines() {
 		return pipelines;
 	}
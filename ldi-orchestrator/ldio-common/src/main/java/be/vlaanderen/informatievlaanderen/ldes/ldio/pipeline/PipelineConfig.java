@@ -3,8 +3,10 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentDefinition;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.InputComponentDefinition;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 public class PipelineConfig {
 	public static final String NAME_PATTERN = "^[0-9a-zA-Z_\\-. ]+$";
@@ -14,6 +16,7 @@ public class PipelineConfig {
 	private InputComponentDefinition input;
 	private List<ComponentDefinition> transformers = new LinkedList<>();
 	private List<ComponentDefinition> outputs;
+	private Map<String, String> execution = new HashMap<>();
 
 	public String getName() {
 		return name;
@@ -54,4 +57,12 @@ public class PipelineConfig {
 	public void setOutputs(List<ComponentDefinition> outputs) {
 		this.outputs = outputs;
 	}
+
+	public Map<String, String> getExecution() {
+		return execution;
+	}
+
+	public void setExecution(Map<String, String> execution) {
+		this.execution = execution;
+	}
 }
@@ -0,0 +1,73 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps track of the number of models that are somewhere in a pipeline: being transformed, waiting in a queue or a
+ * micro-batch, or being handed to an output. Every component that takes over a model counts it, and stops counting
+ * it once the model has been passed on, filtered out or sent. A model that is passed on to multiple outputs is thus
+ * counted once for every output, and the pipeline is drained exactly when the count is zero.
+ */
+public class InFlightCounter {
+	public static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+	private final AtomicLong inFlight = new AtomicLong();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition drained = lock.newCondition();
+
+	public void increment() {
+		inFlight.incrementAndGet();
+	}
+
+	public void decrement() {
+		decrement(1);
+	}
+
+	public void decrement(long count) {
+		if (inFlight.addAndGet(-count) == 0) {
+			lock.lock();
+			try {
+				drained.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of models that are in the pipeline
+	 */
+	public long getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * Waits until no models are left in the pipeline, which returns immediately when the pipeline is idle
+	 *
+	 * @param timeout maximum time to wait
+	 * @return true when the pipeline has been drained in time
+	 */
+	public boolean awaitDrained(Duration timeout) {
+		if (inFlight.get() == 0) {
+			return true;
+		}
+		lock.lock();
+		try {
+			long remainingNanos = timeout.toNanos();
+			while (inFlight.get() != 0) {
+				if (remainingNanos <= 0) {
+					return false;
+				}
+				remainingNanos = drained.awaitNanos(remainingNanos);
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -12,10 +12,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus.*;
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger.START;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.StatusChangeSource.AUTO;
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.StatusChangeSource.MANUAL;
 
 /**
@@ -32,7 +35,8 @@ public abstract class LdioInput implements LdiComponent {
 	protected final ApplicationEventPublisher applicationEventPublisher;
 	private final Logger log = LoggerFactory.getLogger(this.getClass());
 
-	private PipelineStatus pipelineStatus;
+	private volatile PipelineStatus pipelineStatus;
+	private volatile StatusChangeSource statusChangeSource;
 
 	/**
 	 * Creates a LdiInput with its Component Executor and LDI Adapter
@@ -48,6 +52,7 @@ public abstract class LdioInput implements LdiComponent {
 		this.ldioObserver = ldioObserver;
 		this.applicationEventPublisher = applicationEventPublisher;
 		this.pipelineStatus = INIT;
+		this.statusChangeSource = AUTO;
 	}
 
 	public void processInput(String content, String contentType) {
@@ -56,7 +61,11 @@ public abstract class LdioInput implements LdiComponent {
 
 	public void processInput(LdiAdapter.Content content) {
 		final Supplier<String> failedContentLogSupplier = () -> "Processing below message.%n%n###mime###%n%s%n###content###%n%s".formatted(content.mimeType(), content.content());
-		ldioObserver.observe(() -> adapter.apply(content).forEach(this::processModel), "processInput", failedContentLogSupplier);
+		ldioObserver.observe(() -> {
+			try (Stream<Model> models = adapter.apply(content)) {
+				models.forEach(this::processModel);
+			}
+		}, "processInput", failedContentLogSupplier);
 	}
 
 	protected void processModel(Model model) {
@@ -66,6 +75,19 @@ public abstract class LdioInput implements LdiComponent {
 
 	public abstract void shutdown();
 
+	/**
+	 * Waits until all models this input has handed to the pipeline have been sent to the outputs or filtered out
+	 *
+	 * @param timeout maximum time to wait
+	 * @return true when the pipeline has been drained in time, or when its models are not tracked
+	 */
+	protected boolean awaitDrained(Duration timeout) {
+		if (executor instanceof TrackedComponentExecutor trackedComponentExecutor) {
+			return trackedComponentExecutor.getInFlightCounter().awaitDrained(timeout);
+		}
+		return true;
+	}
+
 	public PipelineStatus updateStatus(PipelineStatusTrigger trigger) {
 		return updateStatus(trigger, MANUAL);
 	}
@@ -88,6 +110,7 @@ public abstract class LdioInput implements LdiComponent {
 			default -> log.warn("Unhandled status update on pipeline: {} for status: {}", ldioObserver.getPipelineName(), pipelineStatus);
 		}
 
+		this.statusChangeSource = source;
 		log.info("UPDATED status for pipeline '{}' to {}", ldioObserver.getPipelineName(), pipelineStatus);
 		applicationEventPublisher.publishEvent(new PipelineStatusEvent(ldioObserver.getPipelineName(), this.pipelineStatus, source));
 		return this.pipelineStatus;
@@ -104,4 +127,11 @@ public abstract class LdioInput implements LdiComponent {
 	public PipelineStatus getStatus() {
 		return this.pipelineStatus;
 	}
+
+	/**
+	 * @return the source of the last status change of the pipeline
+	 */
+	public StatusChangeSource getStatusChangeSource() {
+		return this.statusChangeSource;
+	}
 }
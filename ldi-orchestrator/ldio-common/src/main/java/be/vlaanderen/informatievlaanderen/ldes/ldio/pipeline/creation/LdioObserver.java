@@ -1,6 +1,8 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldio.ObserveConfiguration;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.PipelineObservationContext;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
@@ -14,15 +16,18 @@ import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.PipelineConf
 
 /**
  * Observer that is dealing with errors and metrics from ldio actions
+ * <br />
+ * The counter of the component is resolved once, and no observation is made at all when the observation registry has
+ * no handlers, as this observer is called for every model that enters a pipeline.
  */
 public class LdioObserver {
 	private static final String LDIO_DATA_IN = "ldio_data_in";
-	private static final String LDIO_DATA_OUT = "ldio_data_out";
 	private static final String LDIO_COMPONENT_NAME = "ldio_type";
 	private static final Logger log = LoggerFactory.getLogger(LdioObserver.class);
 	private final String componentName;
 	private final String pipelineName;
 	private final ObservationRegistry observationRegistry;
+	private final Counter dataIn;
 
 	/**
 	 * @param componentName       name of the component that must be observed
@@ -33,6 +38,7 @@ public class LdioObserver {
 		this.componentName = componentName;
 		this.pipelineName = pipelineName;
 		this.observationRegistry = observationRegistry;
+		this.dataIn = Metrics.counter(LDIO_DATA_IN, PIPELINE_NAME, pipelineName, LDIO_COMPONENT_NAME, componentName);
 	}
 
 	/**
@@ -47,34 +53,33 @@ public class LdioObserver {
 	 */
 	@SafeVarargs
 	public final void observe(Runnable observable, String location, Supplier<String>... additionalErrorLoggingContent) {
-		final String errorLocation = pipelineName + ":" + location;
-		Observation.createNotStarted(this.componentName, observationRegistry)
-				.observe(() -> {
-					try {
-						observable.run();
-					} catch (Exception e) {
-						log.atError().log(ObserveConfiguration.ERROR_TEMPLATE, errorLocation, e.getMessage());
-						Arrays.stream(additionalErrorLoggingContent)
-								.forEach(content ->
-										log.atError().log(ObserveConfiguration.ERROR_TEMPLATE, errorLocation, content.get())
-								);
-						throw e;
-					}
-				});
+		if (!ObserveConfiguration.isObserving(observationRegistry)) {
+			run(observable, location, additionalErrorLoggingContent);
+			return;
+		}
+		Observation.createNotStarted(this.componentName, PipelineObservationContext::new, observationRegistry)
+				.observe(() -> run(observable, location, additionalErrorLoggingContent));
+	}
+
+	private void run(Runnable observable, String location, Supplier<String>[] additionalErrorLoggingContent) {
+		try {
+			observable.run();
+		} catch (Exception e) {
+			final String errorLocation = pipelineName + ":" + location;
+			log.atError().log(ObserveConfiguration.ERROR_TEMPLATE, errorLocation, e.getMessage());
+			Arrays.stream(additionalErrorLoggingContent)
+					.forEach(content ->
+							log.atError().log(ObserveConfiguration.ERROR_TEMPLATE, errorLocation, content.get())
+					);
+			throw e;
+		}
 	}
 
 	/**
 	 * Increments a metric for the ldio component
 	 */
 	public void increment() {
-		Metrics.counter(LDIO_DATA_IN, PIPELINE_NAME, pipelineName, LDIO_COMPONENT_NAME, componentName).increment();
-	}
-
-	public boolean hasProcessedAllData() {
-		final double dataIn = Metrics.counter(LDIO_DATA_IN, PIPELINE_NAME, pipelineName, LDIO_COMPONENT_NAME, componentName).count();
-		final double dataOut = Metrics.counter(LDIO_DATA_OUT, PIPELINE_NAME, pipelineName).count();
-		log.atDebug().log("Received data: {} - Sent data: {}", dataIn, dataOut);
-		return dataOut >= dataIn;
+		dataIn.increment();
 	}
 
 	/**
@@ -85,7 +90,6 @@ public class LdioObserver {
 	 * @param observationRegistry the registry where the observations are part of
 	 */
 	public static LdioObserver register(String componentName, String pipelineName, ObservationRegistry observationRegistry) {
-		Metrics.counter(LDIO_DATA_IN, PIPELINE_NAME, pipelineName, LDIO_COMPONENT_NAME, componentName).increment(0);
 		return new LdioObserver(componentName, pipelineName, observationRegistry);
 	}
 
@@ -0,0 +1,32 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.services.ComponentExecutor;
+import org.apache.jena.rdf.model.Model;
+
+/**
+ * ComponentExecutor that counts the models an input hands to its pipeline as in flight, until the executor of the
+ * pipeline has passed them on, so an input can wait until all its models have left the pipeline.
+ */
+public class TrackedComponentExecutor implements ComponentExecutor {
+	private final ComponentExecutor componentExecutor;
+	private final InFlightCounter inFlightCounter;
+
+	public TrackedComponentExecutor(ComponentExecutor componentExecutor, InFlightCounter inFlightCounter) {
+		this.componentExecutor = componentExecutor;
+		this.inFlightCounter = inFlightCounter;
+	}
+
+	@Override
+	public void transformLinkedData(Model linkedDataModel) {
+		inFlightCounter.increment();
+		try {
+			componentExecutor.transformLinkedData(linkedDataModel);
+		} finally {
+			inFlightCounter.decrement();
+		}
+	}
+
+	public InFlightCounter getInFlightCounter() {
+		return inFlightCounter;
+	}
+}
@@ -0,0 +1,71 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Defines how the models for an output are collected into micro-batches before they are handed to that output. A
+ * batch is handed over as soon as one of its limits is reached.
+ *
+ * @param maxSize  maximum number of models in a batch
+ * @param maxBytes maximum estimated size of the models in a batch, in bytes
+ * @param linger   maximum time the first model of a batch waits before the batch is handed over
+ */
+public record OutputBatching(int maxSize, long maxBytes, Duration linger) {
+	public static final String BATCH_SIZE = "batch-size";
+	public static final String BATCH_MAX_BYTES = "batch-max-bytes";
+	public static final String BATCH_LINGER = "batch-linger";
+	public static final int DEFAULT_BATCH_SIZE = 100;
+	public static final long DEFAULT_BATCH_MAX_BYTES = Long.MAX_VALUE;
+	public static final Duration DEFAULT_BATCH_LINGER = Duration.ofSeconds(1);
+
+	public OutputBatching {
+		if (maxSize < 1) {
+			throw new InvalidConfigException("The %s of an output must be at least 1".formatted(BATCH_SIZE));
+		}
+		if (maxBytes < 1) {
+			throw new InvalidConfigException("The %s of an output must be at least 1".formatted(BATCH_MAX_BYTES));
+		}
+		if (linger.isNegative() || linger.isZero()) {
+			throw new InvalidConfigException("The %s of an output must be a positive duration".formatted(BATCH_LINGER));
+		}
+	}
+
+	/**
+	 * @param outputConfig config of the output
+	 * @return the batching of the output, or empty when none of the batch properties is configured, in which case the
+	 * models are handed to the output one by one
+	 */
+	public static Optional<OutputBatching> fromConfig(ComponentProperties outputConfig) {
+		final Optional<Integer> maxSize = outputConfig.getOptionalInteger(BATCH_SIZE);
+		final Optional<Long> maxBytes = outputConfig.getOptionalProperty(BATCH_MAX_BYTES).map(OutputBatching::parseBytes);
+		final Optional<Duration> linger = outputConfig.getOptionalProperty(BATCH_LINGER).map(OutputBatching::parseLinger);
+		if (maxSize.isEmpty() && maxBytes.isEmpty() && linger.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(new OutputBatching(
+				maxSize.orElse(DEFAULT_BATCH_SIZE),
+				maxBytes.orElse(DEFAULT_BATCH_MAX_BYTES),
+				linger.orElse(DEFAULT_BATCH_LINGER)
+		));
+	}
+
+	private static long parseBytes(String maxBytes) {
+		try {
+			return Long.parseLong(maxBytes);
+		} catch (NumberFormatException e) {
+			throw new InvalidConfigException("%s is not a valid number of bytes".formatted(maxBytes));
+		}
+	}
+
+	private static Duration parseLinger(String linger) {
+		try {
+			return Duration.parse(linger);
+		} catch (DateTimeParseException e) {
+			throw new InvalidConfigException("%s is not a valid ISO-8601 duration".formatted(linger));
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Defines what happens with the models an output fails to accept. Such a model is stored in the dead-letter store of
+ * the output and handed to the output again in the background, waiting twice as long after every failed attempt.
+ * Once all attempts have failed, the model stays in the store until it is replayed or purged.
+ *
+ * @param maxAttempts  maximum number of times a dead letter is handed to the output again
+ * @param retryBackoff time to wait before the first retry, which doubles after every failed attempt
+ */
+public record OutputDeadLetter(int maxAttempts, Duration retryBackoff) {
+	public static final String DEAD_LETTER = "dead-letter";
+	public static final String RETRY_MAX_ATTEMPTS = "retry-max-attempts";
+	public static final String RETRY_BACKOFF = "retry-backoff";
+	public static final int DEFAULT_RETRY_MAX_ATTEMPTS = 5;
+	public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(1);
+	public static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(1);
+
+	public OutputDeadLetter {
+		if (maxAttempts < 0) {
+			throw new InvalidConfigException("The %s of an output must be at least 0".formatted(RETRY_MAX_ATTEMPTS));
+		}
+		if (retryBackoff.isNegative() || retryBackoff.isZero()) {
+			throw new InvalidConfigException("The %s of an output must be a positive duration".formatted(RETRY_BACKOFF));
+		}
+	}
+
+	/**
+	 * @param outputConfig config of the output
+	 * @return the dead-lettering of the output, or empty when it is not enabled, in which case the models the output
+	 * fails to accept are only logged
+	 */
+	public static Optional<OutputDeadLetter> fromConfig(ComponentProperties outputConfig) {
+		if (!outputConfig.getOptionalBoolean(DEAD_LETTER).orElse(false)) {
+			return Optional.empty();
+		}
+		return Optional.of(new OutputDeadLetter(
+				outputConfig.getOptionalInteger(RETRY_MAX_ATTEMPTS).orElse(DEFAULT_RETRY_MAX_ATTEMPTS),
+				outputConfig.getOptionalProperty(RETRY_BACKOFF).map(OutputDeadLetter::parseBackoff).orElse(DEFAULT_RETRY_BACKOFF)
+		));
+	}
+
+	/**
+	 * @param attempt number of attempts that have already failed, starting from 0
+	 * @return the time to wait before the next attempt
+	 */
+	public Duration getBackoff(int attempt) {
+		final Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempt, 30));
+		return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+	}
+
+	private static Duration parseBackoff(String backoff) {
+		try {
+			return Duration.parse(backoff);
+		} catch (DateTimeParseException e) {
+			throw new InvalidConfigException("%s is not a valid ISO-8601 duration".formatted(backoff));
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+
+import java.util.Optional;
+
+/**
+ * Defines the queue in front of an output, from which a dedicated thread hands the models to that output. An output
+ * without a queue receives the models on the thread of the pipeline, which gets back the failures of the output.
+ *
+ * @param capacity       number of models that can wait in front of the output
+ * @param overflowPolicy what happens with a model for which there is no place in the queue
+ */
+public record OutputQueue(int capacity, OverflowPolicy overflowPolicy) {
+	public static final String QUEUE_CAPACITY = "queue-capacity";
+	public static final String OVERFLOW_POLICY = "overflow-policy";
+	public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+	public enum OverflowPolicy {
+		/**
+		 * The pipeline waits until there is place in the queue
+		 */
+		BLOCK,
+		/**
+		 * The model is dropped for this output
+		 */
+		DROP
+	}
+
+	public OutputQueue {
+		if (capacity < 1) {
+			throw new InvalidConfigException("The %s of an output must be at least 1".formatted(QUEUE_CAPACITY));
+		}
+	}
+
+	/**
+	 * @param outputConfig config of the output
+	 * @return the queue of the output, or empty when none of the queue properties is configured, in which case the
+	 * models are handed to the output on the thread of the pipeline
+	 */
+	public static Optional<OutputQueue> fromConfig(ComponentProperties outputConfig) {
+		final Optional<Integer> capacity = outputConfig.getOptionalInteger(QUEUE_CAPACITY);
+		final Optional<OverflowPolicy> overflowPolicy = outputConfig.getOptionalProperty(OVERFLOW_POLICY).map(OutputQueue::parseOverflowPolicy);
+		if (capacity.isEmpty() && overflowPolicy.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(new OutputQueue(capacity.orElse(DEFAULT_QUEUE_CAPACITY), overflowPolicy.orElse(OverflowPolicy.BLOCK)));
+	}
+
+	private static OverflowPolicy parseOverflowPolicy(String overflowPolicy) {
+		try {
+			return OverflowPolicy.valueOf(overflowPolicy.toUpperCase().replace('-', '_'));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidConfigException("Unsupported %s %s, must be either block or drop".formatted(OVERFLOW_POLICY, overflowPolicy));
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution.EXECUTION;
+
+/**
+ * Defines when the input of a pipeline is paused because its downstream components can not keep up. The input is
+ * paused as soon as the number of models that wait in the queues of the pipeline reaches the high watermark, and
+ * resumed as soon as it has dropped to the low watermark.
+ *
+ * @param highWatermark number of queued models at which the input is paused
+ * @param lowWatermark  number of queued models at which the input is resumed
+ */
+public record PipelineBackpressure(int highWatermark, int lowWatermark) {
+	public static final String HIGH_WATERMARK = "high-watermark";
+	public static final String LOW_WATERMARK = "low-watermark";
+
+	public PipelineBackpressure {
+		if (highWatermark < 1) {
+			throw new InvalidConfigException("The %s of a pipeline must be at least 1".formatted(HIGH_WATERMARK));
+		}
+		if (lowWatermark < 0 || lowWatermark >= highWatermark) {
+			throw new InvalidConfigException("The %s of a pipeline must be at least 0 and lower than the %s".formatted(LOW_WATERMARK, HIGH_WATERMARK));
+		}
+	}
+
+	/**
+	 * @param pipelineName name of the pipeline the backpressure is configured for
+	 * @param execution    the execution section of the pipeline config, which might be empty
+	 * @return the backpressure of the pipeline, or empty when no high watermark is configured
+	 */
+	public static Optional<PipelineBackpressure> fromConfig(String pipelineName, Map<String, String> execution) {
+		final ComponentProperties properties = new ComponentProperties(pipelineName, EXECUTION, execution == null ? Map.of() : execution);
+		return properties.getOptionalInteger(HIGH_WATERMARK)
+				.map(highWatermark -> new PipelineBackpressure(highWatermark,
+						properties.getOptionalInteger(LOW_WATERMARK).orElse(highWatermark / 2)));
+	}
+}
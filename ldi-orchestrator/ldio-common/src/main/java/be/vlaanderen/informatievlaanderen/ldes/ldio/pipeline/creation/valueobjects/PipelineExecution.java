@@ -0,0 +1,157 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Defines how the models are carried through the transformers and outputs of a pipeline.
+ * <br />
+ * In the direct mode, the thread of the input carries every model through all components. In the staged mode, every
+ * transformer and the outputs form a stage of their own, with a bounded queue in front of it and a number of worker
+ * threads that take the models from that queue. The stages then run concurrently, while a full queue slows down the
+ * stages in front of it, up to the input. In the partitioned mode, the models are spread over a number of lanes based
+ * on a key, see {@link PipelinePartitioning}, and every lane carries its models through all components in order.
+ * <br />
+ * The threads of the pipeline, i.e. of its input, its stages or lanes and its outputs, are either platform threads or
+ * virtual threads. Virtual threads are cheap to block, so many pipelines with blocking components, such as HTTP
+ * outputs, can run side by side without costing a platform thread each.
+ * <br />
+ * The members are carried either as regular mutable models, or as compact immutable graphs. A compact member is
+ * shared by the components it is handed to, and is only copied into a mutable graph by a component that changes it.
+ *
+ * @param mode          either direct, staged or partitioned
+ * @param queueCapacity number of models that can wait in front of a stage or lane
+ * @param workers       default number of worker threads per stage, which can be overridden per component
+ * @param ordered       whether the models must leave a stage in the order they entered it, which is only relevant
+ *                      for a stage with multiple workers
+ * @param threads       kind of threads the pipeline runs on
+ * @param memberGraph   kind of graph the members are carried in
+ */
+public record PipelineExecution(Mode mode, int queueCapacity, int workers, boolean ordered, Threads threads,
+                                MemberGraph memberGraph) {
+	public static final String EXECUTION = "execution";
+	public static final String MODE = "mode";
+	public static final String QUEUE_CAPACITY = "queue-capacity";
+	public static final String WORKERS = "workers";
+	public static final String ORDERED = "ordered";
+	public static final String THREADS = "threads";
+	public static final String MEMBER_GRAPH = "member-graph";
+	public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+	public static final int DEFAULT_WORKERS = 1;
+
+	public enum Mode {
+		DIRECT, STAGED, PARTITIONED
+	}
+
+	public enum MemberGraph {
+		MUTABLE, COMPACT
+	}
+
+	public enum Threads {
+		PLATFORM, VIRTUAL;
+
+		/**
+		 * @param name name of the threads created by the factory
+		 * @return a factory of daemon threads of this kind
+		 */
+		public ThreadFactory factory(String name) {
+			return this == VIRTUAL ? Thread.ofVirtual().name(name).factory() : Thread.ofPlatform().name(name).daemon().factory();
+		}
+
+		/**
+		 * @param prefix prefix of the names of the threads created by the factory, followed by a counter
+		 * @param start  first value of the counter
+		 * @return a factory of daemon threads of this kind
+		 */
+		public ThreadFactory factory(String prefix, long start) {
+			return this == VIRTUAL ? Thread.ofVirtual().name(prefix, start).factory() : Thread.ofPlatform().name(prefix, start).daemon().factory();
+		}
+
+		/**
+		 * @param properties config of a component, in which the threads of its pipeline might be provided
+		 * @return the threads of the pipeline of the component, platform threads when none are provided
+		 */
+		public static Threads fromProperties(ComponentProperties properties) {
+			return properties.getOptionalProperty(THREADS).map(Threads::parse).orElse(PLATFORM);
+		}
+
+		private static Threads parse(String threads) {
+			try {
+				return valueOf(threads.toUpperCase());
+			} catch (IllegalArgumentException e) {
+				throw new InvalidConfigException("Unsupported %s %s, must be either platform or virtual".formatted(THREADS, threads));
+			}
+		}
+	}
+
+	public PipelineExecution {
+		if (queueCapacity < 1) {
+			throw new InvalidConfigException("The %s of a pipeline must be at least 1".formatted(QUEUE_CAPACITY));
+		}
+		if (workers < 1) {
+			throw new InvalidConfigException("The number of %s of a stage must be at least 1".formatted(WORKERS));
+		}
+	}
+
+	public static PipelineExecution direct() {
+		return new PipelineExecution(Mode.DIRECT, DEFAULT_QUEUE_CAPACITY, DEFAULT_WORKERS, true, Threads.PLATFORM, MemberGraph.MUTABLE);
+	}
+
+	/**
+	 * @param pipelineName name of the pipeline the execution is configured for
+	 * @param execution    the execution section of the pipeline config, which might be empty
+	 */
+	public static PipelineExecution fromConfig(String pipelineName, Map<String, String> execution) {
+		final ComponentProperties properties = new ComponentProperties(pipelineName, EXECUTION, execution == null ? Map.of() : execution);
+		return new PipelineExecution(
+				properties.getOptionalProperty(MODE).map(PipelineExecution::parseMode).orElse(Mode.DIRECT),
+				properties.getOptionalInteger(QUEUE_CAPACITY).orElse(DEFAULT_QUEUE_CAPACITY),
+				properties.getOptionalInteger(WORKERS).orElse(DEFAULT_WORKERS),
+				properties.getOptionalBoolean(ORDERED).orElse(true),
+				Threads.fromProperties(properties),
+				properties.getOptionalProperty(MEMBER_GRAPH).map(PipelineExecution::parseMemberGraph).orElse(MemberGraph.MUTABLE)
+		);
+	}
+
+	/**
+	 * @param componentConfig config of the component that forms the stage
+	 * @return the number of workers of that stage
+	 */
+	public int getStageWorkers(ComponentProperties componentConfig) {
+		final int stageWorkers = componentConfig.getOptionalInteger(WORKERS).orElse(workers);
+		if (stageWorkers < 1) {
+			throw new InvalidConfigException("The number of %s of stage %s must be at least 1".formatted(WORKERS, componentConfig.getComponentName()));
+		}
+		return stageWorkers;
+	}
+
+	public boolean isStaged() {
+		return mode == Mode.STAGED;
+	}
+
+	public boolean isPartitioned() {
+		return mode == Mode.PARTITIONED;
+	}
+
+	public boolean hasCompactMembers() {
+		return memberGraph == MemberGraph.COMPACT;
+	}
+
+	private static Mode parseMode(String mode) {
+		try {
+			return Mode.valueOf(mode.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new InvalidConfigException("Unsupported execution %s %s, must be either direct, staged or partitioned".formatted(MODE, mode));
+		}
+	}
+
+	private static MemberGraph parseMemberGraph(String memberGraph) {
+		try {
+			return MemberGraph.valueOf(memberGraph.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new InvalidConfigException("Unsupported %s %s, must be either mutable or compact".formatted(MEMBER_GRAPH, memberGraph));
+		}
+	}
+}
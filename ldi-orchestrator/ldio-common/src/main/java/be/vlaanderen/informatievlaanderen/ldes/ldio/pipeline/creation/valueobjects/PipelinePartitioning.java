@@ -0,0 +1,61 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+
+import java.util.Map;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution.EXECUTION;
+
+/**
+ * Defines how the models of a pipeline in the partitioned execution mode are spread over its lanes. All models with
+ * the same key end up in the same lane, which processes its models one by one, so the models of a single entity are
+ * never reordered, while the models of different entities are processed in parallel.
+ *
+ * @param lanes    number of lanes that process the models in parallel
+ * @param key      what the key of a model is based on
+ * @param property the property of which the object is the key of a model, only used with the property key
+ */
+public record PipelinePartitioning(int lanes, PartitionKey key, String property) {
+	public static final String LANES = "lanes";
+	public static final String PARTITION_KEY = "partition-key";
+	public static final String PARTITION_PROPERTY = "partition-property";
+	public static final String DEFAULT_PARTITION_PROPERTY = "http://purl.org/dc/terms/isVersionOf";
+
+	public enum PartitionKey {
+		/**
+		 * The object of the partition property, which is by default the versionOf property of a version object
+		 */
+		PROPERTY,
+		/**
+		 * The subject that is not referred to by any other statement in the model
+		 */
+		SUBJECT
+	}
+
+	public PipelinePartitioning {
+		if (lanes < 1) {
+			throw new InvalidConfigException("The number of %s of a pipeline must be at least 1".formatted(LANES));
+		}
+	}
+
+	/**
+	 * @param pipelineName name of the pipeline the partitioning is configured for
+	 * @param execution    the execution section of the pipeline config, which might be empty
+	 */
+	public static PipelinePartitioning fromConfig(String pipelineName, Map<String, String> execution) {
+		final ComponentProperties properties = new ComponentProperties(pipelineName, EXECUTION, execution == null ? Map.of() : execution);
+		return new PipelinePartitioning(
+				properties.getOptionalInteger(LANES).orElse(Runtime.getRuntime().availableProcessors()),
+				properties.getOptionalProperty(PARTITION_KEY).map(PipelinePartitioning::parseKey).orElse(PartitionKey.PROPERTY),
+				properties.getOptionalProperty(PARTITION_PROPERTY).orElse(DEFAULT_PARTITION_PROPERTY)
+		);
+	}
+
+	private static PartitionKey parseKey(String key) {
+		try {
+			return PartitionKey.valueOf(key.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new InvalidConfigException("Unsupported %s %s, must be either property or subject".formatted(PARTITION_KEY, key));
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception;
+
+public class PipelineProfilingException extends PipelineException {
+	private final String pipelineName;
+	private final String reason;
+
+	public PipelineProfilingException(String pipelineName, String reason) {
+		this.pipelineName = pipelineName;
+		this.reason = reason;
+	}
+
+	public PipelineProfilingException(String pipelineName, Throwable throwable) {
+		super(throwable);
+		this.pipelineName = pipelineName;
+		this.reason = throwable.getMessage();
+	}
+
+	@Override
+	public String getMessage() {
+		return "Error while profiling pipeline \"%s\": %s".formatted(pipelineName, reason);
+	}
+}
@@ -11,5 +11,8 @@ public class PersistenceProperties {
 	public static final String POSTGRES_USERNAME = "postgres.username";
 	public static final String POSTGRES_PASSWORD = "postgres.password";
 	public static final String POSTGRES_URL = "postgres.url";
+	public static final String POSTGRES_SCHEMA = "postgres.schema";
+	public static final String POSTGRES_MAX_POOL_SIZE = "postgres.max-pool-size";
 	public static final String SQLITE_DIRECTORY = "sqlite.directory";
+	public static final String ROCKSDB_DIRECTORY = "rocksdb.directory";
 }
@@ -6,9 +6,9 @@ import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.Pip
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.events.PipelineStatusEvent;
 import org.springframework.context.event.EventListener;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * EventListener that listens that pipeline status changes
@@ -16,7 +16,7 @@ import java.util.Objects;
  * @param <T> Generic type that can be any LdiComponent
  */
 public class LdioPipelineEventsListener<T extends LdiComponent> {
-	private final Map<String, T> ldioComponents = new HashMap<>();
+	private final Map<String, T> ldioComponents = new ConcurrentHashMap<>();
 	private final PipelineStatusChangedBehavior<T> startBehavior;
 	private final PipelineStatusChangedBehavior<T> pauseBehavior;
 	private final PipelineStatusChangedBehavior<T> resumeBehavior;
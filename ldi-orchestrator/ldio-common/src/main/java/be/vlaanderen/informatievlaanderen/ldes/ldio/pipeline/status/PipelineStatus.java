@@ -1,5 +1,5 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status;
 
 public enum PipelineStatus {
-	INIT, RUNNING, HALTED, STOPPED
+	INIT, RUNNING, HALTED, STOPPED, FAILED
 }
@@ -11,5 +11,9 @@ public enum StatusChangeSource {
 	/**
 	 * When a pipeline status has changed by the user, e.g. by calling an REST endpoint
 	 */
-	MANUAL
+	MANUAL,
+	/**
+	 * When a pipeline status has changed because the models in its queues have reached a watermark
+	 */
+	BACKPRESSURE
 }
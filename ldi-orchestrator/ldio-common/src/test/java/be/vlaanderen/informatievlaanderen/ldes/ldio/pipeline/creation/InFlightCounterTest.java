@@ -0,0 +1,38 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightCounterTest {
+	private final InFlightCounter inFlightCounter = new InFlightCounter();
+
+	@Test
+	void given_NothingInFlight_when_AwaitDrained_then_ReturnImmediately() {
+		assertThat(inFlightCounter.awaitDrained(Duration.ZERO)).isTrue();
+	}
+
+	@Test
+	void given_ModelsInFlight_when_AwaitDrained_then_WaitUntilAllModelsHaveLeft() {
+		final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		inFlightCounter.increment();
+		inFlightCounter.increment();
+		scheduler.schedule(() -> inFlightCounter.decrement(2), 50, TimeUnit.MILLISECONDS);
+
+		assertThat(inFlightCounter.awaitDrained(Duration.ofSeconds(5))).isTrue();
+		assertThat(inFlightCounter.getInFlight()).isZero();
+		scheduler.shutdown();
+	}
+
+	@Test
+	void given_ModelStaysInFlight_when_AwaitDrained_then_ReturnFalseAfterTimeout() {
+		inFlightCounter.increment();
+
+		assertThat(inFlightCounter.awaitDrained(Duration.ofMillis(50))).isFalse();
+	}
+}
@@ -1,10 +1,16 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
 
+import be.vlaanderen.informatievlaanderen.ldes.ldio.PipelineObservationSampler;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
@@ -40,4 +46,48 @@ class LdioObserverTest {
 
 		verify(additionalLogSupplier).get();
 	}
-}
\ No newline at end of file
+
+	@Test
+	void given_RegistryWithHandler_when_Observe_then_ObservationIsRecorded() {
+		final AtomicInteger observations = new AtomicInteger();
+		final LdioObserver observer = LdioObserver.register(COMPONENT_NAME, PIPELINE_NAME, createRegistry(observations));
+
+		observer.observe(() -> {}, "test");
+
+		assertThat(observations).hasValue(1);
+	}
+
+	@Test
+	void given_SampleRate_when_Observe_then_OnlyShareOfObservationsIsRecorded() {
+		final AtomicInteger observations = new AtomicInteger();
+		final ObservationRegistry observationRegistry = createRegistry(observations);
+		observationRegistry.observationConfig().observationPredicate(new PipelineObservationSampler(0.0));
+		final LdioObserver observer = LdioObserver.register(COMPONENT_NAME, PIPELINE_NAME, observationRegistry);
+		final AtomicInteger runs = new AtomicInteger();
+
+		for (int i = 0; i < 100; i++) {
+			observer.observe(runs::incrementAndGet, "test");
+		}
+
+		assertThat(runs).hasValue(100);
+		assertThat(observations).hasValue(0);
+		Observation.createNotStarted("other", observationRegistry).observe(() -> {});
+		assertThat(observations).hasValue(1);
+	}
+
+	private static ObservationRegistry createRegistry(AtomicInteger observations) {
+		final ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+			@Override
+			public void onStart(Observation.Context context) {
+				observations.incrementAndGet();
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+		});
+		return observationRegistry;
+	}
+}
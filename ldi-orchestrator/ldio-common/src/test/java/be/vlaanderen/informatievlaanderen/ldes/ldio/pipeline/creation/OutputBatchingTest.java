@@ -0,0 +1,50 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputBatching;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutputBatchingTest {
+	private static final String PIPELINE_NAME = "Pname";
+	private static final String OUTPUT_NAME = "Ldio:Output";
+
+	@Test
+	void given_NoBatchProperties_when_FromConfig_then_ReturnEmpty() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME, Map.of("url", "http://localhost"));
+
+		assertThat(OutputBatching.fromConfig(config)).isEmpty();
+	}
+
+	@Test
+	void given_BatchSize_when_FromConfig_then_ReturnBatchingWithDefaults() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME, Map.of("batch-size", "50"));
+
+		assertThat(OutputBatching.fromConfig(config))
+				.contains(new OutputBatching(50, OutputBatching.DEFAULT_BATCH_MAX_BYTES, OutputBatching.DEFAULT_BATCH_LINGER));
+	}
+
+	@Test
+	void given_AllBatchProperties_when_FromConfig_then_ReturnBatching() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME,
+				Map.of("batch-size", "50", "batch-max-bytes", "1048576", "batch-linger", "PT0.5S"));
+
+		assertThat(OutputBatching.fromConfig(config))
+				.contains(new OutputBatching(50, 1048576, Duration.ofMillis(500)));
+	}
+
+	@Test
+	void given_InvalidLinger_when_FromConfig_then_ThrowException() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME, Map.of("batch-linger", "1s"));
+
+		assertThatThrownBy(() -> OutputBatching.fromConfig(config))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessageContaining("1s is not a valid ISO-8601 duration");
+	}
+}
@@ -0,0 +1,52 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputDeadLetter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutputDeadLetterTest {
+	private static final String PIPELINE_NAME = "Pname";
+	private static final String OUTPUT_NAME = "Ldio:Output";
+
+	@Test
+	void given_DeadLetterNotEnabled_when_FromConfig_then_ReturnEmpty() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME, Map.of("retry-max-attempts", "3"));
+
+		assertThat(OutputDeadLetter.fromConfig(config)).isEmpty();
+	}
+
+	@Test
+	void given_DeadLetterEnabled_when_FromConfig_then_ReturnDeadLetter() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME,
+				Map.of("dead-letter", "true", "retry-backoff", "PT0.5S"));
+
+		assertThat(OutputDeadLetter.fromConfig(config))
+				.contains(new OutputDeadLetter(OutputDeadLetter.DEFAULT_RETRY_MAX_ATTEMPTS, Duration.ofMillis(500)));
+	}
+
+	@Test
+	void given_InvalidBackoff_when_FromConfig_then_ThrowException() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME,
+				Map.of("dead-letter", "true", "retry-backoff", "5s"));
+
+		assertThatThrownBy(() -> OutputDeadLetter.fromConfig(config))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessageContaining("5s is not a valid ISO-8601 duration");
+	}
+
+	@Test
+	void when_GetBackoff_then_BackoffDoublesUpToTheMaximum() {
+		final OutputDeadLetter deadLetter = new OutputDeadLetter(50, Duration.ofSeconds(1));
+
+		assertThat(deadLetter.getBackoff(0)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(deadLetter.getBackoff(3)).isEqualTo(Duration.ofSeconds(8));
+		assertThat(deadLetter.getBackoff(40)).isEqualTo(OutputDeadLetter.MAX_RETRY_BACKOFF);
+	}
+}
@@ -0,0 +1,49 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.OutputQueue;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutputQueueTest {
+	private static final String PIPELINE_NAME = "Pname";
+	private static final String OUTPUT_NAME = "Ldio:Output";
+
+	@Test
+	void given_EmptyConfig_when_FromConfig_then_ReturnEmpty() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME, Map.of());
+
+		assertThat(OutputQueue.fromConfig(config)).isEmpty();
+	}
+
+	@Test
+	void given_OnlyOverflowPolicy_when_FromConfig_then_ReturnQueueWithDefaultCapacity() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME, Map.of("overflow-policy", "block"));
+
+		assertThat(OutputQueue.fromConfig(config))
+				.contains(new OutputQueue(OutputQueue.DEFAULT_QUEUE_CAPACITY, OutputQueue.OverflowPolicy.BLOCK));
+	}
+
+	@Test
+	void given_QueueConfig_when_FromConfig_then_ReturnQueue() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME,
+				Map.of("queue-capacity", "10", "overflow-policy", "drop"));
+
+		assertThat(OutputQueue.fromConfig(config))
+				.contains(new OutputQueue(10, OutputQueue.OverflowPolicy.DROP));
+	}
+
+	@Test
+	void given_UnknownOverflowPolicy_when_FromConfig_then_ThrowException() {
+		final ComponentProperties config = new ComponentProperties(PIPELINE_NAME, OUTPUT_NAME, Map.of("overflow-policy", "retry"));
+
+		assertThatThrownBy(() -> OutputQueue.fromConfig(config))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessageContaining("Unsupported overflow-policy retry, must be either block or drop");
+	}
+}
@@ -0,0 +1,34 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineBackpressure;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelineBackpressureTest {
+	private static final String PIPELINE_NAME = "Pname";
+
+	@Test
+	void given_NoHighWatermark_when_FromConfig_then_ReturnEmpty() {
+		assertThat(PipelineBackpressure.fromConfig(PIPELINE_NAME, Map.of("mode", "staged"))).isEmpty();
+	}
+
+	@Test
+	void given_HighWatermark_when_FromConfig_then_LowWatermarkIsHalfOfIt() {
+		assertThat(PipelineBackpressure.fromConfig(PIPELINE_NAME, Map.of("high-watermark", "1000")))
+				.contains(new PipelineBackpressure(1000, 500));
+	}
+
+	@Test
+	void given_LowWatermarkAboveHighWatermark_when_FromConfig_then_ThrowException() {
+		final Map<String, String> execution = Map.of("high-watermark", "100", "low-watermark", "100");
+
+		assertThatThrownBy(() -> PipelineBackpressure.fromConfig(PIPELINE_NAME, execution))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessageContaining("The low-watermark of a pipeline must be at least 0 and lower than the high-watermark");
+	}
+}
@@ -0,0 +1,87 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelineExecutionTest {
+	private static final String PIPELINE_NAME = "Pname";
+
+	@Test
+	void given_EmptyConfig_when_FromConfig_then_ReturnDirectExecution() {
+		final PipelineExecution execution = PipelineExecution.fromConfig(PIPELINE_NAME, Map.of());
+
+		assertThat(execution).isEqualTo(PipelineExecution.direct());
+		assertThat(execution.isStaged()).isFalse();
+	}
+
+	@Test
+	void given_StagedConfig_when_FromConfig_then_ReturnStagedExecution() {
+		final PipelineExecution execution = PipelineExecution.fromConfig(PIPELINE_NAME,
+				Map.of("mode", "staged", "queue-capacity", "50", "workers", "4", "ordered", "false"));
+
+		assertThat(execution).isEqualTo(new PipelineExecution(PipelineExecution.Mode.STAGED, 50, 4, false, PipelineExecution.Threads.PLATFORM, PipelineExecution.MemberGraph.MUTABLE));
+		assertThat(execution.isStaged()).isTrue();
+	}
+
+	@Test
+	void given_UnknownMode_when_FromConfig_then_ThrowException() {
+		final Map<String, String> config = Map.of("mode", "parallel");
+
+		assertThatThrownBy(() -> PipelineExecution.fromConfig(PIPELINE_NAME, config))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessage("Invalid config: \"Unsupported execution mode parallel, must be either direct, staged or partitioned\" .");
+	}
+
+	@Test
+	void given_VirtualThreads_when_FromConfig_then_ThreadsAreVirtual() {
+		final PipelineExecution execution = PipelineExecution.fromConfig(PIPELINE_NAME, Map.of("mode", "staged", "threads", "virtual"));
+
+		assertThat(execution.threads()).isEqualTo(PipelineExecution.Threads.VIRTUAL);
+		final Thread thread = execution.threads().factory("worker").newThread(() -> {});
+		assertThat(thread.isVirtual()).isTrue();
+		assertThat(thread.getName()).isEqualTo("worker");
+	}
+
+	@Test
+	void given_UnknownThreads_when_FromConfig_then_ThrowException() {
+		final Map<String, String> config = Map.of("threads", "green");
+
+		assertThatThrownBy(() -> PipelineExecution.fromConfig(PIPELINE_NAME, config))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessage("Invalid config: \"Unsupported threads green, must be either platform or virtual\" .");
+	}
+
+	@Test
+	void given_CompactMemberGraph_when_FromConfig_then_MembersAreCompact() {
+		final PipelineExecution execution = PipelineExecution.fromConfig(PIPELINE_NAME, Map.of("member-graph", "compact"));
+
+		assertThat(execution.memberGraph()).isEqualTo(PipelineExecution.MemberGraph.COMPACT);
+		assertThat(execution.hasCompactMembers()).isTrue();
+		assertThatThrownBy(() -> PipelineExecution.fromConfig(PIPELINE_NAME, Map.of("member-graph", "sorted")))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessage("Invalid config: \"Unsupported member-graph sorted, must be either mutable or compact\" .");
+	}
+
+	@Test
+	void given_EmptyQueue_when_FromConfig_then_ThrowException() {
+		final Map<String, String> config = Map.of("mode", "staged", "queue-capacity", "0");
+
+		assertThatThrownBy(() -> PipelineExecution.fromConfig(PIPELINE_NAME, config))
+				.isInstanceOf(InvalidConfigException.class);
+	}
+
+	@Test
+	void given_ComponentWithWorkers_when_GetStageWorkers_then_ComponentOverridesDefault() {
+		final PipelineExecution execution = PipelineExecution.fromConfig(PIPELINE_NAME, Map.of("mode", "staged", "workers", "2"));
+
+		assertThat(execution.getStageWorkers(new ComponentProperties(PIPELINE_NAME, "Cname", Map.of("workers", "8")))).isEqualTo(8);
+		assertThat(execution.getStageWorkers(new ComponentProperties(PIPELINE_NAME, "Cname", Map.of()))).isEqualTo(2);
+	}
+}
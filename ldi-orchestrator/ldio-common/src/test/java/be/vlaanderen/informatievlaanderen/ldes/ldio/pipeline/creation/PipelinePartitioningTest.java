@@ -0,0 +1,50 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelinePartitioning;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelinePartitioning.DEFAULT_PARTITION_PROPERTY;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelinePartitioning.PartitionKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelinePartitioningTest {
+	private static final String PIPELINE_NAME = "Pname";
+
+	@Test
+	void given_PartitionedMode_when_FromConfig_then_PartitionOnVersionOfByDefault() {
+		final Map<String, String> config = Map.of("mode", "partitioned", "lanes", "4");
+
+		assertThat(PipelineExecution.fromConfig(PIPELINE_NAME, config).isPartitioned()).isTrue();
+		assertThat(PipelinePartitioning.fromConfig(PIPELINE_NAME, config))
+				.isEqualTo(new PipelinePartitioning(4, PartitionKey.PROPERTY, DEFAULT_PARTITION_PROPERTY));
+	}
+
+	@Test
+	void given_SubjectKey_when_FromConfig_then_PartitionOnSubject() {
+		final Map<String, String> config = Map.of("mode", "partitioned", "lanes", "2", "partition-key", "subject");
+
+		assertThat(PipelinePartitioning.fromConfig(PIPELINE_NAME, config).key()).isEqualTo(PartitionKey.SUBJECT);
+	}
+
+	@Test
+	void given_UnknownKey_when_FromConfig_then_ThrowException() {
+		final Map<String, String> config = Map.of("mode", "partitioned", "partition-key", "graph");
+
+		assertThatThrownBy(() -> PipelinePartitioning.fromConfig(PIPELINE_NAME, config))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessageContaining("Unsupported partition-key graph, must be either property or subject");
+	}
+
+	@Test
+	void given_NoLanes_when_FromConfig_then_ThrowException() {
+		final Map<String, String> config = Map.of("mode", "partitioned", "lanes", "0");
+
+		assertThatThrownBy(() -> PipelinePartitioning.fromConfig(PIPELINE_NAME, config))
+				.isInstanceOf(InvalidConfigException.class);
+	}
+}
@@ -53,7 +53,9 @@ public class LdioAmqpIn extends LdioInput implements MessageListener {
 		try {
 			String contentTypeProperty = message.getStringProperty(CONTENT_TYPE_HEADER);
 			String contentType = contentTypeProperty != null ? contentTypeProperty : properties.defaultContentType();
-			content = LdiAdapter.Content.of(message.getBody(String.class), contentType);
+			content = message.isBodyAssignableTo(byte[].class)
+					? LdiAdapter.Content.of(message.getBody(byte[].class), contentType)
+					: LdiAdapter.Content.of(message.getBody(String.class), contentType);
 		} catch (JMSException e) {
 			throw new InvalidAmqpMessageException(e);
 		}
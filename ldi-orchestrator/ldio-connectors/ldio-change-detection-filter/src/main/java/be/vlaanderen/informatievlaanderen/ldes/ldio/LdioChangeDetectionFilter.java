@@ -7,7 +7,7 @@ import org.apache.jena.rdf.model.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class LdioChangeDetectionFilter extends LdioTransformer {
+public class LdioChangeDetectionFilter extends LdioTransformer implements AutoCloseable {
 	public static final String NAME = "Ldio:ChangeDetectionFilter";
 	private static final Logger log = LoggerFactory.getLogger(LdioChangeDetectionFilter.class);
 	private final ChangeDetectionFilter changeDetectionFilter;
@@ -30,6 +30,11 @@ public class LdioChangeDetectionFilter extends LdioTransformer {
 		changeDetectionFilter.close();
 	}
 
+	@Override
+	public void close() {
+		shutdown();
+	}
+
 	private String extractSubjectFromModel(Model model) {
 		return model.listSubjects().filterDrop(Resource::isAnon).next().getURI();
 	}
@@ -8,6 +8,7 @@ import be.vlaanderen.informatievlaanderen.ldes.ldi.repositories.sql.SqlHashedSta
 import be.vlaanderen.informatievlaanderen.ldes.ldi.sqlite.SqliteProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.valueobjects.StatePersistenceStrategy;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PersistenceProperties;
 
 public class HasedStateMemberRepositoryFactory {
@@ -24,8 +25,7 @@ public class HasedStateMemberRepositoryFactory {
 
 		return switch (persistenceStrategy) {
 			case POSTGRES -> {
-				var hibernateProperties = createPostgresProperties(properties);
-				var entityManager = HibernateUtil.createEntityManagerFromProperties(hibernateProperties.getProperties());
+				var entityManager = HibernateUtil.createEntityManager(createPostgresProperties(properties));
 				yield new SqlHashedStateMemberRepository(entityManager);
 			}
 			case SQLITE -> {
@@ -43,7 +43,14 @@ public class HasedStateMemberRepositoryFactory {
 		String password = properties.getProperty(PersistenceProperties.POSTGRES_PASSWORD);
 		boolean keepState = properties.getOptionalBoolean(PersistenceProperties.KEEP_STATE)
 				.orElse(DEFAULT_KEEP_STATE);
-		return new PostgresProperties(url, username, password, keepState);
+		String schema = properties.getOptionalProperty(PersistenceProperties.POSTGRES_SCHEMA).orElse(null);
+		int maxPoolSize = properties.getOptionalInteger(PersistenceProperties.POSTGRES_MAX_POOL_SIZE)
+				.orElse(PostgresProperties.DEFAULT_MAX_POOL_SIZE);
+		try {
+			return new PostgresProperties(url, username, password, keepState, schema, maxPoolSize);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidConfigException(e.getMessage());
+		}
 	}
 
 	private static SqliteProperties createSqliteProperties(ComponentProperties properties) {
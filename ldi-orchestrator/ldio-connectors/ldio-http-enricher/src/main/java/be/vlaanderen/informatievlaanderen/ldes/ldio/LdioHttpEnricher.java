@@ -14,7 +14,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
-public class LdioHttpEnricher extends LdioTransformer {
+public class LdioHttpEnricher extends LdioTransformer implements AutoCloseable {
 	public static final String NAME = "Ldio:HttpEnricher";
 	private static final Logger log = LoggerFactory.getLogger(LdioHttpEnricher.class);
 
@@ -40,6 +40,11 @@ public class LdioHttpEnricher extends LdioTransformer {
 		this.next(model);
 	}
 
+	@Override
+	public void close() {
+		requestExecutor.close();
+	}
+
 	private Request createRequest(Model model) {
 		final String url = extractUrl(model);
 		final RequestHeaders requestHeaders = extractRequestHeaders(model);
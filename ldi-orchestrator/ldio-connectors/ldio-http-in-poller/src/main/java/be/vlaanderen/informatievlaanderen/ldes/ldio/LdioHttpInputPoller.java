@@ -14,10 +14,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.nio.charset.Charset;
 import java.time.Instant;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.config.PollingInterval.TYPE.CRON;
 
@@ -28,6 +33,7 @@ public class LdioHttpInputPoller extends LdioInput implements Runnable {
 	private final ThreadPoolTaskScheduler scheduler;
 	private final RequestExecutor requestExecutor;
 	private final LdioHttpInputPollerProperties properties;
+	private final Lock scheduleLock = new ReentrantLock();
 
 	private ScheduledFuture<?> scheduledPoll;
 
@@ -38,6 +44,7 @@ public class LdioHttpInputPoller extends LdioInput implements Runnable {
 		this.requestExecutor = requestExecutor;
 		this.properties = properties;
 		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setThreadFactory(properties.getThreads().factory("ldio-%s-http-in-poller".formatted(ldioObserver.getPipelineName())));
 		this.scheduler.setWaitForTasksToCompleteOnShutdown(false);
 		this.scheduler.setErrorHandler(t -> log.error(t.getMessage()));
 	}
@@ -45,7 +52,12 @@ public class LdioHttpInputPoller extends LdioInput implements Runnable {
 	@Override
 	public void start() {
 		super.start();
-		startScheduler();
+		scheduleLock.lock();
+		try {
+			startScheduler();
+		} finally {
+			scheduleLock.unlock();
+		}
 	}
 
 	private void startScheduler() {
@@ -85,8 +97,8 @@ public class LdioHttpInputPoller extends LdioInput implements Runnable {
 		if (HttpStatusCode.valueOf(response.getHttpStatus()).is2xxSuccessful()) {
 			String contentType = response.getFirstHeaderValue(CONTENT_TYPE)
 					.orElseThrow(() -> new MissingHeaderException(response.getHttpStatus(), request.getUrl()));
-			String content = response.getBodyAsString().orElseThrow();
-			processInput(content, contentType);
+			byte[] content = response.getBody().orElseThrow();
+			processInput(LdiAdapter.Content.of(content, contentType, getCharset(contentType)));
 		} else {
 			log.error("Failed to execute request {} {} {}", request.getMethod(), request.getUrl(), response.getHttpStatus());
 			response.getBodyAsString().ifPresent(log::error);
@@ -94,15 +106,33 @@ public class LdioHttpInputPoller extends LdioInput implements Runnable {
 		}
 	}
 
+	private static Charset getCharset(String contentType) {
+		try {
+			return MediaType.parseMediaType(contentType).getCharset();
+		} catch (InvalidMediaTypeException e) {
+			return null;
+		}
+	}
+
 	@Override
-	protected synchronized void resume() {
-		if (properties.getPollingInterval() != null) {
-			startScheduler();
+	protected void resume() {
+		scheduleLock.lock();
+		try {
+			if (properties.getPollingInterval() != null) {
+				startScheduler();
+			}
+		} finally {
+			scheduleLock.unlock();
 		}
 	}
 
 	@Override
-	protected synchronized void pause() {
-		scheduledPoll.cancel(false);
-    }
+	protected void pause() {
+		scheduleLock.lock();
+		try {
+			scheduledPoll.cancel(false);
+		} finally {
+			scheduleLock.unlock();
+		}
+	}
 }
@@ -3,6 +3,7 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio.config;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.GetRequest;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.valueobjects.RequestHeaders;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.ConfigPropertyMissingException;
 
 import java.util.List;
@@ -18,11 +19,18 @@ public final class LdioHttpInputPollerProperties {
 	private final List<GetRequest> requests;
 	private final PollingInterval pollingInterval;
 	private final boolean continueOnFail;
+	private final PipelineExecution.Threads threads;
 
 	public LdioHttpInputPollerProperties(List<String> endpoints, PollingInterval pollingInterval, boolean continueOnFail) {
+		this(endpoints, pollingInterval, continueOnFail, PipelineExecution.Threads.PLATFORM);
+	}
+
+	public LdioHttpInputPollerProperties(List<String> endpoints, PollingInterval pollingInterval, boolean continueOnFail,
+	                                     PipelineExecution.Threads threads) {
 		this.requests = endpoints.stream().map(endpoint -> new GetRequest(endpoint, RequestHeaders.empty())).toList();
 		this.pollingInterval = pollingInterval;
 		this.continueOnFail = continueOnFail;
+		this.threads = threads;
 	}
 
 	public static LdioHttpInputPollerProperties fromComponentProperties(ComponentProperties properties) {
@@ -31,7 +39,8 @@ public final class LdioHttpInputPollerProperties {
 		final PollingInterval pollingInterval = properties.getOptionalProperty(CRON)
 				.map(PollingInterval::withCron)
 				.orElseGet(() -> PollingInterval.withInterval(properties.getProperty(INTERVAL)));
-		return new LdioHttpInputPollerProperties(endpoints, pollingInterval, continueOnFail);
+		return new LdioHttpInputPollerProperties(endpoints, pollingInterval, continueOnFail,
+				PipelineExecution.Threads.fromProperties(properties));
 	}
 
 	private static List<String> extractEndpoints(ComponentProperties properties) {
@@ -54,4 +63,11 @@ public final class LdioHttpInputPollerProperties {
 		return continueOnFail;
 	}
 
+	/**
+	 * @return kind of threads the requests are polled on
+	 */
+	public PipelineExecution.Threads getThreads() {
+		return threads;
+	}
+
 }
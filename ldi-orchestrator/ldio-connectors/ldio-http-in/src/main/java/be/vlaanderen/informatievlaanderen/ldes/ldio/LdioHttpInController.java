@@ -1,5 +1,6 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio;
 
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.event.HttpInPipelineCreatedEvent;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.PipelineDeletedEvent;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.PipelineDoesNotExistException;
@@ -7,11 +8,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
+import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.valueOf;
 import static java.util.Optional.ofNullable;
@@ -20,13 +24,14 @@ import static java.util.Optional.ofNullable;
 public class LdioHttpInController {
 	private static final Logger log = LoggerFactory.getLogger(LdioHttpInController.class);
 
-	private final Map<String, LdioHttpInProcess> httpInProcesses = new HashMap<>();
+	private final Map<String, LdioHttpInProcess> httpInProcesses = new ConcurrentHashMap<>();
 
 	@PostMapping(path = "/{pipeline}")
 	ResponseEntity<String> processInput(@RequestHeader("Content-Type") String contentTypeHeader,
 	                                    @RequestHeader("Content-Length") String contentLength,
-	                                    @PathVariable("pipeline") String pipeline, @RequestBody String content) {
+	                                    @PathVariable("pipeline") String pipeline, @RequestBody byte[] content) {
 		var contentType = contentTypeHeader.split(";")[0];
+		var charset = getCharset(contentTypeHeader);
 		logIncomingRequest(contentType, contentLength, pipeline);
 
 
@@ -35,7 +40,7 @@ public class LdioHttpInController {
 		if (inputProcess.isPaused()) {
 			return ResponseEntity.status(503).body(String.format("The LDIO pipeline named %s is currently paused.", pipeline));
 		} else {
-			inputProcess.processInput(content, contentType);
+			inputProcess.processInput(LdiAdapter.Content.of(content, contentType, charset));
 		}
 
 		return ResponseEntity.accepted().build();
@@ -51,6 +56,19 @@ public class LdioHttpInController {
 		httpInProcesses.remove(event.pipelineId());
 	}
 
+	/**
+	 * @return the charset of the content, or null when the header can not be parsed, in which case the content is
+	 * read as UTF-8
+	 */
+	private static Charset getCharset(String contentTypeHeader) {
+		try {
+			return MediaType.parseMediaType(contentTypeHeader).getCharset();
+		} catch (InvalidMediaTypeException e) {
+			log.atDebug().log("Unable to parse the charset of content type {}, reading the content as UTF-8", contentTypeHeader);
+			return null;
+		}
+	}
+
 	private void logIncomingRequest(String contentType, String contentLength, String pipelineName) {
 		var httpMethod = HttpMethod.POST.name();
 		var type = ofNullable(contentType).orElse("(unknown)");
@@ -12,13 +12,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.LdioHttpInProcess.NAME;
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger.HALT;
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger.RESUME;
+import static java.lang.String.valueOf;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -32,6 +37,8 @@ class LdioHttpInputTest {
 	private ApplicationEventPublisher eventPublisher;
 	@Autowired
 	private MockMvc mockMvc;
+	@Autowired
+	private LdioHttpInController controller;
 	private LdiAdapter adapter;
 	private LdioInput input;
 
@@ -56,6 +63,29 @@ class LdioHttpInputTest {
 
 		verify(adapter).apply(LdiAdapter.Content.of(content, contentType));
 	}
+	@Test
+	void given_MalformedContentType_when_Post_then_UnsupportedMediaTypeIsReturned() throws Exception {
+		input.updateStatus(RESUME);
+
+		mockMvc.perform(post("/%s".formatted(endpoint)).content("_:b0 <http://schema.org/name> \"Jane Doe\" .")
+						.header(HttpHeaders.CONTENT_TYPE, "application/n-quads; =utf-8"))
+				.andExpect(status().isUnsupportedMediaType());
+
+		verifyNoInteractions(adapter);
+	}
+
+	@Test
+	void given_UnknownCharset_when_ProcessInput_then_ContentIsReadAsUtf8() {
+		String content = "_:b0 <http://schema.org/name> \"Jane Doe\" .";
+		input.updateStatus(RESUME);
+
+		ResponseEntity<String> response = controller.processInput("application/n-quads; charset=unknown-charset",
+				valueOf(content.length()), endpoint, content.getBytes(StandardCharsets.UTF_8));
+
+		assertThat(response.getStatusCode().value()).isEqualTo(202);
+		verify(adapter).apply(LdiAdapter.Content.of(content, "application/n-quads"));
+	}
+
 	@Test
 	void when_PipelineIsHalted_Then_MessageIsNotProcessed() throws Exception {
 		String content = "_:b0 <http://schema.org/name> \"Jane Doe\" .";
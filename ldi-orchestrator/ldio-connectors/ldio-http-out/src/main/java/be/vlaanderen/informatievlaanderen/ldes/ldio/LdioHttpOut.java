@@ -15,6 +15,8 @@ import org.springframework.http.HttpHeaders;
 
 import java.io.ByteArrayOutputStream;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class LdioHttpOut implements LdiOutput {
 	public static final String NAME = "Ldio:HttpOut";
@@ -24,6 +26,7 @@ public class LdioHttpOut implements LdiOutput {
 	private final String targetURL;
 	private final LdiRdfWriterProperties rdfWriterProperties;
 	private final LdiRdfWriter ldiRdfWriter;
+	private final Lock requestLock = new ReentrantLock();
 
 	public LdioHttpOut(RequestExecutor requestExecutor, String targetURL,
 			LdiRdfWriterProperties rdfWriterProperties) {
@@ -41,7 +44,8 @@ public class LdioHttpOut implements LdiOutput {
 			final String contentType = rdfWriterProperties.getLang().getHeaderString();
 			final RequestHeader requestHeader = new RequestHeader(HttpHeaders.CONTENT_TYPE, contentType);
 			final PostRequest request = new PostRequest(targetURL, new RequestHeaders(List.of(requestHeader)), output.toByteArray());
-			synchronized (requestExecutor) {
+			requestLock.lock();
+			try {
 				Response response = requestExecutor.execute(request);
 				if (response.isSuccess()) {
 					log.debug("{} {} {}", request.getMethod(), request.getUrl(), response.getHttpStatus());
@@ -50,6 +54,8 @@ public class LdioHttpOut implements LdiOutput {
 									  "The http response obtained from the server has code {} and body \"{}\".",
 							response.getRequestedUrl(), response.getHttpStatus(), response.getBodyAsString().orElse(null));
 				}
+			} finally {
+				requestLock.unlock();
 			}
 		}
 	}
@@ -23,10 +23,11 @@ public class LdioJsonToLdAdapterAutoConfig {
 		public LdiComponent configure(ComponentProperties config) {
 			String coreContext = config.getProperty("context");
 			boolean forceContentType = config.getOptionalBoolean("force-content-type").orElse(false);
+			boolean streaming = config.getOptionalBoolean("streaming").orElse(false);
 
 			final int maxCacheCapacity = config.getOptionalInteger("max-jsonld-cache-capacity").orElse(100);
 			final var context = JenaContextProvider.create().withMaxJsonLdCacheCapacity(maxCacheCapacity).getContext();
-			return new JsonToLdAdapter(coreContext, forceContentType, context);
+			return new JsonToLdAdapter(coreContext, forceContentType, context, streaming);
 		}
 	}
 }
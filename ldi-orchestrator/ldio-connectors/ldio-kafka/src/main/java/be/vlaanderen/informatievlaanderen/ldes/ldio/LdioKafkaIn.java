@@ -12,6 +12,7 @@ import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioObserv
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFLanguages;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
@@ -78,7 +79,7 @@ public class LdioKafkaIn extends LdioInput {
                 config.getOptionalProperty(GROUP_ID).orElse(defineUniqueGroupName(config)));
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG,
                 config.getOptionalProperty(AUTO_OFFSET_RESET).orElse("earliest"));
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 
         var authStrategy = KafkaAuthStrategy.from(config.getOptionalProperty(SECURITY_PROTOCOL)
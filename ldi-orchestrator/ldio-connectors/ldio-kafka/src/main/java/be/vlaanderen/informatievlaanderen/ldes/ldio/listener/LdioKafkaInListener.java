@@ -10,7 +10,7 @@ import org.springframework.kafka.listener.MessageListener;
 
 import java.util.function.Consumer;
 
-public class LdioKafkaInListener implements MessageListener<String, String> {
+public class LdioKafkaInListener implements MessageListener<String, byte[]> {
 	private static final Logger log = LoggerFactory.getLogger(LdioKafkaInListener.class);
 	private final Consumer<LdiAdapter.Content> messageCallback;
 	private final String defaultContentType;
@@ -21,7 +21,7 @@ public class LdioKafkaInListener implements MessageListener<String, String> {
 	}
 
 	@Override
-	public void onMessage(ConsumerRecord<String, String> data) {
+	public void onMessage(ConsumerRecord<String, byte[]> data) {
 		final String contentType = determineContentType(data.headers());
 		final var content = LdiAdapter.Content.of(data.value(), contentType);
 		log.atDebug().log("Incoming kafka message: {}", content);
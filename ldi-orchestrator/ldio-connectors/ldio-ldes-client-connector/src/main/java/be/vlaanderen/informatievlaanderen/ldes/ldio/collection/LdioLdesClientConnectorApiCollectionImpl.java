@@ -3,13 +3,13 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio.collection;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.LdioLdesClientConnectorApi;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class LdioLdesClientConnectorApiCollectionImpl implements LdioLdesClientConnectorApiCollection {
-	private final Map<String, LdioLdesClientConnectorApi> clientConnectorApis = new HashMap<>();
+	private final Map<String, LdioLdesClientConnectorApi> clientConnectorApis = new ConcurrentHashMap<>();
 
 	@Override
 	public Optional<LdioLdesClientConnectorApi> get(String pipeline) {
@@ -18,6 +18,7 @@ import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioInput;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioInputConfigurator;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioObserver;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
 import io.micrometer.observation.ObservationRegistry;
 import ldes.client.eventstreamproperties.EventStreamPropertiesFetcher;
 import ldes.client.treenodesupplier.membersuppliers.MemberSupplier;
@@ -82,7 +83,7 @@ public class LdioLdesClientConnectorAutoConfig {
 			final boolean keepState = ldioLdesClientProperties.isKeepStateEnabled();
 			final LdioObserver ldioObserver = LdioObserver.register(NAME, pipelineName, observationRegistry);
 			final var ldesClient = new LdioLdesClient(executor, ldioObserver, memberSupplier,
-					applicationEventPublisher, keepState, clientStatusConsumer);
+					applicationEventPublisher, keepState, clientStatusConsumer, PipelineExecution.Threads.fromProperties(properties));
 			ldesClient.start();
 			return ldesClient;
 		}
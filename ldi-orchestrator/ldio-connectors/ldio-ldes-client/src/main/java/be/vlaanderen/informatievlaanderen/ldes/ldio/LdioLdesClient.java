@@ -4,8 +4,10 @@ import be.vlaanderen.informatievlaanderen.ldes.ldi.requestexecutor.exceptions.Ht
 import be.vlaanderen.informatievlaanderen.ldes.ldi.services.ComponentExecutor;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.management.status.ClientStatusConsumer;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioInput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.InFlightCounter;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioObserver;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.PipelineShutdownEvent;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.StatusChangeSource;
 import ldes.client.treenodesupplier.domain.valueobject.ClientStatus;
@@ -15,12 +17,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 
-import java.time.Duration;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 
+/**
+ * Input that follows an LDES. The members are fetched and processed on a thread of their own, which is a virtual
+ * thread when the pipeline runs on virtual threads. That thread waits while the pipeline is paused.
+ */
 public class LdioLdesClient extends LdioInput {
 
 	public static final String NAME = "Ldio:LdesClient";
@@ -29,30 +36,42 @@ public class LdioLdesClient extends LdioInput {
 	private final Logger log = LoggerFactory.getLogger(LdioLdesClient.class);
 
 	private final MemberSupplier memberSupplier;
-	private boolean threadRunning = true;
-	private final Supplier<Boolean> canGracefullyShutdownChecker;
-	private boolean paused = false;
+	private volatile boolean threadRunning = true;
+	private volatile boolean paused = false;
+	private final Lock pauseLock = new ReentrantLock();
+	private final Condition resumed = pauseLock.newCondition();
 	private final boolean keepState;
 	private final String pipelineName;
 	private final ClientStatusConsumer clientStatusConsumer;
+	private final PipelineExecution.Threads threads;
 
 	public LdioLdesClient(ComponentExecutor componentExecutor,
 	                      LdioObserver ldioObserver,
 	                      MemberSupplier memberSupplier,
 	                      ApplicationEventPublisher applicationEventPublisher,
 	                      boolean keepState, ClientStatusConsumer clientStatusConsumer) {
+		this(componentExecutor, ldioObserver, memberSupplier, applicationEventPublisher, keepState, clientStatusConsumer,
+				PipelineExecution.Threads.PLATFORM);
+	}
+
+	public LdioLdesClient(ComponentExecutor componentExecutor,
+	                      LdioObserver ldioObserver,
+	                      MemberSupplier memberSupplier,
+	                      ApplicationEventPublisher applicationEventPublisher,
+	                      boolean keepState, ClientStatusConsumer clientStatusConsumer,
+	                      PipelineExecution.Threads threads) {
 		super(componentExecutor, null, ldioObserver, applicationEventPublisher);
 		this.pipelineName = ldioObserver.getPipelineName();
-		this.canGracefullyShutdownChecker = ldioObserver::hasProcessedAllData;
 		this.memberSupplier = memberSupplier;
 		this.keepState = keepState;
 		this.clientStatusConsumer = clientStatusConsumer;
+		this.threads = threads;
 	}
 
 	@Override
 	public void start() {
 		super.start();
-		final ExecutorService executorService = newSingleThreadExecutor();
+		final ExecutorService executorService = newSingleThreadExecutor(threads.factory("ldio-%s-ldes-client".formatted(pipelineName)));
 		executorService.submit(() -> {
 			try {
 				memberSupplier.init();
@@ -66,7 +85,7 @@ public class LdioLdesClient extends LdioInput {
 		});
 	}
 
-	private synchronized void run() {
+	private void run() {
 		try {
 			while (threadRunning) {
 				checkPause();
@@ -87,14 +106,17 @@ public class LdioLdesClient extends LdioInput {
 		}
 	}
 
-	private synchronized void checkPause() {
-		while (paused) {
-			try {
-				this.wait();
-			} catch (InterruptedException e) {
-				log.error("Thread interrupted: {}", e.getMessage());
-				Thread.currentThread().interrupt();
+	private void checkPause() {
+		pauseLock.lock();
+		try {
+			while (paused) {
+				resumed.await();
 			}
+		} catch (InterruptedException e) {
+			log.error("Thread interrupted: {}", e.getMessage());
+			Thread.currentThread().interrupt();
+		} finally {
+			pauseLock.unlock();
 		}
 	}
 
@@ -104,17 +126,28 @@ public class LdioLdesClient extends LdioInput {
 		if (!keepState) {
 			memberSupplier.destroyState();
 		}
+		memberSupplier.close();
 	}
 
 	@Override
-	protected synchronized void resume() {
-		this.paused = false;
-		this.notifyAll();
+	protected void resume() {
+		pauseLock.lock();
+		try {
+			this.paused = false;
+			resumed.signalAll();
+		} finally {
+			pauseLock.unlock();
+		}
 	}
 
 	@Override
 	protected void pause() {
-		this.paused = true;
+		pauseLock.lock();
+		try {
+			this.paused = true;
+		} finally {
+			pauseLock.unlock();
+		}
 	}
 
 	private void shutdownPipeline() {
@@ -127,13 +160,9 @@ public class LdioLdesClient extends LdioInput {
 
 	private void shutdownPipelineThread() {
 		threadRunning = false;
-		do {
-			try {
-				Thread.sleep(Duration.ofSeconds(1));
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			}
-		} while (Boolean.FALSE.equals(canGracefullyShutdownChecker.get()));
+		if (!awaitDrained(InFlightCounter.DRAIN_TIMEOUT)) {
+			log.atWarn().log("Not all members of pipeline {} have left the pipeline within {}", pipelineName, InFlightCounter.DRAIN_TIMEOUT);
+		}
 		updateStatus(PipelineStatusTrigger.HALT);
 		applicationEventPublisher.publishEvent(new PipelineShutdownEvent(pipelineName));
 	}
@@ -3,11 +3,17 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.ConfigPropertyMissingException;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import ldes.client.treenodefetcher.domain.valueobjects.TimeWindow;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFLanguages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +25,7 @@ public class LdioLdesClientProperties {
 	public static final boolean DEFAULT_KEEP_STATE = false;
 	public static final boolean DEFAULT_USE_LATEST_STATE_FILTER = true;
 	public static final boolean DEFAULT_EXACTLY_ONCE_ENABLED = true;
+	public static final boolean DEFAULT_PREFER_BINARY_FORMATS = false;
 	private final ComponentProperties properties;
 
 	private LdioLdesClientProperties(ComponentProperties properties) {
@@ -43,6 +50,10 @@ public class LdioLdesClientProperties {
 				.orElse(DEFAULT_SOURCE_FORMAT);
 	}
 
+	public boolean isBinaryFormatsPreferred() {
+		return properties.getOptionalBoolean(PREFER_BINARY_FORMATS).orElse(DEFAULT_PREFER_BINARY_FORMATS);
+	}
+
 	public boolean isExactlyOnceEnabled() {
 		return properties.getOptionalBoolean(USE_EXACTLY_ONCE_FILTER)
 				.or(() -> getOptionalVersionMaterialisationBoolean().map(isEnabled -> !isEnabled))
@@ -65,6 +76,50 @@ public class LdioLdesClientProperties {
 		return properties.getOptionalBoolean(USE_LATEST_STATE_FILTER).orElse(DEFAULT_USE_LATEST_STATE_FILTER);
 	}
 
+	/**
+	 * @return the interval between two compactions of the persisted state, or empty when the state must not be compacted
+	 */
+	public Optional<Duration> getStateCompactionInterval() {
+		return properties.getOptionalProperty(STATE_COMPACTION_INTERVAL).map(this::parseInterval);
+	}
+
+	private Duration parseInterval(String interval) {
+		try {
+			final Duration duration = Duration.parse(interval);
+			if (duration.isNegative() || duration.isZero()) {
+				throw new InvalidConfigException("%s must be a positive duration".formatted(interval));
+			}
+			return duration;
+		} catch (DateTimeParseException e) {
+			throw new InvalidConfigException("%s is not a valid ISO-8601 duration".formatted(interval));
+		}
+	}
+
+	/**
+	 * @param timestampPath the timestamp path of the event stream on which the window must be applied
+	 * @return the window wherein the timestamps of the members of interest lie
+	 */
+	public TimeWindow getTimeWindow(String timestampPath) {
+		final LocalDateTime until = properties.getOptionalProperty(UNTIL).map(this::parseDateTime).orElse(null);
+		final Optional<String> startFrom = properties.getOptionalProperty(START_FROM);
+		if (startFrom.filter(START_FROM_NOW::equalsIgnoreCase).isPresent()) {
+			return TimeWindow.startingFromNow(timestampPath, until);
+		}
+		return TimeWindow.of(timestampPath, startFrom.map(this::parseDateTime).orElse(null), until);
+	}
+
+	private LocalDateTime parseDateTime(String dateTime) {
+		try {
+			return OffsetDateTime.parse(dateTime).atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+		} catch (DateTimeParseException e) {
+			try {
+				return LocalDateTime.parse(dateTime);
+			} catch (DateTimeParseException ex) {
+				throw new InvalidConfigException("%s is not a valid ISO-8601 date time".formatted(dateTime));
+			}
+		}
+	}
+
 	public ComponentProperties getProperties() {
 		return properties;
 	}
@@ -10,8 +10,22 @@ public class LdioLdesClientPropertyKeys {
 	public static final String URLS = "urls";
 	public static final String SOURCE_FORMAT = "source-format";
 	public static final Lang DEFAULT_SOURCE_FORMAT = Lang.TURTLE;
+	public static final String PREFER_BINARY_FORMATS = "prefer-binary-formats";
 
 	public static final String USE_EXACTLY_ONCE_FILTER = "enable-exactly-once";
+	public static final String EXPECTED_MEMBER_COUNT = "expected-member-count";
+
+	// time window properties
+	public static final String START_FROM = "start-from";
+	public static final String UNTIL = "until";
+	public static final String START_FROM_NOW = "now";
+
+	// fragment leasing properties
+	public static final String LEASE_WORKER_ID = "postgres.lease.worker-id";
+	public static final String LEASE_TIMEOUT = "postgres.lease.timeout";
+
+	// state compaction properties
+	public static final String STATE_COMPACTION_INTERVAL = "state-compaction.interval";
 
 	// version materialisation properties
 	public static final String USE_VERSION_MATERIALISATION = "materialisation.enabled";
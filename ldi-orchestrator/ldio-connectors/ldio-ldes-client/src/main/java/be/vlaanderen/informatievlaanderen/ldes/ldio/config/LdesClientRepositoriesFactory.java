@@ -5,43 +5,126 @@ import be.vlaanderen.informatievlaanderen.ldes.ldi.postgres.PostgresProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.sqlite.SqliteProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldi.valueobjects.StatePersistenceStrategy;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import ldes.client.treenodesupplier.domain.valueobject.FragmentLease;
 import ldes.client.treenodesupplier.domain.valueobject.LdesClientRepositories;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbStore;
+import ldes.client.treenodesupplier.repository.sql.BloomFilteredMemberIdRepository;
+import ldes.client.treenodesupplier.repository.sql.LeaseReleaseListener;
+import ldes.client.treenodesupplier.repository.sql.SqlStateCompactor;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.LdioLdesClientPropertyKeys.*;
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PersistenceProperties.*;
 
 public class LdesClientRepositoriesFactory {
 	public static final StatePersistenceStrategy DEFAULT_STATE_PERSISTENCE_STRATEGY = StatePersistenceStrategy.MEMORY;
 	public static final boolean DEFAULT_KEEP_STATE = false;
+	public static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofMinutes(5);
+	public static final String DEFAULT_ROCKSDB_DIRECTORY = "rocksdb";
+	public static final String ROCKSDB_STATE = "rocksdb";
 
 	private LdesClientRepositoriesFactory() {
 	}
 
+	/**
+	 * The RocksDB state is only supported by the LDES client, so it is no {@link StatePersistenceStrategy} that the
+	 * other components would have to reject
+	 */
 	public static LdesClientRepositories getLdesClientRepositories(ComponentProperties properties) {
-		StatePersistenceStrategy state = properties.getOptionalProperty(STATE)
+		final Optional<String> stateProperty = properties.getOptionalProperty(STATE);
+		if (stateProperty.filter(ROCKSDB_STATE::equalsIgnoreCase).isPresent()) {
+			return LdesClientRepositories.rocksDbBased(RocksDbStore.open(getRocksDbDirectory(properties), isStateKept(properties)));
+		}
+		StatePersistenceStrategy state = stateProperty
 				.flatMap(StatePersistenceStrategy::from)
 				.orElse(DEFAULT_STATE_PERSISTENCE_STRATEGY);
 		return switch (state) {
 			case POSTGRES -> {
-				var hibernateProperties = createPostgresProperties(properties);
-				var entityManager = HibernateUtil.createEntityManagerFromProperties(hibernateProperties.getProperties());
-				yield LdesClientRepositories.sqlBased(entityManager);
+				var fragmentLease = createFragmentLease(properties);
+				var postgresProperties = createPostgresProperties(properties);
+				var entityManager = HibernateUtil.createEntityManager(postgresProperties);
+				yield fragmentLease
+						.map(lease -> LdesClientRepositories.sqlBasedWithLeasing(entityManager, lease, LeaseReleaseListener.from(postgresProperties)))
+						.orElseGet(() -> LdesClientRepositories.sqlBased(entityManager, getExpectedMemberCount(properties)));
 			}
 			case SQLITE -> {
 				var hibernateProperties = createSqliteProperties(properties);
 				var entityManager = HibernateUtil.createEntityManagerFromProperties(hibernateProperties.getProperties());
-				yield LdesClientRepositories.sqlBased(entityManager);
+				yield LdesClientRepositories.sqlBased(entityManager, getExpectedMemberCount(properties));
 			}
 			case MEMORY -> LdesClientRepositories.memoryBased();
 		};
 	}
 
+	/**
+	 * Creates a compactor with an EntityManager of its own, as the compaction runs next to the client
+	 */
+	public static SqlStateCompactor getStateCompactor(ComponentProperties properties) {
+		StatePersistenceStrategy state = properties.getOptionalProperty(STATE)
+				.flatMap(StatePersistenceStrategy::from)
+				.orElse(DEFAULT_STATE_PERSISTENCE_STRATEGY);
+		final var entityManager = switch (state) {
+			case POSTGRES -> HibernateUtil.createEntityManager(createPostgresProperties(properties));
+			case SQLITE -> HibernateUtil.createEntityManagerFromProperties(createSqliteProperties(properties).getProperties());
+			case MEMORY -> throw new InvalidConfigException("State compaction requires the state to be persisted in sqlite or postgres.");
+		};
+		return new SqlStateCompactor(entityManager, state);
+	}
+
 	private static PostgresProperties createPostgresProperties(ComponentProperties properties) {
 		String url = properties.getProperty(POSTGRES_URL);
 		String username = properties.getProperty(POSTGRES_USERNAME);
 		String password = properties.getProperty(POSTGRES_PASSWORD);
 		boolean keepState = properties.getOptionalBoolean(KEEP_STATE)
 				.orElse(DEFAULT_KEEP_STATE);
-		return new PostgresProperties(url, username, password, keepState);
+		String schema = properties.getOptionalProperty(POSTGRES_SCHEMA).orElse(null);
+		int maxPoolSize = properties.getOptionalInteger(POSTGRES_MAX_POOL_SIZE).orElse(PostgresProperties.DEFAULT_MAX_POOL_SIZE);
+		try {
+			return new PostgresProperties(url, username, password, keepState, schema, maxPoolSize);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidConfigException(e.getMessage());
+		}
+	}
+
+	private static long getExpectedMemberCount(ComponentProperties properties) {
+		return properties.getOptionalInteger(EXPECTED_MEMBER_COUNT)
+				.map(Integer::longValue)
+				.orElse(BloomFilteredMemberIdRepository.DEFAULT_EXPECTED_MEMBER_COUNT);
+	}
+
+	private static Optional<FragmentLease> createFragmentLease(ComponentProperties properties) {
+		final Optional<String> workerId = properties.getOptionalProperty(LEASE_WORKER_ID);
+		if (workerId.isEmpty()) {
+			return Optional.empty();
+		}
+		if (!properties.getOptionalBoolean(KEEP_STATE).orElse(DEFAULT_KEEP_STATE)) {
+			throw new InvalidConfigException("Fragment leasing requires keep-state to be enabled, as the state is shared with other workers.");
+		}
+		final Duration timeout = properties.getOptionalProperty(LEASE_TIMEOUT)
+				.map(LdesClientRepositoriesFactory::parseLeaseTimeout)
+				.orElse(DEFAULT_LEASE_TIMEOUT);
+		return Optional.of(new FragmentLease(workerId.get(), timeout));
+	}
+
+	private static Duration parseLeaseTimeout(String timeout) {
+		try {
+			return Duration.parse(timeout);
+		} catch (DateTimeParseException e) {
+			throw new InvalidConfigException("%s is not a valid ISO-8601 duration".formatted(timeout));
+		}
+	}
+
+	private static Path getRocksDbDirectory(ComponentProperties properties) {
+		return Path.of(properties.getOptionalProperty(ROCKSDB_DIRECTORY).orElse(DEFAULT_ROCKSDB_DIRECTORY), properties.getPipelineName());
+	}
+
+	private static boolean isStateKept(ComponentProperties properties) {
+		return properties.getOptionalBoolean(KEEP_STATE).orElse(DEFAULT_KEEP_STATE);
 	}
 
 	private static SqliteProperties createSqliteProperties(ComponentProperties properties) {
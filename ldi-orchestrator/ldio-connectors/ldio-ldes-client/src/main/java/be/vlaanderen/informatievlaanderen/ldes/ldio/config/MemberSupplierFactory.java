@@ -9,6 +9,7 @@ import be.vlaanderen.informatievlaanderen.ldes.ldio.management.status.ClientStat
 import ldes.client.eventstreamproperties.EventStreamPropertiesFetcher;
 import ldes.client.eventstreamproperties.valueobjects.EventStreamProperties;
 import ldes.client.eventstreamproperties.valueobjects.PropertiesRequest;
+import ldes.client.treenodefetcher.domain.valueobjects.TimeWindow;
 import ldes.client.treenodesupplier.TreeNodeProcessor;
 import ldes.client.treenodesupplier.domain.valueobject.LdesClientRepositories;
 import ldes.client.treenodesupplier.domain.valueobject.LdesMetaData;
@@ -52,7 +53,9 @@ public class MemberSupplierFactory {
 
 	private TreeNodeProcessor getTreeNodeProcessor(EventStreamProperties eventStreamProperties) {
 		final LdesClientRepositories ldesClientRepositories = LdesClientRepositoriesFactory.getLdesClientRepositories(clientProperties.getProperties());
-		LdesMetaData ldesMetaData = new LdesMetaData(clientProperties.getUrls(), clientProperties.getSourceFormat());
+		final TimeWindow timeWindow = clientProperties.getTimeWindow(eventStreamProperties.getTimestampPath());
+		LdesMetaData ldesMetaData = new LdesMetaData(clientProperties.getUrls(), clientProperties.getSourceFormat(), timeWindow,
+				clientProperties.isBinaryFormatsPreferred());
 		TimestampExtractor timestampExtractor = new TimestampFromPathExtractor(createProperty(eventStreamProperties.getTimestampPath()));
 		return new TreeNodeProcessor(ldesMetaData, ldesClientRepositories, requestExecutor, timestampExtractor, clientStatusConsumer);
 	}
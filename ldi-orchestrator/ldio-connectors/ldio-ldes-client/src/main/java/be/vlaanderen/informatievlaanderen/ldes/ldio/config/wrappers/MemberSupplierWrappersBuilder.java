@@ -24,7 +24,8 @@ public class MemberSupplierWrappersBuilder implements MemberSupplierWrappers.Bui
 			return new MemberSupplierWrappers(List.of(
 					new ExactlyOnceMemberSupplierWrapper(ldioLdesClientProperties),
 					new LatestStateMemberSupplierWrapper(eventStreamProperties, ldioLdesClientProperties),
-					new VersionMaterialisedMemberSupplierWrapper(eventStreamProperties, ldioLdesClientProperties)
+					new VersionMaterialisedMemberSupplierWrapper(eventStreamProperties, ldioLdesClientProperties),
+					new StateCompactionMemberSupplierWrapper(ldioLdesClientProperties)
 			));
 		}
 }
@@ -0,0 +1,27 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.config.wrappers;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.LdioLdesClientProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.config.LdesClientRepositoriesFactory;
+import ldes.client.treenodesupplier.domain.services.MemberSupplierWrapper;
+import ldes.client.treenodesupplier.membersuppliers.CompactingMemberSupplier;
+import ldes.client.treenodesupplier.membersuppliers.MemberSupplier;
+
+public class StateCompactionMemberSupplierWrapper extends MemberSupplierWrapper {
+	private final LdioLdesClientProperties properties;
+
+	public StateCompactionMemberSupplierWrapper(LdioLdesClientProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public boolean shouldBeWrapped() {
+		return properties.getStateCompactionInterval().isPresent();
+	}
+
+	@Override
+	protected MemberSupplier createWrappedMemberSupplier(MemberSupplier memberSupplier) {
+		return new CompactingMemberSupplier(memberSupplier,
+				LdesClientRepositoriesFactory.getStateCompactor(properties.getProperties()),
+				properties.getStateCompactionInterval().orElseThrow());
+	}
+}
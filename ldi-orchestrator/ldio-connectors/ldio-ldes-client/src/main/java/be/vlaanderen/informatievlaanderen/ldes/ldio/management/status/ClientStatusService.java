@@ -5,17 +5,17 @@ import ldes.client.treenodesupplier.domain.valueobject.ClientStatus;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class ClientStatusService {
 	private final Map<String, ClientStatus> clientStatuses;
 
 	public ClientStatusService() {
-		this.clientStatuses = new HashMap<>();
+		this.clientStatuses = new ConcurrentHashMap<>();
 	}
 
 	public void updateStatus(String pipelineId, ClientStatus status) {
@@ -2,13 +2,18 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import ldes.client.treenodefetcher.domain.valueobjects.TimeWindow;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class LdioLdesClientPropertiesTest {
+	private static final String TIMESTAMP_PATH = "http://www.w3.org/ns/prov#generatedAtTime";
 
 	@Test
 	void given_ExactlyOnceAndVersionMaterialisationAreBothExplicitlyEnabled_when_parseConfig_then_ThrowException() {
@@ -21,4 +26,71 @@ class LdioLdesClientPropertiesTest {
 				.isInstanceOf(InvalidConfigException.class)
 				.hasMessage("Invalid config: \"The exactly once filter can not be enabled with version materialisation.\" .");
 	}
-}
\ No newline at end of file
+
+	@Test
+	void given_TimeWindowWithOffset_when_GetTimeWindow_then_ReturnWindowInUtc() {
+		final ComponentProperties properties = new ComponentProperties("pipeline", "cname", Map.of(
+				LdioLdesClientPropertyKeys.START_FROM, "2024-03-01T01:00:00+01:00",
+				LdioLdesClientPropertyKeys.UNTIL, "2024-03-31T00:00:00"
+		));
+
+		final TimeWindow timeWindow = LdioLdesClientProperties.fromComponentProperties(properties).getTimeWindow(TIMESTAMP_PATH);
+
+		assertThat(timeWindow.getStartFrom()).isEqualTo(LocalDateTime.parse("2024-03-01T00:00:00"));
+		assertThat(timeWindow.getUntil()).isEqualTo(LocalDateTime.parse("2024-03-31T00:00:00"));
+		assertThat(timeWindow.isStartingFromNow()).isFalse();
+	}
+
+	@Test
+	void given_StartFromNow_when_GetTimeWindow_then_ReturnWindowStartingFromNow() {
+		final ComponentProperties properties = new ComponentProperties("pipeline", "cname", Map.of(
+				LdioLdesClientPropertyKeys.START_FROM, "now"
+		));
+
+		final TimeWindow timeWindow = LdioLdesClientProperties.fromComponentProperties(properties).getTimeWindow(TIMESTAMP_PATH);
+
+		assertThat(timeWindow.isStartingFromNow()).isTrue();
+		assertThat(timeWindow.getUntil()).isNull();
+	}
+
+	@Test
+	void given_NoTimeWindow_when_GetTimeWindow_then_ReturnUnboundedWindow() {
+		final ComponentProperties properties = new ComponentProperties("pipeline", "cname", Map.of());
+
+		final TimeWindow timeWindow = LdioLdesClientProperties.fromComponentProperties(properties).getTimeWindow(TIMESTAMP_PATH);
+
+		assertThat(timeWindow.isUnbounded()).isTrue();
+	}
+
+	@Test
+	void given_InvalidDateTime_when_GetTimeWindow_then_ThrowException() {
+		final ComponentProperties properties = new ComponentProperties("pipeline", "cname", Map.of(
+				LdioLdesClientPropertyKeys.UNTIL, "yesterday"
+		));
+		final LdioLdesClientProperties clientProperties = LdioLdesClientProperties.fromComponentProperties(properties);
+
+		assertThatThrownBy(() -> clientProperties.getTimeWindow(TIMESTAMP_PATH))
+				.isInstanceOf(InvalidConfigException.class);
+	}
+
+	@Test
+	void given_StateCompactionInterval_when_GetStateCompactionInterval_then_ReturnDuration() {
+		final ComponentProperties properties = new ComponentProperties("pipeline", "cname", Map.of(
+				LdioLdesClientPropertyKeys.STATE_COMPACTION_INTERVAL, "PT6H"
+		));
+
+		assertThat(LdioLdesClientProperties.fromComponentProperties(properties).getStateCompactionInterval())
+				.contains(Duration.ofHours(6));
+	}
+
+	@Test
+	void given_InvalidStateCompactionInterval_when_GetStateCompactionInterval_then_ThrowException() {
+		final ComponentProperties properties = new ComponentProperties("pipeline", "cname", Map.of(
+				LdioLdesClientPropertyKeys.STATE_COMPACTION_INTERVAL, "-PT1H"
+		));
+		final LdioLdesClientProperties clientProperties = LdioLdesClientProperties.fromComponentProperties(properties);
+
+		assertThatThrownBy(clientProperties::getStateCompactionInterval)
+				.isInstanceOf(InvalidConfigException.class);
+	}
+}
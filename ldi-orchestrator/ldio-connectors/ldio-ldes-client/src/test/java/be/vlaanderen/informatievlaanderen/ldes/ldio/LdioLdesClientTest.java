@@ -2,7 +2,9 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldi.services.ComponentExecutor;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.management.status.ClientStatusConsumer;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.InFlightCounter;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioObserver;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.TrackedComponentExecutor;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.events.PipelineShutdownEvent;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.StatusChangeSource;
@@ -62,7 +64,6 @@ class LdioLdesClientTest {
 
 	@Test
 	void when_EndOfLdesException_And_AllDataProcessed_ShutdownPipeline() {
-		when(observer.hasProcessedAllData()).thenReturn(false).thenReturn(true);
 		when(supplier.get()).thenThrow(EndOfLdesException.class);
 
 		client.start();
@@ -76,7 +77,6 @@ class LdioLdesClientTest {
 
 	@Test
 	void when_RuntimeException_StopPipeline() {
-		when(observer.hasProcessedAllData()).thenReturn(true);
 		doThrow(RuntimeException.class).when(supplier).init();
 
 		client.start();
@@ -87,4 +87,31 @@ class LdioLdesClientTest {
         });
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	void given_StateIsKept_when_Shutdown_then_StateIsClosedWithoutBeingDestroyed() {
+		client = new LdioLdesClient(componentExecutor, observer, supplier, eventPublisher, true, clientStatusConsumer);
+
+		client.shutdown();
+
+		verify(supplier).close();
+		verify(supplier, never()).destroyState();
+	}
+
+	@Test
+	void given_MembersInFlight_when_EndOfLdesException_then_ShutdownPipelineOnceDrained() {
+		final InFlightCounter inFlightCounter = new InFlightCounter();
+		inFlightCounter.increment();
+		client = new LdioLdesClient(new TrackedComponentExecutor(componentExecutor, inFlightCounter), observer, supplier,
+				eventPublisher, false, clientStatusConsumer);
+		when(supplier.get()).thenThrow(EndOfLdesException.class);
+
+		client.start();
+
+		await().pollDelay(Duration.ofMillis(200)).until(() -> true);
+		verify(eventPublisher, never()).publishEvent(new PipelineShutdownEvent(pipelineName));
+		inFlightCounter.decrement();
+		await().atMost(Duration.ofSeconds(5))
+				.untilAsserted(() -> verify(eventPublisher).publishEvent(new PipelineShutdownEvent(pipelineName)));
+	}
+}
@@ -2,11 +2,18 @@ package be.vlaanderen.informatievlaanderen.ldes.ldio.config;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.ConfigPropertyMissingException;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import ldes.client.treenodesupplier.domain.entities.TreeNodeRecord;
 import ldes.client.treenodesupplier.domain.valueobject.LdesClientRepositories;
+import ldes.client.treenodesupplier.domain.valueobject.TreeNodeStatus;
 import ldes.client.treenodesupplier.repository.MemberRepository;
 import ldes.client.treenodesupplier.repository.TreeNodeRecordRepository;
 import ldes.client.treenodesupplier.repository.inmemory.InMemoryMemberRepository;
 import ldes.client.treenodesupplier.repository.inmemory.InMemoryTreeNodeRecordRepository;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbMemberRepository;
+import ldes.client.treenodesupplier.repository.rocksdb.RocksDbTreeNodeRepository;
+import ldes.client.treenodesupplier.repository.sql.LeasingSqlTreeNodeRepository;
+import ldes.client.treenodesupplier.repository.sql.PartitionedSqlMemberRepository;
 import ldes.client.treenodesupplier.repository.sql.SqlMemberRepository;
 import ldes.client.treenodesupplier.repository.sql.SqlTreeNodeRepository;
 import org.junit.jupiter.api.AfterAll;
@@ -19,12 +26,18 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.testcontainers.containers.PostgreSQLContainer;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.LdioLdesClientPropertyKeys.LEASE_TIMEOUT;
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.LdioLdesClientPropertyKeys.LEASE_WORKER_ID;
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PersistenceProperties.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LdesClientRepositoriesFactoryTest {
 	private static PostgreSQLContainer postgreSQLContainer;
@@ -57,6 +70,7 @@ class LdesClientRepositoriesFactoryTest {
 
 		memberRepository.destroyState();
 		treeNodeRecordRepository.destroyState();
+		treeNodeRecordRepository.close();
 	}
 
 	@Test
@@ -66,6 +80,69 @@ class LdesClientRepositoriesFactoryTest {
 		assertThrows(ConfigPropertyMissingException.class, () -> LdesClientRepositoriesFactory.getLdesClientRepositories(props));
 	}
 
+	@Test
+	void when_leaseIsConfiguredWithoutKeepState_then_throwException() {
+		ComponentProperties props = new ComponentProperties("pipelineName", "", Map.of(STATE, "postgres",
+				POSTGRES_URL, postgreSQLContainer.getJdbcUrl(),
+				POSTGRES_USERNAME, postgreSQLContainer.getUsername(), POSTGRES_PASSWORD, postgreSQLContainer.getPassword(),
+				LEASE_WORKER_ID, "worker-1"));
+
+		assertThrows(InvalidConfigException.class, () -> LdesClientRepositoriesFactory.getLdesClientRepositories(props));
+	}
+
+	@Test
+	void when_pipelinesUseOtherSchemasOfTheSameDatabase_then_StateIsIsolated() {
+		LdesClientRepositories first = LdesClientRepositoriesFactory.getLdesClientRepositories(postgresPropertiesInSchema("pipeline_one"));
+		LdesClientRepositories second = LdesClientRepositoriesFactory.getLdesClientRepositories(postgresPropertiesInSchema("pipeline_two"));
+
+		first.treeNodeRecordRepository().saveTreeNodeRecord(new TreeNodeRecord("http://example.org/fragment"));
+
+		assertTrue(first.treeNodeRecordRepository().existsById("http://example.org/fragment"));
+		assertFalse(second.treeNodeRecordRepository().existsById("http://example.org/fragment"));
+
+		Stream.of(first, second).forEach(repositories -> {
+			repositories.memberRepository().destroyState();
+			repositories.treeNodeRecordRepository().destroyState();
+		});
+	}
+
+	@Test
+	void when_leaseIsConfiguredInSchema_then_WorkersLeaseAndAwaitReleaseInThatSchema() {
+		final Map<String, String> leaseProperties = Map.of(KEEP_STATE, "true", LEASE_WORKER_ID, "worker-1", LEASE_TIMEOUT, "PT1S");
+		LdesClientRepositories repositories = LdesClientRepositoriesFactory.getLdesClientRepositories(
+				postgresPropertiesInSchema("leasing_pipeline", leaseProperties));
+		TreeNodeRecordRepository treeNodeRecordRepository = repositories.treeNodeRecordRepository();
+
+		treeNodeRecordRepository.saveTreeNodeRecord(new TreeNodeRecord("http://example.org/fragment"));
+		Optional<TreeNodeRecord> leased = treeNodeRecordRepository.getTreeNodeRecordWithStatusAndEarliestNextVisit(TreeNodeStatus.NOT_VISITED);
+		treeNodeRecordRepository.awaitReleaseOfLeasesByOthers();
+
+		assertEquals(LeasingSqlTreeNodeRepository.class, treeNodeRecordRepository.getClass());
+		assertEquals(Optional.of("http://example.org/fragment"), leased.map(TreeNodeRecord::getTreeNodeUrl));
+		repositories.memberRepository().destroyState();
+		treeNodeRecordRepository.destroyState();
+	}
+
+	@Test
+	void when_schemaIsNotAValidIdentifier_then_throwException() {
+		ComponentProperties props = postgresPropertiesInSchema("pipeline-one");
+
+		assertThrows(InvalidConfigException.class, () -> LdesClientRepositoriesFactory.getLdesClientRepositories(props));
+	}
+
+	private static ComponentProperties postgresPropertiesInSchema(String schema) {
+		return postgresPropertiesInSchema(schema, Map.of());
+	}
+
+	private static ComponentProperties postgresPropertiesInSchema(String schema, Map<String, String> additionalProperties) {
+		final Map<String, String> properties = new HashMap<>(Map.of(STATE, "postgres",
+				POSTGRES_URL, postgreSQLContainer.getJdbcUrl(),
+				POSTGRES_USERNAME, postgreSQLContainer.getUsername(), POSTGRES_PASSWORD, postgreSQLContainer.getPassword(),
+				POSTGRES_SCHEMA, schema, POSTGRES_MAX_POOL_SIZE, "4"));
+		properties.putAll(additionalProperties);
+		return new ComponentProperties(schema, "", properties);
+	}
+
 	private static class ComponentPropertiesArgumentsProvider implements ArgumentsProvider {
 		@Override
 		public Stream<Arguments> provideArguments(ExtensionContext extensionContext) {
@@ -77,13 +154,24 @@ class LdesClientRepositoriesFactoryTest {
 									SQLITE_DIRECTORY, "target")),
 							SqlMemberRepository.class,
 							SqlTreeNodeRepository.class),
+					Arguments.of(new ComponentProperties("pipelineName", "", Map.of(STATE, "rocksdb",
+									ROCKSDB_DIRECTORY, "target/rocksdb")),
+							RocksDbMemberRepository.class,
+							RocksDbTreeNodeRepository.class),
 					Arguments.of(
 							new ComponentProperties("pipelineName", ""
 									, Map.of(STATE, "postgres",
 									POSTGRES_URL, postgreSQLContainer.getJdbcUrl(),
 									POSTGRES_USERNAME, postgreSQLContainer.getUsername(), POSTGRES_PASSWORD,
 									postgreSQLContainer.getPassword(), KEEP_STATE, "false")),
-							SqlMemberRepository.class, SqlTreeNodeRepository.class));
+							SqlMemberRepository.class, SqlTreeNodeRepository.class),
+					Arguments.of(
+							new ComponentProperties("pipelineName", ""
+									, Map.of(STATE, "postgres",
+									POSTGRES_URL, postgreSQLContainer.getJdbcUrl(),
+									POSTGRES_USERNAME, postgreSQLContainer.getUsername(), POSTGRES_PASSWORD,
+									postgreSQLContainer.getPassword(), KEEP_STATE, "true", LEASE_WORKER_ID, "worker-1")),
+							PartitionedSqlMemberRepository.class, LeasingSqlTreeNodeRepository.class));
 		}
 	}
 
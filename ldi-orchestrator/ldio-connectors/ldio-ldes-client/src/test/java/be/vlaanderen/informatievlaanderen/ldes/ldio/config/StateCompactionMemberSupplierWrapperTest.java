@@ -0,0 +1,49 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.config;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.LdioLdesClientProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.config.wrappers.StateCompactionMemberSupplierWrapper;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import ldes.client.treenodesupplier.membersuppliers.MemberSupplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.persistence.PersistenceProperties.STATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StateCompactionMemberSupplierWrapperTest {
+	@Mock
+	private LdioLdesClientProperties ldioLdesClientProperties;
+	@Mock
+	private MemberSupplier baseSupplier;
+	@InjectMocks
+	private StateCompactionMemberSupplierWrapper stateCompactionMemberSupplierWrapper;
+
+	@Test
+	void given_NoCompactionInterval_when_wrap_then_ReturnBaseMemberSupplier() {
+		when(ldioLdesClientProperties.getStateCompactionInterval()).thenReturn(Optional.empty());
+
+		final MemberSupplier memberSupplier = stateCompactionMemberSupplierWrapper.wrapMemberSupplier(baseSupplier);
+
+		assertThat(memberSupplier).isSameAs(baseSupplier);
+	}
+
+	@Test
+	void given_CompactionIntervalWithMemoryState_when_wrap_then_ThrowException() {
+		when(ldioLdesClientProperties.getStateCompactionInterval()).thenReturn(Optional.of(Duration.ofHours(1)));
+		when(ldioLdesClientProperties.getProperties()).thenReturn(new ComponentProperties("pipeline", "cname", Map.of(STATE, "memory")));
+
+		assertThatThrownBy(() -> stateCompactionMemberSupplierWrapper.wrapMemberSupplier(baseSupplier))
+				.isInstanceOf(InvalidConfigException.class);
+	}
+}
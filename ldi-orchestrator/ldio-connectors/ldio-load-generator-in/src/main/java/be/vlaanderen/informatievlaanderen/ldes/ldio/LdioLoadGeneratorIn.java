@@ -0,0 +1,199 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.services.ComponentExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.config.LdioLoadGeneratorInProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioInput;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioObserver;
+import org.apache.jena.rdf.model.Model;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates members from a template and hands them to the pipeline, at a fixed rate or as fast as possible, to push a
+ * controlled load through the transformers and outputs of the pipeline without any external source.
+ * <br />
+ * The members of the warm-up are not measured. Afterwards, the time the pipeline takes to accept every member is
+ * recorded, until the duration has passed, after which the throughput and latency percentiles are logged. At a fixed
+ * rate, the latency is measured from the time the member was due rather than from the time it was handed over, so a
+ * pipeline that falls behind shows in the percentiles instead of only slowing down the generator. The time during
+ * which the pipeline is paused is not counted.
+ * <br />
+ * The pipeline accepts a member once it has been queued, when its stages, lanes or outputs have queues. The latency
+ * then only covers the work up to that queue.
+ */
+public class LdioLoadGeneratorIn extends LdioInput {
+	public static final String NAME = "Ldio:LoadGeneratorIn";
+	private static final Logger log = LoggerFactory.getLogger(LdioLoadGeneratorIn.class);
+	private final String pipelineName;
+	private final LdioLoadGeneratorInProperties properties;
+	private final RandomGenerator random;
+	private final LoadRecorder loadRecorder = new LoadRecorder();
+	private final Thread generator;
+	private final Lock pauseLock = new ReentrantLock();
+	private final Condition resumed = pauseLock.newCondition();
+	private volatile boolean running = true;
+	private volatile boolean paused;
+	private volatile long measureFrom;
+	private volatile long measureUntil;
+	private volatile LoadRecorder.Report report;
+	private boolean failureLogged;
+
+	public LdioLoadGeneratorIn(ComponentExecutor executor, LdioObserver ldioObserver,
+	                           ApplicationEventPublisher applicationEventPublisher, LdioLoadGeneratorInProperties properties) {
+		super(executor, null, ldioObserver, applicationEventPublisher);
+		this.pipelineName = ldioObserver.getPipelineName();
+		this.properties = properties;
+		this.random = properties.seed() == null ? RandomGenerator.getDefault() : new Random(properties.seed());
+		this.generator = properties.threads().factory("ldio-%s-load-generator".formatted(pipelineName)).newThread(this::generate);
+	}
+
+	@Override
+	public void start() {
+		measureFrom = System.nanoTime() + properties.warmUp().toNanos();
+		measureUntil = properties.duration() == null ? Long.MAX_VALUE : measureFrom + properties.duration().toNanos();
+		super.start();
+		generator.start();
+	}
+
+	private void generate() {
+		final long intervalNanos = properties.rate() > 0 ? (long) (1e9 / properties.rate()) : 0;
+		long next = System.nanoTime();
+		log.atInfo().log("Load generator of pipeline {} started", pipelineName);
+		long id = 0;
+		try {
+			while (running) {
+				if (paused) {
+					final long pausedFor = awaitResumed();
+					measureFrom += pausedFor;
+					measureUntil = measureUntil == Long.MAX_VALUE ? measureUntil : measureUntil + pausedFor;
+					next = System.nanoTime();
+				}
+				final long scheduled = next;
+				if (intervalNanos > 0) {
+					parkUntil(scheduled);
+					next += intervalNanos;
+				}
+				if (!running || paused) {
+					continue;
+				}
+				if (System.nanoTime() - measureUntil >= 0) {
+					break;
+				}
+				generateMember(id++, intervalNanos > 0 ? scheduled : System.nanoTime());
+			}
+		} finally {
+			report = getReport();
+			log.atInfo().log("Load generator of pipeline {} finished: {}", pipelineName, report);
+		}
+	}
+
+	/**
+	 * Hands a member to the pipeline and records how long the pipeline took to accept it. A member that can not be
+	 * generated is counted as an error, so a single failure does not stop the load. Only the first failure is logged.
+	 *
+	 * @param sentAt time from which the latency is measured
+	 */
+	private void generateMember(long id, long sentAt) {
+		try {
+			processModel(properties.template().createMember(id, Instant.now(), random));
+			if (sentAt - measureFrom >= 0) {
+				loadRecorder.record(System.nanoTime() - sentAt);
+			}
+		} catch (Exception e) {
+			if (sentAt - measureFrom >= 0) {
+				loadRecorder.recordError();
+			}
+			if (!failureLogged) {
+				failureLogged = true;
+				log.atWarn().log("Load generator of pipeline {} failed to generate member {}, further failures are only counted: {}",
+						pipelineName, id, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * @return whether the duration has passed, or the pipeline has been deleted, so no more members are generated
+	 */
+	public boolean isFinished() {
+		return report != null;
+	}
+
+	/**
+	 * @return the throughput and latency percentiles of the members that have been measured so far, or of all measured
+	 * members once the generator has finished
+	 */
+	public LoadRecorder.Report getReport() {
+		final LoadRecorder.Report finished = report;
+		if (finished != null) {
+			return finished;
+		}
+		final long elapsed = System.nanoTime() - measureFrom;
+		final long measured = Math.min(elapsed, measureUntil == Long.MAX_VALUE ? elapsed : measureUntil - measureFrom);
+		return loadRecorder.report(Duration.ofNanos(Math.max(measured, 0)));
+	}
+
+	private void parkUntil(long deadline) {
+		long remaining;
+		while (running && !paused && (remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(this, remaining);
+		}
+	}
+
+	/**
+	 * @return how long the generator has been paused, in nanoseconds
+	 */
+	private long awaitResumed() {
+		final long pausedAt = System.nanoTime();
+		pauseLock.lock();
+		try {
+			while (paused && running) {
+				resumed.await();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running = false;
+		} finally {
+			pauseLock.unlock();
+		}
+		return System.nanoTime() - pausedAt;
+	}
+
+	@Override
+	public void shutdown() {
+		pauseLock.lock();
+		try {
+			running = false;
+			resumed.signalAll();
+		} finally {
+			pauseLock.unlock();
+		}
+		LockSupport.unpark(generator);
+	}
+
+	@Override
+	protected void resume() {
+		pauseLock.lock();
+		try {
+			paused = false;
+			resumed.signalAll();
+		} finally {
+			pauseLock.unlock();
+		}
+	}
+
+	@Override
+	protected void pause() {
+		paused = true;
+		LockSupport.unpark(generator);
+	}
+}
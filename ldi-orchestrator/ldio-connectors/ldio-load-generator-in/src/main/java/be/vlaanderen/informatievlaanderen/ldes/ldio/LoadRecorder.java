@@ -0,0 +1,90 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Records how long the pipeline takes to accept the generated members. To keep the memory use bounded on long runs, at
+ * most {@link #MAX_SAMPLES} latencies are kept, which are a uniform sample of all recorded latencies (reservoir
+ * sampling).
+ */
+public class LoadRecorder {
+	public static final int MAX_SAMPLES = 100_000;
+	private final long[] samples;
+	private final RandomGenerator random;
+	private long members;
+	private long errors;
+	private long maxLatency;
+
+	public LoadRecorder() {
+		this(MAX_SAMPLES, RandomGenerator.getDefault());
+	}
+
+	LoadRecorder(int maxSamples, RandomGenerator random) {
+		this.samples = new long[maxSamples];
+		this.random = random;
+	}
+
+	/**
+	 * @param latencyNanos time the pipeline took to accept a member, in nanoseconds
+	 */
+	public synchronized void record(long latencyNanos) {
+		if (members < samples.length) {
+			samples[(int) members] = latencyNanos;
+		} else {
+			final long index = random.nextLong(members + 1);
+			if (index < samples.length) {
+				samples[(int) index] = latencyNanos;
+			}
+		}
+		members++;
+		maxLatency = Math.max(maxLatency, latencyNanos);
+	}
+
+	/**
+	 * Counts a member that could not be generated or handed to the pipeline, which is not part of the latencies
+	 */
+	public synchronized void recordError() {
+		errors++;
+	}
+
+	/**
+	 * @param elapsed time during which the members have been recorded
+	 * @return the throughput and latency percentiles of the recorded members
+	 */
+	public synchronized Report report(Duration elapsed) {
+		final long[] sorted = Arrays.copyOf(samples, (int) Math.min(members, samples.length));
+		Arrays.sort(sorted);
+		final double seconds = elapsed.toNanos() / 1e9;
+		return new Report(members, errors, elapsed, seconds > 0 ? members / seconds : 0,
+				percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), Duration.ofNanos(maxLatency));
+	}
+
+	private static Duration percentile(long[] sorted, int percentile) {
+		if (sorted.length == 0) {
+			return Duration.ZERO;
+		}
+		final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+	}
+
+	/**
+	 * @param members    number of members that have been recorded
+	 * @param errors     number of members that could not be generated or handed to the pipeline
+	 * @param elapsed    time during which the members have been recorded
+	 * @param throughput number of members per second
+	 * @param p50        median time the pipeline took to accept a member
+	 * @param p95        95th percentile of the time the pipeline took to accept a member
+	 * @param p99        99th percentile of the time the pipeline took to accept a member
+	 * @param max        longest time the pipeline took to accept a member
+	 */
+	public record Report(long members, long errors, Duration elapsed, double throughput, Duration p50, Duration p95, Duration p99,
+	                     Duration max) {
+		@Override
+		public String toString() {
+			return "%d members in %s, %d errors, %.1f members/s, latency p50 %s, p95 %s, p99 %s, max %s"
+					.formatted(members, elapsed, errors, throughput, p50, p95, p99, max);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RiotException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RDF template of the generated members, of which the placeholders are filled in for every member:
+ * <ul>
+ *     <li><code>{{id}}</code>: sequence number of the member, starting from 0</li>
+ *     <li><code>{{version-of}}</code>: id of the state object the member is a version of</li>
+ *     <li><code>{{timestamp}}</code>: time at which the member is generated, as an ISO-8601 instant</li>
+ *     <li><code>{{random}}</code>: random number between 0 and 1</li>
+ * </ul>
+ * The template is split on its placeholders once, so filling in a member only concatenates the parts.
+ */
+public class MemberTemplate {
+	private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([\\w-]+)}}");
+	private final List<String> parts = new ArrayList<>();
+	private final List<Placeholder> placeholders = new ArrayList<>();
+	private final Lang lang;
+	private final long versionOfCardinality;
+
+	/**
+	 * @param template             RDF template of a member
+	 * @param lang                 RDF format of the template
+	 * @param versionOfCardinality number of state objects the members are versions of, or 0 when every member is a
+	 *                             version of a state object of its own
+	 */
+	public MemberTemplate(String template, Lang lang, long versionOfCardinality) {
+		this.lang = lang;
+		this.versionOfCardinality = versionOfCardinality;
+		final Matcher matcher = PLACEHOLDER.matcher(template);
+		int start = 0;
+		while (matcher.find()) {
+			parts.add(template.substring(start, matcher.start()));
+			placeholders.add(Placeholder.fromName(matcher.group(1)));
+			start = matcher.end();
+		}
+		parts.add(template.substring(start));
+	}
+
+	/**
+	 * @param id        sequence number of the member
+	 * @param timestamp time at which the member is generated
+	 * @param random    generator of the random values
+	 * @return the member of the template with the given id
+	 */
+	public Model createMember(long id, Instant timestamp, RandomGenerator random) {
+		final StringBuilder member = new StringBuilder(parts.getFirst());
+		for (int i = 0; i < placeholders.size(); i++) {
+			switch (placeholders.get(i)) {
+				case ID -> member.append(id);
+				case VERSION_OF -> member.append(versionOfCardinality > 0 ? id % versionOfCardinality : id);
+				case TIMESTAMP -> member.append(timestamp);
+				case RANDOM -> member.append(random.nextDouble());
+			}
+			member.append(parts.get(i + 1));
+		}
+		return RDFParser.fromString(member.toString(), lang).toModel();
+	}
+
+	/**
+	 * Fills in a first member, to verify the template before any member is generated
+	 *
+	 * @throws InvalidConfigException when the template does not result in valid RDF
+	 */
+	public void verify() {
+		try {
+			createMember(0, Instant.now(), RandomGenerator.getDefault());
+		} catch (RiotException e) {
+			throw new InvalidConfigException("The template is not valid %s: %s".formatted(lang.getLabel(), e.getMessage()));
+		}
+	}
+
+	private enum Placeholder {
+		ID, VERSION_OF, TIMESTAMP, RANDOM;
+
+		private static Placeholder fromName(String name) {
+			return switch (name) {
+				case "id" -> ID;
+				case "version-of" -> VERSION_OF;
+				case "timestamp" -> TIMESTAMP;
+				case "random" -> RANDOM;
+				default -> throw new InvalidConfigException(
+						"Unsupported placeholder {{%s}}, must be one of id, version-of, timestamp or random".formatted(name));
+			};
+		}
+	}
+}
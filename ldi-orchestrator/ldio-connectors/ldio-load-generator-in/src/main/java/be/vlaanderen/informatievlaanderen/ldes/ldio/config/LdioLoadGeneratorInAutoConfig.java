@@ -0,0 +1,47 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.config;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.services.ComponentExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.LdioLoadGeneratorIn;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioInputConfigurator;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioObserver;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static be.vlaanderen.informatievlaanderen.ldes.ldio.LdioLoadGeneratorIn.NAME;
+
+@Configuration
+public class LdioLoadGeneratorInAutoConfig {
+
+	@SuppressWarnings("java:S6830")
+	@Bean(NAME)
+	public LoadGeneratorInConfigurator loadGeneratorInConfigurator(ObservationRegistry observationRegistry) {
+		return new LoadGeneratorInConfigurator(observationRegistry);
+	}
+
+	public static class LoadGeneratorInConfigurator implements LdioInputConfigurator {
+		private final ObservationRegistry observationRegistry;
+
+		public LoadGeneratorInConfigurator(ObservationRegistry observationRegistry) {
+			this.observationRegistry = observationRegistry;
+		}
+
+		@Override
+		public LdioLoadGeneratorIn configure(LdiAdapter adapter, ComponentExecutor executor,
+		                                     ApplicationEventPublisher applicationEventPublisher, ComponentProperties properties) {
+			final var ldioObserver = LdioObserver.register(NAME, properties.getPipelineName(), observationRegistry);
+			final var loadGeneratorInProperties = LdioLoadGeneratorInProperties.fromComponentProperties(properties);
+			final var loadGeneratorIn = new LdioLoadGeneratorIn(executor, ldioObserver, applicationEventPublisher, loadGeneratorInProperties);
+			loadGeneratorIn.start();
+			return loadGeneratorIn;
+		}
+
+		@Override
+		public boolean isAdapterRequired() {
+			return false;
+		}
+	}
+}
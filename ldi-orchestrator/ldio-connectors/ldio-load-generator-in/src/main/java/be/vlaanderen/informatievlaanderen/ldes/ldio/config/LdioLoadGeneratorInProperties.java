@@ -0,0 +1,80 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio.config;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldio.MemberTemplate;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ * @param template  template of the generated members
+ * @param rate      number of members that are generated per second, or 0 to generate them as fast as possible
+ * @param warmUp    time during which members are generated before the throughput and latency are measured
+ * @param duration  time during which the throughput and latency are measured, after which no more members are
+ *                  generated, or null to generate members until the pipeline is deleted
+ * @param seed      seed of the random values, or null for different random values on every run
+ * @param threads   kind of thread the members are generated on
+ */
+public record LdioLoadGeneratorInProperties(MemberTemplate template, double rate, Duration warmUp, Duration duration,
+                                            Long seed, PipelineExecution.Threads threads) {
+	public static final String TEMPLATE = "template";
+	public static final String TEMPLATE_FORMAT = "template-format";
+	public static final String VERSION_OF_CARDINALITY = "version-of-cardinality";
+	public static final String RATE = "rate";
+	public static final String WARM_UP = "warm-up";
+	public static final String DURATION = "duration";
+	public static final String SEED = "seed";
+
+	public static LdioLoadGeneratorInProperties fromComponentProperties(ComponentProperties properties) {
+		final Lang templateFormat = properties.getOptionalProperty(TEMPLATE_FORMAT)
+				.map(LdioLoadGeneratorInProperties::parseTemplateFormat)
+				.orElse(Lang.TURTLE);
+		final long versionOfCardinality = properties.getOptionalProperty(VERSION_OF_CARDINALITY)
+				.map(cardinality -> parsePositiveNumber(VERSION_OF_CARDINALITY, cardinality).longValue())
+				.orElse(0L);
+		final MemberTemplate template = new MemberTemplate(properties.getProperty(TEMPLATE), templateFormat, versionOfCardinality);
+		template.verify();
+		return new LdioLoadGeneratorInProperties(template,
+				properties.getOptionalProperty(RATE).map(rate -> parsePositiveNumber(RATE, rate).doubleValue()).orElse(0.0),
+				properties.getOptionalProperty(WARM_UP).map(LdioLoadGeneratorInProperties::parseDuration).orElse(Duration.ZERO),
+				properties.getOptionalProperty(DURATION).map(LdioLoadGeneratorInProperties::parseDuration).orElse(null),
+				properties.getOptionalProperty(SEED).map(Long::valueOf).orElse(null),
+				PipelineExecution.Threads.fromProperties(properties));
+	}
+
+	private static Lang parseTemplateFormat(String templateFormat) {
+		final Lang lang = RDFLanguages.nameToLang(templateFormat);
+		if (lang == null) {
+			throw new InvalidConfigException("Unsupported template-format %s".formatted(templateFormat));
+		}
+		return lang;
+	}
+
+	private static Number parsePositiveNumber(String key, String value) {
+		try {
+			final double number = Double.parseDouble(value);
+			if (number <= 0) {
+				throw new InvalidConfigException("%s must be positive, but was %s".formatted(key, value));
+			}
+			return number;
+		} catch (NumberFormatException e) {
+			throw new InvalidConfigException("%s must be a number, but was %s".formatted(key, value));
+		}
+	}
+
+	private static Duration parseDuration(String duration) {
+		try {
+			final Duration parsed = Duration.parse(duration);
+			if (parsed.isNegative()) {
+				throw new InvalidConfigException("%s must not be a negative duration".formatted(duration));
+			}
+			return parsed;
+		} catch (DateTimeParseException e) {
+			throw new InvalidConfigException("%s is not a valid ISO-8601 duration".formatted(duration));
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio;
+
+import be.vlaanderen.informatievlaanderen.ldes.ldi.services.ComponentExecutor;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.config.LdioLoadGeneratorInAutoConfig;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.config.LdioLoadGeneratorInProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioObserver;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.PipelineExecution;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatus;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.status.PipelineStatusTrigger;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RiotException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class LdioLoadGeneratorInTest {
+	private static final String TEMPLATE = """
+			@prefix ex: <http://example.org/> .
+			@prefix xsd: <http://www.w3.org/2001/XMLSchema#> .
+			<http://example.org/state/{{version-of}}/version/{{id}}> ex:id {{id}} ;
+				ex:versionOf <http://example.org/state/{{version-of}}> ;
+				ex:timestamp "{{timestamp}}"^^xsd:dateTime ;
+				ex:value {{random}} .
+			""";
+	private final List<Model> members = new CopyOnWriteArrayList<>();
+	private LdioLoadGeneratorIn loadGeneratorIn;
+
+	@AfterEach
+	void tearDown() {
+		if (loadGeneratorIn != null) {
+			loadGeneratorIn.shutdown();
+		}
+	}
+
+	@Test
+	void given_RateAndDuration_when_Generating_then_MembersAreFilledInAtThatRate() {
+		loadGeneratorIn = configure(Map.of(
+				LdioLoadGeneratorInProperties.TEMPLATE, TEMPLATE,
+				LdioLoadGeneratorInProperties.VERSION_OF_CARDINALITY, "2",
+				LdioLoadGeneratorInProperties.RATE, "20",
+				LdioLoadGeneratorInProperties.DURATION, "PT0.5S"));
+
+		await().until(loadGeneratorIn::isFinished);
+
+		assertThat(members).hasSizeBetween(5, 12);
+		for (int id = 0; id < members.size(); id++) {
+			final Model member = members.get(id);
+			assertThat(member.listObjectsOfProperty(ResourceFactory.createProperty("http://example.org/id")).next().asLiteral().getLong()).isEqualTo(id);
+			assertThat(member.contains(null, ResourceFactory.createProperty("http://example.org/versionOf"),
+					ResourceFactory.createResource("http://example.org/state/" + id % 2))).isTrue();
+		}
+		final LoadRecorder.Report report = loadGeneratorIn.getReport();
+		assertThat(report.members()).isEqualTo(members.size());
+		assertThat(report.throughput()).isBetween(10.0, 24.0);
+		assertThat(report.p50()).isLessThanOrEqualTo(report.p99());
+	}
+
+	@Test
+	void given_WarmUp_when_Generating_then_MembersOfWarmUpAreNotMeasured() {
+		loadGeneratorIn = configure(Map.of(
+				LdioLoadGeneratorInProperties.TEMPLATE, TEMPLATE,
+				LdioLoadGeneratorInProperties.RATE, "50",
+				LdioLoadGeneratorInProperties.WARM_UP, "PT0.2S",
+				LdioLoadGeneratorInProperties.DURATION, "PT0.2S"));
+
+		await().until(loadGeneratorIn::isFinished);
+
+		assertThat(loadGeneratorIn.getReport().members()).isPositive().isLessThan(members.size());
+		assertThat(loadGeneratorIn.getReport().elapsed()).isEqualTo(Duration.ofMillis(200));
+	}
+
+	@Test
+	void given_HaltedPipeline_when_Generating_then_NoMembersAreGeneratedUntilResumed() {
+		loadGeneratorIn = configure(Map.of(
+				LdioLoadGeneratorInProperties.TEMPLATE, TEMPLATE,
+				LdioLoadGeneratorInProperties.RATE, "100"));
+		await().until(() -> !members.isEmpty());
+
+		assertThat(loadGeneratorIn.updateStatus(PipelineStatusTrigger.HALT)).isEqualTo(PipelineStatus.HALTED);
+		final int generated = members.size();
+		await().pollDelay(Duration.ofMillis(200)).until(() -> members.size() <= generated + 1);
+
+		loadGeneratorIn.updateStatus(PipelineStatusTrigger.RESUME);
+		await().until(() -> members.size() > generated + 5);
+
+		loadGeneratorIn.shutdown();
+		await().until(loadGeneratorIn::isFinished);
+	}
+
+	@Test
+	void given_PipelineStallsAtRate_when_Generating_then_LatencyIsMeasuredFromScheduledTime() {
+		loadGeneratorIn = configure(Map.of(
+				LdioLoadGeneratorInProperties.TEMPLATE, TEMPLATE,
+				LdioLoadGeneratorInProperties.RATE, "100",
+				LdioLoadGeneratorInProperties.DURATION, "PT1S"), model -> {
+			if (members.isEmpty()) {
+				LockSupport.parkNanos(Duration.ofMillis(300).toNanos());
+			}
+			members.add(model);
+		});
+
+		await().until(loadGeneratorIn::isFinished);
+
+		assertThat(loadGeneratorIn.getReport().p95()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	void given_MemberFailsToGenerate_when_Generating_then_ErrorIsCountedAndGeneratingContinues() {
+		final MemberTemplate failingTemplate = new MemberTemplate(TEMPLATE, Lang.TURTLE, 0) {
+			@Override
+			public Model createMember(long id, Instant timestamp, RandomGenerator random) {
+				if (id % 2 == 1) {
+					throw new RiotException("Invalid member " + id);
+				}
+				return super.createMember(id, timestamp, random);
+			}
+		};
+		failingTemplate.verify();
+		final LdioLoadGeneratorInProperties properties = new LdioLoadGeneratorInProperties(failingTemplate, 100,
+				Duration.ZERO, Duration.ofMillis(200), null, PipelineExecution.Threads.PLATFORM);
+		loadGeneratorIn = new LdioLoadGeneratorIn(members::add,
+				LdioObserver.register(LdioLoadGeneratorIn.NAME, "pipeline", ObservationRegistry.create()),
+				mock(ApplicationEventPublisher.class), properties);
+		loadGeneratorIn.start();
+
+		await().until(loadGeneratorIn::isFinished);
+
+		final LoadRecorder.Report report = loadGeneratorIn.getReport();
+		assertThat(report.members()).isEqualTo(members.size()).isGreaterThan(1);
+		assertThat(report.errors()).isBetween(report.members() - 1, report.members());
+	}
+
+	@Test
+	void given_InvalidTemplate_when_Configuring_then_ThrowException() {
+		assertThatThrownBy(() -> configure(Map.of(LdioLoadGeneratorInProperties.TEMPLATE, "<{{name}}> <p> <o> .")))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessageContaining("Unsupported placeholder {{name}}");
+		assertThatThrownBy(() -> configure(Map.of(LdioLoadGeneratorInProperties.TEMPLATE, "<{{id}}> <p> .")))
+				.isInstanceOf(InvalidConfigException.class)
+				.hasMessageContaining("The template is not valid Turtle");
+		assertThatThrownBy(() -> configure(Map.of(LdioLoadGeneratorInProperties.TEMPLATE, TEMPLATE,
+				LdioLoadGeneratorInProperties.RATE, "-1")))
+				.isInstanceOf(InvalidConfigException.class);
+	}
+
+	private LdioLoadGeneratorIn configure(Map<String, String> config) {
+		return configure(config, members::add);
+	}
+
+	private LdioLoadGeneratorIn configure(Map<String, String> config, ComponentExecutor executor) {
+		return new LdioLoadGeneratorInAutoConfig.LoadGeneratorInConfigurator(ObservationRegistry.create())
+				.configure(null, executor, mock(ApplicationEventPublisher.class),
+						new ComponentProperties("pipeline", LdioLoadGeneratorIn.NAME, new HashMap<>(config)));
+	}
+}
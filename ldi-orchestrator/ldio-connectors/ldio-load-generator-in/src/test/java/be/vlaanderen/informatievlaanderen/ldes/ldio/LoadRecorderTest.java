@@ -0,0 +1,38 @@
+package be.vlaanderen.informatievlaanderen.ldes.ldio;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadRecorderTest {
+
+	@Test
+	void given_RecordedLatencies_when_Report_then_PercentilesAndThroughputAreReturned() {
+		final LoadRecorder loadRecorder = new LoadRecorder();
+		for (int latency = 100; latency >= 1; latency--) {
+			loadRecorder.record(latency);
+		}
+
+		final LoadRecorder.Report report = loadRecorder.report(Duration.ofSeconds(4));
+
+		assertThat(report).isEqualTo(new LoadRecorder.Report(100, 0, Duration.ofSeconds(4), 25.0,
+				Duration.ofNanos(50), Duration.ofNanos(95), Duration.ofNanos(99), Duration.ofNanos(100)));
+	}
+
+	@Test
+	void given_MoreLatenciesThanSamples_when_Report_then_AllLatenciesAreCounted() {
+		final LoadRecorder loadRecorder = new LoadRecorder(10, new Random(1));
+		for (int latency = 1; latency <= 1000; latency++) {
+			loadRecorder.record(latency);
+		}
+
+		final LoadRecorder.Report report = loadRecorder.report(Duration.ofSeconds(1));
+
+		assertThat(report.members()).isEqualTo(1000);
+		assertThat(report.max()).isEqualTo(Duration.ofNanos(1000));
+		assertThat(report.p50()).isBetween(Duration.ofNanos(1), Duration.ofNanos(1000));
+	}
+}
@@ -5,6 +5,7 @@ import be.vlaanderen.informatievlaanderen.ldes.ldi.rdf.parser.JenaContextProvide
 import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiAdapter;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.valueobjects.ComponentProperties;
 import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.creation.LdioAdapterConfigurator;
+import be.vlaanderen.informatievlaanderen.ldes.ldio.pipeline.exception.InvalidConfigException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +13,7 @@ import org.springframework.context.annotation.Configuration;
 public class LdioRdfAdapterAutoConfig {
 
 	public static final String MAX_JSONLD_CACHE_CAPACITY = "max-jsonld-cache-capacity";
+	public static final String SPLIT_BY = "split-by";
 
 	@SuppressWarnings("java:S6830")
 	@Bean("Ldio:RdfAdapter")
@@ -25,7 +27,18 @@ public class LdioRdfAdapterAutoConfig {
 		public LdiAdapter configure(ComponentProperties config) {
 			final int maxCacheCapacity = config.getOptionalInteger(MAX_JSONLD_CACHE_CAPACITY).orElse(100);
 			final var context = JenaContextProvider.create().withMaxJsonLdCacheCapacity(maxCacheCapacity).getContext();
-			return new RdfAdapter(context);
+			final RdfAdapter.SplitMode splitMode = config.getOptionalProperty(SPLIT_BY)
+					.map(LdioRdfConfigurator::getSplitMode)
+					.orElse(null);
+			return new RdfAdapter(context, splitMode);
+		}
+
+		private static RdfAdapter.SplitMode getSplitMode(String splitBy) {
+			try {
+				return RdfAdapter.SplitMode.valueOf(splitBy.toUpperCase());
+			} catch (IllegalArgumentException e) {
+				throw new InvalidConfigException("Unsupported %s %s, must be either graph or subject".formatted(SPLIT_BY, splitBy));
+			}
 		}
 
 	}
@@ -1,7 +1,7 @@
 package be.vlaanderen.informatievlaanderen.ldes.ldio;
 
 import be.vlaanderen.informatievlaanderen.ldes.ldi.RepositorySink;
-import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiOutput;
+import be.vlaanderen.informatievlaanderen.ldes.ldi.types.LdiBatchOutput;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.riot.Lang;
@@ -15,11 +15,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static be.vlaanderen.informatievlaanderen.ldes.ldio.ObserveConfiguration.ERROR_TEMPLATE;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 
-public class LdioRepositorySink implements LdiOutput {
+public class LdioRepositorySink implements LdiBatchOutput {
 	public static final String NAME = "Ldio:RepositorySink";
 	private static final Logger log = LoggerFactory.getLogger(LdioRepositorySink.class);
 	private ScheduledExecutorService scheduledExecutorService;
@@ -27,6 +29,7 @@ public class LdioRepositorySink implements LdiOutput {
 	private final int batchTimeout;
 	private final RepositorySink sink;
 	private final List<Model> membersToCommit;
+	private final Lock commitLock = new ReentrantLock();
 
 	public LdioRepositorySink(RepositorySink sink, int batchSize, int batchTimeout) {
 		this.sink = sink;
@@ -37,10 +40,29 @@ public class LdioRepositorySink implements LdiOutput {
 
 	@Override
 	public void accept(Model model) {
-		membersToCommit.add(model);
-		if (membersToCommit.size() >= batchSize) {
+		commitLock.lock();
+		try {
+			membersToCommit.add(model);
+			if (membersToCommit.size() >= batchSize) {
+				sendToSink();
+				resetExecutor();
+			}
+		} finally {
+			commitLock.unlock();
+		}
+	}
+
+	/**
+	 * Commits the given members, together with the members that are still waiting, in a single transaction
+	 */
+	@Override
+	public void acceptBatch(List<Model> models) {
+		commitLock.lock();
+		try {
+			membersToCommit.addAll(models);
 			sendToSink();
-			resetExecutor();
+		} finally {
+			commitLock.unlock();
 		}
 	}
 
@@ -54,15 +76,24 @@ public class LdioRepositorySink implements LdiOutput {
 		sink.shutdown();
 	}
 
-	public synchronized void sendToSink() {
-		if (!membersToCommit.isEmpty()) {
-			final List<Model> members = List.copyOf(membersToCommit);
-			membersToCommit.clear();
-			try {
-				sink.process(members);
-			} catch (Exception e) {
-				handleException(e, members);
+	/**
+	 * Commits the waiting members. The commits are made one at a time, under a lock instead of a monitor, so a virtual
+	 * thread that waits for a commit does not pin its carrier thread.
+	 */
+	public void sendToSink() {
+		commitLock.lock();
+		try {
+			if (!membersToCommit.isEmpty()) {
+				final List<Model> members = List.copyOf(membersToCommit);
+				membersToCommit.clear();
+				try {
+					sink.process(members);
+				} catch (Exception e) {
+					handleException(e, members);
+				}
 			}
+		} finally {
+			commitLock.unlock();
 		}
 	}
 
@@ -15,6 +15,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -110,6 +112,57 @@ class LdioRepositorySinkTest {
 		}
 	}
 
+	@Nested
+	class AcceptBatch {
+		private static final int BATCH_SIZE = 15;
+
+		@BeforeEach
+		void setUp() {
+			ldioRepositorySink = new LdioRepositorySink(repositorySink, BATCH_SIZE, BATCH_TIMEOUT);
+			ldioRepositorySink.start();
+		}
+
+		@Test
+		void given_WaitingMembers_when_AcceptBatch_then_CommitAllMembersAtOnce() {
+			final List<Model> models = readTenModelsFromFile().toList();
+			ldioRepositorySink.accept(models.getFirst());
+
+			ldioRepositorySink.acceptBatch(models.subList(1, models.size()));
+
+			verify(repositorySink).process(models);
+		}
+	}
+
+	@Nested
+	class ConcurrentAccept {
+		private static final int BATCH_SIZE = 10;
+
+		@BeforeEach
+		void setUp() {
+			ldioRepositorySink = new LdioRepositorySink(repositorySink, BATCH_SIZE, BATCH_TIMEOUT);
+			ldioRepositorySink.start();
+		}
+
+		@Test
+		void given_MultipleThreads_when_Accept_then_EveryMemberIsCommittedOnce() throws InterruptedException {
+			final AtomicInteger committedMembers = new AtomicInteger();
+			doAnswer(invocation -> committedMembers.addAndGet(invocation.<List<Model>>getArgument(0).size()))
+					.when(repositorySink).process(anyList());
+			final List<Model> models = readTenModelsFromFile().toList();
+
+			final List<Thread> threads = IntStream.range(0, 4)
+					.mapToObj(thread -> Thread.ofVirtual().start(() -> IntStream.range(0, 25)
+							.forEach(round -> models.forEach(ldioRepositorySink))))
+					.toList();
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			ldioRepositorySink.sendToSink();
+
+			assertThat(committedMembers).hasValue(1000);
+		}
+	}
+
 	private Stream<Model> readTenModelsFromFile() {
 		return RDFParser.source("10_people_data.nq").lang(Lang.NQ).toModel()
 				.listStatements()